@@ -16,6 +16,7 @@
 
 package com.badlogic.gdx.graphics.glutils;
 
+import java.nio.ByteBuffer;
 import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.Gdx;
@@ -64,6 +65,17 @@ public class IndexBufferObject implements IndexData {
 		usage = isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW;
 	}
 
+	/** Creates a new IndexBufferObject which uses the specified data.
+	 * 
+	 * @param isStatic whether the index buffer is static
+	 * @param data the index data */
+	public IndexBufferObject (boolean isStatic, ByteBuffer data) {
+		isDirect = true;
+		buffer = data.asShortBuffer();
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		usage = isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW;
+	}
+
 	/** Creates a new IndexBufferObject to be used with vertex arrays.
 	 * 
 	 * @param maxIndices the maximum number of indices this buffer can hold */
@@ -0,0 +1,29 @@
+// Shared by the update and the render shader of the GpuParticleSimulation, must match the math of the CpuParticleSimulation.
+#ifdef GL_ES
+precision highp float;
+precision highp int;
+#endif
+
+// Minimum and range of the life time in seconds
+uniform vec2 u_life;
+
+uint hash(uint x) {
+	x ^= x >> 16u;
+	x *= 0x7feb352du;
+	x ^= x >> 15u;
+	x *= 0x846ca68bu;
+	x ^= x >> 16u;
+	return x;
+}
+
+float random(uint h) {
+	return float(h >> 8u) * (1.0 / 16777216.0);
+}
+
+uint seedHash(float seed) {
+	return uint(seed * 16777216.0) ^ 0x5bd1e995u;
+}
+
+float lifetime(float seed) {
+	return u_life.x + u_life.y * random(hash(seedHash(seed)));
+}
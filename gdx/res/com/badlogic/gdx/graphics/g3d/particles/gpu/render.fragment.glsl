@@ -0,0 +1,14 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+in vec4 v_color;
+in vec2 v_texCoords;
+
+out vec4 fragColor;
+
+uniform sampler2D u_texture;
+
+void main() {
+	fragColor = v_color * texture(u_texture, v_texCoords);
+}
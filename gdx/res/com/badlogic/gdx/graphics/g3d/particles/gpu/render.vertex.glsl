@@ -0,0 +1,47 @@
+// Renders each particle as an instanced camera facing quad, dead and unused particles are moved outside of the clip volume.
+in vec2 a_corner;
+in vec4 a_state0;
+in vec4 a_state1;
+
+out vec4 v_color;
+out vec2 v_texCoords;
+
+uniform mat4 u_projViewTrans;
+uniform vec3 u_cameraRight;
+uniform vec3 u_cameraUp;
+// Low min, low range, high min, high range of the start values and whether they are relative
+uniform vec4 u_scaleRange;
+uniform float u_scaleRelative;
+uniform vec4 u_alphaRange;
+uniform float u_alphaRelative;
+uniform float u_scaleCurve[8];
+uniform float u_alphaCurve[8];
+uniform vec3 u_colorCurve[8];
+
+float interpolate(vec4 range, float relative, uint h, float curve) {
+	float start = range.x + range.y * random(h);
+	float high = range.z + range.w * random(hash(h));
+	return start + (high - start * (1.0 - relative)) * curve;
+}
+
+void main() {
+	uint h = hash(seedHash(a_state1.w));
+	float life = u_life.x + u_life.y * random(h);
+	if (a_state0.w >= life) {
+		gl_Position = vec4(2.0, 2.0, 2.0, 1.0);
+		v_color = vec4(0.0);
+		v_texCoords = vec2(0.0);
+		return;
+	}
+	float f = clamp(a_state0.w / life, 0.0, 1.0) * 7.0;
+	int i = min(int(f), 6);
+	float t = f - float(i);
+	h = hash(h);
+	float scale = interpolate(u_scaleRange, u_scaleRelative, h, mix(u_scaleCurve[i], u_scaleCurve[i + 1], t));
+	h = hash(hash(h));
+	float alpha = interpolate(u_alphaRange, u_alphaRelative, h, mix(u_alphaCurve[i], u_alphaCurve[i + 1], t));
+	v_color = vec4(mix(u_colorCurve[i], u_colorCurve[i + 1], t), alpha);
+	v_texCoords = vec2(a_corner.x + 0.5, 0.5 - a_corner.y);
+	vec3 position = a_state0.xyz + (u_cameraRight * a_corner.x + u_cameraUp * a_corner.y) * scale;
+	gl_Position = u_projViewTrans * vec4(position, 1.0);
+}
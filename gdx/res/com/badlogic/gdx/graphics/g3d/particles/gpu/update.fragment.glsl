@@ -0,0 +1,10 @@
+// Never executed, the update runs with GL_RASTERIZER_DISCARD enabled.
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+out vec4 fragColor;
+
+void main() {
+	fragColor = vec4(0.0);
+}
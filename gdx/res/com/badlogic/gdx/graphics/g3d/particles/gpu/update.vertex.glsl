@@ -0,0 +1,60 @@
+// Moves the particles which are alive and respawns the slots of the current emission range, the result is captured with
+// transform feedback. The state is the position and age followed by the velocity and seed.
+in vec4 a_state0;
+in vec4 a_state1;
+
+out vec4 v_state0;
+out vec4 v_state1;
+
+uniform int u_capacity;
+uniform int u_spawnStart;
+uniform int u_spawnCount;
+uniform int u_frameHash;
+uniform float u_delta;
+uniform mat4 u_transform;
+uniform vec3 u_spawnSize;
+uniform vec3 u_direction;
+uniform vec3 u_tangent;
+uniform vec3 u_bitangent;
+uniform float u_cosSpread;
+// Minimum and range of the speed
+uniform vec2 u_speed;
+uniform vec3 u_acceleration;
+uniform float u_drag;
+
+const float PI2 = 6.28318530718;
+
+void main() {
+	int index = gl_VertexID;
+	if ((index - u_spawnStart + u_capacity) % u_capacity < u_spawnCount) {
+		uint h = hash(uint(index) ^ uint(u_frameHash));
+		h = hash(h);
+		float x = (random(h) - 0.5) * u_spawnSize.x;
+		h = hash(h);
+		float y = (random(h) - 0.5) * u_spawnSize.y;
+		h = hash(h);
+		float z = (random(h) - 0.5) * u_spawnSize.z;
+		vec3 position = (u_transform * vec4(x, y, z, 1.0)).xyz;
+
+		h = hash(h);
+		float cosTheta = 1.0 - random(h) * (1.0 - u_cosSpread);
+		float sinTheta = sqrt(max(0.0, 1.0 - cosTheta * cosTheta));
+		h = hash(h);
+		float phi = random(h) * PI2;
+		h = hash(h);
+		float speed = u_speed.x + u_speed.y * random(h);
+		h = hash(h);
+		vec3 velocity = (u_direction * cosTheta + u_tangent * (cos(phi) * sinTheta) + u_bitangent * (sin(phi) * sinTheta)) * speed;
+
+		v_state0 = vec4(position, 0.0);
+		v_state1 = vec4(velocity, random(h));
+	} else if (a_state0.w < lifetime(a_state1.w)) {
+		vec3 velocity = a_state1.xyz + (u_acceleration - u_drag * a_state1.xyz) * u_delta;
+		v_state0 = vec4(a_state0.xyz + velocity * u_delta, a_state0.w + u_delta);
+		v_state1 = vec4(velocity, a_state1.w);
+	} else {
+		v_state0 = a_state0;
+		v_state1 = a_state1;
+	}
+	gl_Position = vec4(0.0, 0.0, 0.0, 1.0);
+}
@@ -57,7 +57,9 @@ public class SkinLoader extends AsynchronousAssetLoader<Skin, SkinLoader.SkinPar
 	public Skin loadSync (AssetManager manager, String fileName, FileHandle file, SkinParameter parameter) {
 		String textureAtlasPath = file.pathWithoutExtension() + ".atlas";
 		ObjectMap<String, Object> resources = null;
+		boolean lazy = false;
 		if (parameter != null) {
+			lazy = parameter.lazy;
 			if (parameter.textureAtlasPath != null) {
 				textureAtlasPath = parameter.textureAtlasPath;
 			}
@@ -67,6 +69,7 @@ public class SkinLoader extends AsynchronousAssetLoader<Skin, SkinLoader.SkinPar
 		}
 		TextureAtlas atlas = manager.get(textureAtlasPath, TextureAtlas.class);
 		Skin skin = newSkin(atlas);
+		if (lazy) skin.setLazy(true);
 		if (resources != null) {
 			for (Entry<String, Object> entry : resources.entries()) {
 				skin.add(entry.key, entry.value);
@@ -86,6 +89,8 @@ public class SkinLoader extends AsynchronousAssetLoader<Skin, SkinLoader.SkinPar
 	static public class SkinParameter extends AssetLoaderParameters<Skin> {
 		public final String textureAtlasPath;
 		public final ObjectMap<String, Object> resources;
+		/** If true, the resources in the JSON are created the first time they are requested, see {@link Skin#setLazy(boolean)}. */
+		public boolean lazy;
 
 		public SkinParameter () {
 			this(null, null);
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics;
 
 import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 import java.nio.ShortBuffer;
 import java.util.HashMap;
@@ -122,6 +123,23 @@ public class Mesh implements Disposable {
 		addManagedMesh(Gdx.app, this);
 	}
 
+	/** Creates a new Mesh which uses the specified vertex and index data, e.g. regions of a memory mapped file, without copying
+	 * it. The data is uploaded to the GPU when the mesh is bound for the first time and must stay valid for the lifetime of the
+	 * mesh, as it is used to restore the mesh on context loss. Both buffers must be direct buffers in native byte order, of which
+	 * the position is zero and the limit is the size of the data in bytes.
+	 *
+	 * @param isStatic whether this mesh is static or not. Allows for internal optimizations.
+	 * @param vertices the vertices, laid out as described by the attributes
+	 * @param indices the indices, may be null
+	 * @param attributes the {@link VertexAttributes}. */
+	public Mesh (boolean isStatic, ByteBuffer vertices, ByteBuffer indices, VertexAttributes attributes) {
+		this.vertices = new VertexBufferObject(isStatic, vertices, attributes);
+		this.indices = indices == null ? new IndexBufferObject(isStatic, 0) : new IndexBufferObject(isStatic, indices);
+		isVertexArray = false;
+
+		addManagedMesh(Gdx.app, this);
+	}
+
 	/** Creates a new Mesh with the given attributes. Adds extra optimizations for dynamic (frequently modified) meshes.
 	 *
 	 * @param staticVertices whether vertices of this mesh are static or not. Allows for internal optimizations.
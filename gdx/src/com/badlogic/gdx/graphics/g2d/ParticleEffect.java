@@ -123,6 +123,18 @@ public class ParticleEffect implements Disposable {
 			emitters.get(i).setFlip(flipX, flipY);
 	}
 
+	/** Enables or disables array storage for all emitters, see {@link ParticleEmitter#setArrayStorage(boolean)}. */
+	public void setArrayStorage (boolean arrayStorage) {
+		for (int i = 0, n = emitters.size; i < n; i++)
+			emitters.get(i).setArrayStorage(arrayStorage);
+	}
+
+	/** Enables or disables baked timelines for all emitters, see {@link ParticleEmitter#setBakedResolution(int)}. */
+	public void setBakedResolution (int resolution) {
+		for (int i = 0, n = emitters.size; i < n; i++)
+			emitters.get(i).setBakedResolution(resolution);
+	}
+
 	public void flipY () {
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).flipY();
@@ -17,7 +17,9 @@
 package com.badlogic.gdx.graphics.g2d;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.collision.BoundingBox;
@@ -66,6 +68,8 @@ public class ParticleEmitter {
 	private Array<Sprite> sprites;
 	private SpriteMode spriteMode = SpriteMode.single;
 	private Particle[] particles;
+	/** The particles when using array storage, see {@link #setArrayStorage(boolean)}. */
+	private ParticleArrays arrays;
 	private int minParticleCount, maxParticleCount = 4;
 	private float x, y;
 	private String name;
@@ -85,6 +89,8 @@ public class ParticleEmitter {
 	private float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
+	private float spawnX, spawnY, spawnAngle, spawnAngleCos, spawnAngleSin;
+	private boolean hasSpawnAngle;
 
 	private boolean attached;
 	private boolean continuous;
@@ -108,6 +114,7 @@ public class ParticleEmitter {
 		name = emitter.name;
 		imagePaths = new Array<String>(emitter.imagePaths);
 		setMaxParticleCount(emitter.maxParticleCount);
+		setArrayStorage(emitter.isArrayStorage());
 		minParticleCount = emitter.minParticleCount;
 		delayValue.load(emitter.delayValue);
 		durationValue.load(emitter.durationValue);
@@ -157,6 +164,7 @@ public class ParticleEmitter {
 		active = new boolean[maxParticleCount];
 		activeCount = 0;
 		particles = new Particle[maxParticleCount];
+		if (arrays != null) arrays = new ParticleArrays(maxParticleCount);
 	}
 
 	public void addParticle () {
@@ -236,8 +244,10 @@ public class ParticleEmitter {
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
 		Particle[] particles = this.particles;
+		boolean arrayStorage = arrays != null;
 		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i] && !updateParticle(particles[i], delta, deltaMillis)) {
+			if (active[i] && !(arrayStorage ? updateArrayParticle(i, delta, deltaMillis)
+				: updateParticle(particles[i], delta, deltaMillis))) {
 				active[i] = false;
 				activeCount--;
 			}
@@ -253,11 +263,15 @@ public class ParticleEmitter {
 		} else {
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 		}
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
+		if (arrays != null)
+			drawArrayParticles(batch, false, 0, 0);
+		else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
 
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i]) particles[i].draw(batch);
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i]) particles[i].draw(batch);
+			}
 		}
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
@@ -284,21 +298,25 @@ public class ParticleEmitter {
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 		}
 
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-		int activeCount = this.activeCount;
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i]) {
-				Particle particle = particles[i];
-				if (updateParticle(particle, delta, deltaMillis))
-					particle.draw(batch);
-				else {
-					active[i] = false;
-					activeCount--;
+		if (arrays != null)
+			drawArrayParticles(batch, true, delta, deltaMillis);
+		else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			int activeCount = this.activeCount;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i]) {
+					Particle particle = particles[i];
+					if (updateParticle(particle, delta, deltaMillis))
+						particle.draw(batch);
+					else {
+						active[i] = false;
+						activeCount--;
+					}
 				}
 			}
+			this.activeCount = activeCount;
 		}
-		this.activeCount = activeCount;
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -395,6 +413,10 @@ public class ParticleEmitter {
 	}
 
 	private void activateParticle (int index) {
+		if (arrays != null) {
+			activateArrayParticle(index);
+			return;
+		}
 		Sprite sprite = null;
 		switch (spriteMode) {
 		case single:
@@ -489,6 +511,29 @@ public class ParticleEmitter {
 		particle.transparencyDiff = transparencyValue.newHighValue() - particle.transparency;
 
 		// Spawn.
+		spawn(percent);
+		float x = spawnX, y = spawnY;
+		if (hasSpawnAngle) {
+			particle.angle = spawnAngle;
+			particle.angleCos = spawnAngleCos;
+			particle.angleSin = spawnAngleSin;
+		}
+
+		particle.setBounds(x - spriteWidth / 2, y - spriteHeight / 2, spriteWidth, spriteHeight);
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
+			updateParticle(particle, offsetTime / 1000f, offsetTime);
+		}
+	}
+
+	/** Calculates the spawn position of a new particle, stored in {@link #spawnX} and {@link #spawnY}. If the particle is spawned
+	 * on the edge of an ellipse and the angle isn't updated over time, the angle of the particle is set to the spawn angle, stored
+	 * in {@link #spawnAngle}, in which case {@link #hasSpawnAngle} is true. */
+	private void spawn (float percent) {
+		int updateFlags = this.updateFlags;
+		hasSpawnAngle = false;
 		float x = this.x;
 		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
 		float y = this.y;
@@ -526,9 +571,10 @@ public class ParticleEmitter {
 				x += cosDeg * radiusX;
 				y += sinDeg * radiusX / scaleY;
 				if ((updateFlags & UPDATE_ANGLE) == 0) {
-					particle.angle = spawnAngle;
-					particle.angleCos = cosDeg;
-					particle.angleSin = sinDeg;
+					this.spawnAngle = spawnAngle;
+					spawnAngleCos = cosDeg;
+					spawnAngleSin = sinDeg;
+					hasSpawnAngle = true;
 				}
 			} else {
 				float radius2 = radiusX * radiusX;
@@ -557,13 +603,8 @@ public class ParticleEmitter {
 		}
 		}
 
-		particle.setBounds(x - spriteWidth / 2, y - spriteHeight / 2, spriteWidth, spriteHeight);
-
-		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
-		if (offsetTime > 0) {
-			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
-			updateParticle(particle, offsetTime / 1000f, offsetTime);
-		}
+		spawnX = x;
+		spawnY = y;
 	}
 
 	private boolean updateParticle (Particle particle, float delta, int deltaMillis) {
@@ -650,6 +691,252 @@ public class ParticleEmitter {
 		return true;
 	}
 
+	private void activateArrayParticle (int index) {
+		final ParticleArrays p = arrays;
+		final Sprite sprite = spriteMode == SpriteMode.random ? sprites.random() : sprites.first();
+		p.sprites[index] = sprite;
+		p.frame[index] = 0;
+
+		float percent = durationTimer / (float)duration;
+		int updateFlags = this.updateFlags;
+
+		if (lifeValue.independent) generateLifeValues();
+
+		if (lifeOffsetValue.independent) generateLifeOffsetValues();
+
+		p.currentLife[index] = p.life[index] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		if (velocityValue.active) {
+			p.velocity[index] = velocityValue.newLowValue();
+			p.velocityDiff[index] = velocityValue.newHighValue();
+			if (!velocityValue.isRelative()) p.velocityDiff[index] -= p.velocity[index];
+		}
+
+		p.angle[index] = angleValue.newLowValue();
+		p.angleDiff[index] = angleValue.newHighValue();
+		if (!angleValue.isRelative()) p.angleDiff[index] -= p.angle[index];
+		float angle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle = p.angle[index] + p.angleDiff[index] * angleValue.getScale(0);
+			p.angle[index] = angle;
+			p.angleCos[index] = MathUtils.cosDeg(angle);
+			p.angleSin[index] = MathUtils.sinDeg(angle);
+		}
+
+		float spriteWidth = sprite.getWidth();
+		float spriteHeight = sprite.getHeight();
+
+		p.xScale[index] = xScaleValue.newLowValue() / spriteWidth;
+		p.xScaleDiff[index] = xScaleValue.newHighValue() / spriteWidth;
+		if (!xScaleValue.isRelative()) p.xScaleDiff[index] -= p.xScale[index];
+		p.scaleX[index] = p.scaleY[index] = p.xScale[index] + p.xScaleDiff[index] * xScaleValue.getScale(0);
+
+		if (yScaleValue.active) {
+			p.yScale[index] = yScaleValue.newLowValue() / spriteHeight;
+			p.yScaleDiff[index] = yScaleValue.newHighValue() / spriteHeight;
+			if (!yScaleValue.isRelative()) p.yScaleDiff[index] -= p.yScale[index];
+			p.scaleY[index] = p.yScale[index] + p.yScaleDiff[index] * yScaleValue.getScale(0);
+		}
+
+		p.currentRotation[index] = 0;
+		if (rotationValue.active) {
+			p.rotation[index] = rotationValue.newLowValue();
+			p.rotationDiff[index] = rotationValue.newHighValue();
+			if (!rotationValue.isRelative()) p.rotationDiff[index] -= p.rotation[index];
+			float rotation = p.rotation[index] + p.rotationDiff[index] * rotationValue.getScale(0);
+			if (aligned) rotation += angle;
+			p.currentRotation[index] = rotation;
+		} else {
+			p.rotation[index] = 0;
+			p.rotationDiff[index] = 0;
+		}
+
+		if (windValue.active) {
+			p.wind[index] = windValue.newLowValue();
+			p.windDiff[index] = windValue.newHighValue();
+			if (!windValue.isRelative()) p.windDiff[index] -= p.wind[index];
+		}
+
+		if (gravityValue.active) {
+			p.gravity[index] = gravityValue.newLowValue();
+			p.gravityDiff[index] = gravityValue.newHighValue();
+			if (!gravityValue.isRelative()) p.gravityDiff[index] -= p.gravity[index];
+		}
+
+		float[] temp = tintValue.getColor(0);
+		p.tint[index * 3] = temp[0];
+		p.tint[index * 3 + 1] = temp[1];
+		p.tint[index * 3 + 2] = temp[2];
+
+		p.transparency[index] = transparencyValue.newLowValue();
+		p.transparencyDiff[index] = transparencyValue.newHighValue() - p.transparency[index];
+		p.color[index] = sprite.getColor().toFloatBits();
+
+		spawn(percent);
+		if (hasSpawnAngle) {
+			p.angle[index] = spawnAngle;
+			p.angleCos[index] = spawnAngleCos;
+			p.angleSin[index] = spawnAngleSin;
+		}
+		p.x[index] = spawnX - spriteWidth / 2;
+		p.y[index] = spawnY - spriteHeight / 2;
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= p.currentLife[index]) offsetTime = p.currentLife[index] - 1;
+			updateArrayParticle(index, offsetTime / 1000f, offsetTime);
+		}
+	}
+
+	/** Same as {@link #updateParticle(Particle, float, int)}, for the particle at the index of the {@link #arrays}. */
+	private boolean updateArrayParticle (int index, float delta, int deltaMillis) {
+		final ParticleArrays p = arrays;
+		int life = p.currentLife[index] - deltaMillis;
+		if (life <= 0) return false;
+		p.currentLife[index] = life;
+
+		float percent = 1 - life / (float)p.life[index];
+		int updateFlags = this.updateFlags;
+
+		if ((updateFlags & UPDATE_SCALE) != 0) {
+			p.scaleX[index] = p.xScale[index] + p.xScaleDiff[index] * xScaleValue.getScale(percent);
+			p.scaleY[index] = yScaleValue.active ? p.yScale[index] + p.yScaleDiff[index] * yScaleValue.getScale(percent)
+				: p.scaleX[index];
+		}
+
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			float velocity = (p.velocity[index] + p.velocityDiff[index] * velocityValue.getScale(percent)) * delta;
+
+			float velocityX, velocityY;
+			if ((updateFlags & UPDATE_ANGLE) != 0) {
+				float angle = p.angle[index] + p.angleDiff[index] * angleValue.getScale(percent);
+				velocityX = velocity * MathUtils.cosDeg(angle);
+				velocityY = velocity * MathUtils.sinDeg(angle);
+				if ((updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = p.rotation[index] + p.rotationDiff[index] * rotationValue.getScale(percent);
+					if (aligned) rotation += angle;
+					p.currentRotation[index] = rotation;
+				}
+			} else {
+				velocityX = velocity * p.angleCos[index];
+				velocityY = velocity * p.angleSin[index];
+				if (aligned || (updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = p.rotation[index] + p.rotationDiff[index] * rotationValue.getScale(percent);
+					if (aligned) rotation += p.angle[index];
+					p.currentRotation[index] = rotation;
+				}
+			}
+
+			if ((updateFlags & UPDATE_WIND) != 0)
+				velocityX += (p.wind[index] + p.windDiff[index] * windValue.getScale(percent)) * delta;
+
+			if ((updateFlags & UPDATE_GRAVITY) != 0)
+				velocityY += (p.gravity[index] + p.gravityDiff[index] * gravityValue.getScale(percent)) * delta;
+
+			p.x[index] += velocityX;
+			p.y[index] += velocityY;
+		} else {
+			if ((updateFlags & UPDATE_ROTATION) != 0)
+				p.currentRotation[index] = p.rotation[index] + p.rotationDiff[index] * rotationValue.getScale(percent);
+		}
+
+		float r, g, b;
+		if ((updateFlags & UPDATE_TINT) != 0) {
+			float[] color = tintValue.getColor(percent);
+			r = color[0];
+			g = color[1];
+			b = color[2];
+		} else {
+			r = p.tint[index * 3];
+			g = p.tint[index * 3 + 1];
+			b = p.tint[index * 3 + 2];
+		}
+
+		float a = p.transparency[index] + p.transparencyDiff[index] * transparencyValue.getScale(percent);
+		if (premultipliedAlpha)
+			p.color[index] = Color.toFloatBits(r * a, g * a, b * a, additive ? 0 : a);
+		else
+			p.color[index] = Color.toFloatBits(r, g, b, a);
+
+		if ((updateFlags & UPDATE_SPRITE) != 0) {
+			int frame = Math.min((int)(percent * sprites.size), sprites.size - 1);
+			if (p.frame[index] != frame) {
+				Sprite sprite = sprites.get(frame);
+				Sprite previous = p.sprites[index];
+				p.x[index] += (previous.getWidth() - sprite.getWidth()) / 2;
+				p.y[index] += (previous.getHeight() - sprite.getHeight()) / 2;
+				p.sprites[index] = sprite;
+				p.frame[index] = frame;
+			}
+		}
+
+		return true;
+	}
+
+	/** Draws the particles stored in the {@link #arrays}, optionally updating them first. Consecutive particles using the same
+	 * texture are drawn with a single call to {@link Batch#draw(Texture, float[], int, int)}. */
+	private void drawArrayParticles (Batch batch, boolean update, float delta, int deltaMillis) {
+		final ParticleArrays p = arrays;
+		final boolean[] active = this.active;
+		final float[] vertices = p.vertices;
+		int activeCount = this.activeCount;
+		Texture texture = null;
+		int count = 0;
+		for (int i = 0, n = active.length; i < n; i++) {
+			if (!active[i]) continue;
+			if (update && !updateArrayParticle(i, delta, deltaMillis)) {
+				active[i] = false;
+				activeCount--;
+				continue;
+			}
+			final Texture particleTexture = p.sprites[i].getTexture();
+			if (particleTexture != texture || count == vertices.length) {
+				if (count > 0) batch.draw(texture, vertices, 0, count);
+				texture = particleTexture;
+				count = 0;
+			}
+			count = p.getVertices(i, flipX, flipY, vertices, count);
+		}
+		if (count > 0) batch.draw(texture, vertices, 0, count);
+		this.activeCount = activeCount;
+	}
+
+	/** Enables or disables storing the particles in primitive arrays instead of {@link Particle} objects. Array storage avoids
+	 * updating a {@link Sprite} per particle and writes the vertices of all particles straight into the batch, which is
+	 * considerably faster for emitters with many particles. The {@link Particle} objects and {@link #newParticle(Sprite)} are not
+	 * used in this mode, so subclasses relying on them should not enable it. Changing the storage removes all active particles.
+	 * This setting is not stored in the effect file. */
+	public void setArrayStorage (boolean arrayStorage) {
+		if (arrayStorage == (arrays != null)) return;
+		arrays = arrayStorage ? new ParticleArrays(maxParticleCount) : null;
+		Arrays.fill(active, false);
+		activeCount = 0;
+	}
+
+	/** @return Whether the particles are stored in primitive arrays, see {@link #setArrayStorage(boolean)}. */
+	public boolean isArrayStorage () {
+		return arrays != null;
+	}
+
+	/** Enables or disables baked mode for all timelines of this emitter, see {@link ScaledNumericValue#setBakedResolution(int)}.
+	 * @param resolution The number of entries of each lookup table, e.g. 256, or 0 to disable baked mode. */
+	public void setBakedResolution (int resolution) {
+		lifeOffsetValue.setBakedResolution(resolution);
+		lifeValue.setBakedResolution(resolution);
+		emissionValue.setBakedResolution(resolution);
+		xScaleValue.setBakedResolution(resolution);
+		yScaleValue.setBakedResolution(resolution);
+		rotationValue.setBakedResolution(resolution);
+		velocityValue.setBakedResolution(resolution);
+		angleValue.setBakedResolution(resolution);
+		windValue.setBakedResolution(resolution);
+		gravityValue.setBakedResolution(resolution);
+		transparencyValue.setBakedResolution(resolution);
+		tintValue.setBakedResolution(resolution);
+		spawnWidthValue.setBakedResolution(resolution);
+		spawnHeightValue.setBakedResolution(resolution);
+	}
+
 	private void generateLifeValues () {
 		life = (int)lifeValue.newLowValue();
 		lifeDiff = (int)lifeValue.newHighValue();
@@ -667,8 +954,15 @@ public class ParticleEmitter {
 			float xAmount = x - this.x;
 			float yAmount = y - this.y;
 			boolean[] active = this.active;
-			for (int i = 0, n = active.length; i < n; i++)
-				if (active[i]) particles[i].translate(xAmount, yAmount);
+			ParticleArrays arrays = this.arrays;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (!active[i]) continue;
+				if (arrays != null) {
+					arrays.x[i] += xAmount;
+					arrays.y[i] += yAmount;
+				} else
+					particles[i].translate(xAmount, yAmount);
+			}
 		}
 		this.x = x;
 		this.y = y;
@@ -677,6 +971,25 @@ public class ParticleEmitter {
 	public void setSprites (Array<Sprite> sprites) {
 		this.sprites = sprites;
 		if (sprites.size == 0) return;
+		if (arrays != null) {
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (!active[i]) continue;
+				switch (spriteMode) {
+				case single:
+					arrays.sprites[i] = sprites.first();
+					break;
+				case random:
+					arrays.sprites[i] = sprites.random();
+					break;
+				case animated:
+					float percent = 1 - arrays.currentLife[i] / (float)arrays.life[i];
+					arrays.frame[i] = Math.min((int)(percent * sprites.size), sprites.size - 1);
+					arrays.sprites[i] = sprites.get(arrays.frame[i]);
+					break;
+				}
+			}
+			return;
+		}
 		for (int i = 0, n = particles.length; i < n; i++) {
 			Particle particle = particles[i];
 			if (particle == null) break;
@@ -708,6 +1021,7 @@ public class ParticleEmitter {
 	public void preAllocateParticles () {
 		if (sprites.isEmpty())
 			throw new IllegalStateException("ParticleEmitter.setSprites() must have been called before preAllocateParticles()");
+		if (arrays != null) return;
 		for (int index = 0; index < particles.length; index++) {
 			Particle particle = particles[index];
 			if (particle == null) {
@@ -960,6 +1274,16 @@ public class ParticleEmitter {
 		BoundingBox bounds = this.bounds;
 
 		bounds.inf();
+		if (arrays != null) {
+			float[] vertices = arrays.vertices;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (!active[i]) continue;
+				arrays.getVertices(i, flipX, flipY, vertices, 0);
+				for (int v = 0; v < Sprite.SPRITE_SIZE; v += Sprite.VERTEX_SIZE)
+					bounds.ext(vertices[v], vertices[v + 1], 0);
+			}
+			return bounds;
+		}
 		for (int i = 0, n = active.length; i < n; i++)
 			if (active[i]) {
 				Rectangle r = particles[i].getBoundingRectangle();
@@ -1236,6 +1560,127 @@ public class ParticleEmitter {
 		}
 	}
 
+	/** Stores the state of all particles of an emitter in primitive arrays, indexed by particle, see
+	 * {@link ParticleEmitter#setArrayStorage(boolean)}. */
+	static class ParticleArrays {
+		final int[] life, currentLife, frame;
+		final float[] xScale, xScaleDiff, yScale, yScaleDiff;
+		final float[] rotation, rotationDiff, velocity, velocityDiff;
+		final float[] angle, angleDiff, angleCos, angleSin;
+		final float[] transparency, transparencyDiff, wind, windDiff, gravity, gravityDiff;
+		/** The initial tint of each particle, three components per particle. */
+		final float[] tint;
+		/** The current state used to draw each particle, x and y being the bottom left corner of the sprite. */
+		final float[] x, y, scaleX, scaleY, currentRotation, color;
+		final Sprite[] sprites;
+		/** The vertices of the particles being drawn. */
+		final float[] vertices;
+
+		ParticleArrays (int capacity) {
+			life = new int[capacity];
+			currentLife = new int[capacity];
+			frame = new int[capacity];
+			xScale = new float[capacity];
+			xScaleDiff = new float[capacity];
+			yScale = new float[capacity];
+			yScaleDiff = new float[capacity];
+			rotation = new float[capacity];
+			rotationDiff = new float[capacity];
+			velocity = new float[capacity];
+			velocityDiff = new float[capacity];
+			angle = new float[capacity];
+			angleDiff = new float[capacity];
+			angleCos = new float[capacity];
+			angleSin = new float[capacity];
+			transparency = new float[capacity];
+			transparencyDiff = new float[capacity];
+			wind = new float[capacity];
+			windDiff = new float[capacity];
+			gravity = new float[capacity];
+			gravityDiff = new float[capacity];
+			tint = new float[capacity * 3];
+			x = new float[capacity];
+			y = new float[capacity];
+			scaleX = new float[capacity];
+			scaleY = new float[capacity];
+			currentRotation = new float[capacity];
+			color = new float[capacity];
+			sprites = new Sprite[capacity];
+			vertices = new float[Math.min(Math.max(capacity, 1), 1000) * Sprite.SPRITE_SIZE];
+		}
+
+		/** Writes the vertices of the particle the same way {@link Sprite#getVertices()} does.
+		 * @return The offset after the written vertices. */
+		int getVertices (int index, boolean flipX, boolean flipY, float[] vertices, int offset) {
+			final Sprite sprite = sprites[index];
+			float localX = -sprite.getOriginX();
+			float localY = -sprite.getOriginY();
+			float localX2 = localX + sprite.getWidth();
+			float localY2 = localY + sprite.getHeight();
+			final float worldOriginX = x[index] - localX;
+			final float worldOriginY = y[index] - localY;
+			final float scaleX = this.scaleX[index], scaleY = this.scaleY[index];
+			if (scaleX != 1 || scaleY != 1) {
+				localX *= scaleX;
+				localY *= scaleY;
+				localX2 *= scaleX;
+				localY2 *= scaleY;
+			}
+			float x1, y1, x2, y2, x3, y3, x4, y4;
+			final float rotation = currentRotation[index];
+			if (rotation != 0) {
+				final float cos = MathUtils.cosDeg(rotation);
+				final float sin = MathUtils.sinDeg(rotation);
+				x1 = localX * cos - localY * sin + worldOriginX;
+				y1 = localY * cos + localX * sin + worldOriginY;
+				x2 = localX * cos - localY2 * sin + worldOriginX;
+				y2 = localY2 * cos + localX * sin + worldOriginY;
+				x3 = localX2 * cos - localY2 * sin + worldOriginX;
+				y3 = localY2 * cos + localX2 * sin + worldOriginY;
+				x4 = x1 + (x3 - x2);
+				y4 = y3 - (y2 - y1);
+			} else {
+				x1 = x2 = localX + worldOriginX;
+				y1 = y4 = localY + worldOriginY;
+				x3 = x4 = localX2 + worldOriginX;
+				y2 = y3 = localY2 + worldOriginY;
+			}
+			float u = sprite.getU(), v = sprite.getV(), u2 = sprite.getU2(), v2 = sprite.getV2();
+			if (flipX) {
+				final float tmp = u;
+				u = u2;
+				u2 = tmp;
+			}
+			if (flipY) {
+				final float tmp = v;
+				v = v2;
+				v2 = tmp;
+			}
+			final float color = this.color[index];
+			vertices[offset++] = x1;
+			vertices[offset++] = y1;
+			vertices[offset++] = color;
+			vertices[offset++] = u;
+			vertices[offset++] = v2;
+			vertices[offset++] = x2;
+			vertices[offset++] = y2;
+			vertices[offset++] = color;
+			vertices[offset++] = u;
+			vertices[offset++] = v;
+			vertices[offset++] = x3;
+			vertices[offset++] = y3;
+			vertices[offset++] = color;
+			vertices[offset++] = u2;
+			vertices[offset++] = v;
+			vertices[offset++] = x4;
+			vertices[offset++] = y4;
+			vertices[offset++] = color;
+			vertices[offset++] = u2;
+			vertices[offset++] = v2;
+			return offset;
+		}
+	}
+
 	static public class ParticleValue {
 		boolean active;
 		boolean alwaysActive;
@@ -1375,6 +1820,8 @@ public class ParticleEmitter {
 		float[] timeline = {0};
 		private float highMin, highMax;
 		private boolean relative;
+		private int bakedResolution;
+		private float[] baked;
 
 		public float newHighValue () {
 			return highMin + (highMax - highMin) * MathUtils.random();
@@ -1432,6 +1879,7 @@ public class ParticleEmitter {
 			else
 				System.arraycopy(value.timeline, 0, timeline, 0, timeline.length);
 			this.relative = value.relative;
+			baked = null;
 		}
 
 		public float[] getScaling () {
@@ -1440,6 +1888,7 @@ public class ParticleEmitter {
 
 		public void setScaling (float[] values) {
 			this.scaling = values;
+			baked = null;
 		}
 
 		public float[] getTimeline () {
@@ -1448,6 +1897,7 @@ public class ParticleEmitter {
 
 		public void setTimeline (float[] timeline) {
 			this.timeline = timeline;
+			baked = null;
 		}
 
 		public boolean isRelative () {
@@ -1458,7 +1908,52 @@ public class ParticleEmitter {
 			this.relative = relative;
 		}
 
+		/** Enables or disables baked mode. When baked, the timeline is sampled into a lookup table with the specified number of
+		 * entries, so {@link #getScale(float)} interpolates between the two nearest entries instead of searching the timeline. The
+		 * table is rebuilt the next time it is used after the scaling or timeline is set or loaded, call {@link #bake()} after
+		 * changing the arrays in place. Timeline points closer together than 1 / (resolution - 1) are smoothed.
+		 * @param resolution The number of entries, at least 2, or 0 to disable baked mode. */
+		public void setBakedResolution (int resolution) {
+			if (resolution < 0 || resolution == 1) throw new IllegalArgumentException("Invalid resolution: " + resolution);
+			bakedResolution = resolution;
+			baked = null;
+		}
+
+		/** @return The number of entries of the lookup table, or 0 if baked mode is disabled. */
+		public int getBakedResolution () {
+			return bakedResolution;
+		}
+
+		/** Rebuilds the lookup table from the current scaling and timeline. Does nothing if baked mode is disabled. */
+		public void bake () {
+			if (bakedResolution == 0) {
+				baked = null;
+				return;
+			}
+			float[] baked = new float[bakedResolution];
+			float step = 1f / (bakedResolution - 1);
+			for (int i = 0; i < bakedResolution; i++)
+				baked[i] = searchScale(i * step);
+			this.baked = baked;
+		}
+
 		public float getScale (float percent) {
+			if (bakedResolution == 0) return searchScale(percent);
+			float[] baked = this.baked;
+			if (baked == null) {
+				bake();
+				baked = this.baked;
+			}
+			int last = baked.length - 1;
+			float position = percent * last;
+			if (position <= 0) return baked[0];
+			int index = (int)position;
+			if (index >= last) return baked[last];
+			float start = baked[index];
+			return start + (baked[index + 1] - start) * (position - index);
+		}
+
+		private float searchScale (float percent) {
 			int endIndex = -1;
 			float[] timeline = this.timeline;
 			int n = timeline.length;
@@ -1503,6 +1998,7 @@ public class ParticleEmitter {
 			timeline = new float[readInt(reader, "timelineCount")];
 			for (int i = 0; i < timeline.length; i++)
 				timeline[i] = readFloat(reader, "timeline" + i);
+			baked = null;
 		}
 
 		public void load (ScaledNumericValue value) {
@@ -1514,6 +2010,8 @@ public class ParticleEmitter {
 			timeline = new float[value.timeline.length];
 			System.arraycopy(value.timeline, 0, timeline, 0, timeline.length);
 			relative = value.relative;
+			bakedResolution = value.bakedResolution;
+			baked = null;
 		}
 	}
 
@@ -1584,6 +2082,8 @@ public class ParticleEmitter {
 
 		private float[] colors = {1, 1, 1};
 		float[] timeline = {0};
+		private int bakedResolution;
+		private float[] baked;
 
 		public GradientColorValue () {
 			alwaysActive = true;
@@ -1595,6 +2095,7 @@ public class ParticleEmitter {
 
 		public void setTimeline (float[] timeline) {
 			this.timeline = timeline;
+			baked = null;
 		}
 
 		/** @return the r, g and b values for every timeline position */
@@ -1605,9 +2106,66 @@ public class ParticleEmitter {
 		/** @param colors the r, g and b values for every timeline position */
 		public void setColors (float[] colors) {
 			this.colors = colors;
+			baked = null;
+		}
+
+		/** Enables or disables baked mode, see {@link ScaledNumericValue#setBakedResolution(int)}.
+		 * @param resolution The number of colors in the lookup table, at least 2, or 0 to disable baked mode. */
+		public void setBakedResolution (int resolution) {
+			if (resolution < 0 || resolution == 1) throw new IllegalArgumentException("Invalid resolution: " + resolution);
+			bakedResolution = resolution;
+			baked = null;
+		}
+
+		/** @return The number of colors in the lookup table, or 0 if baked mode is disabled. */
+		public int getBakedResolution () {
+			return bakedResolution;
+		}
+
+		/** Rebuilds the lookup table from the current colors and timeline. Does nothing if baked mode is disabled. */
+		public void bake () {
+			if (bakedResolution == 0) {
+				baked = null;
+				return;
+			}
+			float[] baked = new float[bakedResolution * 3];
+			float step = 1f / (bakedResolution - 1);
+			for (int i = 0; i < bakedResolution; i++)
+				System.arraycopy(searchColor(i * step), 0, baked, i * 3, 3);
+			this.baked = baked;
 		}
 
 		public float[] getColor (float percent) {
+			if (bakedResolution == 0) return searchColor(percent);
+			float[] baked = this.baked;
+			if (baked == null) {
+				bake();
+				baked = this.baked;
+			}
+			int last = bakedResolution - 1;
+			float position = percent * last, factor = 0;
+			int index = 0;
+			if (position >= last)
+				index = last;
+			else if (position > 0) {
+				index = (int)position;
+				factor = position - index;
+			}
+			int startIndex = index * 3;
+			float r1 = baked[startIndex], g1 = baked[startIndex + 1], b1 = baked[startIndex + 2];
+			if (index == last) {
+				temp[0] = r1;
+				temp[1] = g1;
+				temp[2] = b1;
+				return temp;
+			}
+			temp[0] = r1 + (baked[startIndex + 3] - r1) * factor;
+			temp[1] = g1 + (baked[startIndex + 4] - g1) * factor;
+			temp[2] = b1 + (baked[startIndex + 5] - b1) * factor;
+			return temp;
+		}
+
+		private float[] searchColor (float percent) {
 			int startIndex = 0, endIndex = -1;
 			float[] timeline = this.timeline;
 			int n = timeline.length;
@@ -1658,6 +2216,7 @@ public class ParticleEmitter {
 			timeline = new float[readInt(reader, "timelineCount")];
 			for (int i = 0; i < timeline.length; i++)
 				timeline[i] = readFloat(reader, "timeline" + i);
+			baked = null;
 		}
 
 		public void load (GradientColorValue value) {
@@ -1666,6 +2225,8 @@ public class ParticleEmitter {
 			System.arraycopy(value.colors, 0, colors, 0, colors.length);
 			timeline = new float[value.timeline.length];
 			System.arraycopy(value.timeline, 0, timeline, 0, timeline.length);
+			bakedResolution = value.bakedResolution;
+			baked = null;
 		}
 	}
 
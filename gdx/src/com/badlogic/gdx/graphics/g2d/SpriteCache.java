@@ -978,7 +978,8 @@ public class SpriteCache implements Disposable {
 		}
 	}
 
-	static ShaderProgram createDefaultShader () {
+	/** Returns a new instance of the default shader used by SpriteCache when no shader is specified. */
+	static public ShaderProgram createDefaultShader () {
 		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
 			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
 			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
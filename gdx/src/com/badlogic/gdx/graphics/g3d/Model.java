@@ -236,6 +236,10 @@ public class Model implements Disposable {
 	}
 
 	protected void convertMesh (ModelMesh modelMesh) {
+		if (modelMesh.vertexData != null) {
+			convertMappedMesh(modelMesh);
+			return;
+		}
 		int numIndices = 0;
 		for (ModelMeshPart part : modelMesh.parts) {
 			numIndices += part.indices.length;
@@ -270,6 +274,31 @@ public class Model implements Disposable {
 			part.update();
 	}
 
+	/** Creates the mesh directly from the {@link ModelMesh#vertexData} and {@link ModelMesh#indexData} buffers, without copying
+	 * them. */
+	protected void convertMappedMesh (ModelMesh modelMesh) {
+		VertexAttributes attributes = new VertexAttributes(modelMesh.attributes);
+		int numVertices = modelMesh.vertexData.limit() / attributes.vertexSize;
+		boolean hasIndices = modelMesh.indexData != null && modelMesh.indexData.limit() > 0;
+
+		Mesh mesh = new Mesh(true, modelMesh.vertexData, hasIndices ? modelMesh.indexData : null, attributes);
+		meshes.add(mesh);
+		disposables.add(mesh);
+
+		int offset = 0;
+		for (ModelMeshPart part : modelMesh.parts) {
+			MeshPart meshPart = new MeshPart();
+			meshPart.id = part.id;
+			meshPart.primitiveType = part.primitiveType;
+			meshPart.offset = offset;
+			meshPart.size = hasIndices ? (part.indices != null ? part.indices.length : part.numIndices) : numVertices;
+			meshPart.mesh = mesh;
+			offset += meshPart.size;
+			meshParts.add(meshPart);
+			meshPart.update();
+		}
+	}
+
 	protected void loadMaterials (Iterable<ModelMaterial> modelMaterials, TextureProvider textureProvider) {
 		for (ModelMaterial mtl : modelMaterials) {
 			this.materials.add(convertMaterial(mtl, textureProvider));
@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.OcclusionBuffer;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
@@ -70,6 +71,8 @@ public class ModelBatch implements Disposable {
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
+	/** the {@link OcclusionBuffer} used to skip occluded renderables, may be null **/
+	protected OcclusionBuffer occlusionBuffer;
 
 	/** Construct a ModelBatch, using this constructor makes you responsible for calling context.begin() and context.end()
 	 * yourself.
@@ -195,9 +198,29 @@ public class ModelBatch implements Disposable {
 		return sorter;
 	}
 
+	/** @return the {@link OcclusionBuffer} used to skip occluded renderables, or null if not set. */
+	public OcclusionBuffer getOcclusionBuffer () {
+		return occlusionBuffer;
+	}
+
+	/** Sets the {@link OcclusionBuffer} which is used to skip the renderables that are hidden behind its occluders when the batch
+	 * is flushed. The occluders must be added for the same camera as used by this batch. The buffer is not owned by this batch.
+	 * @param occlusionBuffer the buffer to use, or null to render all renderables. */
+	public void setOcclusionBuffer (final OcclusionBuffer occlusionBuffer) {
+		this.occlusionBuffer = occlusionBuffer;
+	}
+
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
 	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
 	public void flush () {
+		if (occlusionBuffer != null) {
+			int n = 0;
+			for (int i = 0; i < renderables.size; i++) {
+				final Renderable renderable = renderables.get(i);
+				if (!occlusionBuffer.isOccluded(renderable)) renderables.set(n++, renderable);
+			}
+			renderables.truncate(n);
+		}
 		sorter.sort(camera, renderables);
 		Shader currentShader = null;
 		for (int i = 0; i < renderables.size; i++) {
@@ -16,6 +16,7 @@
 
 package com.badlogic.gdx.graphics.g3d;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g3d.model.Animation;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
@@ -55,6 +56,11 @@ public class ModelInstance implements RenderableProvider {
 	public Matrix4 transform;
 	/** user definable value, which is passed to the {@link Shader}. */
 	public Object userData;
+	/** the camera used to select the level of detail of nodes that have a {@link Node#lod}, when collecting the renderables. If
+	 * null (the default) the currently selected level of each node is used, which is the full detail level unless changed. */
+	public Camera lodCamera;
+
+	private final Matrix4 lodTransform = new Matrix4();
 
 	/** Constructs a new ModelInstance with all nodes and materials of the given model.
 	 * @param model The {@link Model} to create an instance of. */
@@ -255,8 +261,19 @@ public class ModelInstance implements RenderableProvider {
 	/** Makes sure that each {@link NodePart} of the {@link Node} and its sub-nodes, doesn't reference a node outside this node
 	 * tree and that all materials are listed in the {@link #materials} array. */
 	private void invalidate (Node node) {
-		for (int i = 0, n = node.parts.size; i < n; ++i) {
-			NodePart part = node.parts.get(i);
+		invalidate(node.parts);
+		if (node.lod != null) {
+			for (int i = 0, n = node.lod.levels.size; i < n; ++i)
+				invalidate(node.lod.levels.get(i));
+		}
+		for (int i = 0, n = node.getChildCount(); i < n; ++i) {
+			invalidate(node.getChild(i));
+		}
+	}
+
+	private void invalidate (Array<NodePart> parts) {
+		for (int i = 0, n = parts.size; i < n; ++i) {
+			NodePart part = parts.get(i);
 			ArrayMap<Node, Matrix4> bindPose = part.invBoneBindTransforms;
 			if (bindPose != null) {
 				for (int j = 0; j < bindPose.size; ++j) {
@@ -271,9 +288,6 @@ public class ModelInstance implements RenderableProvider {
 					part.material = materials.get(midx);
 			}
 		}
-		for (int i = 0, n = node.getChildCount(); i < n; ++i) {
-			invalidate(node.getChild(i));
-		}
 	}
 
 	/** Makes sure that each {@link NodePart} of each {@link Node} doesn't reference a node outside this node tree and that all
@@ -347,7 +361,8 @@ public class ModelInstance implements RenderableProvider {
 	}
 
 	/** Traverses the Node hierarchy and collects {@link Renderable} instances for every node with a graphical representation.
-	 * Renderables are obtained from the provided pool. The resulting array can be rendered via a {@link ModelBatch}.
+	 * Renderables are obtained from the provided pool. The resulting array can be rendered via a {@link ModelBatch}. If the
+	 * {@link #lodCamera} is set, the level of detail of each node that has a {@link Node#lod} is selected for that camera.
 	 * 
 	 * @param renderables the output array
 	 * @param pool the pool to obtain Renderables from */
@@ -380,8 +395,19 @@ public class ModelInstance implements RenderableProvider {
 	}
 
 	protected void getRenderables (Node node, Array<Renderable> renderables, Pool<Renderable> pool) {
-		if (node.parts.size > 0) {
-			for (NodePart nodePart : node.parts) {
+		Array<NodePart> parts = node.parts;
+		if (node.lod != null) {
+			if (lodCamera != null) {
+				if (transform != null)
+					lodTransform.set(transform).mul(node.globalTransform);
+				else
+					lodTransform.set(node.globalTransform);
+				node.lod.update(node, lodCamera, lodTransform);
+			}
+			parts = node.lod.getParts(node);
+		}
+		if (parts.size > 0) {
+			for (NodePart nodePart : parts) {
 				if (nodePart.enabled) renderables.add(getRenderable(pool.obtain(), node, nodePart));
 			}
 		}
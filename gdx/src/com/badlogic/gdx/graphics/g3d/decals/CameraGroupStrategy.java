@@ -16,12 +16,15 @@
 
 package com.badlogic.gdx.graphics.g3d.decals;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.utils.DepthSorter;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
@@ -96,9 +99,14 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 	Camera camera;
 	ShaderProgram shader;
 	private final Comparator<Decal> cameraSorter;
+	/** Sorts the blended decals by their distance to the camera, null if a custom comparator is used. */
+	private final DepthSorter depthSorter;
+	private float[] depths = new float[0];
+	private Decal[] sortedDecals = new Decal[0];
 
 	public CameraGroupStrategy (Camera camera) {
 		this.camera = camera;
+		this.depthSorter = new DepthSorter();
 		this.cameraSorter = new Comparator<Decal>() {
 			@Override
 			public int compare (Decal o1, Decal o2) {
@@ -113,6 +121,7 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 	public CameraGroupStrategy (Camera camera, Comparator<Decal> sorter) {
 		this.camera = camera;
 		this.cameraSorter = sorter;
+		this.depthSorter = null;
 		createDefaultShader();
 	}
 
@@ -134,7 +143,10 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 		if (group == GROUP_BLEND) {
 			Gdx.gl.glEnable(GL20.GL_BLEND);
 			Gdx.gl.glDepthMask(false);
-			contents.sort(cameraSorter);
+			if (depthSorter != null)
+				sortByDistance(contents);
+			else
+				contents.sort(cameraSorter);
 		} else {
 			for (int i = 0, n = contents.size; i < n; i++) {
 				Decal decal = contents.get(i);
@@ -159,6 +171,25 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 		}
 	}
 
+	/** Sorts the decals back to front, same as the default comparator but without computing the distances for every comparison. */
+	private void sortByDistance (Array<Decal> contents) {
+		final int n = contents.size;
+		if (depths.length < n) {
+			depths = new float[n];
+			sortedDecals = new Decal[n];
+		}
+		final Vector3 position = camera.position;
+		for (int i = 0; i < n; i++) {
+			Decal decal = contents.get(i);
+			depths[i] = -position.dst2(decal.position);
+			sortedDecals[i] = decal;
+		}
+		final int[] order = depthSorter.sort(depths, n);
+		for (int i = 0; i < n; i++)
+			contents.set(i, sortedDecals[order[i]]);
+		Arrays.fill(sortedDecals, 0, n, null);
+	}
+
 	@Override
 	public void afterGroup (int group) {
 		if (group == GROUP_BLEND) {
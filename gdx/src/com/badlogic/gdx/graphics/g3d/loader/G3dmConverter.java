@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.UBJsonWriter;
+
+/** Converts g3dj and g3db files to the memory mappable g3dm format, see {@link G3dmModelLoader}. This is intended to be used as
+ * part of the asset pipeline, e.g. from the command line:
+ *
+ * <pre>
+ * java -cp gdx.jar com.badlogic.gdx.graphics.g3d.loader.G3dmConverter model.g3db model.g3dm
+ * </pre>
+ */
+public class G3dmConverter {
+	/** Converts the g3dj or g3db file, depending on its extension, to a g3dm file. */
+	public static void convert (FileHandle source, FileHandle target) {
+		final JsonValue json = source.extension().equalsIgnoreCase("g3dj") ? new JsonReader().parse(source)
+			: new UBJsonReader().parse(source);
+		OutputStream out = null;
+		try {
+			out = target.write(false);
+			convert(json, out);
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error writing g3dm file: " + target, ex);
+		} finally {
+			StreamUtils.closeQuietly(out);
+		}
+	}
+
+	/** Writes the parsed g3dj or g3db tree in the g3dm format. The vertices and indices are removed from the tree. */
+	public static void convert (JsonValue json, OutputStream out) throws IOException {
+		final ByteArrayOutputStream data = new ByteArrayOutputStream();
+		final JsonValue meshes = json.get("meshes");
+		if (meshes != null) {
+			for (JsonValue mesh = meshes.child; mesh != null; mesh = mesh.next) {
+				final float[] vertices = mesh.require("vertices").asFloatArray();
+				mesh.remove("vertices");
+				final ByteBuffer vertexBlock = ByteBuffer.allocate(vertices.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+				vertexBlock.asFloatBuffer().put(vertices);
+				mesh.addChild("vertexOffset", new JsonValue(data.size()));
+				mesh.addChild("vertexSize", new JsonValue(vertexBlock.capacity()));
+				data.write(vertexBlock.array());
+
+				int numIndices = 0;
+				for (JsonValue part = mesh.require("parts").child; part != null; part = part.next)
+					numIndices += part.require("indices").size;
+				final ByteBuffer indexBlock = ByteBuffer.allocate(numIndices * 2).order(ByteOrder.LITTLE_ENDIAN);
+				for (JsonValue part = mesh.require("parts").child; part != null; part = part.next) {
+					final short[] indices = part.require("indices").asShortArray();
+					part.remove("indices");
+					part.addChild("count", new JsonValue(indices.length));
+					indexBlock.asShortBuffer().put(indices);
+					((Buffer)indexBlock).position(indexBlock.position() + indices.length * 2);
+				}
+				mesh.addChild("indexOffset", new JsonValue(data.size()));
+				mesh.addChild("indexSize", new JsonValue(indexBlock.capacity()));
+				data.write(indexBlock.array());
+				while (data.size() % 4 != 0)
+					data.write(0);
+			}
+		}
+
+		final ByteArrayOutputStream metadata = new ByteArrayOutputStream();
+		final UBJsonWriter writer = new UBJsonWriter(metadata);
+		writer.value(json);
+		writer.flush();
+
+		final ByteBuffer header = ByteBuffer.allocate(G3dmModelLoader.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.put(G3dmModelLoader.MAGIC);
+		header.putShort(G3dmModelLoader.FORMAT_VERSION_HI);
+		header.putShort(G3dmModelLoader.FORMAT_VERSION_LO);
+		header.putInt(metadata.size());
+		out.write(header.array());
+		metadata.writeTo(out);
+		for (int i = G3dmModelLoader.HEADER_SIZE + metadata.size(), n = G3dmModelLoader.getDataOffset(metadata.size()); i < n; i++)
+			out.write(0);
+		data.writeTo(out);
+		out.flush();
+	}
+
+	public static void main (String[] args) {
+		if (args.length != 2) {
+			System.out.println("Usage: G3dmConverter <source.g3dj|source.g3db> <target.g3dm>");
+			System.exit(-1);
+		}
+		convert(new FileHandle(args[0]), new FileHandle(args[1]));
+	}
+}
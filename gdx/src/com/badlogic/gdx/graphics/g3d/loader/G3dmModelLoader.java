@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.loader;
+
+import java.io.ByteArrayInputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMeshPart;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.UBJsonReader;
+
+/** Loads models stored in the binary g3dm format, which is created from g3dj or g3db files using {@link G3dmConverter}. Unlike
+ * those formats the vertices and indices are not parsed, instead the file is memory mapped and the meshes directly use regions
+ * of the file as their vertex and index buffers. This avoids both the parsing time and the temporary copies of the data, which
+ * makes a large difference for big models.
+ * </p>
+ *
+ * A g3dm file is a little endian file which consists of:
+ * <ul>
+ * <li>the magic bytes "G3DM", followed by the major and minor version as two shorts,</li>
+ * <li>the length in bytes of the metadata, as an int, followed by the metadata. The metadata is the UBJSON encoded g3dj tree,
+ * except that the meshes don't have vertices and the mesh parts don't have indices. Instead each mesh has the byte offset and
+ * size of its vertex block ("vertexOffset" and "vertexSize") and index block ("indexOffset" and "indexSize") and each mesh part
+ * has the number of indices it uses ("count"). The indices of the parts are stored consecutively in the order of the parts,</li>
+ * <li>the vertex and index blocks, each aligned to four bytes. The block offsets are relative to the first four byte aligned
+ * position after the metadata.</li>
+ * </ul>
+ * Files which can't be memory mapped, e.g. classpath or internal files on Android, are read into a direct buffer instead. The
+ * memory mapped buffer must stay valid as long as the model is used, because it is used to restore the meshes on context loss.
+ * This loader is not registered with the AssetManager by default, use
+ * {@link com.badlogic.gdx.assets.AssetManager#setLoader(Class, String, com.badlogic.gdx.assets.loaders.AssetLoader)} with the
+ * ".g3dm" suffix to do so. */
+public class G3dmModelLoader extends G3dModelLoader {
+	public static final byte[] MAGIC = {'G', '3', 'D', 'M'};
+	public static final short FORMAT_VERSION_HI = 1;
+	public static final short FORMAT_VERSION_LO = 0;
+	/** The size in bytes of the header which precedes the metadata. */
+	public static final int HEADER_SIZE = 12;
+
+	public G3dmModelLoader () {
+		this(null);
+	}
+
+	public G3dmModelLoader (FileHandleResolver resolver) {
+		super(new UBJsonReader(), resolver);
+	}
+
+	@Override
+	public ModelData parseModel (FileHandle handle) {
+		return parseModel(handle, load(handle));
+	}
+
+	/** Parses the model from the g3dm data.
+	 * @param handle The file the data was read from, used to resolve the texture paths
+	 * @param data The complete contents of the file, must be a direct buffer in native byte order if the model is used to create
+	 *           meshes */
+	public ModelData parseModel (FileHandle handle, ByteBuffer data) {
+		final ByteBuffer header = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		if (header.limit() < HEADER_SIZE) throw new GdxRuntimeException("Not a g3dm file: " + handle);
+		for (int i = 0; i < MAGIC.length; i++)
+			if (header.get(i) != MAGIC[i]) throw new GdxRuntimeException("Not a g3dm file: " + handle);
+		if (header.getShort(4) != FORMAT_VERSION_HI || header.getShort(6) != FORMAT_VERSION_LO)
+			throw new GdxRuntimeException("g3dm version not supported: " + handle);
+		final int metadataLength = header.getInt(8);
+		if (metadataLength < 0 || HEADER_SIZE + metadataLength > header.limit())
+			throw new GdxRuntimeException("Invalid g3dm metadata length: " + handle);
+		final byte[] metadata = new byte[metadataLength];
+		((Buffer)header).position(HEADER_SIZE);
+		header.get(metadata);
+		final JsonValue json = reader.parse(new ByteArrayInputStream(metadata));
+
+		ModelData model = new ModelData();
+		JsonValue version = json.require("version");
+		model.version[0] = version.getShort(0);
+		model.version[1] = version.getShort(1);
+		if (model.version[0] != VERSION_HI || model.version[1] != VERSION_LO)
+			throw new GdxRuntimeException("Model version not supported");
+
+		model.id = json.getString("id", "");
+		parseMeshes(model, json, data, getDataOffset(metadataLength));
+		parseMaterials(model, json, handle.parent().path());
+		parseNodes(model, json);
+		parseAnimations(model, json);
+		return model;
+	}
+
+	/** @return The offset in bytes of the vertex and index blocks within the file */
+	public static int getDataOffset (int metadataLength) {
+		return (HEADER_SIZE + metadataLength + 3) & ~3;
+	}
+
+	protected void parseMeshes (ModelData model, JsonValue json, ByteBuffer data, int dataOffset) {
+		JsonValue meshes = json.get("meshes");
+		if (meshes == null) return;
+		model.meshes.ensureCapacity(meshes.size);
+		for (JsonValue mesh = meshes.child; mesh != null; mesh = mesh.next) {
+			ModelMesh modelMesh = new ModelMesh();
+			modelMesh.id = mesh.getString("id", "");
+			modelMesh.attributes = parseAttributes(mesh.require("attributes"));
+			modelMesh.vertexData = slice(data, dataOffset + mesh.require("vertexOffset").asInt(),
+				mesh.require("vertexSize").asInt());
+			modelMesh.indexData = slice(data, dataOffset + mesh.getInt("indexOffset", 0), mesh.getInt("indexSize", 0));
+
+			JsonValue meshParts = mesh.require("parts");
+			Array<ModelMeshPart> parts = new Array<ModelMeshPart>(meshParts.size);
+			int numIndices = 0;
+			for (JsonValue meshPart = meshParts.child; meshPart != null; meshPart = meshPart.next) {
+				ModelMeshPart part = new ModelMeshPart();
+				part.id = meshPart.getString("id", null);
+				if (part.id == null) throw new GdxRuntimeException("Not id given for mesh part");
+				for (ModelMeshPart other : parts)
+					if (other.id.equals(part.id))
+						throw new GdxRuntimeException("Mesh part with id '" + part.id + "' already in defined");
+				String type = meshPart.getString("type", null);
+				if (type == null) throw new GdxRuntimeException("No primitive type given for mesh part '" + part.id + "'");
+				part.primitiveType = parseType(type);
+				part.numIndices = meshPart.getInt("count", 0);
+				numIndices += part.numIndices;
+				parts.add(part);
+			}
+			if (numIndices * 2 != modelMesh.indexData.limit())
+				throw new GdxRuntimeException("Index count of mesh '" + modelMesh.id + "' doesn't match its index data");
+			modelMesh.parts = parts.toArray(ModelMeshPart.class);
+			model.meshes.add(modelMesh);
+		}
+	}
+
+	private static ByteBuffer slice (ByteBuffer data, int offset, int size) {
+		if (offset < 0 || size < 0 || offset + size > data.limit())
+			throw new GdxRuntimeException("Invalid g3dm data block: " + offset + ", " + size);
+		final ByteBuffer result = data.duplicate();
+		((Buffer)result).position(offset);
+		((Buffer)result).limit(offset + size);
+		return result.slice().order(ByteOrder.nativeOrder());
+	}
+
+	/** Memory maps the file if possible, otherwise reads it into a new direct buffer. On big endian platforms the data is always
+	 * copied and converted to the native byte order. */
+	protected ByteBuffer load (FileHandle handle) {
+		ByteBuffer data = null;
+		if (handle.type() != FileType.Classpath) {
+			try {
+				data = handle.map();
+			} catch (GdxRuntimeException ignored) {
+				// Not mappable, e.g. a compressed Android asset, fall back to reading the file.
+			}
+		}
+		if (data == null) {
+			final byte[] bytes = handle.readBytes();
+			data = BufferUtils.newByteBuffer(bytes.length);
+			data.put(bytes);
+			((Buffer)data).flip();
+		}
+		if (ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) data = toNativeOrder(data);
+		return data.order(ByteOrder.nativeOrder());
+	}
+
+	/** Copies the little endian data to a new buffer in native byte order, swapping the vertex and index blocks. */
+	private ByteBuffer toNativeOrder (ByteBuffer data) {
+		final ByteBuffer source = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		final ByteBuffer result = BufferUtils.newByteBuffer(source.limit());
+		result.put(source.duplicate());
+		result.order(ByteOrder.nativeOrder());
+		final int metadataLength = source.getInt(8);
+		final byte[] metadata = new byte[metadataLength];
+		((Buffer)source).position(HEADER_SIZE);
+		source.get(metadata);
+		final JsonValue meshes = reader.parse(new ByteArrayInputStream(metadata)).get("meshes");
+		final int dataOffset = getDataOffset(metadataLength);
+		if (meshes != null) {
+			for (JsonValue mesh = meshes.child; mesh != null; mesh = mesh.next) {
+				final int vertexOffset = dataOffset + mesh.getInt("vertexOffset", 0), vertexSize = mesh.getInt("vertexSize", 0);
+				for (int i = vertexOffset, n = vertexOffset + vertexSize; i < n; i += 4)
+					result.putFloat(i, source.getFloat(i));
+				final int indexOffset = dataOffset + mesh.getInt("indexOffset", 0), indexSize = mesh.getInt("indexSize", 0);
+				for (int i = indexOffset, n = indexOffset + indexSize; i < n; i += 2)
+					result.putShort(i, source.getShort(i));
+			}
+		}
+		((Buffer)result).clear();
+		return result;
+	}
+}
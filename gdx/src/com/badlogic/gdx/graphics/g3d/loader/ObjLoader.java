@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.g3d.loader;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.Arrays;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
@@ -40,10 +41,17 @@ import com.badlogic.gdx.graphics.g3d.model.data.ModelNode;
 import com.badlogic.gdx.graphics.g3d.model.data.ModelNodePart;
 import com.badlogic.gdx.graphics.g3d.model.data.ModelTexture;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ShortArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** {@link ModelLoader} to load Wavefront OBJ files. Only intended for testing basic models/meshes and educational usage. The
  * Wavefront specification is NOT fully implemented, only a subset of the specification is supported. Especially the
@@ -81,17 +89,29 @@ public class ObjLoader extends ModelLoader<ObjLoader.ObjLoaderParameters> {
 		}
 	}
 
-	final FloatArray verts = new FloatArray(300);
-	final FloatArray norms = new FloatArray(300);
-	final FloatArray uvs = new FloatArray(200);
-	final Array<Group> groups = new Array<Group>(10);
+	/** The maximum number of vertices of a single mesh. Larger groups are split into multiple meshes, so each mesh can use 16 bit
+	 * indices. */
+	public static final int MAX_VERTICES = 65535;
+
+	/** Files larger than this number of bytes are split into chunks of about this size, which are parsed in parallel when an
+	 * {@link AsyncExecutor} is set. */
+	public int chunkSize = 512 * 1024;
+	/** The executor used to parse the chunks and build the meshes in parallel, or null to do everything on the calling thread. */
+	protected final AsyncExecutor executor;
 
 	public ObjLoader () {
 		this(null);
 	}
 
 	public ObjLoader (FileHandleResolver resolver) {
+		this(resolver, null);
+	}
+
+	/** @param executor The executor used to parse large files in parallel, may be null. The executor is not disposed by this
+	 *           loader. */
+	public ObjLoader (FileHandleResolver resolver, AsyncExecutor executor) {
 		super(resolver);
+		this.executor = executor;
 	}
 
 	/** Directly load the model on the calling thread. The model with not be managed by an {@link AssetManager}. */
@@ -107,91 +127,73 @@ public class ObjLoader extends ModelLoader<ObjLoader.ObjLoaderParameters> {
 	protected ModelData loadModelData (FileHandle file, boolean flipV) {
 		if (logWarning)
 			Gdx.app.error("ObjLoader", "Wavefront (OBJ) is not fully supported, consult the documentation for more information");
-		String line;
-		String[] tokens;
-		char firstChar;
-		MtlLoader mtl = new MtlLoader();
+		final byte[] bytes = file.readBytes();
+
+		// Split the file at line boundaries and count the vertex attributes of each chunk, so the chunks know where their
+		// attributes start and can resolve relative indices while being parsed in parallel.
+		final Array<Chunk> chunks = new Array<Chunk>();
+		for (int start = 0, size = Math.max(chunkSize, 1); start < bytes.length;) {
+			int end = Math.min(start + size, bytes.length);
+			while (end < bytes.length && bytes[end - 1] != '\n')
+				end++;
+			chunks.add(new Chunk(bytes, start, end, flipV));
+			start = end;
+		}
+		final Array<AsyncTask<Void>> tasks = new Array<AsyncTask<Void>>(chunks.size);
+		for (final Chunk chunk : chunks)
+			tasks.add(new AsyncTask<Void>() {
+				@Override
+				public Void call () {
+					chunk.count();
+					return null;
+				}
+			});
+		run(tasks);
+
+		int numVerts = 0, numNorms = 0, numUVs = 0;
+		for (Chunk chunk : chunks) {
+			chunk.vertBase = numVerts;
+			chunk.normBase = numNorms;
+			chunk.uvBase = numUVs;
+			numVerts += chunk.numVerts;
+			numNorms += chunk.numNorms;
+			numUVs += chunk.numUVs;
+		}
+		final float[] verts = new float[numVerts * 3];
+		final float[] norms = new float[numNorms * 3];
+		final float[] uvs = new float[numUVs * 2];
+		tasks.clear();
+		for (final Chunk chunk : chunks)
+			tasks.add(new AsyncTask<Void>() {
+				@Override
+				public Void call () {
+					chunk.parse(verts, norms, uvs);
+					return null;
+				}
+			});
+		run(tasks);
 
-		// Create a "default" Group and set it as the active group, in case
-		// there are no groups or objects defined in the OBJ file.
+		// Replay the group and material statements in file order. Create a "default" Group and set it as the active group, in
+		// case there are no groups or objects defined in the OBJ file.
+		final Array<Group> groups = new Array<Group>(10);
 		Group activeGroup = new Group("default");
 		groups.add(activeGroup);
-
-		BufferedReader reader = new BufferedReader(new InputStreamReader(file.read()), 4096);
-		int id = 0;
-		try {
-			while ((line = reader.readLine()) != null) {
-
-				tokens = line.split("\\s+");
-				if (tokens.length < 1) break;
-
-				if (tokens[0].length() == 0) {
-					continue;
-				} else if ((firstChar = tokens[0].toLowerCase().charAt(0)) == '#') {
-					continue;
-				} else if (firstChar == 'v') {
-					if (tokens[0].length() == 1) {
-						verts.add(Float.parseFloat(tokens[1]));
-						verts.add(Float.parseFloat(tokens[2]));
-						verts.add(Float.parseFloat(tokens[3]));
-					} else if (tokens[0].charAt(1) == 'n') {
-						norms.add(Float.parseFloat(tokens[1]));
-						norms.add(Float.parseFloat(tokens[2]));
-						norms.add(Float.parseFloat(tokens[3]));
-					} else if (tokens[0].charAt(1) == 't') {
-						uvs.add(Float.parseFloat(tokens[1]));
-						uvs.add((flipV ? 1 - Float.parseFloat(tokens[2]) : Float.parseFloat(tokens[2])));
-					}
-				} else if (firstChar == 'f') {
-					String[] parts;
-					Array<Integer> faces = activeGroup.faces;
-					for (int i = 1; i < tokens.length - 2; i--) {
-						parts = tokens[1].split("/");
-						faces.add(getIndex(parts[0], verts.size));
-						if (parts.length > 2) {
-							if (i == 1) activeGroup.hasNorms = true;
-							faces.add(getIndex(parts[2], norms.size));
-						}
-						if (parts.length > 1 && parts[1].length() > 0) {
-							if (i == 1) activeGroup.hasUVs = true;
-							faces.add(getIndex(parts[1], uvs.size));
-						}
-						parts = tokens[++i].split("/");
-						faces.add(getIndex(parts[0], verts.size));
-						if (parts.length > 2) faces.add(getIndex(parts[2], norms.size));
-						if (parts.length > 1 && parts[1].length() > 0) faces.add(getIndex(parts[1], uvs.size));
-						parts = tokens[++i].split("/");
-						faces.add(getIndex(parts[0], verts.size));
-						if (parts.length > 2) faces.add(getIndex(parts[2], norms.size));
-						if (parts.length > 1 && parts[1].length() > 0) faces.add(getIndex(parts[1], uvs.size));
-						activeGroup.numFaces++;
-					}
-				} else if (firstChar == 'o' || firstChar == 'g') {
-					// This implementation only supports single object or group
-					// definitions. i.e. "o group_a group_b" will set group_a
-					// as the active group, while group_b will simply be
-					// ignored.
-					if (tokens.length > 1)
-						activeGroup = setActiveGroup(tokens[1]);
-					else
-						activeGroup = setActiveGroup("default");
-				} else if (tokens[0].equals("mtllib")) {
-					mtl.load(file.parent().child(tokens[1]));
-				} else if (tokens[0].equals("usemtl")) {
-					if (tokens.length == 1)
-						activeGroup.materialName = "default";
-					else
-						activeGroup.materialName = tokens[1].replace('.', '_');
-				}
+		MtlLoader mtl = new MtlLoader();
+		for (Chunk chunk : chunks) {
+			for (String mtllib : chunk.mtllibs)
+				mtl.load(file.parent().child(mtllib));
+			for (Segment segment : chunk.segments) {
+				// This implementation only supports single object or group definitions. i.e. "o group_a group_b" will set
+				// group_a as the active group, while group_b will simply be ignored.
+				if (segment.groupName != null) activeGroup = setActiveGroup(groups, segment.groupName);
+				if (segment.materialName != null) activeGroup.materialName = segment.materialName;
+				if (segment.corners.size > 0) activeGroup.corners.add(segment.corners);
 			}
-			reader.close();
-		} catch (IOException e) {
-			return null;
 		}
 
 		// If the "default" group or any others were not used, get rid of them
 		for (int i = 0; i < groups.size; i++) {
-			if (groups.get(i).numFaces < 1) {
+			if (groups.get(i).corners.size < 1) {
 				groups.removeIndex(i);
 				i--;
 			}
@@ -200,52 +202,25 @@ public class ObjLoader extends ModelLoader<ObjLoader.ObjLoaderParameters> {
 		// If there are no groups left, there is no valid Model to return
 		if (groups.size < 1) return null;
 
-		// Get number of objects/groups remaining after removing empty ones
-		final int numGroups = groups.size;
-
-		final ModelData data = new ModelData();
-
-		for (int g = 0; g < numGroups; g++) {
-			Group group = groups.get(g);
-			Array<Integer> faces = group.faces;
-			final int numElements = faces.size;
-			final int numFaces = group.numFaces;
-			final boolean hasNorms = group.hasNorms;
-			final boolean hasUVs = group.hasUVs;
-
-			final float[] finalVerts = new float[(numFaces * 3) * (3 + (hasNorms ? 3 : 0) + (hasUVs ? 2 : 0))];
-
-			for (int i = 0, vi = 0; i < numElements;) {
-				int vertIndex = faces.get(i++) * 3;
-				finalVerts[vi++] = verts.get(vertIndex++);
-				finalVerts[vi++] = verts.get(vertIndex++);
-				finalVerts[vi++] = verts.get(vertIndex);
-				if (hasNorms) {
-					int normIndex = faces.get(i++) * 3;
-					finalVerts[vi++] = norms.get(normIndex++);
-					finalVerts[vi++] = norms.get(normIndex++);
-					finalVerts[vi++] = norms.get(normIndex);
-				}
-				if (hasUVs) {
-					int uvIndex = faces.get(i++) * 2;
-					finalVerts[vi++] = uvs.get(uvIndex++);
-					finalVerts[vi++] = uvs.get(uvIndex);
-				}
-			}
-
-			final int numIndices = numFaces * 3 >= Short.MAX_VALUE ? 0 : numFaces * 3;
-			final short[] finalIndices = new short[numIndices];
-			// if there are too many vertices in a mesh, we can't use indices
-			if (numIndices > 0) {
-				for (int i = 0; i < numIndices; i++) {
-					finalIndices[i] = (short)i;
+		tasks.clear();
+		for (final Group group : groups)
+			tasks.add(new AsyncTask<Void>() {
+				@Override
+				public Void call () {
+					group.build(verts, norms, uvs);
+					return null;
 				}
-			}
+			});
+		run(tasks);
 
+		final ModelData data = new ModelData();
+		int id = 0;
+		for (Group group : groups) {
 			Array<VertexAttribute> attributes = new Array<VertexAttribute>();
 			attributes.add(new VertexAttribute(Usage.Position, 3, ShaderProgram.POSITION_ATTRIBUTE));
-			if (hasNorms) attributes.add(new VertexAttribute(Usage.Normal, 3, ShaderProgram.NORMAL_ATTRIBUTE));
-			if (hasUVs) attributes.add(new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+			if (group.hasNorms) attributes.add(new VertexAttribute(Usage.Normal, 3, ShaderProgram.NORMAL_ATTRIBUTE));
+			if (group.hasUVs)
+				attributes.add(new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
 
 			String stringId = Integer.toString(++id);
 			String nodeId = "default".equals(group.name) ? "node" + stringId : group.name;
@@ -257,43 +232,53 @@ public class ObjLoader extends ModelLoader<ObjLoader.ObjLoaderParameters> {
 			node.scale = new Vector3(1, 1, 1);
 			node.translation = new Vector3();
 			node.rotation = new Quaternion();
-			ModelNodePart pm = new ModelNodePart();
-			pm.meshPartId = partId;
-			pm.materialId = group.materialName;
-			node.parts = new ModelNodePart[] {pm};
-			ModelMeshPart part = new ModelMeshPart();
-			part.id = partId;
-			part.indices = finalIndices;
-			part.primitiveType = GL20.GL_TRIANGLES;
-			ModelMesh mesh = new ModelMesh();
-			mesh.id = meshId;
-			mesh.attributes = attributes.toArray(VertexAttribute.class);
-			mesh.vertices = finalVerts;
-			mesh.parts = new ModelMeshPart[] {part};
+			node.parts = new ModelNodePart[group.vertices.size];
+			for (int i = 0; i < group.vertices.size; i++) {
+				// Groups with more than MAX_VERTICES unique vertices are split into multiple meshes
+				final String suffix = i == 0 ? "" : "_" + i;
+				ModelNodePart pm = new ModelNodePart();
+				pm.meshPartId = partId + suffix;
+				pm.materialId = group.materialName;
+				node.parts[i] = pm;
+				ModelMeshPart part = new ModelMeshPart();
+				part.id = partId + suffix;
+				part.indices = group.indices.get(i);
+				part.primitiveType = GL20.GL_TRIANGLES;
+				ModelMesh mesh = new ModelMesh();
+				mesh.id = meshId + suffix;
+				mesh.attributes = attributes.toArray(VertexAttribute.class);
+				mesh.vertices = group.vertices.get(i);
+				mesh.parts = new ModelMeshPart[] {part};
+				data.meshes.add(mesh);
+			}
 			data.nodes.add(node);
-			data.meshes.add(mesh);
 			ModelMaterial mm = mtl.getMaterial(group.materialName);
 			data.materials.add(mm);
 		}
-
-		// for (ModelMaterial m : mtl.materials)
-		// data.materials.add(m);
-
-		// An instance of ObjLoader can be used to load more than one OBJ.
-		// Clearing the Array cache instead of instantiating new
-		// Arrays should result in slightly faster load times for
-		// subsequent calls to loadObj
-		if (verts.size > 0) verts.clear();
-		if (norms.size > 0) norms.clear();
-		if (uvs.size > 0) uvs.clear();
-		if (groups.size > 0) groups.clear();
-
 		return data;
 	}
 
-	private Group setActiveGroup (String name) {
-		// TODO: Check if a HashMap.get calls are faster than iterating
-		// through an Array
+	/** Calls the tasks using the {@link #executor}, or directly if there is no executor, and waits for them to finish. */
+	private void run (Array<AsyncTask<Void>> tasks) {
+		if (executor == null || tasks.size < 2) {
+			try {
+				for (AsyncTask<Void> task : tasks)
+					task.call();
+			} catch (RuntimeException ex) {
+				throw ex;
+			} catch (Exception ex) {
+				throw new GdxRuntimeException(ex);
+			}
+			return;
+		}
+		final Array<AsyncResult<Void>> results = new Array<AsyncResult<Void>>(tasks.size);
+		for (AsyncTask<Void> task : tasks)
+			results.add(executor.submit(task));
+		for (AsyncResult<Void> result : results)
+			result.get();
+	}
+
+	private static Group setActiveGroup (Array<Group> groups, String name) {
 		for (Group group : groups) {
 			if (group.name.equals(name)) return group;
 		}
@@ -302,31 +287,337 @@ public class ObjLoader extends ModelLoader<ObjLoader.ObjLoaderParameters> {
 		return group;
 	}
 
-	private int getIndex (String index, int size) {
-		if (index == null || index.length() == 0) return 0;
-		final int idx = Integer.parseInt(index);
-		if (idx < 0)
-			return size + idx;
-		else
-			return idx - 1;
+	/** A sequence of faces in a chunk, optionally preceded by a group or material statement. */
+	private static class Segment {
+		final String groupName;
+		final String materialName;
+		/** The vertex, normal and uv index of each triangle corner, -1 if not specified. */
+		final IntArray corners = new IntArray();
+
+		Segment (String groupName, String materialName) {
+			this.groupName = groupName;
+			this.materialName = materialName;
+		}
+	}
+
+	/** A range of complete lines of the file, parsed directly from the bytes. */
+	private static class Chunk {
+		private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14,
+			1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+		final byte[] data;
+		final int start, end;
+		final boolean flipV;
+		int numVerts, numNorms, numUVs;
+		int vertBase, normBase, uvBase;
+		final Array<Segment> segments = new Array<Segment>(1);
+		final Array<String> mtllibs = new Array<String>(0);
+		private final IntArray face = new IntArray(12);
+		private int pos;
+
+		Chunk (byte[] data, int start, int end, boolean flipV) {
+			this.data = data;
+			this.start = start;
+			this.end = end;
+			this.flipV = flipV;
+		}
+
+		/** Counts the number of vertices, normals and uvs. */
+		void count () {
+			numVerts = numNorms = numUVs = 0;
+			for (pos = start; pos < end; skipLine()) {
+				skipSpaces();
+				if (pos >= end || data[pos] != 'v') continue;
+				if (isSeparator(1))
+					numVerts++;
+				else if (isSeparator(2)) {
+					if (data[pos + 1] == 'n')
+						numNorms++;
+					else if (data[pos + 1] == 't') numUVs++;
+				}
+			}
+		}
+
+		/** Parses the chunk, writing the attributes into the arrays at the offsets of this chunk. */
+		void parse (float[] verts, float[] norms, float[] uvs) {
+			int v = vertBase * 3, n = normBase * 3, t = uvBase * 2;
+			Segment segment = new Segment(null, null);
+			segments.clear();
+			segments.add(segment);
+			for (pos = start; pos < end; skipLine()) {
+				skipSpaces();
+				if (pos >= end) break;
+				final byte c = data[pos];
+				if (c == 'v') {
+					if (isSeparator(1)) {
+						pos++;
+						verts[v++] = readFloat(0f);
+						verts[v++] = readFloat(0f);
+						verts[v++] = readFloat(0f);
+					} else if (isSeparator(2) && data[pos + 1] == 'n') {
+						pos += 2;
+						norms[n++] = readFloat(0f);
+						norms[n++] = readFloat(0f);
+						norms[n++] = readFloat(0f);
+					} else if (isSeparator(2) && data[pos + 1] == 't') {
+						pos += 2;
+						uvs[t++] = readFloat(0f);
+						final float uv = readFloat(0f);
+						uvs[t++] = flipV ? 1 - uv : uv;
+					}
+				} else if (c == 'f' && isSeparator(1)) {
+					pos++;
+					parseFace(segment.corners, (v / 3), (n / 3), (t / 2));
+				} else if ((c == 'g' || c == 'o') && isSeparator(1)) {
+					pos++;
+					final String name = readToken();
+					segments.add(segment = new Segment(name == null ? "default" : name, null));
+				} else if (isKeyword("usemtl")) {
+					final String name = readToken();
+					segments.add(segment = new Segment(null, name == null ? "default" : name.replace('.', '_')));
+				} else if (isKeyword("mtllib")) {
+					final String name = readToken();
+					if (name != null) mtllibs.add(name);
+				}
+			}
+		}
+
+		/** Reads the corners of a face and adds it as a triangle fan.
+		 * @param numVerts The number of vertices defined before this face, to resolve relative indices. */
+		private void parseFace (IntArray corners, int numVerts, int numNorms, int numUVs) {
+			face.clear();
+			while (true) {
+				skipSpaces();
+				if (pos >= end || data[pos] == '\n') break;
+				final int vert = readIndex(numVerts);
+				int uv = -1, norm = -1;
+				if (pos < end && data[pos] == '/') {
+					pos++;
+					if (pos < end && data[pos] != '/' && !isSeparator(0)) uv = readIndex(numUVs);
+					if (pos < end && data[pos] == '/') {
+						pos++;
+						if (!isSeparator(0)) norm = readIndex(numNorms);
+					}
+				}
+				while (!isSeparator(0))
+					pos++;
+				face.add(vert, norm, uv);
+			}
+			for (int i = 3, n = face.size - 3; i < n; i += 3) {
+				corners.add(face.items[0], face.items[1], face.items[2]);
+				corners.add(face.items[i], face.items[i + 1], face.items[i + 2]);
+				corners.add(face.items[i + 3], face.items[i + 4], face.items[i + 5]);
+			}
+		}
+
+		/** @param count The number of elements defined so far, used for negative (relative) indices.
+		 * @return The zero based index. */
+		private int readIndex (int count) {
+			boolean negative = false;
+			if (pos < end && data[pos] == '-') {
+				negative = true;
+				pos++;
+			}
+			int value = 0;
+			while (pos < end && data[pos] >= '0' && data[pos] <= '9')
+				value = value * 10 + (data[pos++] - '0');
+			return negative ? count - value : value - 1;
+		}
+
+		private float readFloat (float defaultValue) {
+			skipSpaces();
+			if (pos >= end || data[pos] == '\n') return defaultValue;
+			final int tokenStart = pos;
+			boolean negative = false;
+			if (data[pos] == '-' || data[pos] == '+') negative = data[pos++] == '-';
+			long mantissa = 0;
+			int exponent = 0, digits = 0;
+			boolean valid = false;
+			for (; pos < end && data[pos] >= '0' && data[pos] <= '9'; pos++, valid = true) {
+				if (digits < 18) {
+					mantissa = mantissa * 10 + (data[pos] - '0');
+					if (mantissa != 0) digits++;
+				} else
+					exponent++;
+			}
+			if (pos < end && data[pos] == '.') {
+				for (pos++; pos < end && data[pos] >= '0' && data[pos] <= '9'; pos++, valid = true) {
+					if (digits < 18) {
+						mantissa = mantissa * 10 + (data[pos] - '0');
+						if (mantissa != 0) digits++;
+						exponent--;
+					}
+				}
+			}
+			if (valid && pos < end && (data[pos] == 'e' || data[pos] == 'E')) {
+				pos++;
+				boolean negativeExponent = false;
+				if (pos < end && (data[pos] == '-' || data[pos] == '+')) negativeExponent = data[pos++] == '-';
+				int value = 0;
+				valid = false;
+				for (; pos < end && data[pos] >= '0' && data[pos] <= '9'; pos++, valid = true)
+					if (value < 1000) value = value * 10 + (data[pos] - '0');
+				exponent += negativeExponent ? -value : value;
+			}
+			if (!valid || !isSeparator(0)) {
+				// Not a plain decimal number, e.g. "nan" or "inf", let the JDK handle it
+				while (!isSeparator(0))
+					pos++;
+				try {
+					return Float.parseFloat(new String(data, tokenStart, pos - tokenStart));
+				} catch (NumberFormatException ex) {
+					throw new GdxRuntimeException("Invalid number in OBJ file: " + new String(data, tokenStart, pos - tokenStart));
+				}
+			}
+			double value = mantissa;
+			if (exponent < 0)
+				value = -exponent < POW10.length ? value / POW10[-exponent] : value / Math.pow(10, -exponent);
+			else if (exponent > 0) value = exponent < POW10.length ? value * POW10[exponent] : value * Math.pow(10, exponent);
+			return (float)(negative ? -value : value);
+		}
+
+		/** @return The next token on the current line, or null if there is none. */
+		private String readToken () {
+			skipSpaces();
+			final int tokenStart = pos;
+			while (!isSeparator(0))
+				pos++;
+			return pos > tokenStart ? new String(data, tokenStart, pos - tokenStart) : null;
+		}
+
+		/** @return Whether the current line starts with the keyword followed by a separator, in which case it is skipped. */
+		private boolean isKeyword (String keyword) {
+			final int length = keyword.length();
+			if (pos + length > end || !isSeparator(length)) return false;
+			for (int i = 0; i < length; i++)
+				if (data[pos + i] != keyword.charAt(i)) return false;
+			pos += length;
+			return true;
+		}
+
+		/** @return Whether the byte at the offset from the current position separates tokens, a line end counts as separator. */
+		private boolean isSeparator (int offset) {
+			final int index = pos + offset;
+			if (index >= end) return true;
+			final byte b = data[index];
+			return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+		}
+
+		private void skipSpaces () {
+			while (pos < end && (data[pos] == ' ' || data[pos] == '\t' || data[pos] == '\r'))
+				pos++;
+		}
+
+		private void skipLine () {
+			while (pos < end && data[pos] != '\n')
+				pos++;
+			pos++;
+		}
+	}
+
+	/** Maps the vertex, normal and uv index of a corner to the index of the welded vertex within the current mesh. */
+	private static class VertexCache {
+		final int[] table;
+		final int[] keys;
+		final int mask;
+
+		VertexCache (int capacity) {
+			table = new int[MathUtils.nextPowerOfTwo(capacity * 2)];
+			keys = new int[capacity * 3];
+			mask = table.length - 1;
+		}
+
+		/** @return The index of the vertex, or the specified index if the vertex wasn't added before, in which case it is added
+		 *         with that index. */
+		int add (int vert, int norm, int uv, int index) {
+			int h = vert * 0x9E3779B1 ^ norm * 0x85EBCA6B ^ uv * 0xC2B2AE35;
+			h ^= h >>> 16;
+			for (int slot = h & mask;; slot = (slot + 1) & mask) {
+				final int value = table[slot] - 1;
+				if (value < 0) {
+					table[slot] = index + 1;
+					keys[index * 3] = vert;
+					keys[index * 3 + 1] = norm;
+					keys[index * 3 + 2] = uv;
+					return index;
+				}
+				if (keys[value * 3] == vert && keys[value * 3 + 1] == norm && keys[value * 3 + 2] == uv) return value;
+			}
+		}
+
+		void clear () {
+			Arrays.fill(table, 0);
+		}
 	}
 
 	private static class Group {
 		final String name;
 		String materialName;
-		Array<Integer> faces;
-		int numFaces;
+		/** The corners of the triangles of each segment in this group, see {@link Segment#corners}. */
+		final Array<IntArray> corners = new Array<IntArray>(4);
 		boolean hasNorms;
 		boolean hasUVs;
-		Material mat;
+		/** The vertices and indices of each mesh, after {@link #build(float[], float[], float[])}. */
+		final Array<float[]> vertices = new Array<float[]>(1);
+		final Array<short[]> indices = new Array<short[]>(1);
 
 		Group (String name) {
 			this.name = name;
-			this.faces = new Array<Integer>(200);
-			this.numFaces = 0;
-			this.mat = new Material("");
 			this.materialName = "default";
 		}
+
+		/** Welds identical corners into indexed meshes, splitting the group when it exceeds {@link ObjLoader#MAX_VERTICES}. */
+		void build (float[] verts, float[] norms, float[] uvs) {
+			int numCorners = 0;
+			for (IntArray c : corners) {
+				numCorners += c.size / 3;
+				for (int i = 0; i < c.size; i += 3) {
+					hasNorms |= c.items[i + 1] >= 0;
+					hasUVs |= c.items[i + 2] >= 0;
+				}
+			}
+			final int stride = 3 + (hasNorms ? 3 : 0) + (hasUVs ? 2 : 0);
+			final int capacity = Math.min(numCorners, MAX_VERTICES);
+			final VertexCache cache = new VertexCache(capacity);
+			final FloatArray meshVertices = new FloatArray(capacity * stride);
+			final ShortArray meshIndices = new ShortArray(numCorners);
+			int numVertices = 0;
+			for (IntArray c : corners) {
+				for (int i = 0; i < c.size; i += 3) {
+					if (i % 9 == 0 && numVertices + 3 > MAX_VERTICES) {
+						vertices.add(meshVertices.toArray());
+						indices.add(meshIndices.toArray());
+						meshVertices.clear();
+						meshIndices.clear();
+						cache.clear();
+						numVertices = 0;
+					}
+					final int vert = c.items[i], norm = c.items[i + 1], uv = c.items[i + 2];
+					final int index = cache.add(vert, norm, uv, numVertices);
+					if (index == numVertices) {
+						numVertices++;
+						if (vert < 0 || vert * 3 >= verts.length)
+							throw new GdxRuntimeException("Invalid vertex index " + (vert + 1) + " in group " + name);
+						meshVertices.add(verts[vert * 3], verts[vert * 3 + 1], verts[vert * 3 + 2]);
+						if (hasNorms) {
+							if (norm >= 0 && norm * 3 < norms.length)
+								meshVertices.add(norms[norm * 3], norms[norm * 3 + 1], norms[norm * 3 + 2]);
+							else
+								meshVertices.add(0f, 0f, 0f);
+						}
+						if (hasUVs) {
+							if (uv >= 0 && uv * 2 < uvs.length)
+								meshVertices.add(uvs[uv * 2], uvs[uv * 2 + 1]);
+							else
+								meshVertices.add(0f, 0f);
+						}
+					}
+					meshIndices.add((short)index);
+				}
+			}
+			vertices.add(meshVertices.toArray());
+			indices.add(meshIndices.toArray());
+		}
 	}
 }
 
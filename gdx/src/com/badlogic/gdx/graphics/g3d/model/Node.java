@@ -50,6 +50,8 @@ public class Node {
 	public final Matrix4 globalTransform = new Matrix4();
 
 	public Array<NodePart> parts = new Array<NodePart>(2);
+	/** The lower level of detail variants of the {@link #parts}, may be null. See {@link NodeLod}. */
+	public NodeLod lod;
 
 	protected Node parent;
 	private final Array<Node> children = new Array<Node>(2);
@@ -86,12 +88,12 @@ public class Node {
 	}
 
 	public void calculateBoneTransforms (boolean recursive) {
-		for (final NodePart part : parts) {
-			if (part.invBoneBindTransforms == null || part.bones == null || part.invBoneBindTransforms.size != part.bones.length)
-				continue;
-			final int n = part.invBoneBindTransforms.size;
-			for (int i = 0; i < n; i++)
-				part.bones[i].set(part.invBoneBindTransforms.keys[i].globalTransform).mul(part.invBoneBindTransforms.values[i]);
+		for (final NodePart part : parts)
+			calculateBoneTransforms(part);
+		if (lod != null) {
+			for (int i = 0, n = lod.levels.size; i < n; i++)
+				for (final NodePart part : lod.levels.get(i))
+					calculateBoneTransforms(part);
 		}
 		if (recursive) {
 			for (Node child : children) {
@@ -100,6 +102,14 @@ public class Node {
 		}
 	}
 
+	private static void calculateBoneTransforms (final NodePart part) {
+		if (part.invBoneBindTransforms == null || part.bones == null || part.invBoneBindTransforms.size != part.bones.length)
+			return;
+		final int n = part.invBoneBindTransforms.size;
+		for (int i = 0; i < n; i++)
+			part.bones[i].set(part.invBoneBindTransforms.keys[i].globalTransform).mul(part.invBoneBindTransforms.values[i]);
+	}
+
 	/** Calculate the bounding box of this Node. This is a potential slow operation, it is advised to cache the result. */
 	public BoundingBox calculateBoundingBox (final BoundingBox out) {
 		out.inf();
@@ -285,6 +295,7 @@ public class Node {
 		for (NodePart nodePart : other.parts) {
 			parts.add(nodePart.copy());
 		}
+		lod = other.lod == null ? null : other.lod.copy();
 		children.clear();
 		for (Node child : other.getChildren()) {
 			addChild(child.copy());
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Holds the lower level of detail variants of the {@link Node#parts} of a {@link Node}. Level 0 is always the full detail
+ * {@link Node#parts} array, level 1 and up are the variants added using {@link #add(float, Array)}, from finest to coarsest. Each
+ * level has a threshold, which is compared against either the projected size of the node on the screen or the distance of the
+ * node to the camera, depending on the {@link #metric}.
+ * </p>
+ *
+ * The {@link #current} level is stored per instance, a {@link ModelInstance} updates it when it collects its renderables and its
+ * {@link ModelInstance#lodCamera} is set. To avoid popping when an object is right at a threshold, switching levels is subject to
+ * {@link #hysteresis}.
+ */
+public class NodeLod {
+	public enum Metric {
+		/** The threshold is the fraction of the viewport height covered by the bounding sphere of the node. A level is used when
+		 * the node is smaller than its threshold, so the thresholds must be decreasing. */
+		ScreenSize,
+		/** The threshold is the distance from the camera to the center of the bounding sphere of the node. A level is used when
+		 * the node is further away than its threshold, so the thresholds must be increasing. */
+		Distance
+	}
+
+	private final static Vector3 tmpV = new Vector3();
+	private final static BoundingBox tmpBounds = new BoundingBox();
+
+	/** The parts of each lower level of detail, index 0 being level 1. */
+	public final Array<Array<NodePart>> levels = new Array<Array<NodePart>>(2);
+	/** The threshold of each lower level of detail, index 0 being level 1. */
+	public final FloatArray thresholds = new FloatArray(2);
+	/** How the {@link #thresholds} are interpreted. */
+	public Metric metric = Metric.ScreenSize;
+	/** The relative margin around a threshold which has to be crossed before switching to another level. E.g. 0.1f means that
+	 * the value must be 10% beyond the threshold. */
+	public float hysteresis = 0.1f;
+	/** The currently selected level, 0 for the full detail {@link Node#parts}. */
+	public int current;
+	/** The center of the bounding sphere of the full detail parts, in node space. See {@link #calculateBounds(Node)}. */
+	public final Vector3 center = new Vector3();
+	/** The radius of the bounding sphere of the full detail parts, in node space, or negative if not calculated yet. */
+	public float radius = -1f;
+
+	public NodeLod () {
+	}
+
+	public NodeLod (Metric metric) {
+		this.metric = metric;
+	}
+
+	/** Adds a level of detail, coarser than the previously added level.
+	 * @param threshold The threshold at which this level should be used, see {@link Metric}.
+	 * @param parts The parts to use for this level, typically using the same materials as the full detail parts.
+	 * @return This NodeLod for chaining */
+	public NodeLod add (float threshold, Array<NodePart> parts) {
+		if (thresholds.size > 0) {
+			final float previous = thresholds.peek();
+			if (metric == Metric.ScreenSize ? threshold >= previous : threshold <= previous)
+				throw new GdxRuntimeException("Thresholds must be added from the finest to the coarsest level");
+		}
+		thresholds.add(threshold);
+		levels.add(parts);
+		return this;
+	}
+
+	/** @return The number of levels, including the full detail level 0. */
+	public int getLevelCount () {
+		return levels.size + 1;
+	}
+
+	/** @param node The node this NodeLod belongs to.
+	 * @return The parts of the {@link #current} level. */
+	public Array<NodePart> getParts (final Node node) {
+		return current <= 0 ? node.parts : levels.get(Math.min(current, levels.size) - 1);
+	}
+
+	/** Calculates the {@link #center} and {@link #radius} of the bounding sphere of the full detail parts of the node. This is a
+	 * potential slow operation, it is called automatically the first time it is needed. */
+	public void calculateBounds (final Node node) {
+		tmpBounds.inf();
+		for (int i = 0, n = node.parts.size; i < n; i++) {
+			final MeshPart meshPart = node.parts.get(i).meshPart;
+			meshPart.mesh.extendBoundingBox(tmpBounds, meshPart.offset, meshPart.size);
+		}
+		if (!tmpBounds.isValid()) {
+			center.setZero();
+			radius = 0f;
+		} else {
+			tmpBounds.getCenter(center);
+			radius = tmpBounds.getDimensions(tmpV).len() * 0.5f;
+		}
+	}
+
+	/** Selects the level of detail to use for the specified camera and updates {@link #current} accordingly.
+	 * @param node The node this NodeLod belongs to.
+	 * @param camera The camera to select the level for.
+	 * @param worldTransform The world transform of the node.
+	 * @return The selected level. */
+	public int update (final Node node, final Camera camera, final Matrix4 worldTransform) {
+		if (levels.size == 0) return current = 0;
+		if (radius < 0f) calculateBounds(node);
+		final float distance = tmpV.set(center).mul(worldTransform).dst(camera.position);
+		if (metric == Metric.Distance) return select(distance);
+		final float scale = Math.max(worldTransform.getScaleX(), Math.max(worldTransform.getScaleY(), worldTransform.getScaleZ()));
+		return select(getScreenSize(camera, distance, radius * scale));
+	}
+
+	/** Selects the level for the specified value, taking the {@link #hysteresis} into account, and updates {@link #current}
+	 * accordingly.
+	 * @param value The projected size or the distance, depending on {@link #metric}.
+	 * @return The selected level. */
+	public int select (final float value) {
+		int level = Math.min(Math.max(current, 0), levels.size);
+		final float coarser = metric == Metric.ScreenSize ? 1f - hysteresis : 1f + hysteresis;
+		final float finer = metric == Metric.ScreenSize ? 1f + hysteresis : 1f - hysteresis;
+		while (level < levels.size && isBeyond(value, thresholds.get(level) * coarser))
+			level++;
+		while (level > 0 && !isBeyond(value, thresholds.get(level - 1) * finer))
+			level--;
+		return current = level;
+	}
+
+	private boolean isBeyond (final float value, final float threshold) {
+		return metric == Metric.ScreenSize ? value < threshold : value > threshold;
+	}
+
+	/** @param camera The camera
+	 * @param distance The distance from the camera to the center of the sphere
+	 * @param radius The world radius of the sphere
+	 * @return The fraction of the viewport height covered by the sphere, works for both perspective and orthographic cameras. */
+	public static float getScreenSize (final Camera camera, final float distance, final float radius) {
+		final float[] proj = camera.projection.val;
+		if (proj[Matrix4.M32] == 0f) return radius * proj[Matrix4.M11];
+		if (distance <= radius) return Float.MAX_VALUE;
+		return radius * proj[Matrix4.M11] / distance;
+	}
+
+	/** Creates a copy of this NodeLod, copying each level using {@link NodePart#copy()}. */
+	public NodeLod copy () {
+		return new NodeLod().set(this);
+	}
+
+	protected NodeLod set (NodeLod other) {
+		metric = other.metric;
+		hysteresis = other.hysteresis;
+		current = other.current;
+		center.set(other.center);
+		radius = other.radius;
+		thresholds.clear();
+		thresholds.addAll(other.thresholds);
+		levels.clear();
+		for (int i = 0; i < other.levels.size; i++) {
+			final Array<NodePart> source = other.levels.get(i);
+			final Array<NodePart> parts = new Array<NodePart>(source.size);
+			for (int j = 0; j < source.size; j++)
+				parts.add(source.get(j).copy());
+			levels.add(parts);
+		}
+		return this;
+	}
+}
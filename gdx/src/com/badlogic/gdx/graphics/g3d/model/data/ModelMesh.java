@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.model.data;
 
+import java.nio.ByteBuffer;
+
 import com.badlogic.gdx.graphics.VertexAttribute;
 
 public class ModelMesh {
@@ -23,4 +25,10 @@ public class ModelMesh {
 	public VertexAttribute[] attributes;
 	public float[] vertices;
 	public ModelMeshPart[] parts;
+	/** Optional raw vertex data, used instead of {@link #vertices} when set. Must be a direct buffer in native byte order, e.g. a
+	 * slice of a memory mapped file. */
+	public ByteBuffer vertexData;
+	/** Optional raw index data of all parts, in the order of {@link #parts}, used when {@link #vertexData} is set. Must be a
+	 * direct buffer in native byte order. */
+	public ByteBuffer indexData;
 }
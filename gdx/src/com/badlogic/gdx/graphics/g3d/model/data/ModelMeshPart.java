@@ -20,4 +20,6 @@ public class ModelMeshPart {
 	public String id;
 	public short[] indices;
 	public int primitiveType;
+	/** The number of indices of this part within {@link ModelMesh#indexData}, only used when {@link #indices} is null. */
+	public int numIndices;
 }
@@ -22,8 +22,10 @@ import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
 import com.badlogic.gdx.graphics.g3d.particles.emitters.Emitter;
 import com.badlogic.gdx.graphics.g3d.particles.influencers.Influencer;
 import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
@@ -67,6 +69,12 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 	/** Time step, DO NOT CHANGE MANUALLY */
 	public float deltaTime, deltaTimeSqr;
 
+	/** The generator of all the random values of the simulation, the emitter and the influencers must use it instead of
+	 * {@link MathUtils#random}. It is seeded from {@link MathUtils#random} by {@link #init()} and {@link #start()}, so seeding
+	 * {@link MathUtils#random} before these calls replays the simulation, even if the controllers are updated in parallel. DO NOT
+	 * CHANGE MANUALLY */
+	public final RandomXS128 random = new RandomXS128();
+
 	public ParticleController () {
 		transform = new Matrix4();
 		scale = new Vector3(1, 1, 1);
@@ -160,6 +168,7 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 		}
 		allocateChannels(emitter.maxParticleCount);
 
+		random.setSeed(MathUtils.random.nextLong());
 		emitter.init();
 		for (Influencer influencer : influencers)
 			influencer.init();
@@ -185,6 +194,13 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 
 	/** Start the simulation. */
 	public void start () {
+		start(MathUtils.random.nextLong());
+	}
+
+	/** Start the simulation.
+	 * @param seed The seed of the {@link #random} generator. */
+	public void start (long seed) {
+		random.setSeed(seed);
 		emitter.start();
 		for (Influencer influencer : influencers)
 			influencer.start();
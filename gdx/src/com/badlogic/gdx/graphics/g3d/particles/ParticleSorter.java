@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics.g3d.particles;
 
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.utils.DepthSorter;
 import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderData;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
@@ -51,14 +52,14 @@ public abstract class ParticleSorter {
 	/** This class will sort all the particles using the distance from camera. */
 	public static class Distance extends ParticleSorter {
 		private float[] distances;
-		private int[] particleIndices, particleOffsets;
+		private int[] particleOffsets;
 		private int currentSize = 0;
+		private final DepthSorter sorter = new DepthSorter();
 
 		@Override
 		public void ensureCapacity (int capacity) {
 			if (currentSize < capacity) {
 				distances = new float[capacity];
-				particleIndices = new int[capacity];
 				particleOffsets = new int[capacity];
 				currentSize = capacity;
 			}
@@ -74,74 +75,17 @@ public abstract class ParticleSorter {
 					distances[i] = cx * data.positionChannel.data[k + ParticleChannels.XOffset]
 						+ cy * data.positionChannel.data[k + ParticleChannels.YOffset]
 						+ cz * data.positionChannel.data[k + ParticleChannels.ZOffset];
-					particleIndices[i] = i;
 				}
 				count += data.controller.particles.size;
 			}
 
-			qsort(0, count - 1);
+			int[] particleIndices = sorter.sort(distances, count);
 
 			for (i = 0; i < count; ++i) {
 				particleOffsets[particleIndices[i]] = i;
 			}
 			return particleOffsets;
 		}
-
-		public void qsort (int si, int ei) {
-			// base case
-			if (si < ei) {
-				float tmp;
-				int tmpIndex, particlesPivotIndex;
-				// insertion
-				if (ei - si <= 8) {
-					for (int i = si; i <= ei; i++)
-						for (int j = i; j > si && distances[j - 1] > distances[j]; j--) {
-							tmp = distances[j];
-							distances[j] = distances[j - 1];
-							distances[j - 1] = tmp;
-
-							// Swap indices
-							tmpIndex = particleIndices[j];
-							particleIndices[j] = particleIndices[j - 1];
-							particleIndices[j - 1] = tmpIndex;
-						}
-					return;
-				}
-
-				// Quick
-				float pivot = distances[si];
-				int i = si + 1;
-				particlesPivotIndex = particleIndices[si];
-
-				// partition array
-				for (int j = si + 1; j <= ei; j++) {
-					if (pivot > distances[j]) {
-						if (j > i) {
-							// Swap distances
-							tmp = distances[j];
-							distances[j] = distances[i];
-							distances[i] = tmp;
-
-							// Swap indices
-							tmpIndex = particleIndices[j];
-							particleIndices[j] = particleIndices[i];
-							particleIndices[i] = tmpIndex;
-						}
-						i++;
-					}
-				}
-
-				// put pivot in right position
-				distances[si] = distances[i - 1];
-				distances[i - 1] = pivot;
-				particleIndices[si] = particleIndices[i - 1];
-				particleIndices[i - 1] = particlesPivotIndex;
-
-				// call qsort on right and left sides of pivot
-				qsort(si, i - 2);
-				qsort(i, ei);
-			}
-		}
 	}
 
 	protected Camera camera;
@@ -16,11 +16,17 @@
 
 package com.badlogic.gdx.graphics.g3d.particles;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.RenderableProvider;
 import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ParticleControllerInfluencer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Singleton class which manages the particle effects. It's a utility class to ease particle batches management and particle
  * effects update.
@@ -37,12 +43,40 @@ public final class ParticleSystem implements RenderableProvider {
 
 	private Array<ParticleBatch<?>> batches;
 	private Array<ParticleEffect> effects;
+	private AsyncExecutor executor;
+	private final Array<UpdateTask> tasks = new Array<UpdateTask>();
+	private final Array<AsyncResult<Void>> results = new Array<AsyncResult<Void>>();
 
 	public ParticleSystem () {
 		batches = new Array<ParticleBatch<?>>();
 		effects = new Array<ParticleEffect>();
 	}
 
+	/** @param executor The executor used to update the controllers in parallel, see {@link #setExecutor(AsyncExecutor)}. */
+	public ParticleSystem (AsyncExecutor executor) {
+		this();
+		this.executor = executor;
+	}
+
+	/** Sets the executor used to update the controllers of all effects in parallel, each controller is updated as a separate task.
+	 * Only the simulation is done in parallel, drawing is still done on the calling thread. The update methods wait for all
+	 * controllers to be updated. Controllers with a {@link ParticleControllerInfluencer} are updated on the calling thread.
+	 * <p>
+	 * Each controller draws its random values from its own {@link ParticleController#random generator}, which is seeded from
+	 * {@link MathUtils#random} when the controller is initialized and started. The simulation therefore gives the same results
+	 * with or without an executor, e.g. it can be replayed by seeding {@link MathUtils#random} before the effects are initialized
+	 * and started. Custom emitters, influencers and spawn shapes must use the controller's generator for this to hold.
+	 * <p>
+	 * The executor is not disposed by this system.
+	 * @param executor The executor, or null to update the controllers on the calling thread. */
+	public void setExecutor (AsyncExecutor executor) {
+		this.executor = executor;
+	}
+
+	public AsyncExecutor getExecutor () {
+		return executor;
+	}
+
 	public void add (ParticleBatch<?> batch) {
 		batches.add(batch);
 	}
@@ -62,12 +96,21 @@ public final class ParticleSystem implements RenderableProvider {
 
 	/** Updates the simulation of all effects */
 	public void update () {
+		if (executor != null) {
+			updateParallel(Gdx.graphics.getDeltaTime());
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update();
 		}
 	}
 
 	public void updateAndDraw () {
+		if (executor != null) {
+			updateParallel(Gdx.graphics.getDeltaTime());
+			draw();
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update();
 			effect.draw();
@@ -75,18 +118,67 @@ public final class ParticleSystem implements RenderableProvider {
 	}
 
 	public void update (float deltaTime) {
+		if (executor != null) {
+			updateParallel(deltaTime);
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
 		}
 	}
 
 	public void updateAndDraw (float deltaTime) {
+		if (executor != null) {
+			updateParallel(deltaTime);
+			draw();
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
 			effect.draw();
 		}
 	}
 
+	private void updateParallel (float deltaTime) {
+		int taskCount = 0;
+		try {
+			for (ParticleEffect effect : effects) {
+				Array<ParticleController> controllers = effect.getControllers();
+				for (int i = 0, n = controllers.size; i < n; i++) {
+					ParticleController controller = controllers.get(i);
+					// The sub controllers are allocated and initialized while the controller is updated.
+					if (controller.findInfluencer(ParticleControllerInfluencer.class) != null) {
+						controller.update(deltaTime);
+						continue;
+					}
+					if (taskCount == tasks.size) tasks.add(new UpdateTask());
+					UpdateTask task = tasks.get(taskCount++);
+					task.controller = controller;
+					task.deltaTime = deltaTime;
+					results.add(executor.submit(task));
+				}
+			}
+		} finally {
+			waitForResults(taskCount);
+		}
+	}
+
+	/** Waits for all submitted tasks, including the ones after a failed task, and rethrows the first failure. */
+	private void waitForResults (int taskCount) {
+		RuntimeException failure = null;
+		for (int i = 0; i < results.size; i++) {
+			try {
+				results.get(i).get();
+			} catch (RuntimeException ex) {
+				if (failure == null) failure = ex;
+			}
+		}
+		results.clear();
+		for (int i = 0; i < taskCount; i++)
+			tasks.get(i).controller = null;
+		if (failure != null) throw failure;
+	}
+
 	/** Must be called one time per frame before any particle effect drawing operation will occur. */
 	public void begin () {
 		for (ParticleBatch<?> batch : batches)
@@ -115,4 +207,15 @@ public final class ParticleSystem implements RenderableProvider {
 	public Array<ParticleBatch<?>> getBatches () {
 		return batches;
 	}
+
+	private static class UpdateTask implements AsyncTask<Void> {
+		ParticleController controller;
+		float deltaTime;
+
+		@Override
+		public Void call () {
+			controller.update(deltaTime);
+			return null;
+		}
+	}
 }
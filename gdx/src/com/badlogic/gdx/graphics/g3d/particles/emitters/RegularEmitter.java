@@ -76,23 +76,23 @@ public class RegularEmitter extends Emitter implements Json.Serializable {
 
 	@Override
 	public void start () {
-		delay = delayValue.active ? delayValue.newLowValue() : 0;
+		delay = delayValue.active ? delayValue.newLowValue(controller.random) : 0;
 		delayTimer = 0;
 		durationTimer = 0f;
 
-		duration = durationValue.newLowValue();
+		duration = durationValue.newLowValue(controller.random);
 		percent = durationTimer / (float)duration;
 
-		emission = (int)emissionValue.newLowValue();
-		emissionDiff = (int)emissionValue.newHighValue();
+		emission = (int)emissionValue.newLowValue(controller.random);
+		emissionDiff = (int)emissionValue.newHighValue(controller.random);
 		if (!emissionValue.isRelative()) emissionDiff -= emission;
 
-		life = (int)lifeValue.newLowValue();
-		lifeDiff = (int)lifeValue.newHighValue();
+		life = (int)lifeValue.newLowValue(controller.random);
+		lifeDiff = (int)lifeValue.newHighValue(controller.random);
 		if (!lifeValue.isRelative()) lifeDiff -= life;
 
-		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue() : 0;
-		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue();
+		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue(controller.random) : 0;
+		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue(controller.random);
 		if (!lifeOffsetValue.isRelative()) lifeOffsetDiff -= lifeOffset;
 	}
 
@@ -132,7 +132,7 @@ public class RegularEmitter extends Emitter implements Json.Serializable {
 				percent = durationTimer / (float)duration;
 			} else {
 				if (continuous && emit && emissionMode == EmissionMode.Enabled)
-					controller.start();
+					controller.start(controller.random.nextLong());
 				else
 					emit = false;
 			}
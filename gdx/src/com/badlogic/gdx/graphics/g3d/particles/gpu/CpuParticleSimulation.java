@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles.gpu;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+
+/** The reference implementation of the math of {@link GpuParticleSimulation}, which runs on the CPU and doesn't need a GL
+ * context. It can be used to verify the results of the shaders, see {@link GpuParticleSimulation#readState(float[])}, or as a
+ * fallback where transform feedback isn't available. Note that it doesn't render the particles. */
+public class CpuParticleSimulation extends ParticleSimulation {
+	/** The state of the particles, {@link #STATE_SIZE} floats per particle in the same layout as the buffers of the
+	 * {@link GpuParticleSimulation}. */
+	public final float[] state;
+	private final Vector3 tmp = new Vector3();
+
+	public CpuParticleSimulation (GpuParticleSettings settings) {
+		super(settings);
+		state = new float[capacity * STATE_SIZE];
+		clear();
+	}
+
+	@Override
+	protected void clear () {
+		for (int i = 0; i < state.length; i += STATE_SIZE) {
+			for (int j = 0; j < STATE_SIZE; j++)
+				state[i + j] = 0;
+			state[i + 3] = UNUSED_AGE;
+		}
+	}
+
+	@Override
+	protected void simulate () {
+		final float[] state = this.state;
+		final float delta = this.delta, drag = settings.drag;
+		final float ax = settings.acceleration.x, ay = settings.acceleration.y, az = settings.acceleration.z;
+		for (int i = 0, o = 0; i < capacity; i++, o += STATE_SIZE) {
+			if ((i - spawnStart + capacity) % capacity < spawnCount)
+				spawn(i, o);
+			else if (state[o + 3] < getLife(state[o + 7])) {
+				float vx = state[o + 4], vy = state[o + 5], vz = state[o + 6];
+				vx += (ax - drag * vx) * delta;
+				vy += (ay - drag * vy) * delta;
+				vz += (az - drag * vz) * delta;
+				state[o] += vx * delta;
+				state[o + 1] += vy * delta;
+				state[o + 2] += vz * delta;
+				state[o + 3] += delta;
+				state[o + 4] = vx;
+				state[o + 5] = vy;
+				state[o + 6] = vz;
+			}
+		}
+	}
+
+	private void spawn (int index, int offset) {
+		final Vector3 spawnSize = settings.spawnSize;
+		int h = hash(index ^ frameHash);
+		h = hash(h);
+		final float x = (random(h) - 0.5f) * spawnSize.x;
+		h = hash(h);
+		final float y = (random(h) - 0.5f) * spawnSize.y;
+		h = hash(h);
+		final float z = (random(h) - 0.5f) * spawnSize.z;
+		tmp.set(x, y, z).mul(transform);
+
+		h = hash(h);
+		final float cosTheta = 1f - random(h) * (1f - cosSpread);
+		final float sinTheta = (float)Math.sqrt(Math.max(0f, 1f - cosTheta * cosTheta));
+		h = hash(h);
+		final float phi = random(h) * MathUtils.PI2;
+		final float c = (float)Math.cos(phi) * sinTheta, s = (float)Math.sin(phi) * sinTheta;
+		h = hash(h);
+		final float speed = speedMin + speedRange * random(h);
+		h = hash(h);
+
+		final float[] state = this.state;
+		state[offset] = tmp.x;
+		state[offset + 1] = tmp.y;
+		state[offset + 2] = tmp.z;
+		state[offset + 3] = 0;
+		state[offset + 4] = (direction.x * cosTheta + tangent.x * c + bitangent.x * s) * speed;
+		state[offset + 5] = (direction.y * cosTheta + tangent.y * c + bitangent.y * s) * speed;
+		state[offset + 6] = (direction.z * cosTheta + tangent.z * c + bitangent.z * s) * speed;
+		state[offset + 7] = random(h);
+	}
+
+	/** @return The life time in seconds of a particle with the specified seed. */
+	public float getLife (float seed) {
+		return lifeMin + lifeRange * random(hash(seedHash(seed)));
+	}
+
+	/** @return Whether the particle at the index was spawned and didn't die yet. */
+	public boolean isAlive (int index) {
+		final int o = index * STATE_SIZE;
+		return state[o + 3] < getLife(state[o + 7]);
+	}
+
+	/** @return The number of particles which are alive. */
+	public int getAliveCount () {
+		int count = 0;
+		for (int i = 0; i < capacity; i++)
+			if (isAlive(i)) count++;
+		return count;
+	}
+
+	/** @return The age of the particle at the index divided by its life time. */
+	public float getLifePercent (int index) {
+		final int o = index * STATE_SIZE;
+		return state[o + 3] / getLife(state[o + 7]);
+	}
+
+	/** @return The scale of the particle at the index, computed like the ScaleInfluencer. */
+	public float getScale (int index) {
+		final int h = hash(hash(seedHash(state[index * STATE_SIZE + 7])));
+		return interpolate(scaleRange, scaleCurve, h, getLifePercent(index));
+	}
+
+	/** Sets the color of the particle at the index, computed like ColorInfluencer.Single.
+	 * @return The color */
+	public Color getColor (int index, Color out) {
+		final int h = hash(hash(hash(hash(seedHash(state[index * STATE_SIZE + 7])))));
+		final float percent = getLifePercent(index);
+		final float f = MathUtils.clamp(percent, 0f, 1f) * (CURVE_SIZE - 1);
+		final int i = Math.min((int)f, CURVE_SIZE - 2) * 3;
+		final float t = f - i / 3;
+		out.r = colorCurve[i] + (colorCurve[i + 3] - colorCurve[i]) * t;
+		out.g = colorCurve[i + 1] + (colorCurve[i + 4] - colorCurve[i + 1]) * t;
+		out.b = colorCurve[i + 2] + (colorCurve[i + 5] - colorCurve[i + 2]) * t;
+		out.a = interpolate(alphaRange, alphaCurve, h, percent);
+		return out;
+	}
+
+	/** Computes the value from the random start value and difference, using the hash and the next hash as random numbers. */
+	private static float interpolate (float[] range, float[] curve, int hash, float percent) {
+		final float start = range[0] + range[1] * random(hash);
+		final float high = range[2] + range[3] * random(hash(hash));
+		final float diff = high - start * (1 - range[4]);
+		return start + diff * sampleCurve(curve, percent);
+	}
+
+	@Override
+	public void dispose () {
+	}
+}
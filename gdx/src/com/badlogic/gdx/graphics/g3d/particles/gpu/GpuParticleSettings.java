@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles.gpu;
+
+import com.badlogic.gdx.graphics.g3d.particles.values.GradientColorValue;
+import com.badlogic.gdx.graphics.g3d.particles.values.ScaledNumericValue;
+import com.badlogic.gdx.math.Vector3;
+
+/** The description of a particle effect simulated by a {@link ParticleSimulation}. It supports the subset of the emitter and the
+ * influencers which can be evaluated per particle without reading other data: a continuous emission, a box shaped spawn area,
+ * an initial velocity within a cone, a constant acceleration with linear drag and the scale, alpha and color timelines of the
+ * ScaleInfluencer and ColorInfluencer.Single. The values, except for the {@link #maxParticleCount}, can be changed at any time,
+ * they are read on each update. */
+public class GpuParticleSettings {
+	/** The maximum number of particles alive at the same time. When more particles are emitted the oldest ones are reused. */
+	public int maxParticleCount = 10000;
+	/** The number of particles emitted per second. */
+	public float emission = 1000;
+	/** The minimum and maximum life of the particles in milliseconds. */
+	public float lifeMin = 1000, lifeMax = 1000;
+	/** The size of the box, centered at the origin of the simulation transform, in which particles are spawned. */
+	public final Vector3 spawnSize = new Vector3();
+	/** The axis of the cone of initial directions, in the local space of the simulation transform. */
+	public final Vector3 direction = new Vector3(0, 1, 0);
+	/** The half angle of the cone of initial directions in degrees. */
+	public float spread = 0;
+	/** The minimum and maximum initial speed in units per second. */
+	public float speedMin = 1, speedMax = 1;
+	/** The constant acceleration in world space, e.g. gravity. */
+	public final Vector3 acceleration = new Vector3();
+	/** The part of the velocity lost per second. */
+	public float drag = 0;
+	/** The scale of the particles over their life, like the ScaleInfluencer. */
+	public final ScaledNumericValue scaleValue = new ScaledNumericValue();
+	/** The alpha of the particles over their life, like ColorInfluencer.Single. */
+	public final ScaledNumericValue alphaValue = new ScaledNumericValue();
+	/** The color of the particles over their life, like ColorInfluencer.Single. */
+	public final GradientColorValue colorValue = new GradientColorValue();
+
+	public GpuParticleSettings () {
+		scaleValue.setHigh(1);
+		alphaValue.setHigh(1);
+	}
+}
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles.gpu;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Simulates and renders the particles entirely on the GPU, which requires GL30. The particles are stored in two buffers: on each
+ * update a vertex shader reads the state from one buffer and writes the next state to the other one using transform feedback,
+ * after which the buffers are swapped. The particles are rendered as instanced camera facing quads which read the same buffer,
+ * so no particle data is transferred between the CPU and the GPU after creation. The update costs the same for each slot,
+ * regardless of the number of particles alive, see {@link GpuParticleSettings#maxParticleCount}.
+ * </p>
+ * The math is the same as in {@link CpuParticleSimulation}, {@link #readState(float[])} can be used to compare the results. The
+ * state of the particles is lost on context loss, the particles are simply emitted again after {@link #invalidate()}. Transform
+ * feedback and mapping buffers are not supported by WebGL in libGDX, so this class can't be used with the GWT backend. */
+public class GpuParticleSimulation extends ParticleSimulation {
+	private static final String[] VARYINGS = {"v_state0", "v_state1"};
+	private static final String SHADER_PATH = "com/badlogic/gdx/graphics/g3d/particles/gpu/";
+	private static final float[] CORNERS = {-0.5f, -0.5f, 0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f};
+
+	private final ShaderProgram updateShader, renderShader;
+	private final int[] buffers = new int[2];
+	private final int[] updateVaos = new int[2], renderVaos = new int[2];
+	private int cornerBuffer;
+	/** The index of the buffer which holds the current state. */
+	private int current;
+	private final Vector3 cameraRight = new Vector3();
+
+	/** The blend function used by {@link #render(Camera, Texture)}. */
+	public int srcBlendFactor = GL20.GL_SRC_ALPHA, dstBlendFactor = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	public GpuParticleSimulation (GpuParticleSettings settings) {
+		super(settings);
+		if (Gdx.gl30 == null) throw new GdxRuntimeException("GpuParticleSimulation requires GL30");
+
+		final String prefix = Gdx.app.getType() == ApplicationType.Desktop ? "#version 150\n" : "#version 300 es\n";
+		final String common = Gdx.files.classpath(SHADER_PATH + "common.glsl").readString();
+		final String oldVertexCode = ShaderProgram.prependVertexCode, oldFragmentCode = ShaderProgram.prependFragmentCode;
+		ShaderProgram.prependVertexCode = null;
+		ShaderProgram.prependFragmentCode = null;
+		try {
+			updateShader = new TransformFeedbackShaderProgram(
+				prefix + common + Gdx.files.classpath(SHADER_PATH + "update.vertex.glsl").readString(),
+				prefix + Gdx.files.classpath(SHADER_PATH + "update.fragment.glsl").readString());
+			renderShader = new ShaderProgram(prefix + common + Gdx.files.classpath(SHADER_PATH + "render.vertex.glsl").readString(),
+				prefix + Gdx.files.classpath(SHADER_PATH + "render.fragment.glsl").readString());
+		} finally {
+			ShaderProgram.prependVertexCode = oldVertexCode;
+			ShaderProgram.prependFragmentCode = oldFragmentCode;
+		}
+		if (!updateShader.isCompiled()) throw new GdxRuntimeException("Couldn't compile update shader: " + updateShader.getLog());
+		if (!renderShader.isCompiled()) throw new GdxRuntimeException("Couldn't compile render shader: " + renderShader.getLog());
+
+		createBuffers();
+	}
+
+	private void createBuffers () {
+		final GL30 gl = Gdx.gl30;
+		final FloatBuffer data = BufferUtils.newFloatBuffer(capacity * STATE_SIZE);
+		for (int i = 0; i < capacity; i++) {
+			for (int j = 0; j < STATE_SIZE; j++)
+				data.put(j == 3 ? UNUSED_AGE : 0);
+		}
+		((Buffer)data).flip();
+		for (int i = 0; i < 2; i++) {
+			buffers[i] = gl.glGenBuffer();
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[i]);
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, capacity * STATE_SIZE * 4, data, GL30.GL_DYNAMIC_COPY);
+		}
+		final FloatBuffer corners = BufferUtils.newFloatBuffer(CORNERS.length);
+		corners.put(CORNERS);
+		((Buffer)corners).flip();
+		cornerBuffer = gl.glGenBuffer();
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, cornerBuffer);
+		gl.glBufferData(GL20.GL_ARRAY_BUFFER, CORNERS.length * 4, corners, GL20.GL_STATIC_DRAW);
+
+		gl.glGenVertexArrays(2, updateVaos, 0);
+		gl.glGenVertexArrays(2, renderVaos, 0);
+		for (int i = 0; i < 2; i++) {
+			gl.glBindVertexArray(updateVaos[i]);
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[i]);
+			bindState(updateShader, 0);
+
+			gl.glBindVertexArray(renderVaos[i]);
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[i]);
+			bindState(renderShader, 1);
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, cornerBuffer);
+			final int location = renderShader.getAttributeLocation("a_corner");
+			gl.glEnableVertexAttribArray(location);
+			gl.glVertexAttribPointer(location, 2, GL20.GL_FLOAT, false, 0, 0);
+		}
+		gl.glBindVertexArray(0);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		current = 0;
+	}
+
+	/** Sets the state attributes of the shader to the buffer bound to GL_ARRAY_BUFFER. */
+	private static void bindState (ShaderProgram shader, int divisor) {
+		final GL30 gl = Gdx.gl30;
+		for (int i = 0; i < VARYINGS.length; i++) {
+			final int location = shader.getAttributeLocation("a_state" + i);
+			if (location < 0) continue;
+			gl.glEnableVertexAttribArray(location);
+			gl.glVertexAttribPointer(location, 4, GL20.GL_FLOAT, false, STATE_SIZE * 4, i * 16);
+			gl.glVertexAttribDivisor(location, divisor);
+		}
+	}
+
+	@Override
+	protected void simulate () {
+		final GL30 gl = Gdx.gl30;
+		final ShaderProgram shader = updateShader;
+		shader.bind();
+		shader.setUniformi("u_capacity", capacity);
+		shader.setUniformi("u_spawnStart", spawnStart);
+		shader.setUniformi("u_spawnCount", spawnCount);
+		shader.setUniformi("u_frameHash", frameHash);
+		shader.setUniformf("u_delta", delta);
+		shader.setUniformMatrix("u_transform", transform);
+		shader.setUniformf("u_spawnSize", settings.spawnSize);
+		shader.setUniformf("u_direction", direction);
+		shader.setUniformf("u_tangent", tangent);
+		shader.setUniformf("u_bitangent", bitangent);
+		shader.setUniformf("u_cosSpread", cosSpread);
+		shader.setUniformf("u_speed", speedMin, speedRange);
+		shader.setUniformf("u_acceleration", settings.acceleration);
+		shader.setUniformf("u_drag", settings.drag);
+		shader.setUniformf("u_life", lifeMin, lifeRange);
+
+		gl.glEnable(GL30.GL_RASTERIZER_DISCARD);
+		gl.glBindVertexArray(updateVaos[current]);
+		gl.glBindBufferBase(GL30.GL_TRANSFORM_FEEDBACK_BUFFER, 0, buffers[1 - current]);
+		gl.glBeginTransformFeedback(GL20.GL_POINTS);
+		gl.glDrawArrays(GL20.GL_POINTS, 0, capacity);
+		gl.glEndTransformFeedback();
+		gl.glBindBufferBase(GL30.GL_TRANSFORM_FEEDBACK_BUFFER, 0, 0);
+		gl.glBindVertexArray(0);
+		gl.glDisable(GL30.GL_RASTERIZER_DISCARD);
+		current = 1 - current;
+	}
+
+	/** Renders the particles which are alive as camera facing quads. Depth writes are disabled while rendering, the particles are
+	 * not sorted.
+	 * @param texture The texture of the particles, multiplied by their color */
+	public void render (Camera camera, Texture texture) {
+		final GL30 gl = Gdx.gl30;
+		final ShaderProgram shader = renderShader;
+		shader.bind();
+		shader.setUniformMatrix("u_projViewTrans", camera.combined);
+		shader.setUniformf("u_cameraRight", cameraRight.set(camera.direction).crs(camera.up).nor());
+		shader.setUniformf("u_cameraUp", camera.up);
+		shader.setUniformf("u_life", lifeMin, lifeRange);
+		shader.setUniformf("u_scaleRange", scaleRange[0], scaleRange[1], scaleRange[2], scaleRange[3]);
+		shader.setUniformf("u_scaleRelative", scaleRange[4]);
+		shader.setUniformf("u_alphaRange", alphaRange[0], alphaRange[1], alphaRange[2], alphaRange[3]);
+		shader.setUniformf("u_alphaRelative", alphaRange[4]);
+		shader.setUniform1fv("u_scaleCurve", scaleCurve, 0, CURVE_SIZE);
+		shader.setUniform1fv("u_alphaCurve", alphaCurve, 0, CURVE_SIZE);
+		shader.setUniform3fv("u_colorCurve", colorCurve, 0, CURVE_SIZE * 3);
+		texture.bind(0);
+		shader.setUniformi("u_texture", 0);
+
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glBlendFunc(srcBlendFactor, dstBlendFactor);
+		gl.glDepthMask(false);
+		gl.glBindVertexArray(renderVaos[current]);
+		gl.glDrawArraysInstanced(GL20.GL_TRIANGLE_STRIP, 0, 4, capacity);
+		gl.glBindVertexArray(0);
+		gl.glDepthMask(true);
+		gl.glDisable(GL20.GL_BLEND);
+	}
+
+	/** Copies the current state of all particles to the array, in the layout of {@link CpuParticleSimulation#state}. This stalls
+	 * until the GPU finished the update, so it is intended for verification and debugging only. */
+	public void readState (float[] out) {
+		final GL30 gl = Gdx.gl30;
+		final int size = capacity * STATE_SIZE * 4;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[current]);
+		final ByteBuffer mapped = (ByteBuffer)gl.glMapBufferRange(GL20.GL_ARRAY_BUFFER, 0, size, GL30.GL_MAP_READ_BIT);
+		if (mapped == null) {
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+			throw new GdxRuntimeException("Couldn't map the particle buffer");
+		}
+		mapped.order(ByteOrder.nativeOrder()).asFloatBuffer().get(out, 0, capacity * STATE_SIZE);
+		gl.glUnmapBuffer(GL20.GL_ARRAY_BUFFER);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+	}
+
+	@Override
+	protected void clear () {
+		disposeBuffers();
+		createBuffers();
+	}
+
+	/** Recreates the buffers after a context loss, the particles which were alive are lost. The old handles are not deleted, they
+	 * are no longer valid and may already name objects created since. */
+	public void invalidate () {
+		restart();
+		createBuffers();
+	}
+
+	private void disposeBuffers () {
+		final GL30 gl = Gdx.gl30;
+		gl.glDeleteVertexArrays(2, updateVaos, 0);
+		gl.glDeleteVertexArrays(2, renderVaos, 0);
+		gl.glDeleteBuffer(buffers[0]);
+		gl.glDeleteBuffer(buffers[1]);
+		gl.glDeleteBuffer(cornerBuffer);
+	}
+
+	@Override
+	public void dispose () {
+		disposeBuffers();
+		updateShader.dispose();
+		renderShader.dispose();
+	}
+
+	/** Declares the state outputs of the update shader as transform feedback varyings before the program is linked. */
+	private static class TransformFeedbackShaderProgram extends ShaderProgram {
+		public TransformFeedbackShaderProgram (String vertexShader, String fragmentShader) {
+			super(vertexShader, fragmentShader);
+		}
+
+		@Override
+		protected int createProgram () {
+			final int program = super.createProgram();
+			if (program != -1) Gdx.gl30.glTransformFeedbackVaryings(program, VARYINGS, GL30.GL_INTERLEAVED_ATTRIBS);
+			return program;
+		}
+	}
+}
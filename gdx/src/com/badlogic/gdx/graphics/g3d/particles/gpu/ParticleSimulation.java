@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles.gpu;
+
+import com.badlogic.gdx.graphics.g3d.particles.values.ScaledNumericValue;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Disposable;
+
+/** Simulates the particles of a {@link GpuParticleSettings} without any per particle state on the CPU. Each particle is stored as
+ * {@link #STATE_SIZE} floats: the position and the age in seconds, followed by the velocity and a seed. Everything else, like
+ * the life time and the random start values of the scale and alpha, is derived from the seed when needed. Particles are
+ * emitted into a ring buffer: on each update a range of slots is respawned, all other living particles are integrated.
+ * </p>
+ * This class computes the per frame parameters shared by both implementations, {@link GpuParticleSimulation} runs the simulation
+ * in a vertex shader using transform feedback and {@link CpuParticleSimulation} is the reference implementation of the same
+ * math. Both use the same integer hash as random number generator, so given the same settings, seed and deltas they produce the
+ * same particles up to floating point differences. */
+public abstract class ParticleSimulation implements Disposable {
+	/** The number of floats stored per particle. */
+	public static final int STATE_SIZE = 8;
+	/** The number of samples of the scale, alpha and color timelines. */
+	public static final int CURVE_SIZE = 8;
+	/** The age of a particle which was never spawned. */
+	public static final float UNUSED_AGE = 1e9f;
+
+	public final GpuParticleSettings settings;
+	/** The transform of the spawn area and the emission direction, doesn't affect particles which are already alive. */
+	public final Matrix4 transform = new Matrix4();
+	/** The seed of the random number generator, different seeds produce different particles. */
+	public int seed;
+	protected final int capacity;
+
+	private float emissionAccumulator;
+	private int cursor, frame;
+	/** The values of the current update, see {@link #prepare(float)}. */
+	protected float delta;
+	protected int spawnStart, spawnCount, frameHash;
+	protected final Vector3 direction = new Vector3(), tangent = new Vector3(), bitangent = new Vector3();
+	protected float cosSpread, lifeMin, lifeRange, speedMin, speedRange;
+	/** The ranges of the start values as low min, low range, high min, high range and 1 if relative or 0 otherwise. */
+	protected final float[] scaleRange = new float[5], alphaRange = new float[5];
+	protected final float[] scaleCurve = new float[CURVE_SIZE], alphaCurve = new float[CURVE_SIZE];
+	protected final float[] colorCurve = new float[CURVE_SIZE * 3];
+
+	public ParticleSimulation (GpuParticleSettings settings) {
+		if (settings.maxParticleCount <= 0) throw new IllegalArgumentException("maxParticleCount must be > 0");
+		this.settings = settings;
+		this.capacity = settings.maxParticleCount;
+	}
+
+	/** @return The number of particle slots. */
+	public int getCapacity () {
+		return capacity;
+	}
+
+	/** Emits the particles of the elapsed time and moves the particles which are alive.
+	 * @param delta The elapsed time in seconds */
+	public void update (float delta) {
+		prepare(delta);
+		simulate();
+	}
+
+	/** Kills all particles and restarts the random number generator. */
+	public void reset () {
+		restart();
+		clear();
+	}
+
+	/** Restarts the emission and the random number generator, without touching the particles. */
+	protected void restart () {
+		emissionAccumulator = 0;
+		cursor = 0;
+		frame = 0;
+	}
+
+	/** Runs the simulation step prepared by {@link #prepare(float)}. */
+	protected abstract void simulate ();
+
+	/** Marks all particles as unused. */
+	protected abstract void clear ();
+
+	/** Computes the spawn range and the other per frame values from the settings. */
+	protected void prepare (float delta) {
+		final GpuParticleSettings settings = this.settings;
+		this.delta = delta;
+		emissionAccumulator += settings.emission * delta;
+		final int emitted = (int)emissionAccumulator;
+		emissionAccumulator -= emitted;
+		spawnStart = cursor;
+		spawnCount = Math.min(emitted, capacity);
+		cursor = (cursor + spawnCount) % capacity;
+		frameHash = hash(frame++ + seed * 0x9e3779b9);
+
+		direction.set(settings.direction).rot(transform).nor();
+		if (Math.abs(direction.x) < 0.9f)
+			tangent.set(direction).crs(Vector3.X).nor();
+		else
+			tangent.set(direction).crs(Vector3.Y).nor();
+		bitangent.set(direction).crs(tangent);
+		cosSpread = (float)Math.cos(settings.spread * MathUtils.degreesToRadians);
+		lifeMin = settings.lifeMin / 1000f;
+		lifeRange = (settings.lifeMax - settings.lifeMin) / 1000f;
+		speedMin = settings.speedMin;
+		speedRange = settings.speedMax - settings.speedMin;
+
+		setRange(scaleRange, settings.scaleValue);
+		setRange(alphaRange, settings.alphaValue);
+		for (int i = 0; i < CURVE_SIZE; i++) {
+			final float percent = i / (float)(CURVE_SIZE - 1);
+			scaleCurve[i] = settings.scaleValue.getScale(percent);
+			alphaCurve[i] = settings.alphaValue.getScale(percent);
+			settings.colorValue.getColor(percent, colorCurve, i * 3);
+		}
+	}
+
+	private static void setRange (float[] range, ScaledNumericValue value) {
+		range[0] = value.getLowMin();
+		range[1] = value.getLowMax() - value.getLowMin();
+		range[2] = value.getHighMin();
+		range[3] = value.getHighMax() - value.getHighMin();
+		range[4] = value.isRelative() ? 1 : 0;
+	}
+
+	/** The integer hash used as random number generator, the shaders use the same function on unsigned integers. */
+	public static int hash (int x) {
+		x ^= x >>> 16;
+		x *= 0x7feb352d;
+		x ^= x >>> 15;
+		x *= 0x846ca68b;
+		x ^= x >>> 16;
+		return x;
+	}
+
+	/** @return The upper 24 bits of the hash as a float between 0 (inclusive) and 1 (exclusive), which is exact in both Java and
+	 *         GLSL. */
+	public static float random (int hash) {
+		return (hash >>> 8) / 16777216f;
+	}
+
+	/** @return The first hash of the values derived from the seed of a particle. */
+	public static int seedHash (float seed) {
+		return (int)(seed * 16777216f) ^ 0x5bd1e995;
+	}
+
+	/** Linearly interpolates the {@link #CURVE_SIZE} samples of a timeline. */
+	public static float sampleCurve (float[] curve, float percent) {
+		final float f = MathUtils.clamp(percent, 0f, 1f) * (CURVE_SIZE - 1);
+		final int i = Math.min((int)f, CURVE_SIZE - 2);
+		return curve[i] + (curve[i + 1] - curve[i]) * (f - i);
+	}
+}
@@ -68,7 +68,7 @@ public abstract class ModelInfluencer extends Influencer {
 
 			@Override
 			public ModelInstance newObject () {
-				return new ModelInstance(models.random());
+				return new ModelInstance(models.get(controller.random.nextInt(models.size)));
 			}
 		}
 
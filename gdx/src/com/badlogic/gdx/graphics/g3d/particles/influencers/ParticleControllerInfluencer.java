@@ -62,7 +62,7 @@ public abstract class ParticleControllerInfluencer extends Influencer {
 		@Override
 		public void activateParticles (int startIndex, int count) {
 			for (int i = startIndex, c = startIndex + count; i < c; ++i) {
-				particleControllerChannel.data[i].start();
+				particleControllerChannel.data[i].start(controller.random.nextLong());
 			}
 		}
 
@@ -87,9 +87,9 @@ public abstract class ParticleControllerInfluencer extends Influencer {
 
 			@Override
 			public ParticleController newObject () {
-				ParticleController controller = templates.random().copy();
-				controller.init();
-				return controller;
+				ParticleController instance = templates.get(controller.random.nextInt(templates.size)).copy();
+				instance.init();
+				return instance;
 			}
 
 			@Override
@@ -137,9 +137,9 @@ public abstract class ParticleControllerInfluencer extends Influencer {
 		@Override
 		public void activateParticles (int startIndex, int count) {
 			for (int i = startIndex, c = startIndex + count; i < c; ++i) {
-				ParticleController controller = pool.obtain();
-				controller.start();
-				particleControllerChannel.data[i] = controller;
+				ParticleController instance = pool.obtain();
+				instance.start(controller.random.nextLong());
+				particleControllerChannel.data[i] = instance;
 			}
 		}
 
@@ -58,14 +58,14 @@ public class SpawnInfluencer extends Influencer {
 
 	@Override
 	public void start () {
-		spawnShapeValue.start();
+		spawnShapeValue.start(controller.random);
 	}
 
 	@Override
 	public void activateParticles (int startIndex, int count) {
 		for (int i = startIndex * positionChannel.strideSize,
 			c = i + count * positionChannel.strideSize; i < c; i += positionChannel.strideSize) {
-			spawnShapeValue.spawn(TMP_V1, controller.emitter.percent);
+			spawnShapeValue.spawn(TMP_V1, controller.emitter.percent, controller.random);
 			TMP_V1.mul(controller.transform);
 			positionChannel.data[i + ParticleChannels.XOffset] = TMP_V1.x;
 			positionChannel.data[i + ParticleChannels.YOffset] = TMP_V1.y;
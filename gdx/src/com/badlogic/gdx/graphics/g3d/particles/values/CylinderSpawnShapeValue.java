@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 
@@ -33,6 +35,11 @@ public final class CylinderSpawnShapeValue extends PrimitiveSpawnShapeValue {
 
 	@Override
 	public void spawnAux (Vector3 vector, float percent) {
+		spawnAux(vector, percent, MathUtils.random);
+	}
+
+	@Override
+	public void spawnAux (Vector3 vector, float percent, Random random) {
 		// Generate the point on the surface of the sphere
 		float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
 		float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
@@ -40,15 +47,15 @@ public final class CylinderSpawnShapeValue extends PrimitiveSpawnShapeValue {
 
 		float radiusX, radiusZ;
 		float hf = height / 2;
-		float ty = MathUtils.random(height) - hf;
+		float ty = random.nextFloat() * height - hf;
 
 		// Where generate the point, on edges or inside ?
 		if (edges) {
 			radiusX = width / 2;
 			radiusZ = depth / 2;
 		} else {
-			radiusX = MathUtils.random(width) / 2;
-			radiusZ = MathUtils.random(depth) / 2;
+			radiusX = random.nextFloat() * width / 2;
+			radiusZ = random.nextFloat() * depth / 2;
 		}
 
 		float spawnTheta = 0;
@@ -56,11 +63,11 @@ public final class CylinderSpawnShapeValue extends PrimitiveSpawnShapeValue {
 		// Generate theta
 		boolean isRadiusXZero = radiusX == 0, isRadiusZZero = radiusZ == 0;
 		if (!isRadiusXZero && !isRadiusZZero)
-			spawnTheta = MathUtils.random(360f);
+			spawnTheta = random.nextFloat() * 360f;
 		else {
 			if (isRadiusXZero)
-				spawnTheta = MathUtils.random(1) == 0 ? -90 : 90;
-			else if (isRadiusZZero) spawnTheta = MathUtils.random(1) == 0 ? 0 : 180;
+				spawnTheta = random.nextInt(2) == 0 ? -90 : 90;
+			else if (isRadiusZZero) spawnTheta = random.nextInt(2) == 0 ? 0 : 180;
 		}
 
 		vector.set(radiusX * MathUtils.cosDeg(spawnTheta), ty, radiusZ * MathUtils.sinDeg(spawnTheta));
@@ -26,6 +26,8 @@ public class GradientColorValue extends ParticleValue {
 
 	private float[] colors = {1, 1, 1};
 	public float[] timeline = {0};
+	private int bakedResolution;
+	private float[] baked;
 
 	public float[] getTimeline () {
 		return timeline;
@@ -33,6 +35,7 @@ public class GradientColorValue extends ParticleValue {
 
 	public void setTimeline (float[] timeline) {
 		this.timeline = timeline;
+		baked = null;
 	}
 
 	public float[] getColors () {
@@ -41,6 +44,33 @@ public class GradientColorValue extends ParticleValue {
 
 	public void setColors (float[] colors) {
 		this.colors = colors;
+		baked = null;
+	}
+
+	/** Enables or disables baked mode, see {@link ScaledNumericValue#setBakedResolution(int)}.
+	 * @param resolution The number of colors in the lookup table, at least 2, or 0 to disable baked mode. */
+	public void setBakedResolution (int resolution) {
+		if (resolution < 0 || resolution == 1) throw new IllegalArgumentException("Invalid resolution: " + resolution);
+		bakedResolution = resolution;
+		baked = null;
+	}
+
+	/** @return The number of colors in the lookup table, or 0 if baked mode is disabled. */
+	public int getBakedResolution () {
+		return bakedResolution;
+	}
+
+	/** Rebuilds the lookup table from the current colors and timeline. Does nothing if baked mode is disabled. */
+	public void bake () {
+		if (bakedResolution == 0) {
+			baked = null;
+			return;
+		}
+		float[] baked = new float[bakedResolution * 3];
+		float step = 1f / (bakedResolution - 1);
+		for (int i = 0; i < bakedResolution; i++)
+			searchColor(i * step, baked, i * 3);
+		this.baked = baked;
 	}
 
 	public float[] getColor (float percent) {
@@ -49,6 +79,38 @@ public class GradientColorValue extends ParticleValue {
 	}
 
 	public void getColor (float percent, float[] out, int index) {
+		if (bakedResolution == 0) {
+			searchColor(percent, out, index);
+			return;
+		}
+		float[] baked = this.baked;
+		if (baked == null) {
+			bake();
+			baked = this.baked;
+		}
+		int last = bakedResolution - 1;
+		float position = percent * last, factor = 0;
+		int bakedIndex = 0;
+		if (position >= last)
+			bakedIndex = last;
+		else if (position > 0) {
+			bakedIndex = (int)position;
+			factor = position - bakedIndex;
+		}
+		int startIndex = bakedIndex * 3;
+		float r1 = baked[startIndex], g1 = baked[startIndex + 1], b1 = baked[startIndex + 2];
+		if (bakedIndex == last) {
+			out[index] = r1;
+			out[index + 1] = g1;
+			out[index + 2] = b1;
+			return;
+		}
+		out[index] = r1 + (baked[startIndex + 3] - r1) * factor;
+		out[index + 1] = g1 + (baked[startIndex + 4] - g1) * factor;
+		out[index + 2] = b1 + (baked[startIndex + 5] - b1) * factor;
+	}
+
+	private void searchColor (float percent, float[] out, int index) {
 		int startIndex = 0, endIndex = -1;
 		float[] timeline = this.timeline;
 		int n = timeline.length;
@@ -90,6 +152,7 @@ public class GradientColorValue extends ParticleValue {
 		super.read(json, jsonData);
 		colors = json.readValue("colors", float[].class, jsonData);
 		timeline = json.readValue("timeline", float[].class, jsonData);
+		baked = null;
 	}
 
 	public void load (GradientColorValue value) {
@@ -98,5 +161,7 @@ public class GradientColorValue extends ParticleValue {
 		System.arraycopy(value.colors, 0, colors, 0, colors.length);
 		timeline = new float[value.timeline.length];
 		System.arraycopy(value.timeline, 0, timeline, 0, timeline.length);
+		bakedResolution = value.bakedResolution;
+		baked = null;
 	}
 }
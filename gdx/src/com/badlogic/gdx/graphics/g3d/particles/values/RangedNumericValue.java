@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -26,7 +28,13 @@ public class RangedNumericValue extends ParticleValue {
 	private float lowMin, lowMax;
 
 	public float newLowValue () {
-		return lowMin + (lowMax - lowMin) * MathUtils.random();
+		return newLowValue(MathUtils.random);
+	}
+
+	/** @param random The generator of the random value, see
+	 *           {@link com.badlogic.gdx.graphics.g3d.particles.ParticleController#random}. */
+	public float newLowValue (Random random) {
+		return lowMin + (lowMax - lowMin) * random.nextFloat();
 	}
 
 	public void setLow (float value) {
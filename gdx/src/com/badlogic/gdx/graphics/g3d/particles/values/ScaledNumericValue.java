@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -27,9 +29,17 @@ public class ScaledNumericValue extends RangedNumericValue {
 	public float[] timeline = {0};
 	private float highMin, highMax;
 	private boolean relative = false;
+	private int bakedResolution;
+	private float[] baked;
 
 	public float newHighValue () {
-		return highMin + (highMax - highMin) * MathUtils.random();
+		return newHighValue(MathUtils.random);
+	}
+
+	/** @param random The generator of the random value, see
+	 *           {@link com.badlogic.gdx.graphics.g3d.particles.ParticleController#random}. */
+	public float newHighValue (Random random) {
+		return highMin + (highMax - highMin) * random.nextFloat();
 	}
 
 	public void setHigh (float value) {
@@ -64,6 +74,7 @@ public class ScaledNumericValue extends RangedNumericValue {
 
 	public void setScaling (float[] values) {
 		this.scaling = values;
+		baked = null;
 	}
 
 	public float[] getTimeline () {
@@ -72,6 +83,7 @@ public class ScaledNumericValue extends RangedNumericValue {
 
 	public void setTimeline (float[] timeline) {
 		this.timeline = timeline;
+		baked = null;
 	}
 
 	public boolean isRelative () {
@@ -82,7 +94,52 @@ public class ScaledNumericValue extends RangedNumericValue {
 		this.relative = relative;
 	}
 
+	/** Enables or disables baked mode. When baked, the timeline is sampled into a lookup table with the specified number of
+	 * entries, so {@link #getScale(float)} interpolates between the two nearest entries instead of searching the timeline. The
+	 * table is rebuilt the next time it is used after the scaling or timeline is set or loaded, call {@link #bake()} after
+	 * changing the arrays in place. Timeline points closer together than 1 / (resolution - 1) are smoothed.
+	 * @param resolution The number of entries, at least 2, or 0 to disable baked mode. */
+	public void setBakedResolution (int resolution) {
+		if (resolution < 0 || resolution == 1) throw new IllegalArgumentException("Invalid resolution: " + resolution);
+		bakedResolution = resolution;
+		baked = null;
+	}
+
+	/** @return The number of entries of the lookup table, or 0 if baked mode is disabled. */
+	public int getBakedResolution () {
+		return bakedResolution;
+	}
+
+	/** Rebuilds the lookup table from the current scaling and timeline. Does nothing if baked mode is disabled. */
+	public void bake () {
+		if (bakedResolution == 0) {
+			baked = null;
+			return;
+		}
+		float[] baked = new float[bakedResolution];
+		float step = 1f / (bakedResolution - 1);
+		for (int i = 0; i < bakedResolution; i++)
+			baked[i] = searchScale(i * step);
+		this.baked = baked;
+	}
+
 	public float getScale (float percent) {
+		if (bakedResolution == 0) return searchScale(percent);
+		float[] baked = this.baked;
+		if (baked == null) {
+			bake();
+			baked = this.baked;
+		}
+		int last = baked.length - 1;
+		float position = percent * last;
+		if (position <= 0) return baked[0];
+		int index = (int)position;
+		if (index >= last) return baked[last];
+		float start = baked[index];
+		return start + (baked[index + 1] - start) * (position - index);
+	}
+
+	private float searchScale (float percent) {
 		int endIndex = -1;
 		int n = timeline.length;
 		// if (percent >= timeline[n-1])
@@ -110,6 +167,8 @@ public class ScaledNumericValue extends RangedNumericValue {
 		timeline = new float[value.timeline.length];
 		System.arraycopy(value.timeline, 0, timeline, 0, timeline.length);
 		relative = value.relative;
+		bakedResolution = value.bakedResolution;
+		baked = null;
 	}
 
 	@Override
@@ -130,6 +189,7 @@ public class ScaledNumericValue extends RangedNumericValue {
 		relative = json.readValue("relative", boolean.class, jsonData);
 		scaling = json.readValue("scaling", float[].class, jsonData);
 		timeline = json.readValue("timeline", float[].class, jsonData);
+		baked = null;
 	}
 
 }
@@ -16,8 +16,11 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g3d.particles.ResourceData;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -40,11 +43,23 @@ public abstract class SpawnShapeValue extends ParticleValue implements ResourceD
 
 	public abstract void spawnAux (Vector3 vector, float percent);
 
-	public final Vector3 spawn (Vector3 vector, float percent) {
+	/** Spawns a point using the random generator. The default implementation calls {@link #spawnAux(Vector3, float)}, shapes which
+	 * use random values should override it so they can be updated in parallel with other controllers.
+	 * @param random The generator of the random values, see
+	 *           {@link com.badlogic.gdx.graphics.g3d.particles.ParticleController#random}. */
+	public void spawnAux (Vector3 vector, float percent, Random random) {
 		spawnAux(vector, percent);
-		if (xOffsetValue.active) vector.x += xOffsetValue.newLowValue();
-		if (yOffsetValue.active) vector.y += yOffsetValue.newLowValue();
-		if (zOffsetValue.active) vector.z += zOffsetValue.newLowValue();
+	}
+
+	public final Vector3 spawn (Vector3 vector, float percent) {
+		return spawn(vector, percent, MathUtils.random);
+	}
+
+	public final Vector3 spawn (Vector3 vector, float percent, Random random) {
+		spawnAux(vector, percent, random);
+		if (xOffsetValue.active) vector.x += xOffsetValue.newLowValue(random);
+		if (yOffsetValue.active) vector.y += yOffsetValue.newLowValue(random);
+		if (zOffsetValue.active) vector.z += zOffsetValue.newLowValue(random);
 		return vector;
 	}
 
@@ -54,6 +69,13 @@ public abstract class SpawnShapeValue extends ParticleValue implements ResourceD
 	public void start () {
 	}
 
+	/** Calls {@link #start()}, shapes which use random values when started should override it.
+	 * @param random The generator of the random values, see
+	 *           {@link com.badlogic.gdx.graphics.g3d.particles.ParticleController#random}. */
+	public void start (Random random) {
+		start();
+	}
+
 	@Override
 	public void load (ParticleValue value) {
 		super.load(value);
@@ -16,28 +16,64 @@
 
 package com.badlogic.gdx.graphics.g3d.utils;
 
+import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongMap;
 
+/** Base class for {@link ShaderProvider} implementations which create a {@link Shader} on demand and reuse it for all
+ * renderables it {@link Shader#canRender(Renderable) can render}. The most recently used shader of each variant, identified by
+ * {@link #getShaderKey(Renderable)}, is cached so that finding the shader of a renderable doesn't require to call
+ * {@link Shader#canRender(Renderable)} on every shader. */
 public abstract class BaseShaderProvider implements ShaderProvider {
 	protected Array<Shader> shaders = new Array<Shader>();
+	/** The shader last used for each key, see {@link #getShaderKey(Renderable)}. */
+	protected final LongMap<Shader> shaderCache = new LongMap<Shader>();
 
 	@Override
 	public Shader getShader (Renderable renderable) {
 		Shader suggestedShader = renderable.shader;
 		if (suggestedShader != null && suggestedShader.canRender(renderable)) return suggestedShader;
+		final long key = getShaderKey(renderable);
+		final Shader cachedShader = shaderCache.get(key);
+		if (cachedShader != null && cachedShader.canRender(renderable)) return cachedShader;
 		for (Shader shader : shaders) {
-			if (shader.canRender(renderable)) return shader;
+			if (shader != cachedShader && shader.canRender(renderable)) {
+				shaderCache.put(key, shader);
+				return shader;
+			}
 		}
 		final Shader shader = createShader(renderable);
 		if (!shader.canRender(renderable)) throw new GdxRuntimeException("unable to provide a shader for this renderable");
 		shader.init();
 		shaders.add(shader);
+		shaderCache.put(key, shader);
 		return shader;
 	}
 
+	/** Calculates the key used to cache the shader of the renderable. Renderables which can be rendered by the same shader should
+	 * have the same key, while renderables requiring different shaders should preferably have different keys. The key is only a
+	 * hint: a cached shader is always verified using {@link Shader#canRender(Renderable)}. The default implementation combines the
+	 * environment and material attributes, the vertex attributes and whether the renderable is skinned.
+	 * @return The key of the shader variant required by the renderable. */
+	protected long getShaderKey (final Renderable renderable) {
+		long key = 1;
+		if (renderable.environment != null) {
+			key = key * 31 + renderable.environment.getMask();
+			key = key * 31 + (renderable.environment.shadowMap != null ? 1 : 0);
+		}
+		key = key * 31 + (renderable.material != null ? renderable.material.getMask() : 0);
+		if (renderable.meshPart.mesh != null) {
+			final VertexAttributes attributes = renderable.meshPart.mesh.getVertexAttributes();
+			key = key * 31 + attributes.getMaskWithSizePacked();
+			key = key * 31 + attributes.getTextureCoordinates();
+			if (renderable.bones != null) key = key * 31 + attributes.getBoneWeights();
+		}
+		return key * 31 + (renderable.bones != null ? 1 : 0);
+	}
+
 	protected abstract Shader createShader (final Renderable renderable);
 
 	@Override
@@ -46,5 +82,6 @@ public abstract class BaseShaderProvider implements ShaderProvider {
 			shader.dispose();
 		}
 		shaders.clear();
+		shaderCache.clear();
 	}
 }
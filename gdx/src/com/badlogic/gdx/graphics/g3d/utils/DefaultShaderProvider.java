@@ -16,13 +16,25 @@
 
 package com.badlogic.gdx.graphics.g3d.utils;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectMap;
 
+/** {@link ShaderProvider} which creates a {@link DefaultShader} for each variant. Compiling a variant the first time it is used
+ * can cause a noticeable hitch. To avoid this, the prefixes of the variants used during a run can be saved using
+ * {@link #saveVariants(FileHandle)} and compiled at startup of the next run using {@link #precompile(FileHandle)}. */
 public class DefaultShaderProvider extends BaseShaderProvider {
 	public final DefaultShader.Config config;
+	/** The prefixes of all variants created by this provider, in order of creation. */
+	protected final Array<String> variants = new Array<String>();
+	/** Programs compiled by {@link #precompile(Array)} which are not used by a shader yet, by prefix. */
+	protected final ObjectMap<String, ShaderProgram> precompiled = new ObjectMap<String, ShaderProgram>();
 
 	public DefaultShaderProvider (final DefaultShader.Config config) {
 		this.config = (config == null) ? new DefaultShader.Config() : config;
@@ -42,6 +54,56 @@ public class DefaultShaderProvider extends BaseShaderProvider {
 
 	@Override
 	protected Shader createShader (final Renderable renderable) {
-		return new DefaultShader(renderable, config);
+		final String prefix = DefaultShader.createPrefix(renderable, config);
+		if (!variants.contains(prefix, false)) variants.add(prefix);
+		final ShaderProgram program = precompiled.remove(prefix);
+		if (program != null) return new DefaultShader(renderable, config, program);
+		return new DefaultShader(renderable, config, prefix);
+	}
+
+	/** @return The prefixes of the variants created by this provider, see {@link DefaultShader#createPrefix(Renderable,
+	 *         DefaultShader.Config)}. */
+	public Array<String> getVariants () {
+		return variants;
+	}
+
+	/** Writes the prefixes of the variants created by this provider to the file, to be used with {@link #precompile(FileHandle)}
+	 * in a next run. */
+	public void saveVariants (FileHandle file) {
+		new Json().toJson(variants.toArray(String.class), String[].class, file);
+	}
+
+	/** Compiles the variants stored in the file using {@link #saveVariants(FileHandle)}, does nothing if the file doesn't exist.
+	 * Must be called on the rendering thread, using the same {@link #config}. */
+	public void precompile (FileHandle file) {
+		if (!file.exists()) return;
+		final String[] prefixes = new Json().fromJson(String[].class, file);
+		if (prefixes != null) precompile(new Array<String>(prefixes));
+	}
+
+	/** Compiles the programs of the variants with the specified prefixes, so the shaders of these variants can be created without
+	 * compiling them at first use. Variants which fail to compile are ignored, they will fail again when used. */
+	public void precompile (Array<String> prefixes) {
+		final String vertexShader = config.vertexShader != null ? config.vertexShader : DefaultShader.getDefaultVertexShader();
+		final String fragmentShader = config.fragmentShader != null ? config.fragmentShader
+			: DefaultShader.getDefaultFragmentShader();
+		for (String prefix : prefixes) {
+			if (precompiled.containsKey(prefix)) continue;
+			final ShaderProgram program = new ShaderProgram(prefix + vertexShader, prefix + fragmentShader);
+			if (program.isCompiled())
+				precompiled.put(prefix, program);
+			else {
+				Gdx.app.error("DefaultShaderProvider", "Failed to precompile variant: " + program.getLog());
+				program.dispose();
+			}
+		}
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		for (ShaderProgram program : precompiled.values())
+			program.dispose();
+		precompiled.clear();
 	}
 }
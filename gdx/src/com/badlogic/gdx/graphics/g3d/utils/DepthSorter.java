@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** Sorts elements by a float key, e.g. particles or decals by their distance to the camera. The sort is stable and doesn't
+ * allocate once the internal arrays have grown to the largest number of elements.
+ * <p>
+ * Depths usually change only slightly from one frame to the next, so the order of the previous call is reused: it is corrected
+ * with an insertion sort, which takes linear time if only a few elements changed places. If that needs more than
+ * {@link #coherenceLimit} moves per element, the elements are sorted from scratch with a radix sort on the bits of the keys,
+ * which takes linear time as well, and the previous order is not tried again for a number of calls which doubles with every
+ * failed attempt. Elements which were added since the previous call are appended to the previous order, the indices which are
+ * no longer used are removed from it.
+ * <p>
+ * An instance should be used for one sequence of elements only and is not thread safe. */
+public class DepthSorter {
+	private static final int RADIX_BITS = 11;
+	private static final int BUCKETS = 1 << RADIX_BITS;
+	private static final int MASK = BUCKETS - 1;
+	private static final int MAX_BACKOFF = 32;
+
+	/** The number of moves per element the insertion sort of the previous order may do before the elements are sorted from
+	 * scratch. Set to 0 to always sort from scratch. */
+	public float coherenceLimit = 0.5f;
+
+	private int[] order = new int[0], tempOrder = new int[0];
+	private int[] bits = new int[0], tempBits = new int[0];
+	private final int[] counts = new int[BUCKETS];
+	private int previousCount;
+	private int skip, backoff;
+
+	/** Sorts the elements in ascending order of their keys.
+	 * @param keys The key of each element, e.g. its depth
+	 * @param count The number of elements
+	 * @return The element indices in sorted order, only the first count values are valid. The array is reused by the next call. */
+	public int[] sort (float[] keys, int count) {
+		ensureCapacity(count);
+		if (skip > 0)
+			skip--;
+		else if (previousCount > 0 && coherenceLimit > 0) {
+			if (sortPrevious(keys, count)) {
+				backoff = 0;
+				previousCount = count;
+				return order;
+			}
+			backoff = Math.min(Math.max(backoff * 2, 1), MAX_BACKOFF);
+			skip = backoff;
+		}
+		sortRadix(keys, count);
+		previousCount = count;
+		return order;
+	}
+
+	/** Forgets the order of the previous call, so the next call sorts the elements from scratch. */
+	public void reset () {
+		previousCount = 0;
+		skip = backoff = 0;
+	}
+
+	private void ensureCapacity (int count) {
+		if (order.length >= count) return;
+		int capacity = Math.max(count, order.length * 7 / 4);
+		int[] newOrder = new int[capacity];
+		System.arraycopy(order, 0, newOrder, 0, previousCount);
+		order = newOrder;
+		tempOrder = new int[capacity];
+		bits = new int[capacity];
+		tempBits = new int[capacity];
+	}
+
+	/** Insertion sorts the order of the previous call.
+	 * @return false if the limit of moves was reached, the order is then a valid but unsorted permutation. */
+	private boolean sortPrevious (float[] keys, int count) {
+		final int[] order = this.order;
+		int n = 0;
+		for (int i = 0; i < previousCount; i++)
+			if (order[i] < count) order[n++] = order[i];
+		for (int i = previousCount; i < count; i++)
+			order[n++] = i;
+
+		final long limit = (long)(count * coherenceLimit);
+		long moves = 0;
+		for (int i = 1; i < count; i++) {
+			final int index = order[i];
+			final float key = keys[index];
+			int j = i - 1;
+			if (!(keys[order[j]] > key)) continue;
+			do {
+				order[j + 1] = order[j];
+				j--;
+				if (++moves > limit) {
+					order[j + 1] = index;
+					return false;
+				}
+			} while (j >= 0 && keys[order[j]] > key);
+			order[j + 1] = index;
+		}
+		return true;
+	}
+
+	/** Least significant digit radix sort of the keys, which are mapped to ints with the same unsigned order. */
+	private void sortRadix (float[] keys, int count) {
+		int[] order = this.order, bits = this.bits, tempOrder = this.tempOrder, tempBits = this.tempBits;
+		final int[] counts = this.counts;
+		for (int i = 0; i < count; i++) {
+			int b = NumberUtils.floatToRawIntBits(keys[i]);
+			bits[i] = b ^ ((b >> 31) | 0x80000000);
+			order[i] = i;
+		}
+		if (count < 2) return;
+
+		for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < count; i++)
+				counts[(bits[i] >>> shift) & MASK]++;
+			if (counts[(bits[0] >>> shift) & MASK] == count) continue; // All keys have the same digit.
+			for (int b = 0, sum = 0; b < BUCKETS; b++) {
+				final int c = counts[b];
+				counts[b] = sum;
+				sum += c;
+			}
+			for (int i = 0; i < count; i++) {
+				final int b = bits[i];
+				final int target = counts[(b >>> shift) & MASK]++;
+				tempBits[target] = b;
+				tempOrder[target] = order[i];
+			}
+			int[] swap = bits;
+			bits = tempBits;
+			tempBits = swap;
+			swap = order;
+			order = tempOrder;
+			tempOrder = swap;
+		}
+		this.order = order;
+		this.tempOrder = tempOrder;
+		this.bits = bits;
+		this.tempBits = tempBits;
+	}
+}
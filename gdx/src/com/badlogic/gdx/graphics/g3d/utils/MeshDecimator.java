@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeLod;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** Helper class to generate lower levels of detail of triangle meshes, to be used with {@link NodeLod}. This is intended to be
+ * used offline or at load time, it is not suitable to be called every frame.
+ * </p>
+ *
+ * The decimation is done by vertex clustering: the bounds of the shape are divided in a grid of cubic cells, all vertices within
+ * a cell are welded into a single vertex and triangles which collapse to a line or point are removed. The welded vertex uses the
+ * attributes (e.g. normal, color and texture coordinates) of the first vertex in the cell, its position is the average position
+ * of all vertices in the cell. The larger the cell size, the coarser the result. */
+public class MeshDecimator {
+	private final MeshBuilder builder = new MeshBuilder();
+	private final IntIntMap cells = new IntIntMap();
+	private final IntArray vertexCells = new IntArray();
+	private final IntArray cellVertices = new IntArray();
+	private final IntArray cellCounts = new IntArray();
+	private final IntArray cellIndices = new IntArray();
+	private final FloatArray cellPositions = new FloatArray();
+	private float[] vertex = new float[0];
+	private float[] vertices = new float[0];
+	private short[] indices = new short[0];
+
+	/** Adds a decimated copy of the triangles of the mesh part to the builder, which must be building a part with the same vertex
+	 * attributes as the mesh.
+	 * @param builder The builder to receive the vertices and indices
+	 * @param meshPart The source part, must be of the type {@link GL20#GL_TRIANGLES}
+	 * @param cellSize The size of the grid cells in which vertices are welded together */
+	public void decimate (MeshPartBuilder builder, MeshPart meshPart, float cellSize) {
+		if (meshPart.primitiveType != GL20.GL_TRIANGLES) throw new GdxRuntimeException("Only triangles can be decimated");
+		final Mesh mesh = meshPart.mesh;
+		final int stride = mesh.getVertexSize() / 4;
+		final int numFloats = mesh.getNumVertices() * stride;
+		if (vertices.length < numFloats) vertices = new float[numFloats];
+		mesh.getVertices(vertices);
+		if (indices.length < meshPart.size) indices = new short[meshPart.size];
+		if (mesh.getNumIndices() > 0)
+			mesh.getIndices(meshPart.offset, meshPart.size, indices, 0);
+		else {
+			for (int i = 0; i < meshPart.size; i++)
+				indices[i] = (short)(meshPart.offset + i);
+		}
+		decimate(builder, vertices, stride, mesh.getVertexAttributes().getOffset(Usage.Position), indices, 0, meshPart.size,
+			cellSize);
+	}
+
+	/** Adds a decimated copy of the triangles to the builder.
+	 * @param builder The builder to receive the vertices and indices, must be building a part with the vertex attributes of the
+	 *           vertices
+	 * @param vertices The source vertices
+	 * @param stride The number of floats per vertex
+	 * @param posOffset The offset (in number of floats) of the three component position within a vertex
+	 * @param indices The source indices, each three consecutive indices describing a triangle
+	 * @param indexOffset The offset within the indices array
+	 * @param numIndices The number of indices to decimate
+	 * @param cellSize The size of the grid cells in which vertices are welded together */
+	public void decimate (MeshPartBuilder builder, float[] vertices, int stride, int posOffset, short[] indices, int indexOffset,
+		int numIndices, float cellSize) {
+		if (cellSize <= 0f) throw new GdxRuntimeException("Cell size must be positive");
+		if (numIndices < 3) return;
+		if (vertex.length != stride) vertex = new float[stride];
+
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+		for (int i = indexOffset, n = indexOffset + numIndices; i < n; i++) {
+			final int o = (indices[i] & 0xFFFF) * stride + posOffset;
+			minX = Math.min(minX, vertices[o]);
+			minY = Math.min(minY, vertices[o + 1]);
+			minZ = Math.min(minZ, vertices[o + 2]);
+			maxX = Math.max(maxX, vertices[o]);
+			maxY = Math.max(maxY, vertices[o + 1]);
+			maxZ = Math.max(maxZ, vertices[o + 2]);
+		}
+		final long cellsX = (long)((maxX - minX) / cellSize) + 1;
+		final long cellsY = (long)((maxY - minY) / cellSize) + 1;
+		final long cellsZ = (long)((maxZ - minZ) / cellSize) + 1;
+		if (cellsX * cellsY * cellsZ > Integer.MAX_VALUE) throw new GdxRuntimeException("Cell size too small: " + cellSize);
+
+		// Assign each referenced vertex to a cell and accumulate the cell positions.
+		final int numVertices = vertices.length / stride;
+		cells.clear();
+		cellVertices.clear();
+		cellCounts.clear();
+		cellPositions.clear();
+		vertexCells.clear();
+		vertexCells.ensureCapacity(numVertices);
+		vertexCells.size = numVertices;
+		for (int i = 0; i < numVertices; i++)
+			vertexCells.items[i] = -1;
+		for (int i = indexOffset, n = indexOffset + numIndices; i < n; i++) {
+			final int v = indices[i] & 0xFFFF;
+			if (vertexCells.items[v] >= 0) continue;
+			final int o = v * stride + posOffset;
+			final int key = (int)(((int)((vertices[o] - minX) / cellSize) * cellsY + (int)((vertices[o + 1] - minY) / cellSize))
+				* cellsZ + (int)((vertices[o + 2] - minZ) / cellSize));
+			int cell = cells.get(key, -1);
+			if (cell < 0) {
+				cells.put(key, cell = cellVertices.size);
+				cellVertices.add(v);
+				cellCounts.add(0);
+				cellPositions.add(0f, 0f, 0f);
+			}
+			vertexCells.items[v] = cell;
+			cellCounts.items[cell]++;
+			cellPositions.items[cell * 3] += vertices[o];
+			cellPositions.items[cell * 3 + 1] += vertices[o + 1];
+			cellPositions.items[cell * 3 + 2] += vertices[o + 2];
+		}
+
+		// Emit the triangles which don't collapse, adding the welded vertices on demand.
+		cellIndices.clear();
+		cellIndices.ensureCapacity(cellVertices.size);
+		cellIndices.size = cellVertices.size;
+		for (int i = 0; i < cellIndices.size; i++)
+			cellIndices.items[i] = -1;
+		for (int i = indexOffset, n = indexOffset + numIndices - 2; i < n; i += 3) {
+			final int c1 = vertexCells.items[indices[i] & 0xFFFF];
+			final int c2 = vertexCells.items[indices[i + 1] & 0xFFFF];
+			final int c3 = vertexCells.items[indices[i + 2] & 0xFFFF];
+			if (c1 == c2 || c2 == c3 || c3 == c1) continue;
+			builder.ensureTriangleIndices(1);
+			builder.triangle(cellVertex(builder, c1, vertices, stride, posOffset),
+				cellVertex(builder, c2, vertices, stride, posOffset), cellVertex(builder, c3, vertices, stride, posOffset));
+		}
+	}
+
+	private short cellVertex (MeshPartBuilder builder, int cell, float[] vertices, int stride, int posOffset) {
+		int index = cellIndices.items[cell];
+		if (index < 0) {
+			System.arraycopy(vertices, cellVertices.items[cell] * stride, vertex, 0, stride);
+			final float count = cellCounts.items[cell];
+			vertex[posOffset] = cellPositions.items[cell * 3] / count;
+			vertex[posOffset + 1] = cellPositions.items[cell * 3 + 1] / count;
+			vertex[posOffset + 2] = cellPositions.items[cell * 3 + 2] / count;
+			index = cellIndices.items[cell] = builder.vertex(vertex) & 0xFFFF;
+		}
+		return (short)index;
+	}
+
+	/** Creates a new mesh containing a decimated copy of the mesh part. The caller is responsible for disposing the mesh.
+	 * @param meshPart The source part, must be of the type {@link GL20#GL_TRIANGLES}
+	 * @param cellSize The size of the grid cells in which vertices are welded together
+	 * @param out The part to receive the decimated shape, its mesh will be set to the new mesh
+	 * @return The newly created mesh */
+	public Mesh decimate (MeshPart meshPart, float cellSize, MeshPart out) {
+		final VertexAttributes attributes = meshPart.mesh.getVertexAttributes();
+		builder.begin(attributes, GL20.GL_TRIANGLES);
+		builder.part(meshPart.id, GL20.GL_TRIANGLES, out);
+		decimate(builder, meshPart, cellSize);
+		final Mesh result = builder.end();
+		out.update();
+		return result;
+	}
+
+	/** Generates the lower levels of detail for all parts of the node and sets it as the {@link Node#lod} of the node, replacing
+	 * any existing levels. The created meshes are added to the model, which will dispose them. This only affects instances of the
+	 * model created afterwards.
+	 * @param model The model owning the node
+	 * @param node The node to generate the levels of detail for
+	 * @param metric The metric of the thresholds
+	 * @param thresholds The threshold of each level, see {@link NodeLod.Metric}
+	 * @param cellSizes The cell size of each level, must be increasing and have the same length as the thresholds
+	 * @return The newly created NodeLod */
+	public NodeLod generate (Model model, Node node, NodeLod.Metric metric, float[] thresholds, float[] cellSizes) {
+		if (thresholds.length != cellSizes.length) throw new GdxRuntimeException("Each level requires a threshold and cell size");
+		final NodeLod lod = new NodeLod(metric);
+		for (int level = 0; level < cellSizes.length; level++) {
+			final Array<NodePart> parts = new Array<NodePart>(node.parts.size);
+			for (final NodePart source : node.parts) {
+				final MeshPart meshPart = new MeshPart();
+				final Mesh mesh = decimate(source.meshPart, cellSizes[level], meshPart);
+				model.meshes.add(mesh);
+				model.meshParts.add(meshPart);
+				model.manageDisposable(mesh);
+				final NodePart part = source.copy();
+				part.meshPart = meshPart;
+				parts.add(part);
+			}
+			lod.add(thresholds[level], parts);
+		}
+		node.lod = lod;
+		lod.calculateBounds(node);
+		return lod;
+	}
+}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+
+/** A low resolution depth buffer which is rendered on the CPU, used to skip objects which are hidden behind large occluders (e.g.
+ * buildings). Because it doesn't use the GPU, it can be used on any backend, including the headless backend.
+ * </p>
+ *
+ * Call {@link #begin(Camera)} each frame, then add the occluders using one of the addOccluder methods and finally query whether
+ * objects are occluded using one of the isOccluded methods. The buffer can be set on a {@link ModelBatch}, using
+ * {@link ModelBatch#setOcclusionBuffer(OcclusionBuffer)}, to skip the occluded {@link Renderable}s.
+ * </p>
+ *
+ * An occluder must be fully contained by the actual geometry it represents, e.g. use a box which is slightly smaller than the
+ * walls of a building. The test is conservative: an object is only reported as occluded when its bounds are behind the occluders
+ * in every pixel it might touch. Objects which intersect the near plane or are outside the view are never reported as occluded,
+ * use frustum culling for the latter. The depth buffer is divided in tiles which store the farthest depth of their pixels, so
+ * that queries can skip fully occluded tiles. */
+public class OcclusionBuffer {
+	/** The size of the tiles used to speed up the queries, in pixels */
+	public static final int TILE_SIZE = 8;
+	private final static Vector3 tmpCenter = new Vector3();
+	private final static Vector3 tmpHalfExtents = new Vector3();
+
+	/** The resolution of the buffer */
+	public final int width, height;
+	private final float[] depth;
+	private final int tilesX, tilesY;
+	private final float[] tileDepth;
+	private boolean tilesDirty;
+
+	private final Matrix4 combined = new Matrix4();
+	private final Matrix4 mvp = new Matrix4();
+	/** Clip space coordinates (x, y, z, w) of the eight corners of a box */
+	private final float[] corners = new float[8 * 4];
+	/** Clip space coordinates of a triangle clipped by the near plane, at most four vertices */
+	private final float[] clipped = new float[4 * 4];
+	/** Screen coordinates (x, y, depth) of the clipped triangle */
+	private final float[] screen = new float[4 * 3];
+	private final float[] triangle = new float[3 * 4];
+
+	/** The number of queries since the last call to {@link #begin(Matrix4)} */
+	public int queries;
+	/** The number of queries which reported the object to be occluded since the last call to {@link #begin(Matrix4)} */
+	public int occluded;
+
+	private final static int[] boxIndices = {0, 1, 3, 0, 3, 2, // -x
+		4, 6, 7, 4, 7, 5, // +x
+		0, 4, 5, 0, 5, 1, // -y
+		2, 3, 7, 2, 7, 6, // +y
+		0, 2, 6, 0, 6, 4, // -z
+		1, 5, 7, 1, 7, 3}; // +z
+
+	/** @param width The horizontal resolution of the buffer, e.g. 256
+	 * @param height The vertical resolution of the buffer, e.g. 128 */
+	public OcclusionBuffer (int width, int height) {
+		this.width = width;
+		this.height = height;
+		depth = new float[width * height];
+		tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+		tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+		tileDepth = new float[tilesX * tilesY];
+		clear();
+	}
+
+	/** Clears the buffer and starts adding occluders for the specified camera. */
+	public void begin (final Camera camera) {
+		begin(camera.combined);
+	}
+
+	/** Clears the buffer and starts adding occluders for the specified combined projection and view matrix. */
+	public void begin (final Matrix4 combined) {
+		this.combined.set(combined);
+		queries = 0;
+		occluded = 0;
+		clear();
+	}
+
+	/** Removes all occluders, keeping the current camera. */
+	public void clear () {
+		Arrays.fill(depth, 1f);
+		Arrays.fill(tileDepth, 1f);
+		tilesDirty = false;
+	}
+
+	/** @return The depth, in the range [0, 1], of the nearest occluder at the specified pixel, or 1 if there is none. */
+	public float getDepth (int x, int y) {
+		return depth[y * width + x];
+	}
+
+	/** Adds an axis aligned box as occluder.
+	 * @param box The box, which must be fully contained by the geometry it represents
+	 * @param transform The world transform of the box, may be null */
+	public void addOccluder (final BoundingBox box, final Matrix4 transform) {
+		transformCorners(box.min.x, box.min.y, box.min.z, box.max.x, box.max.y, box.max.z, transform);
+		for (int i = 0; i < boxIndices.length; i += 3)
+			drawTriangle(corners, boxIndices[i], boxIndices[i + 1], boxIndices[i + 2]);
+	}
+
+	/** Adds an indexed triangle mesh as occluder, e.g. a simplified version of the actual geometry.
+	 * @param vertices The vertices of the mesh
+	 * @param stride The number of floats per vertex
+	 * @param posOffset The offset (in number of floats) of the three component position within a vertex
+	 * @param indices The indices, each three consecutive indices describing a triangle
+	 * @param offset The offset within the indices array
+	 * @param count The number of indices
+	 * @param transform The world transform of the mesh, may be null */
+	public void addOccluder (final float[] vertices, final int stride, final int posOffset, final short[] indices,
+		final int offset, final int count, final Matrix4 transform) {
+		setTransform(transform);
+		final float[] m = mvp.val;
+		for (int i = offset, n = offset + count - 2; i < n; i += 3) {
+			for (int j = 0; j < 3; j++) {
+				final int o = (indices[i + j] & 0xFFFF) * stride + posOffset;
+				transform(m, vertices[o], vertices[o + 1], vertices[o + 2], triangle, j * 4);
+			}
+			drawTriangle(triangle, 0, 1, 2);
+		}
+	}
+
+	/** @param renderable The renderable to test, the bounds of its {@link Renderable#meshPart} must be calculated.
+	 * @return Whether the renderable is hidden behind the occluders. Skinned renderables are never reported as occluded. */
+	public boolean isOccluded (final Renderable renderable) {
+		if (renderable.meshPart.radius < 0f || renderable.bones != null) return false;
+		return isOccluded(renderable.meshPart.center, renderable.meshPart.halfExtents, renderable.worldTransform);
+	}
+
+	/** @param box The bounds of the object
+	 * @param transform The world transform of the bounds, may be null
+	 * @return Whether the object is hidden behind the occluders. */
+	public boolean isOccluded (final BoundingBox box, final Matrix4 transform) {
+		return isOccluded(box.getCenter(tmpCenter), box.getDimensions(tmpHalfExtents).scl(0.5f), transform);
+	}
+
+	/** @param center The center of the bounds of the object
+	 * @param halfExtents Half the dimensions of the bounds of the object
+	 * @param transform The world transform of the bounds, may be null
+	 * @return Whether the object is hidden behind the occluders. */
+	public boolean isOccluded (final Vector3 center, final Vector3 halfExtents, final Matrix4 transform) {
+		queries++;
+		transformCorners(center.x - halfExtents.x, center.y - halfExtents.y, center.z - halfExtents.z, center.x + halfExtents.x,
+			center.y + halfExtents.y, center.z + halfExtents.z, transform);
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < corners.length; i += 4) {
+			final float w = corners[i + 3];
+			if (w <= 0f || corners[i + 2] < -w) return false;
+			final float x = (corners[i] / w * 0.5f + 0.5f) * width;
+			final float y = (corners[i + 1] / w * 0.5f + 0.5f) * height;
+			minX = Math.min(minX, x);
+			maxX = Math.max(maxX, x);
+			minY = Math.min(minY, y);
+			maxY = Math.max(maxY, y);
+			minZ = Math.min(minZ, corners[i + 2] / w * 0.5f + 0.5f);
+		}
+		if (maxX < 0f || maxY < 0f || minX > width || minY > height || minZ > 1f) return false;
+
+		// Occluders are sampled at the pixel centers, so include the neighboring pixels to be conservative.
+		final int x0 = Math.max(0, (int)Math.floor(minX) - 1), x1 = Math.min(width - 1, (int)Math.ceil(maxX));
+		final int y0 = Math.max(0, (int)Math.floor(minY) - 1), y1 = Math.min(height - 1, (int)Math.ceil(maxY));
+		if (tilesDirty) updateTiles();
+		for (int ty = y0 / TILE_SIZE, ty1 = y1 / TILE_SIZE; ty <= ty1; ty++) {
+			for (int tx = x0 / TILE_SIZE, tx1 = x1 / TILE_SIZE; tx <= tx1; tx++) {
+				if (tileDepth[ty * tilesX + tx] < minZ) continue;
+				final int px0 = Math.max(x0, tx * TILE_SIZE), px1 = Math.min(x1, tx * TILE_SIZE + TILE_SIZE - 1);
+				final int py0 = Math.max(y0, ty * TILE_SIZE), py1 = Math.min(y1, ty * TILE_SIZE + TILE_SIZE - 1);
+				for (int y = py0; y <= py1; y++)
+					for (int i = y * width + px0, n = y * width + px1; i <= n; i++)
+						if (depth[i] >= minZ) return false;
+			}
+		}
+		occluded++;
+		return true;
+	}
+
+	private void updateTiles () {
+		for (int ty = 0; ty < tilesY; ty++) {
+			for (int tx = 0; tx < tilesX; tx++) {
+				float max = 0f;
+				for (int y = ty * TILE_SIZE, y1 = Math.min(height, y + TILE_SIZE); y < y1; y++)
+					for (int i = y * width + tx * TILE_SIZE, n = y * width + Math.min(width, tx * TILE_SIZE + TILE_SIZE); i < n; i++)
+						max = Math.max(max, depth[i]);
+				tileDepth[ty * tilesX + tx] = max;
+			}
+		}
+		tilesDirty = false;
+	}
+
+	private void setTransform (final Matrix4 transform) {
+		if (transform == null)
+			mvp.set(combined);
+		else
+			mvp.set(combined).mul(transform);
+	}
+
+	private void transformCorners (float x0, float y0, float z0, float x1, float y1, float z1, final Matrix4 transform) {
+		setTransform(transform);
+		final float[] m = mvp.val;
+		for (int i = 0; i < 8; i++)
+			transform(m, (i & 4) == 0 ? x0 : x1, (i & 2) == 0 ? y0 : y1, (i & 1) == 0 ? z0 : z1, corners, i * 4);
+	}
+
+	private static void transform (final float[] m, float x, float y, float z, final float[] out, final int offset) {
+		out[offset] = m[Matrix4.M00] * x + m[Matrix4.M01] * y + m[Matrix4.M02] * z + m[Matrix4.M03];
+		out[offset + 1] = m[Matrix4.M10] * x + m[Matrix4.M11] * y + m[Matrix4.M12] * z + m[Matrix4.M13];
+		out[offset + 2] = m[Matrix4.M20] * x + m[Matrix4.M21] * y + m[Matrix4.M22] * z + m[Matrix4.M23];
+		out[offset + 3] = m[Matrix4.M30] * x + m[Matrix4.M31] * y + m[Matrix4.M32] * z + m[Matrix4.M33];
+	}
+
+	/** Clips the triangle, in clip space coordinates, against the near plane and rasterizes the result. */
+	private void drawTriangle (final float[] v, final int a, final int b, final int c) {
+		int count = 0;
+		for (int e = 0; e < 3; e++) {
+			final int i = (e == 0 ? a : e == 1 ? b : c) * 4;
+			final int j = (e == 0 ? b : e == 1 ? c : a) * 4;
+			final float di = v[i + 2] + v[i + 3], dj = v[j + 2] + v[j + 3];
+			if (di >= 0f) {
+				System.arraycopy(v, i, clipped, count++ * 4, 4);
+			}
+			if ((di >= 0f) != (dj >= 0f)) {
+				final float t = di / (di - dj);
+				final int o = count++ * 4;
+				for (int k = 0; k < 4; k++)
+					clipped[o + k] = v[i + k] + (v[j + k] - v[i + k]) * t;
+			}
+		}
+		if (count < 3) return;
+		for (int i = 0; i < count; i++) {
+			final float w = clipped[i * 4 + 3];
+			if (w <= 0f) return;
+			screen[i * 3] = (clipped[i * 4] / w * 0.5f + 0.5f) * width;
+			screen[i * 3 + 1] = (clipped[i * 4 + 1] / w * 0.5f + 0.5f) * height;
+			screen[i * 3 + 2] = clipped[i * 4 + 2] / w * 0.5f + 0.5f;
+		}
+		rasterize(0, 1, 2);
+		if (count > 3) rasterize(0, 2, 3);
+		tilesDirty = true;
+	}
+
+	/** Rasterizes a triangle, in screen coordinates, sampling at the pixel centers and keeping the nearest depth. */
+	private void rasterize (int a, int b, int c) {
+		float x0 = screen[a * 3], y0 = screen[a * 3 + 1], z0 = screen[a * 3 + 2];
+		float x1 = screen[b * 3], y1 = screen[b * 3 + 1], z1 = screen[b * 3 + 2];
+		float x2 = screen[c * 3], y2 = screen[c * 3 + 1], z2 = screen[c * 3 + 2];
+		float area = (x1 - x0) * (y2 - y0) - (y1 - y0) * (x2 - x0);
+		if (area == 0f) return;
+		if (area < 0f) { // occluders are rendered two sided
+			float t = x1;
+			x1 = x2;
+			x2 = t;
+			t = y1;
+			y1 = y2;
+			y2 = t;
+			t = z1;
+			z1 = z2;
+			z2 = t;
+			area = -area;
+		}
+		final int minX = Math.max(0, (int)Math.ceil(Math.min(x0, Math.min(x1, x2)) - 0.5f));
+		final int maxX = Math.min(width - 1, (int)Math.floor(Math.max(x0, Math.max(x1, x2)) - 0.5f));
+		final int minY = Math.max(0, (int)Math.ceil(Math.min(y0, Math.min(y1, y2)) - 0.5f));
+		final int maxY = Math.min(height - 1, (int)Math.floor(Math.max(y0, Math.max(y1, y2)) - 0.5f));
+		final float invArea = 1f / area;
+		for (int y = minY; y <= maxY; y++) {
+			final float cy = y + 0.5f;
+			for (int x = minX; x <= maxX; x++) {
+				final float cx = x + 0.5f;
+				final float w0 = (x2 - x1) * (cy - y1) - (y2 - y1) * (cx - x1);
+				if (w0 < 0f) continue;
+				final float w1 = (x0 - x2) * (cy - y2) - (y0 - y2) * (cx - x2);
+				if (w1 < 0f) continue;
+				final float w2 = (x1 - x0) * (cy - y0) - (y1 - y0) * (cx - x0);
+				if (w2 < 0f) continue;
+				final float z = (w0 * z0 + w1 * z1 + w2 * z2) * invArea;
+				final int i = y * width + x;
+				if (z < depth[i]) depth[i] = Math.max(z, 0f);
+			}
+		}
+	}
+}
@@ -0,0 +1,436 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.EarClippingTriangulator;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+/** Stores lines, shape outlines and filled shapes in the x/y plane in static meshes, so shapes which don't change every frame are
+ * tessellated once and drawn with a few draw calls. The shapes are recorded like with {@link ShapeRenderer} between
+ * {@link #begin()} and {@link #end()}, then drawn with {@link #draw()} as often as needed.
+ * <p>
+ * Vertices are shared between the segments of an outline and the triangles of a filled shape. Line and filled shapes are stored
+ * in separate index ranges of the same mesh, so switching the {@link ShapeType} with {@link #set(ShapeType)} doesn't flush. A
+ * new mesh is only started every 65536 vertices.
+ *
+ * <pre>
+ * cache.begin();
+ * cache.set(ShapeType.Filled);
+ * cache.setColor(0, 1, 0, 1);
+ * cache.circle(x, y, radius);
+ * cache.set(ShapeType.Line);
+ * cache.rect(x, y, width, height);
+ * cache.end();
+ *
+ * // every frame
+ * cache.setProjectionMatrix(camera.combined);
+ * cache.draw();
+ * </pre> */
+public class ShapeCache implements Disposable {
+	static final int VERTEX_SIZE = 3;
+	static final int MAX_VERTICES = 1 << 16;
+
+	private final ShaderProgram shader;
+	private final boolean ownsShader;
+	private final Array<Page> pages = new Array<Page>();
+	private Page page;
+	private int pageCount;
+	private boolean drawing;
+	private ShapeType shapeType = ShapeType.Line;
+	private float colorBits = Color.WHITE_FLOAT_BITS;
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+	private final EarClippingTriangulator triangulator = new EarClippingTriangulator();
+
+	/** Number of draw calls of the last {@link #draw()}. */
+	public int renderCalls;
+
+	public ShapeCache () {
+		this(null);
+	}
+
+	/** @param shader the shader to draw with, which must have the same inputs as the shader created by
+	 *           {@link ImmediateModeRenderer20#createDefaultShader(boolean, boolean, int)} with colors. If null the default shader
+	 *           is created and owned by this cache. */
+	public ShapeCache (ShaderProgram shader) {
+		if (shader == null) {
+			this.shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+			ownsShader = true;
+		} else {
+			this.shader = shader;
+			ownsShader = false;
+		}
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+	}
+
+	/** Discards the shapes of the cache and starts recording new shapes. */
+	public void begin () {
+		if (drawing) throw new IllegalStateException("end must be called before begin.");
+		drawing = true;
+		for (int i = 0; i < pageCount; i++)
+			pages.get(i).clear();
+		pageCount = 0;
+		page = nextPage();
+		shapeType = ShapeType.Line;
+	}
+
+	/** Uploads the recorded shapes to the meshes. */
+	public void end () {
+		if (!drawing) throw new IllegalStateException("begin must be called before end.");
+		drawing = false;
+		for (int i = 0; i < pageCount; i++)
+			pages.get(i).upload();
+		page = null;
+	}
+
+	/** Sets the type of the shapes recorded next, {@link ShapeType#Line} or {@link ShapeType#Filled}. This doesn't cause a
+	 * flush. */
+	public void set (ShapeType type) {
+		if (type == ShapeType.Point) throw new IllegalArgumentException("Points are not supported.");
+		shapeType = type;
+	}
+
+	public ShapeType getShapeType () {
+		return shapeType;
+	}
+
+	/** Sets the color of the shapes recorded next. */
+	public void setColor (Color color) {
+		colorBits = color.toFloatBits();
+	}
+
+	public void setColor (float r, float g, float b, float a) {
+		colorBits = Color.toFloatBits(r, g, b, a);
+	}
+
+	public void setProjectionMatrix (Matrix4 matrix) {
+		projectionMatrix.set(matrix);
+	}
+
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	public void setTransformMatrix (Matrix4 matrix) {
+		transformMatrix.set(matrix);
+	}
+
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	/** Draws the shapes recorded between the last {@link #begin()} and {@link #end()}, line shapes first. */
+	public void draw () {
+		if (drawing) throw new IllegalStateException("end must be called before draw.");
+		renderCalls = 0;
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		shader.bind();
+		shader.setUniformMatrix("u_projModelView", combinedMatrix);
+		for (int i = 0; i < pageCount; i++) {
+			Page page = pages.get(i);
+			Mesh mesh = page.mesh;
+			if (mesh == null || page.vertexCount == 0) continue;
+			mesh.bind(shader);
+			int lines = page.lineIndices.size, triangles = page.triangleIndices.size;
+			if (lines > 0) {
+				mesh.render(shader, GL20.GL_LINES, 0, lines, false);
+				renderCalls++;
+			}
+			if (triangles > 0) {
+				mesh.render(shader, GL20.GL_TRIANGLES, lines, triangles, false);
+				renderCalls++;
+			}
+			mesh.unbind(shader);
+		}
+	}
+
+	/** @return the number of vertices of the recorded shapes */
+	public int getVertexCount () {
+		int count = 0;
+		for (int i = 0; i < pageCount; i++)
+			count += pages.get(i).vertexCount;
+		return count;
+	}
+
+	public void line (float x1, float y1, float x2, float y2) {
+		reserve(2);
+		int first = vertex(x1, y1);
+		vertex(x2, y2);
+		page.line(first, first + 1);
+	}
+
+	/** Draws a rectangle in the x/y plane. */
+	public void rect (float x, float y, float width, float height) {
+		reserve(4);
+		int first = vertex(x, y);
+		vertex(x + width, y);
+		vertex(x + width, y + height);
+		vertex(x, y + height);
+		closeShape(first, 4);
+	}
+
+	/** Draws a rectangle in the x/y plane, rotated and scaled around the origin. */
+	public void rect (float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY,
+		float degrees) {
+		float cos = MathUtils.cosDeg(degrees), sin = MathUtils.sinDeg(degrees);
+		float worldOriginX = x + originX, worldOriginY = y + originY;
+		float fx = -originX * scaleX, fy = -originY * scaleY;
+		float fx2 = (width - originX) * scaleX, fy2 = (height - originY) * scaleY;
+		reserve(4);
+		int first = vertex(cos * fx - sin * fy + worldOriginX, sin * fx + cos * fy + worldOriginY);
+		vertex(cos * fx2 - sin * fy + worldOriginX, sin * fx2 + cos * fy + worldOriginY);
+		vertex(cos * fx2 - sin * fy2 + worldOriginX, sin * fx2 + cos * fy2 + worldOriginY);
+		vertex(cos * fx - sin * fy2 + worldOriginX, sin * fx + cos * fy2 + worldOriginY);
+		closeShape(first, 4);
+	}
+
+	/** Draws a line of the given width as a filled rectangle, regardless of the shape type. */
+	public void rectLine (float x1, float y1, float x2, float y2, float width) {
+		float dx = y2 - y1, dy = x1 - x2;
+		float length = (float)Math.sqrt(dx * dx + dy * dy);
+		if (length == 0) return;
+		float scale = width * 0.5f / length;
+		dx *= scale;
+		dy *= scale;
+		reserve(4);
+		int first = vertex(x1 + dx, y1 + dy);
+		vertex(x1 - dx, y1 - dy);
+		vertex(x2 - dx, y2 - dy);
+		vertex(x2 + dx, y2 + dy);
+		page.triangle(first, first + 1, first + 2);
+		page.triangle(first + 2, first + 3, first);
+	}
+
+	public void triangle (float x1, float y1, float x2, float y2, float x3, float y3) {
+		reserve(3);
+		int first = vertex(x1, y1);
+		vertex(x2, y2);
+		vertex(x3, y3);
+		closeShape(first, 3);
+	}
+
+	/** Calls {@link #circle(float, float, float, int)} by estimating the number of segments needed for a smooth circle. */
+	public void circle (float x, float y, float radius) {
+		circle(x, y, radius, Math.max(1, (int)(6 * (float)Math.cbrt(radius))));
+	}
+
+	public void circle (float x, float y, float radius, int segments) {
+		ellipse(x - radius, y - radius, radius * 2, radius * 2, 0, segments);
+	}
+
+	/** Calls {@link #ellipse(float, float, float, float, float, int)} by estimating the number of segments needed for a smooth
+	 * ellipse. */
+	public void ellipse (float x, float y, float width, float height) {
+		ellipse(x, y, width, height, 0, Math.max(1, (int)(12 * (float)Math.cbrt(Math.max(width * 0.5f, height * 0.5f)))));
+	}
+
+	/** Draws an ellipse in the x/y plane, rotated around its center.
+	 * @param x the x coordinate of the lower left corner of the unrotated ellipse
+	 * @param y the y coordinate of the lower left corner of the unrotated ellipse */
+	public void ellipse (float x, float y, float width, float height, float rotation, int segments) {
+		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
+		float[] circle = ShapeRenderer.getUnitCircle(segments);
+		float cos = MathUtils.cosDeg(rotation), sin = MathUtils.sinDeg(rotation);
+		float cx = x + width / 2, cy = y + height / 2, rx = width / 2, ry = height / 2;
+		boolean filled = shapeType == ShapeType.Filled;
+		reserve(filled ? segments + 1 : segments);
+		int first = page.vertexCount;
+		for (int i = 0; i < segments; i++) {
+			float px = circle[i * 2] * rx, py = circle[i * 2 + 1] * ry;
+			vertex(cx + cos * px - sin * py, cy + sin * px + cos * py);
+		}
+		if (filled) {
+			int center = vertex(cx, cy);
+			for (int i = 0; i < segments; i++)
+				page.triangle(center, first + i, first + (i + 1) % segments);
+		} else {
+			for (int i = 0; i < segments; i++)
+				page.line(first + i, first + (i + 1) % segments);
+		}
+	}
+
+	/** Calls {@link #arc(float, float, float, float, float, int)} by estimating the number of segments needed for a smooth arc. */
+	public void arc (float x, float y, float radius, float start, float degrees) {
+		arc(x, y, radius, start, degrees, Math.max(1, (int)(6 * (float)Math.cbrt(radius) * (degrees / 360.0f))));
+	}
+
+	/** Draws a circle sector, its outline includes the lines to the center like {@link ShapeRenderer#arc(float, float, float,
+	 * float, float, int)}. */
+	public void arc (float x, float y, float radius, float start, float degrees, int segments) {
+		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
+		float theta = degrees * MathUtils.degreesToRadians / segments;
+		float cos = (float)Math.cos(theta), sin = (float)Math.sin(theta);
+		float cx = radius * MathUtils.cosDeg(start), cy = radius * MathUtils.sinDeg(start);
+		reserve(segments + 2);
+		int center = vertex(x, y);
+		for (int i = 0; i <= segments; i++) {
+			vertex(x + cx, y + cy);
+			float temp = cx;
+			cx = cos * cx - sin * cy;
+			cy = sin * temp + cos * cy;
+		}
+		if (shapeType == ShapeType.Filled) {
+			for (int i = 1; i <= segments; i++)
+				page.triangle(center, center + i, center + i + 1);
+		} else {
+			for (int i = 0; i <= segments + 1; i++)
+				page.line(center + i, center + (i + 1) % (segments + 2));
+		}
+	}
+
+	/** Draws a polygon in the x/y plane. Filled polygons may be concave, they are triangulated when recorded. The vertices must
+	 * contain at least 3 points (6 floats x,y). */
+	public void polygon (float[] vertices, int offset, int count) {
+		if (count < 6) throw new IllegalArgumentException("Polygons must contain at least 3 points.");
+		if (count % 2 != 0) throw new IllegalArgumentException("Polygons must have an even number of vertices.");
+		int points = count / 2;
+		reserve(points);
+		int first = page.vertexCount;
+		for (int i = offset, n = offset + count; i < n; i += 2)
+			vertex(vertices[i], vertices[i + 1]);
+		if (shapeType == ShapeType.Filled) {
+			ShortArray triangles = triangulator.computeTriangles(vertices, offset, count);
+			for (int i = 0; i < triangles.size; i += 3)
+				page.triangle(first + triangles.get(i), first + triangles.get(i + 1), first + triangles.get(i + 2));
+		} else {
+			for (int i = 0; i < points; i++)
+				page.line(first + i, first + (i + 1) % points);
+		}
+	}
+
+	/** @see #polygon(float[], int, int) */
+	public void polygon (float[] vertices) {
+		polygon(vertices, 0, vertices.length);
+	}
+
+	/** Draws a polyline in the x/y plane, regardless of the shape type. The vertices must contain at least 2 points (4 floats
+	 * x,y). */
+	public void polyline (float[] vertices, int offset, int count) {
+		if (count < 4) throw new IllegalArgumentException("Polylines must contain at least 2 points.");
+		if (count % 2 != 0) throw new IllegalArgumentException("Polylines must have an even number of vertices.");
+		int points = count / 2;
+		reserve(points);
+		int first = page.vertexCount;
+		for (int i = offset, n = offset + count; i < n; i += 2)
+			vertex(vertices[i], vertices[i + 1]);
+		for (int i = 1; i < points; i++)
+			page.line(first + i - 1, first + i);
+	}
+
+	/** @see #polyline(float[], int, int) */
+	public void polyline (float[] vertices) {
+		polyline(vertices, 0, vertices.length);
+	}
+
+	/** Connects the vertices of a convex shape as an outline or triangle fan, depending on the shape type. */
+	private void closeShape (int first, int count) {
+		if (shapeType == ShapeType.Filled) {
+			for (int i = 2; i < count; i++)
+				page.triangle(first, first + i - 1, first + i);
+		} else {
+			for (int i = 0; i < count; i++)
+				page.line(first + i, first + (i + 1) % count);
+		}
+	}
+
+	private int vertex (float x, float y) {
+		Page page = this.page;
+		float[] items = page.vertices.ensureCapacity(VERTEX_SIZE);
+		int size = page.vertices.size;
+		items[size] = x;
+		items[size + 1] = y;
+		items[size + 2] = colorBits;
+		page.vertices.size = size + VERTEX_SIZE;
+		return page.vertexCount++;
+	}
+
+	/** Starts a new page if the current one can't hold the vertices of the next shape. */
+	private void reserve (int vertices) {
+		if (!drawing) throw new IllegalStateException("begin must be called first.");
+		if (vertices > MAX_VERTICES) throw new IllegalArgumentException("Too many vertices for one shape: " + vertices);
+		if (page.vertexCount + vertices > MAX_VERTICES) page = nextPage();
+	}
+
+	private Page nextPage () {
+		if (pageCount == pages.size) pages.add(new Page());
+		return pages.get(pageCount++);
+	}
+
+	@Override
+	public void dispose () {
+		for (Page page : pages)
+			if (page.mesh != null) page.mesh.dispose();
+		pages.clear();
+		pageCount = 0;
+		if (ownsShader) shader.dispose();
+	}
+
+	static class Page {
+		final FloatArray vertices = new FloatArray();
+		final ShortArray lineIndices = new ShortArray(), triangleIndices = new ShortArray();
+		int vertexCount;
+		Mesh mesh;
+
+		void line (int a, int b) {
+			lineIndices.add((short)a, (short)b);
+		}
+
+		void triangle (int a, int b, int c) {
+			triangleIndices.add((short)a, (short)b, (short)c);
+		}
+
+		void clear () {
+			vertices.clear();
+			lineIndices.clear();
+			triangleIndices.clear();
+			vertexCount = 0;
+		}
+
+		void upload () {
+			if (vertexCount == 0) return;
+			int indexCount = lineIndices.size + triangleIndices.size;
+			if (mesh != null && (mesh.getMaxVertices() < vertexCount || mesh.getMaxIndices() < indexCount)) {
+				mesh.dispose();
+				mesh = null;
+			}
+			if (mesh == null) {
+				mesh = new Mesh(true, vertexCount, indexCount,
+					new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+					new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+			}
+			mesh.setVertices(vertices.items, 0, vertices.size);
+			// The line indices are followed by the triangle indices
+			short[] indices = new short[indexCount];
+			System.arraycopy(lineIndices.items, 0, indices, 0, lineIndices.size);
+			System.arraycopy(triangleIndices.items, 0, indices, lineIndices.size, triangleIndices.size);
+			mesh.setIndices(indices);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
 
 /** Renders points, lines, shape outlines and filled shapes.
  * <p>
@@ -103,6 +104,10 @@ public class ShapeRenderer implements Disposable {
 	private boolean autoShapeType;
 	private float defaultRectLineWidth = 0.75f;
 
+	/** The points on the unit circle for a segment count, only counts up to {@link #MAX_CACHED_SEGMENTS} are cached. */
+	static private final IntMap<float[]> unitCircles = new IntMap<float[]>();
+	static private final int MAX_CACHED_SEGMENTS = 1024;
+
 	public ShapeRenderer () {
 		this(5000);
 	}
@@ -953,29 +958,29 @@ public class ShapeRenderer implements Disposable {
 		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
 		check(ShapeType.Line, ShapeType.Filled, segments * 3);
 		float colorBits = color.toFloatBits();
-		float angle = 2 * MathUtils.PI / segments;
+		float[] circle = getUnitCircle(segments);
 
-		float cx = x + width / 2, cy = y + height / 2;
+		float cx = x + width / 2, cy = y + height / 2, rx = width * 0.5f, ry = height * 0.5f;
 		if (shapeType == ShapeType.Line) {
 			for (int i = 0; i < segments; i++) {
+				int next = (i + 1) % segments;
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos(i * angle)), cy + (height * 0.5f * MathUtils.sin(i * angle)), 0);
+				renderer.vertex(cx + rx * circle[i * 2], cy + ry * circle[i * 2 + 1], 0);
 
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos((i + 1) * angle)),
-					cy + (height * 0.5f * MathUtils.sin((i + 1) * angle)), 0);
+				renderer.vertex(cx + rx * circle[next * 2], cy + ry * circle[next * 2 + 1], 0);
 			}
 		} else {
 			for (int i = 0; i < segments; i++) {
+				int next = (i + 1) % segments;
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos(i * angle)), cy + (height * 0.5f * MathUtils.sin(i * angle)), 0);
+				renderer.vertex(cx + rx * circle[i * 2], cy + ry * circle[i * 2 + 1], 0);
 
 				renderer.color(colorBits);
 				renderer.vertex(cx, cy, 0);
 
 				renderer.color(colorBits);
-				renderer.vertex(cx + (width * 0.5f * MathUtils.cos((i + 1) * angle)),
-					cy + (height * 0.5f * MathUtils.sin((i + 1) * angle)), 0);
+				renderer.vertex(cx + rx * circle[next * 2], cy + ry * circle[next * 2 + 1], 0);
 			}
 		}
 	}
@@ -991,7 +996,7 @@ public class ShapeRenderer implements Disposable {
 		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
 		check(ShapeType.Line, ShapeType.Filled, segments * 3);
 		float colorBits = color.toFloatBits();
-		float angle = 2 * MathUtils.PI / segments;
+		float[] circle = getUnitCircle(segments);
 
 		rotation = MathUtils.PI * rotation / 180f;
 		float sin = MathUtils.sin(rotation);
@@ -1005,8 +1010,9 @@ public class ShapeRenderer implements Disposable {
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
 
-				x1 = (width * 0.5f * MathUtils.cos((i + 1) * angle));
-				y1 = (height * 0.5f * MathUtils.sin((i + 1) * angle));
+				int next = (i + 1) % segments;
+				x1 = width * 0.5f * circle[next * 2];
+				y1 = height * 0.5f * circle[next * 2 + 1];
 
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
@@ -1019,8 +1025,9 @@ public class ShapeRenderer implements Disposable {
 				renderer.color(colorBits);
 				renderer.vertex(cx, cy, 0);
 
-				x1 = (width * 0.5f * MathUtils.cos((i + 1) * angle));
-				y1 = (height * 0.5f * MathUtils.sin((i + 1) * angle));
+				int next = (i + 1) % segments;
+				x1 = width * 0.5f * circle[next * 2];
+				y1 = height * 0.5f * circle[next * 2 + 1];
 
 				renderer.color(colorBits);
 				renderer.vertex(cx + cos * x1 - sin * y1, cy + sin * x1 + cos * y1, 0);
@@ -1028,6 +1035,21 @@ public class ShapeRenderer implements Disposable {
 		}
 	}
 
+	/** Returns the x and y of the points around the unit circle for the segment count, starting at angle 0. The array is shared
+	 * and must not be modified. */
+	static float[] getUnitCircle (int segments) {
+		float[] circle = unitCircles.get(segments);
+		if (circle != null) return circle;
+		circle = new float[segments * 2];
+		for (int i = 0; i < segments; i++) {
+			double angle = Math.PI * 2 * i / segments;
+			circle[i * 2] = (float)Math.cos(angle);
+			circle[i * 2 + 1] = (float)Math.sin(angle);
+		}
+		if (segments <= MAX_CACHED_SEGMENTS) unitCircles.put(segments, circle);
+		return circle;
+	}
+
 	/** Calls {@link #cone(float, float, float, float, float, int)} by estimating the number of segments needed for a smooth
 	 * circular base. */
 	public void cone (float x, float y, float z, float radius, float height) {
@@ -72,6 +72,19 @@ public class VertexBufferObject implements VertexData {
 		setUsage(isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW);
 	}
 
+	/** Constructs a new interleaved VertexBufferObject which uses the specified data, e.g. a region of a memory mapped file. The
+	 * data is uploaded when the VertexBufferObject is bound for the first time, it is not copied and not owned by this
+	 * VertexBufferObject. It must be a direct buffer in native byte order, of which the position is zero and the limit is the size
+	 * of the vertices in bytes.
+	 *
+	 * @param isStatic whether the vertex data is static.
+	 * @param data the vertex data.
+	 * @param attributes the {@link VertexAttributes}. */
+	public VertexBufferObject (boolean isStatic, ByteBuffer data, VertexAttributes attributes) {
+		this(isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW, data, false, attributes);
+		isDirty = true;
+	}
+
 	protected VertexBufferObject (int usage, ByteBuffer data, boolean ownsBuffer, VertexAttributes attributes) {
 		bufferHandle = Gdx.gl20.glGenBuffer();
 
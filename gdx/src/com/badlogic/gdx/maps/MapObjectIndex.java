@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.objects.CircleMapObject;
+import com.badlogic.gdx.maps.objects.EllipseMapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.objects.TextureMapObject;
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Ellipse;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A quad tree over the bounding boxes of map objects, to find the objects in a region without testing every object. Each object
+ * is stored in the deepest node which fully contains its bounds, so objects of any size can be indexed.
+ * <p>
+ * The bounds of {@link RectangleMapObject}, {@link CircleMapObject}, {@link EllipseMapObject}, {@link PolygonMapObject},
+ * {@link PolylineMapObject} and {@link TextureMapObject}, including tile objects, are indexed. Other objects have no geometry
+ * and are ignored. The index doesn't observe the objects: when an object is moved or resized {@link #update(MapObject)} must be
+ * called. The bounds of the tree grow when an object outside of them is added, so the index can also be built empty.
+ * <p>
+ * The queries return the objects whose bounds match, a precise test against the shape of the returned objects is left to the
+ * caller. See {@link MapObjects#getSpatialIndex()}. */
+public class MapObjectIndex {
+	/** The number of objects in a node before it is split. */
+	static final int MAX_ENTRIES = 8;
+	static final int MAX_DEPTH = 10;
+
+	final Node root = new Node();
+	private final ObjectMap<MapObject, Entry> entries = new ObjectMap<MapObject, Entry>();
+	private final Rectangle tmpBounds = new Rectangle();
+	private final FloatArray distances = new FloatArray();
+	private final Array<Entry> tmpEntries = new Array<Entry>(false, 16);
+
+	/** Removes all objects and adds the given objects, with the bounds of the tree fit to them. */
+	public void build (Iterable<MapObject> objects) {
+		clear();
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+		for (MapObject object : objects) {
+			if (!getBounds(object, tmpBounds)) continue;
+			minX = Math.min(minX, tmpBounds.x);
+			minY = Math.min(minY, tmpBounds.y);
+			maxX = Math.max(maxX, tmpBounds.x + tmpBounds.width);
+			maxY = Math.max(maxY, tmpBounds.y + tmpBounds.height);
+		}
+		if (minX <= maxX) root.set(minX, minY, Math.max(maxX - minX, 1), Math.max(maxY - minY, 1), 0);
+		for (MapObject object : objects)
+			add(object);
+	}
+
+	/** Adds the object to the index. If the object is outside of the bounds of the tree, the tree is grown and all objects are
+	 * inserted again, see {@link #build(Iterable)} to fit the tree to the objects.
+	 * @return false if the object has no geometry and was not added */
+	public boolean add (MapObject object) {
+		if (entries.containsKey(object)) return update(object);
+		if (!getBounds(object, tmpBounds)) return false;
+		Entry entry = new Entry();
+		entry.object = object;
+		entry.set(tmpBounds);
+		entries.put(object, entry);
+		insert(entry);
+		return true;
+	}
+
+	/** Removes the object from the index.
+	 * @return false if the object was not in the index */
+	public boolean remove (MapObject object) {
+		Entry entry = entries.remove(object);
+		if (entry == null) return false;
+		entry.node.entries.removeValue(entry, true);
+		return true;
+	}
+
+	/** Updates the bounds of an object in the index after it was moved or resized.
+	 * @return false if the object has no geometry and is not in the index */
+	public boolean update (MapObject object) {
+		Entry entry = entries.get(object);
+		if (entry == null) return add(object);
+		if (!getBounds(object, tmpBounds)) {
+			remove(object);
+			return false;
+		}
+		entry.node.entries.removeValue(entry, true);
+		entry.set(tmpBounds);
+		insert(entry);
+		return true;
+	}
+
+	public boolean contains (MapObject object) {
+		return entries.containsKey(object);
+	}
+
+	/** @return the number of objects in the index */
+	public int size () {
+		return entries.size;
+	}
+
+	public void clear () {
+		entries.clear();
+		root.entries.clear();
+		root.children = null;
+		root.set(0, 0, 0, 0, 0);
+	}
+
+	private void insert (Entry entry) {
+		if (entry.x1 < root.x || entry.y1 < root.y || entry.x2 > root.x + root.width || entry.y2 > root.y + root.height)
+			grow(entry);
+		insert(root, entry);
+	}
+
+	private void insert (Node node, Entry entry) {
+		while (node.children != null) {
+			Node child = node.getChild(entry);
+			if (child == null) break;
+			node = child;
+		}
+		node.add(entry);
+	}
+
+	/** Grows the bounds of the tree to contain the entry and inserts the other entries again. The size is at least doubled, so the
+	 * objects are inserted again only a few times when the objects are added in a growing area. */
+	private void grow (Entry entry) {
+		float x1 = entry.x1, y1 = entry.y1, x2 = entry.x2, y2 = entry.y2;
+		if (root.width > 0) {
+			float rootX2 = root.x + root.width, rootY2 = root.y + root.height;
+			// Extend towards the entry.
+			if (x1 < root.x)
+				x1 = Math.min(x1, rootX2 - root.width * 2);
+			else
+				x1 = root.x;
+			if (x2 > rootX2)
+				x2 = Math.max(x2, root.x + root.width * 2);
+			else
+				x2 = rootX2;
+			if (y1 < root.y)
+				y1 = Math.min(y1, rootY2 - root.height * 2);
+			else
+				y1 = root.y;
+			if (y2 > rootY2)
+				y2 = Math.max(y2, root.y + root.height * 2);
+			else
+				y2 = rootY2;
+		}
+
+		Array<Entry> tmpEntries = this.tmpEntries;
+		for (Entry other : entries.values())
+			if (other != entry) tmpEntries.add(other);
+		root.entries.clear();
+		root.children = null;
+		root.set(x1, y1, Math.max(x2 - x1, 1), Math.max(y2 - y1, 1), 0);
+		for (int i = 0, n = tmpEntries.size; i < n; i++)
+			insert(root, tmpEntries.get(i));
+		tmpEntries.clear();
+	}
+
+	/** Adds the objects whose bounds overlap the area to the results.
+	 * @return the results */
+	public Array<MapObject> query (Rectangle area, Array<MapObject> results) {
+		query(root, area.x, area.y, area.x + area.width, area.y + area.height, results);
+		return results;
+	}
+
+	private void query (Node node, float x1, float y1, float x2, float y2, Array<MapObject> results) {
+		Array<Entry> entries = node.entries;
+		for (int i = 0, n = entries.size; i < n; i++) {
+			Entry entry = entries.get(i);
+			if (entry.x1 <= x2 && entry.x2 >= x1 && entry.y1 <= y2 && entry.y2 >= y1) results.add(entry.object);
+		}
+		Node[] children = node.children;
+		if (children == null) return;
+		for (int i = 0; i < 4; i++) {
+			Node child = children[i];
+			if (child.x <= x2 && child.x + child.width >= x1 && child.y <= y2 && child.y + child.height >= y1)
+				query(child, x1, y1, x2, y2, results);
+		}
+	}
+
+	/** Adds the objects whose bounds are within the radius of the point to the results.
+	 * @return the results */
+	public Array<MapObject> query (float x, float y, float radius, Array<MapObject> results) {
+		query(root, x, y, radius * radius, x - radius, y - radius, x + radius, y + radius, results);
+		return results;
+	}
+
+	private void query (Node node, float x, float y, float radiusSqr, float x1, float y1, float x2, float y2,
+		Array<MapObject> results) {
+		Array<Entry> entries = node.entries;
+		for (int i = 0, n = entries.size; i < n; i++) {
+			Entry entry = entries.get(i);
+			float dx = Math.max(entry.x1 - x, Math.max(0, x - entry.x2));
+			float dy = Math.max(entry.y1 - y, Math.max(0, y - entry.y2));
+			if (dx * dx + dy * dy <= radiusSqr) results.add(entry.object);
+		}
+		Node[] children = node.children;
+		if (children == null) return;
+		for (int i = 0; i < 4; i++) {
+			Node child = children[i];
+			if (child.x <= x2 && child.x + child.width >= x1 && child.y <= y2 && child.y + child.height >= y1)
+				query(child, x, y, radiusSqr, x1, y1, x2, y2, results);
+		}
+	}
+
+	/** Adds the objects whose bounds are crossed by the segment from (x1, y1) to (x2, y2) to the results, ordered by the distance
+	 * from the start of the segment to where it enters their bounds. Objects containing the start come first.
+	 * @return the results */
+	public Array<MapObject> raycast (float x1, float y1, float x2, float y2, Array<MapObject> results) {
+		int start = results.size;
+		FloatArray distances = this.distances;
+		distances.clear();
+		raycast(root, x1, y1, x2 - x1, y2 - y1, results);
+		// Insertion sort, usually only a few objects are crossed
+		Object[] items = results.items;
+		for (int i = 1, n = distances.size; i < n; i++) {
+			float distance = distances.get(i);
+			Object item = items[start + i];
+			int j = i - 1;
+			for (; j >= 0 && distances.get(j) > distance; j--) {
+				distances.set(j + 1, distances.get(j));
+				items[start + j + 1] = items[start + j];
+			}
+			distances.set(j + 1, distance);
+			items[start + j + 1] = item;
+		}
+		return results;
+	}
+
+	private void raycast (Node node, float x, float y, float dx, float dy, Array<MapObject> results) {
+		Array<Entry> entries = node.entries;
+		for (int i = 0, n = entries.size; i < n; i++) {
+			Entry entry = entries.get(i);
+			float distance = intersect(x, y, dx, dy, entry.x1, entry.y1, entry.x2, entry.y2);
+			if (distance >= 0) {
+				results.add(entry.object);
+				distances.add(distance);
+			}
+		}
+		Node[] children = node.children;
+		if (children == null) return;
+		for (int i = 0; i < 4; i++) {
+			Node child = children[i];
+			if (intersect(x, y, dx, dy, child.x, child.y, child.x + child.width, child.y + child.height) >= 0)
+				raycast(child, x, y, dx, dy, results);
+		}
+	}
+
+	/** @return the fraction of the segment where it enters the box, 0 if it starts inside, -1 if it doesn't cross the box */
+	static float intersect (float x, float y, float dx, float dy, float x1, float y1, float x2, float y2) {
+		float near = 0, far = 1;
+		if (dx == 0) {
+			if (x < x1 || x > x2) return -1;
+		} else {
+			float t1 = (x1 - x) / dx, t2 = (x2 - x) / dx;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		}
+		if (dy == 0) {
+			if (y < y1 || y > y2) return -1;
+		} else {
+			float t1 = (y1 - y) / dy, t2 = (y2 - y) / dy;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		}
+		return near <= far ? near : -1;
+	}
+
+	/** Computes the axis aligned bounds of the object. An {@link EllipseMapObject} is bounded by its ellipse's position and size,
+	 * as the map loaders and renderers treat the position as its bottom left corner.
+	 * @return false if the object has no geometry */
+	static public boolean getBounds (MapObject object, Rectangle bounds) {
+		if (object instanceof RectangleMapObject) {
+			bounds.set(((RectangleMapObject)object).getRectangle());
+		} else if (object instanceof CircleMapObject) {
+			Circle circle = ((CircleMapObject)object).getCircle();
+			bounds.set(circle.x - circle.radius, circle.y - circle.radius, circle.radius * 2, circle.radius * 2);
+		} else if (object instanceof EllipseMapObject) {
+			Ellipse ellipse = ((EllipseMapObject)object).getEllipse();
+			bounds.set(ellipse.x, ellipse.y, ellipse.width, ellipse.height);
+		} else if (object instanceof PolygonMapObject) {
+			setBounds(((PolygonMapObject)object).getPolygon().getTransformedVertices(), bounds);
+		} else if (object instanceof PolylineMapObject) {
+			setBounds(((PolylineMapObject)object).getPolyline().getTransformedVertices(), bounds);
+		} else if (object instanceof TextureMapObject) {
+			TextureMapObject texture = (TextureMapObject)object;
+			TextureRegion region = texture.getTextureRegion();
+			if (region == null) return false;
+			setBounds(texture, region.getRegionWidth(), region.getRegionHeight(), bounds);
+		} else
+			return false;
+		return true;
+	}
+
+	static private void setBounds (float[] vertices, Rectangle bounds) {
+		if (vertices.length < 2) {
+			bounds.set(0, 0, 0, 0);
+			return;
+		}
+		float minX = vertices[0], minY = vertices[1], maxX = minX, maxY = minY;
+		for (int i = 2; i < vertices.length; i += 2) {
+			minX = Math.min(minX, vertices[i]);
+			minY = Math.min(minY, vertices[i + 1]);
+			maxX = Math.max(maxX, vertices[i]);
+			maxY = Math.max(maxY, vertices[i + 1]);
+		}
+		bounds.set(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	/** Bounds of the region as drawn with the origin, scale and rotation of the object. */
+	static private void setBounds (TextureMapObject object, float width, float height, Rectangle bounds) {
+		float originX = object.getOriginX(), originY = object.getOriginY();
+		float scaleX = object.getScaleX(), scaleY = object.getScaleY();
+		float cos = MathUtils.cosDeg(object.getRotation()), sin = MathUtils.sinDeg(object.getRotation());
+		float centerX = object.getX() + originX, centerY = object.getY() + originY;
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < 4; i++) {
+			float localX = ((i == 1 || i == 2) ? width - originX : -originX) * scaleX;
+			float localY = (i >= 2 ? height - originY : -originY) * scaleY;
+			float x = centerX + localX * cos - localY * sin, y = centerY + localX * sin + localY * cos;
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x);
+			maxY = Math.max(maxY, y);
+		}
+		bounds.set(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	static class Entry {
+		MapObject object;
+		float x1, y1, x2, y2;
+		Node node;
+
+		void set (Rectangle bounds) {
+			x1 = bounds.x;
+			y1 = bounds.y;
+			x2 = bounds.x + bounds.width;
+			y2 = bounds.y + bounds.height;
+		}
+	}
+
+	static class Node {
+		float x, y, width, height;
+		int depth;
+		final Array<Entry> entries = new Array<Entry>(false, MAX_ENTRIES);
+		/** The south west, south east, north west and north east children, or null. */
+		Node[] children;
+
+		void set (float x, float y, float width, float height, int depth) {
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.depth = depth;
+		}
+
+		/** @return the child which fully contains the entry, or null. */
+		Node getChild (Entry entry) {
+			if (entry.x1 < x || entry.y1 < y || entry.x2 > x + width || entry.y2 > y + height) return null;
+			float centerX = x + width / 2, centerY = y + height / 2;
+			int index;
+			if (entry.x2 <= centerX)
+				index = 0;
+			else if (entry.x1 >= centerX)
+				index = 1;
+			else
+				return null;
+			if (entry.y1 >= centerY)
+				index += 2;
+			else if (entry.y2 > centerY) //
+				return null;
+			return children[index];
+		}
+
+		void add (Entry entry) {
+			entry.node = this;
+			entries.add(entry);
+			if (children == null && entries.size > MAX_ENTRIES && depth < MAX_DEPTH) split();
+		}
+
+		private void split () {
+			float halfWidth = width / 2, halfHeight = height / 2;
+			children = new Node[4];
+			for (int i = 0; i < 4; i++) {
+				Node child = new Node();
+				child.set(x + (i % 2) * halfWidth, y + (i / 2) * halfHeight, halfWidth, halfHeight, depth + 1);
+				children[i] = child;
+			}
+			for (int i = entries.size - 1; i >= 0; i--) {
+				Entry entry = entries.get(i);
+				Node child = getChild(entry);
+				if (child == null) continue;
+				entries.removeIndex(i);
+				child.add(entry);
+			}
+		}
+	}
+}
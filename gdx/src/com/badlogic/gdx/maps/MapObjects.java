@@ -25,6 +25,7 @@ import com.badlogic.gdx.utils.reflect.ClassReflection;
 public class MapObjects implements Iterable<MapObject> {
 
 	private Array<MapObject> objects;
+	private MapObjectIndex index;
 
 	/** Creates an empty set of MapObject instances */
 	public MapObjects () {
@@ -67,16 +68,30 @@ public class MapObjects implements Iterable<MapObject> {
 	/** @param object instance to be added to the collection */
 	public void add (MapObject object) {
 		this.objects.add(object);
+		if (index != null) index.add(object);
 	}
 
 	/** @param index removes MapObject instance at index */
 	public void remove (int index) {
-		objects.removeIndex(index);
+		MapObject object = objects.removeIndex(index);
+		if (this.index != null) this.index.remove(object);
 	}
 
 	/** @param object instance to be removed */
 	public void remove (MapObject object) {
-		objects.removeValue(object, true);
+		if (objects.removeValue(object, true) && index != null) index.remove(object);
+	}
+
+	/** Returns the spatial index of the objects, to find the objects in a region without testing every object. It is built from
+	 * the objects on the first call, after that objects added to or removed from this collection are added to or removed from
+	 * the index. Objects which are moved or resized must be passed to {@link MapObjectIndex#update(MapObject)}.
+	 * @return the index, never null */
+	public MapObjectIndex getSpatialIndex () {
+		if (index == null) {
+			index = new MapObjectIndex();
+			index.build(objects);
+		}
+		return index;
 	}
 
 	/** @param type class of the objects we want to retrieve
@@ -31,6 +31,7 @@ import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.XmlReader.Element;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 /** A TiledMap Loader which loads tiles from a TextureAtlas instead of separate images.
  * 
@@ -102,6 +103,11 @@ public class AtlasTmxMapLoader extends BaseTmxMapLoader<AtlasTmxMapLoader.AtlasT
 		super(resolver);
 	}
 
+	/** @param executor decodes the tile data of the layers in parallel, may be null. It is not disposed by the loader. */
+	public AtlasTmxMapLoader (FileHandleResolver resolver, AsyncExecutor executor) {
+		super(resolver, executor);
+	}
+
 	public TiledMap load (String fileName) {
 		return load(fileName, new AtlasTiledMapLoaderParameters());
 	}
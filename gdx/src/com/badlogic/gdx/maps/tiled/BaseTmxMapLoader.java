@@ -23,8 +23,10 @@ import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Polyline;
 import com.badlogic.gdx.utils.*;
 import com.badlogic.gdx.utils.XmlReader.Element;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,6 +48,9 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 		/** Whether to flip all Y coordinates so that Y positive is up. All libGDX renderers require flipped Y coordinates, and thus
 		 * flipY set to true. This parameter is included for non-rendering related purposes of TMX files, or custom renderers. */
 		public boolean flipY = true;
+		/** Whether to create the tile layers with compact storage, which packs each cell into an int. Uses a fraction of the memory
+		 * for large maps, see {@link TiledMapTileLayer#TiledMapTileLayer(int, int, int, int, TiledMapTileSets)}. */
+		public boolean compactTileLayers = false;
 	}
 
 	protected static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
@@ -57,6 +62,7 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 	protected Element root;
 	protected boolean convertObjectToTileSpace;
 	protected boolean flipY = true;
+	protected boolean compactTileLayers;
 
 	protected int mapTileWidth;
 	protected int mapTileHeight;
@@ -65,10 +71,22 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 
 	protected TiledMap map;
 
+	/** Decodes the tile data of the layers in parallel, may be null. */
+	protected AsyncExecutor executor;
+	/** The tile data being decoded by the executor, by data or chunk element. */
+	private final ObjectMap<Element, AsyncResult<int[]>> pendingTileData = new ObjectMap<Element, AsyncResult<int[]>>();
+
 	public BaseTmxMapLoader (FileHandleResolver resolver) {
 		super(resolver);
 	}
 
+	/** @param executor decodes and decompresses the tile data of the layers and chunks in parallel while the tile sets are
+	 *           loaded, may be null. It is not disposed by the loader. */
+	public BaseTmxMapLoader (FileHandleResolver resolver, AsyncExecutor executor) {
+		super(resolver);
+		this.executor = executor;
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle tmxFile, P parameter) {
 		this.root = xml.parse(tmxFile);
@@ -98,9 +116,11 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 		if (parameter != null) {
 			this.convertObjectToTileSpace = parameter.convertObjectToTileSpace;
 			this.flipY = parameter.flipY;
+			this.compactTileLayers = parameter.compactTileLayers;
 		} else {
 			this.convertObjectToTileSpace = false;
 			this.flipY = true;
+			this.compactTileLayers = false;
 		}
 
 		String mapOrientation = root.getAttribute("orientation", null);
@@ -145,6 +165,9 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 			}
 		}
 
+		pendingTileData.clear();
+		if (executor != null) submitTileData(root);
+
 		Element properties = root.getChildByName("properties");
 		if (properties != null) {
 			loadProperties(map.getProperties(), properties);
@@ -178,10 +201,49 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 				}
 			}
 		}
+		pendingTileData.clear();
 
 		return map;
 	}
 
+	/** Starts decoding the tile data of the tile layers in the element and its groups. */
+	private void submitTileData (Element parent) {
+		for (int i = 0, n = parent.getChildCount(); i < n; i++) {
+			Element element = parent.getChild(i);
+			if (element.getName().equals("group")) {
+				submitTileData(element);
+			} else if (element.getName().equals("layer")) {
+				Element data = element.getChildByName("data");
+				if (data == null) continue;
+				Array<Element> chunks = data.getChildrenByName("chunk");
+				if (chunks.size == 0) {
+					submitTileData(data, data, element.getIntAttribute("width", 0) * element.getIntAttribute("height", 0));
+				} else {
+					for (Element chunk : chunks)
+						submitTileData(data, chunk, chunk.getIntAttribute("width") * chunk.getIntAttribute("height"));
+				}
+			}
+		}
+	}
+
+	private void submitTileData (final Element data, final Element source, final int count) {
+		pendingTileData.put(source, executor.submit(new AsyncTask<int[]>() {
+			@Override
+			public int[] call () throws Exception {
+				return decodeTileData(data, source, count);
+			}
+		}));
+	}
+
+	/** Returns the tile ids of a layer or chunk, decoded by the executor or now.
+	 * @param data the data element of the layer, which specifies the encoding
+	 * @param source the data element or one of its chunk elements */
+	protected int[] getTileData (Element data, Element source, int count) {
+		AsyncResult<int[]> result = pendingTileData.remove(source);
+		if (result != null) return result.get();
+		return decodeTileData(data, source, count);
+	}
+
 	protected void loadLayer (TiledMap map, MapLayers parentLayers, Element element, FileHandle tmxFile,
 		ImageResolver imageResolver) {
 		String name = element.getName();
@@ -226,26 +288,44 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 			int height = element.getIntAttribute("height", 0);
 			int tileWidth = map.getProperties().get("tilewidth", Integer.class);
 			int tileHeight = map.getProperties().get("tileheight", Integer.class);
-			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
 
-			loadBasicLayerInfo(layer, element);
+			// Layers of infinite maps store their tiles in chunks, the layer covers the bounds of the chunks
+			Element data = element.getChildByName("data");
+			Array<Element> chunks = data != null ? data.getChildrenByName("chunk") : null;
+			int minX = 0, minY = 0;
+			if (chunks != null && chunks.size > 0) {
+				minX = minY = Integer.MAX_VALUE;
+				int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+				for (Element chunk : chunks) {
+					int x = chunk.getIntAttribute("x"), y = chunk.getIntAttribute("y");
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x + chunk.getIntAttribute("width"));
+					maxY = Math.max(maxY, y + chunk.getIntAttribute("height"));
+				}
+				width = maxX - minX;
+				height = maxY - minY;
+			}
 
-			int[] ids = getTileIds(element, width, height);
 			TiledMapTileSets tilesets = map.getTileSets();
-			for (int y = 0; y < height; y++) {
-				for (int x = 0; x < width; x++) {
-					int id = ids[y * width + x];
-					boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-					boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-					boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
+			TiledMapTileLayer layer = compactTileLayers ? new TiledMapTileLayer(width, height, tileWidth, tileHeight, tilesets)
+				: new TiledMapTileLayer(width, height, tileWidth, tileHeight);
 
-					TiledMapTile tile = tilesets.getTile(id & ~MASK_CLEAR);
-					if (tile != null) {
-						Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-						cell.setTile(tile);
-						layer.setCell(x, flipY ? height - 1 - y : y, cell);
-					}
+			loadBasicLayerInfo(layer, element);
+
+			if (chunks != null && chunks.size > 0) {
+				// Moves the layer to the position of the chunks, the offset is in y down pixels
+				layer.setOffsetX(layer.getOffsetX() + minX * tileWidth);
+				layer.setOffsetY(layer.getOffsetY() + (flipY ? (minY + height) * tileHeight - mapHeightInPixels : minY * tileHeight));
+				for (Element chunk : chunks) {
+					int chunkWidth = chunk.getIntAttribute("width"), chunkHeight = chunk.getIntAttribute("height");
+					int[] ids = getTileData(data, chunk, chunkWidth * chunkHeight);
+					loadTiles(layer, ids, chunk.getIntAttribute("x") - minX, chunk.getIntAttribute("y") - minY, chunkWidth,
+						chunkHeight);
 				}
+			} else {
+				if (data == null) throw new GdxRuntimeException("Missing data for TMX Layer: " + layer.getName());
+				loadTiles(layer, getTileData(data, data, width * height), 0, 0, width, height);
 			}
 
 			Element properties = element.getChildByName("properties");
@@ -256,6 +336,60 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 		}
 	}
 
+	/** Sets the cells of a region of the layer from the tile ids of the region.
+	 * @param startX the column of the region in the layer
+	 * @param startY the row of the region in the layer, in y down rows like the ids */
+	protected void loadTiles (TiledMapTileLayer layer, int[] ids, int startX, int startY, int width, int height) {
+		TiledMapTileSets tilesets = map.getTileSets();
+		if (layer.isCompact()) {
+			loadCompactTiles(layer, ids, startX, startY, width, height, tilesets);
+			return;
+		}
+		int layerHeight = layer.getHeight();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int id = ids[y * width + x];
+				boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
+				boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
+				boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
+
+				TiledMapTile tile = tilesets.getTile(id & ~MASK_CLEAR);
+				if (tile != null) {
+					Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
+					cell.setTile(tile);
+					int row = startY + y;
+					layer.setCell(startX + x, flipY ? layerHeight - 1 - row : row, cell);
+				}
+			}
+		}
+	}
+
+	/** Packs the tiles of a layer with compact storage without creating a cell per tile. The flags are converted once for each
+	 * combination by {@link #createTileLayerCell(boolean, boolean, boolean)}. */
+	private void loadCompactTiles (TiledMapTileLayer layer, int[] ids, int startX, int startY, int width, int height,
+		TiledMapTileSets tilesets) {
+		int[] flags = new int[8];
+		for (int i = 0; i < 8; i++) {
+			Cell cell = createTileLayerCell((i & 4) != 0, (i & 2) != 0, (i & 1) != 0);
+			flags[i] = TiledMapTileLayer.packFlags(cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation());
+		}
+		int layerHeight = layer.getHeight();
+		int lastId = -1, lastPacked = 0;
+		for (int y = 0; y < height; y++) {
+			int row = startY + y;
+			if (flipY) row = layerHeight - 1 - row;
+			for (int x = 0; x < width; x++) {
+				int gid = ids[y * width + x], id = gid & ~MASK_CLEAR;
+				if (id != lastId) {
+					TiledMapTile tile = tilesets.getTile(id);
+					lastPacked = tile == null ? 0 : layer.pack(tile, false, false, 0);
+					lastId = id;
+				}
+				if (lastPacked != 0) layer.setPackedCell(startX + x, row, flags[gid >>> 29] | lastPacked);
+			}
+		}
+	}
+
 	protected void loadObjectGroup (TiledMap map, MapLayers parentLayers, Element element) {
 		if (element.getName().equals("objectgroup")) {
 			MapLayer layer = new MapLayer();
@@ -494,44 +628,67 @@ public abstract class BaseTmxMapLoader<P extends BaseTmxMapLoader.Parameters> ex
 
 	static public int[] getTileIds (Element element, int width, int height) {
 		Element data = element.getChildByName("data");
+		return decodeTileData(data, data, width * height);
+	}
+
+	/** Decodes the tile ids of a layer or chunk directly from the text of the element. Safe to call from any thread.
+	 * @param data the data element of the layer, which specifies the encoding
+	 * @param source the data element or one of its chunk elements */
+	static protected int[] decodeTileData (Element data, Element source, int count) {
 		String encoding = data.getAttribute("encoding", null);
 		if (encoding == null) { // no 'encoding' attribute means that the encoding is XML
 			throw new GdxRuntimeException("Unsupported encoding (XML) for TMX Layer Data");
 		}
-		int[] ids = new int[width * height];
+		int[] ids = new int[count];
 		if (encoding.equals("csv")) {
-			String[] array = data.getText().split(",");
-			for (int i = 0; i < array.length; i++)
-				ids[i] = (int)Long.parseLong(array[i].trim());
+			String text = source.getText();
+			// Parses the numbers without splitting the text, ids are unsigned 32 bit
+			long value = 0;
+			boolean digits = false;
+			for (int i = 0, n = text.length(), index = 0; i <= n; i++) {
+				if (i == n && !digits) break; // trailing separator
+				char c = i < n ? text.charAt(i) : ',';
+				if (c >= '0' && c <= '9') {
+					value = value * 10 + (c - '0');
+					digits = true;
+				} else if (c == ',') {
+					if (!digits) throw new GdxRuntimeException("Error Reading TMX Layer Data: Missing tile id");
+					if (index == count) throw new GdxRuntimeException("Error Reading TMX Layer Data: Too much tile data");
+					ids[index++] = (int)value;
+					value = 0;
+					digits = false;
+				} else if (!Character.isWhitespace(c)) {
+					throw new GdxRuntimeException("Error Reading TMX Layer Data: Invalid character: " + c);
+				}
+			}
 		} else {
 			if (true) if (encoding.equals("base64")) {
 				InputStream is = null;
 				try {
 					String compression = data.getAttribute("compression", null);
-					byte[] bytes = Base64Coder.decode(data.getText());
+					byte[] bytes = Base64Coder.decode(source.getText());
 					if (compression == null)
 						is = new ByteArrayInputStream(bytes);
 					else if (compression.equals("gzip"))
-						is = new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes), bytes.length));
+						is = new GZIPInputStream(new ByteArrayInputStream(bytes), bytes.length);
 					else if (compression.equals("zlib"))
-						is = new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)));
+						is = new InflaterInputStream(new ByteArrayInputStream(bytes));
 					else
 						throw new GdxRuntimeException("Unrecognised compression (" + compression + ") for TMX Layer Data");
 
-					byte[] temp = new byte[4];
-					for (int y = 0; y < height; y++) {
-						for (int x = 0; x < width; x++) {
-							int read = is.read(temp);
-							while (read < temp.length) {
-								int curr = is.read(temp, read, temp.length - read);
-								if (curr == -1) break;
-								read += curr;
-							}
-							if (read != temp.length)
-								throw new GdxRuntimeException("Error Reading TMX Layer Data: Premature end of tile data");
-							ids[y * width + x] = unsignedByteToInt(temp[0]) | unsignedByteToInt(temp[1]) << 8
-								| unsignedByteToInt(temp[2]) << 16 | unsignedByteToInt(temp[3]) << 24;
-						}
+					// Reads all tiles at once rather than tile by tile
+					byte[] temp = new byte[count * 4];
+					int read = 0;
+					while (read < temp.length) {
+						int curr = is.read(temp, read, temp.length - read);
+						if (curr == -1) break;
+						read += curr;
+					}
+					if (read != temp.length)
+						throw new GdxRuntimeException("Error Reading TMX Layer Data: Premature end of tile data");
+					for (int i = 0, b = 0; i < count; i++, b += 4) {
+						ids[i] = unsignedByteToInt(temp[b]) | unsignedByteToInt(temp[b + 1]) << 8
+							| unsignedByteToInt(temp[b + 2]) << 16 | unsignedByteToInt(temp[b + 3]) << 24;
 					}
 				} catch (IOException e) {
 					throw new GdxRuntimeException("Error Reading TMX Layer Data - IOException: " + e.getMessage());
@@ -17,9 +17,21 @@
 package com.badlogic.gdx.maps.tiled;
 
 import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
-/** @brief Layer for a TiledMap */
+/** @brief Layer for a TiledMap
+ * <p>
+ * By default each cell is a {@link Cell} object. A layer created with
+ * {@link #TiledMapTileLayer(int, int, int, int, TiledMapTileSets)} instead packs each cell into an int holding the id of its tile
+ * and its flip and rotation flags, which takes a fraction of the memory for large maps. The cells of such a layer are returned
+ * through a flyweight, see {@link #getCell(int, int)}. */
 public class TiledMapTileLayer extends MapLayer {
+	static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
+	static final int FLAG_FLIP_VERTICALLY = 0x40000000;
+	static final int MASK_ROTATION = 0x30000000;
+	static final int SHIFT_ROTATION = 28;
+	/** The tile id is stored plus one, so that 0 means no cell. */
+	static final int MASK_ID = 0x0fffffff;
 
 	private int width;
 	private int height;
@@ -29,6 +41,10 @@ public class TiledMapTileLayer extends MapLayer {
 
 	private Cell[][] cells;
 
+	private int[] packedCells;
+	private TiledMapTileSets tileSets;
+	private PackedCell flyweight;
+
 	/** @return layer's width in tiles */
 	public int getWidth () {
 		return width;
@@ -64,15 +80,72 @@ public class TiledMapTileLayer extends MapLayer {
 		this.cells = new Cell[width][height];
 	}
 
-	/** @param x X coordinate
+	/** Creates TiledMap layer with compact storage, each cell is packed into an int holding the id of its tile and its flip and
+	 * rotation flags. Only tiles from the given tile sets can be stored, their ids must be unique within the tile sets. Subclasses
+	 * of {@link Cell} are not retained and a cell without a tile is stored as no cell.
+	 * 
+	 * @param width layer width in tiles
+	 * @param height layer height in tiles
+	 * @param tileWidth tile width in pixels
+	 * @param tileHeight tile height in pixels
+	 * @param tileSets the tile sets the tiles of the cells are looked up in, usually {@link TiledMap#getTileSets()} */
+	public TiledMapTileLayer (int width, int height, int tileWidth, int tileHeight, TiledMapTileSets tileSets) {
+		super();
+		if (tileSets == null) throw new IllegalArgumentException("tileSets cannot be null.");
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.tileSets = tileSets;
+		this.packedCells = new int[width * height];
+		this.flyweight = new PackedCell();
+	}
+
+	/** @return whether the cells are packed into ints, see {@link #TiledMapTileLayer(int, int, int, int, TiledMapTileSets)} */
+	public boolean isCompact () {
+		return packedCells != null;
+	}
+
+	/** For a layer with compact storage the returned cell is a flyweight shared by all cells of the layer, which is only valid
+	 * until the next call to this method. Changes to it are written to the layer. Use {@link #getCell(int, int, Cell)} to keep
+	 * several cells or to read cells on other threads.
+	 * 
+	 * @param x X coordinate
 	 * @param y Y coordinate
 	 * @return {@link Cell} at (x, y) */
 	public Cell getCell (int x, int y) {
 		if (x < 0 || x >= width) return null;
 		if (y < 0 || y >= height) return null;
+		if (packedCells != null) {
+			final int index = x + y * width;
+			if (packedCells[index] == 0) return null;
+			flyweight.index = index;
+			return flyweight;
+		}
 		return cells[x][y];
 	}
 
+	/** Returns the cell at (x, y). For a layer with compact storage the cell is unpacked into the given cell, which is not written
+	 * back to the layer when changed. This doesn't modify the layer and is safe to call from several threads as long as the layer
+	 * isn't modified. For other layers the stored cell is returned and the given cell is not used.
+	 * 
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @param out the cell to unpack a compact cell into
+	 * @return {@link Cell} at (x, y), null if there is none */
+	public Cell getCell (int x, int y, Cell out) {
+		if (packedCells == null) return getCell(x, y);
+		if (x < 0 || x >= width) return null;
+		if (y < 0 || y >= height) return null;
+		final int packed = packedCells[x + y * width];
+		if (packed == 0) return null;
+		out.setTile(tileSets.getTile((packed & MASK_ID) - 1));
+		out.setFlipHorizontally((packed & FLAG_FLIP_HORIZONTALLY) != 0);
+		out.setFlipVertically((packed & FLAG_FLIP_VERTICALLY) != 0);
+		out.setRotation((packed & MASK_ROTATION) >>> SHIFT_ROTATION);
+		return out;
+	}
+
 	/** Sets the {@link Cell} at the given coordinates.
 	 * 
 	 * @param x X coordinate
@@ -81,9 +154,91 @@ public class TiledMapTileLayer extends MapLayer {
 	public void setCell (int x, int y, Cell cell) {
 		if (x < 0 || x >= width) return;
 		if (y < 0 || y >= height) return;
+		if (packedCells != null) {
+			packedCells[x + y * width] = cell == null ? 0
+				: pack(cell.getTile(), cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation());
+			return;
+		}
 		cells[x][y] = cell;
 	}
 
+	/** Sets a packed cell directly, without checking the tile. Only for layers with compact storage. */
+	void setPackedCell (int x, int y, int packed) {
+		packedCells[x + y * width] = packed;
+	}
+
+	int pack (TiledMapTile tile, boolean flipHorizontally, boolean flipVertically, int rotation) {
+		if (tile == null) return 0;
+		final int id = tile.getId();
+		if (id < 0 || id >= MASK_ID)
+			throw new GdxRuntimeException("Tile id out of range for a compact layer: " + id);
+		if (tileSets.getTile(id) != tile) throw new GdxRuntimeException("Tile is not in the tile sets of the layer: " + id);
+		return packFlags(flipHorizontally, flipVertically, rotation) | (id + 1);
+	}
+
+	static int packFlags (boolean flipHorizontally, boolean flipVertically, int rotation) {
+		int flags = (rotation & 3) << SHIFT_ROTATION;
+		if (flipHorizontally) flags |= FLAG_FLIP_HORIZONTALLY;
+		if (flipVertically) flags |= FLAG_FLIP_VERTICALLY;
+		return flags;
+	}
+
+	/** The flyweight of a layer with compact storage, reads and writes the packed cell at its index. */
+	private class PackedCell extends Cell {
+		int index;
+
+		@Override
+		public TiledMapTile getTile () {
+			return tileSets.getTile((packedCells[index] & MASK_ID) - 1);
+		}
+
+		@Override
+		public Cell setTile (TiledMapTile tile) {
+			// Without a tile the cell is removed, like a cell without a tile is not stored by setCell
+			packedCells[index] = tile == null ? 0 : packedCells[index] & ~MASK_ID | pack(tile, false, false, 0);
+			return this;
+		}
+
+		@Override
+		public boolean getFlipHorizontally () {
+			return (packedCells[index] & FLAG_FLIP_HORIZONTALLY) != 0;
+		}
+
+		@Override
+		public Cell setFlipHorizontally (boolean flipHorizontally) {
+			if (flipHorizontally)
+				packedCells[index] |= FLAG_FLIP_HORIZONTALLY;
+			else
+				packedCells[index] &= ~FLAG_FLIP_HORIZONTALLY;
+			return this;
+		}
+
+		@Override
+		public boolean getFlipVertically () {
+			return (packedCells[index] & FLAG_FLIP_VERTICALLY) != 0;
+		}
+
+		@Override
+		public Cell setFlipVertically (boolean flipVertically) {
+			if (flipVertically)
+				packedCells[index] |= FLAG_FLIP_VERTICALLY;
+			else
+				packedCells[index] &= ~FLAG_FLIP_VERTICALLY;
+			return this;
+		}
+
+		@Override
+		public int getRotation () {
+			return (packedCells[index] & MASK_ROTATION) >>> SHIFT_ROTATION;
+		}
+
+		@Override
+		public Cell setRotation (int rotation) {
+			packedCells[index] = packedCells[index] & ~MASK_ROTATION | (rotation & 3) << SHIFT_ROTATION;
+			return this;
+		}
+	}
+
 	/** @brief represents a cell in a TiledLayer: TiledMapTile, flip and rotation properties. */
 	public static class Cell {
 
@@ -31,6 +31,7 @@ import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.XmlReader.Element;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 /** @brief synchronous loader for TMX maps created with the Tiled tool */
 public class TmxMapLoader extends BaseTmxMapLoader<TmxMapLoader.Parameters> {
@@ -50,6 +51,15 @@ public class TmxMapLoader extends BaseTmxMapLoader<TmxMapLoader.Parameters> {
 		super(resolver);
 	}
 
+	/** Creates loader which decodes the tile data of the layers in parallel, see
+	 * {@link BaseTmxMapLoader#BaseTmxMapLoader(FileHandleResolver, AsyncExecutor)}.
+	 * 
+	 * @param resolver
+	 * @param executor the executor, may be null. It is not disposed by the loader. */
+	public TmxMapLoader (FileHandleResolver resolver, AsyncExecutor executor) {
+		super(resolver, executor);
+	}
+
 	/** Loads the {@link TiledMap} from the given file. The file is resolved via the {@link FileHandleResolver} set in the
 	 * constructor of this class. By default it will resolve to an internal file. The map will be loaded for a y-up coordinate
 	 * system.
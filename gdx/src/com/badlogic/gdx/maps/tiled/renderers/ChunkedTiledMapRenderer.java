@@ -0,0 +1,656 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.maps.tiled.renderers;
+
+import static com.badlogic.gdx.graphics.g2d.Batch.*;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Renders ortho tiles by caching geometry on the GPU in chunks. Each tile layer is split into chunks of chunk size by chunk size
+ * tiles, the geometry of each chunk is built once into its own mesh and is only rebuilt when the chunk is invalidated. Chunks
+ * near the view are built ahead of time on a background thread and chunks far from the view are released, so unlike
+ * {@link OrthoCachedTiledMapRenderer} moving the view never rebuilds the whole cache at once and the memory used doesn't depend
+ * on the size of the map. Chunks in the view which aren't built yet, e.g. after a jump of the camera, are built immediately.
+ * <p>
+ * The cells are not observed, call {@link #invalidateCell(TiledMapTileLayer, int, int)} after changing a cell or its tile.
+ * Changes of the opacity of a layer are detected. Cells with an {@link AnimatedTiledMapTile} and image layers are not cached but
+ * drawn each frame. The cells of chunks which are built in the background are read from that thread, so cells should not be
+ * changed concurrently with the render call. */
+public class ChunkedTiledMapRenderer implements TiledMapRenderer, Disposable {
+	static private final int QUAD_SIZE = 20;
+	static private final int MAX_DYNAMIC_QUADS = 1000;
+
+	protected final TiledMap map;
+	protected final float unitScale;
+	protected final int chunkSize;
+
+	protected final Rectangle viewBounds = new Rectangle();
+	protected final Matrix4 projection = new Matrix4();
+	protected boolean blending;
+	protected float maxTileWidth, maxTileHeight;
+	protected int preloadChunks = 1;
+
+	private final ShaderProgram shader;
+	private final AsyncExecutor executor;
+	private final boolean ownsExecutor;
+	private final ObjectMap<TiledMapTileLayer, LayerChunks> layerChunks = new ObjectMap<TiledMapTileLayer, LayerChunks>();
+	private final short[] indices;
+	private final Matrix4 layerProjection = new Matrix4();
+
+	private final Mesh dynamicMesh;
+	private final float[] dynamicVertices = new float[MAX_DYNAMIC_QUADS * QUAD_SIZE];
+	private final float[] vertices = new float[QUAD_SIZE];
+	private int dynamicQuads;
+	private Texture dynamicTexture;
+
+	/** The number of chunks built since the renderer was created. */
+	public int chunksBuilt;
+	/** The number of draw calls of the last render. */
+	public int renderCalls;
+
+	/** Creates a renderer with a unit scale of 1 and chunks of 32 by 32 tiles. */
+	public ChunkedTiledMapRenderer (TiledMap map) {
+		this(map, 1);
+	}
+
+	/** Creates a renderer with chunks of 32 by 32 tiles. */
+	public ChunkedTiledMapRenderer (TiledMap map, float unitScale) {
+		this(map, unitScale, 32, null);
+	}
+
+	/** @param chunkSize The width and height of a chunk in tiles, at most 128.
+	 * @param executor The executor used to build chunks in the background, or null to create an executor with a single thread,
+	 *           which is disposed with this renderer. */
+	public ChunkedTiledMapRenderer (TiledMap map, float unitScale, int chunkSize, AsyncExecutor executor) {
+		if (chunkSize < 1 || chunkSize > 128)
+			throw new IllegalArgumentException("chunkSize must be between 1 and 128: " + chunkSize);
+		this.map = map;
+		this.unitScale = unitScale;
+		this.chunkSize = chunkSize;
+		this.ownsExecutor = executor == null;
+		this.executor = executor != null ? executor : new AsyncExecutor(1, "ChunkedTiledMapRenderer");
+
+		final int maxQuads = Math.max(chunkSize * chunkSize, MAX_DYNAMIC_QUADS);
+		indices = new short[maxQuads * 6];
+		for (int i = 0, j = 0; i < indices.length; i += 6, j += 4) {
+			indices[i] = (short)j;
+			indices[i + 1] = (short)(j + 1);
+			indices[i + 2] = (short)(j + 2);
+			indices[i + 3] = (short)(j + 2);
+			indices[i + 4] = (short)(j + 3);
+			indices[i + 5] = (short)j;
+		}
+		shader = SpriteCache.createDefaultShader();
+		dynamicMesh = createMesh(false, MAX_DYNAMIC_QUADS);
+	}
+
+	private Mesh createMesh (boolean isStatic, int quads) {
+		final Mesh mesh = new Mesh(isStatic, quads * 4, quads * 6,
+			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		mesh.setIndices(indices, 0, quads * 6);
+		return mesh;
+	}
+
+	@Override
+	public void setView (OrthographicCamera camera) {
+		projection.set(camera.combined);
+		float width = camera.viewportWidth * camera.zoom;
+		float height = camera.viewportHeight * camera.zoom;
+		float w = width * Math.abs(camera.up.y) + height * Math.abs(camera.up.x);
+		float h = height * Math.abs(camera.up.y) + width * Math.abs(camera.up.x);
+		viewBounds.set(camera.position.x - w / 2, camera.position.y - h / 2, w, h);
+	}
+
+	@Override
+	public void setView (Matrix4 projection, float x, float y, float width, float height) {
+		this.projection.set(projection);
+		viewBounds.set(x, y, width, height);
+	}
+
+	@Override
+	public void render () {
+		beginRender();
+		for (MapLayer layer : map.getLayers())
+			renderMapLayer(layer);
+		endRender();
+	}
+
+	@Override
+	public void render (int[] layers) {
+		beginRender();
+		for (int layerIdx : layers)
+			renderMapLayer(map.getLayers().get(layerIdx));
+		endRender();
+	}
+
+	protected void beginRender () {
+		AnimatedTiledMapTile.updateAnimationBaseTime();
+		renderCalls = 0;
+		if (blending) {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+	}
+
+	protected void endRender () {
+		if (blending) Gdx.gl.glDisable(GL20.GL_BLEND);
+	}
+
+	protected void renderMapLayer (MapLayer layer) {
+		if (!layer.isVisible()) return;
+		if (layer instanceof MapGroupLayer) {
+			MapLayers childLayers = ((MapGroupLayer)layer).getLayers();
+			for (int i = 0; i < childLayers.size(); i++)
+				renderMapLayer(childLayers.get(i));
+		} else if (layer instanceof TiledMapTileLayer) {
+			renderTileLayer((TiledMapTileLayer)layer);
+		} else if (layer instanceof TiledMapImageLayer) {
+			renderImageLayer((TiledMapImageLayer)layer);
+		} else {
+			renderObjects(layer);
+		}
+	}
+
+	@Override
+	public void renderObjects (MapLayer layer) {
+		for (MapObject object : layer.getObjects())
+			renderObject(object);
+	}
+
+	@Override
+	public void renderObject (MapObject object) {
+	}
+
+	@Override
+	public void renderTileLayer (TiledMapTileLayer layer) {
+		LayerChunks chunks = layerChunks.get(layer);
+		if (chunks == null) layerChunks.put(layer, chunks = new LayerChunks(layer, chunkSize));
+		if (chunks.opacity != layer.getOpacity()) {
+			chunks.opacity = layer.getOpacity();
+			for (Chunk chunk : chunks.loaded)
+				chunk.dirty = true;
+		}
+
+		final float layerOffsetX = layer.getRenderOffsetX() * unitScale - viewBounds.x * (layer.getParallaxX() - 1);
+		// offset in tiled is y down, so we flip it
+		final float layerOffsetY = -layer.getRenderOffsetY() * unitScale - viewBounds.y * (layer.getParallaxY() - 1);
+		final float chunkWidth = layer.getTileWidth() * unitScale * chunkSize;
+		final float chunkHeight = layer.getTileHeight() * unitScale * chunkSize;
+
+		// Tiles larger than a cell reach into the chunks to the right and above, see setMaxTileSize
+		final float left = viewBounds.x - layerOffsetX - maxTileWidth * unitScale;
+		final float bottom = viewBounds.y - layerOffsetY - maxTileHeight * unitScale;
+		final int viewX1 = (int)Math.floor(left / chunkWidth);
+		final int viewY1 = (int)Math.floor(bottom / chunkHeight);
+		final int viewX2 = (int)Math.floor((viewBounds.x + viewBounds.width - layerOffsetX) / chunkWidth);
+		final int viewY2 = (int)Math.floor((viewBounds.y + viewBounds.height - layerOffsetY) / chunkHeight);
+
+		releaseChunks(chunks, viewX1 - preloadChunks - 1, viewY1 - preloadChunks - 1, viewX2 + preloadChunks + 1,
+			viewY2 + preloadChunks + 1);
+		final int loadX1 = Math.max(0, viewX1 - preloadChunks), loadX2 = Math.min(chunks.width - 1, viewX2 + preloadChunks);
+		final int loadY1 = Math.max(0, viewY1 - preloadChunks), loadY2 = Math.min(chunks.height - 1, viewY2 + preloadChunks);
+		for (int y = loadY1; y <= loadY2; y++) {
+			for (int x = loadX1; x <= loadX2; x++) {
+				final boolean visible = x >= viewX1 && x <= viewX2 && y >= viewY1 && y <= viewY2;
+				updateChunk(chunks, chunks.obtain(x, y), visible);
+			}
+		}
+
+		layerProjection.set(projection).translate(layerOffsetX, layerOffsetY, 0);
+		shader.bind();
+		shader.setUniformMatrix("u_projectionViewMatrix", layerProjection);
+		shader.setUniformi("u_texture", 0);
+		final int x1 = Math.max(0, viewX1), x2 = Math.min(chunks.width - 1, viewX2);
+		final int y1 = Math.max(0, viewY1), y2 = Math.min(chunks.height - 1, viewY2);
+		for (int y = y2; y >= y1; y--) {
+			for (int x = x1; x <= x2; x++) {
+				final Chunk chunk = chunks.get(x, y);
+				if (chunk.mesh == null || chunk.quads == 0) continue;
+				final Mesh mesh = chunk.mesh;
+				mesh.bind(shader);
+				for (int i = 0, n = chunk.textures.size; i < n; i++) {
+					final int start = chunk.runs.get(i), end = i + 1 < n ? chunk.runs.get(i + 1) : chunk.quads;
+					chunk.textures.get(i).bind();
+					mesh.render(shader, GL20.GL_TRIANGLES, start * 6, (end - start) * 6, false);
+					renderCalls++;
+				}
+				mesh.unbind(shader);
+			}
+		}
+
+		final float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
+		for (int y = y2; y >= y1; y--) {
+			for (int x = x1; x <= x2; x++) {
+				final IntArray animated = chunks.get(x, y).animated;
+				for (int i = 0; i < animated.size; i += 2) {
+					final int col = animated.get(i), row = animated.get(i + 1);
+					final Cell cell = layer.getCell(col, row);
+					if (cell == null || cell.getTile() == null) continue;
+					writeCell(vertices, 0, layer, cell, cell.getTile(), col, row, unitScale, color);
+					drawDynamic(cell.getTile().getTextureRegion().getTexture(), vertices);
+				}
+			}
+		}
+		flushDynamic();
+	}
+
+	/** Applies finished builds, starts the build of dirty chunks and builds the dirty chunks in the view immediately. */
+	private void updateChunk (LayerChunks chunks, Chunk chunk, boolean visible) {
+		if (chunk.pending != null && (visible || chunk.pending.isDone())) {
+			upload(chunk, chunk.pending.get());
+			chunk.pending = null;
+		}
+		if (!chunk.dirty || chunk.pending != null) return;
+		chunk.dirty = false;
+		final TiledMapTileLayer layer = chunks.layer;
+		final int x = chunk.x, y = chunk.y, chunkSize = this.chunkSize;
+		final float unitScale = this.unitScale, color = Color.toFloatBits(1, 1, 1, chunks.opacity);
+		if (visible) {
+			upload(chunk, build(layer, x, y, chunkSize, unitScale, color));
+		} else {
+			chunk.pending = executor.submit(new AsyncTask<ChunkData>() {
+				@Override
+				public ChunkData call () throws Exception {
+					return build(layer, x, y, chunkSize, unitScale, color);
+				}
+			});
+		}
+	}
+
+	private void upload (Chunk chunk, ChunkData data) {
+		chunksBuilt++;
+		chunk.quads = data.quads;
+		chunk.textures.clear();
+		chunk.textures.addAll(data.textures);
+		chunk.runs.clear();
+		chunk.runs.addAll(data.runs);
+		chunk.animated.clear();
+		chunk.animated.addAll(data.animated);
+		if (data.quads == 0) return;
+		if (chunk.mesh != null && chunk.mesh.getMaxVertices() < data.quads * 4) {
+			chunk.mesh.dispose();
+			chunk.mesh = null;
+		}
+		if (chunk.mesh == null) chunk.mesh = createMesh(true, data.quads);
+		chunk.mesh.setVertices(data.vertices, 0, data.quads * QUAD_SIZE);
+	}
+
+	/** Releases the chunks outside of the specified range of chunks. */
+	private void releaseChunks (LayerChunks chunks, int x1, int y1, int x2, int y2) {
+		final Array<Chunk> loaded = chunks.loaded;
+		for (int i = loaded.size - 1; i >= 0; i--) {
+			final Chunk chunk = loaded.get(i);
+			if (chunk.x >= x1 && chunk.x <= x2 && chunk.y >= y1 && chunk.y <= y2) continue;
+			// A pending build is left to finish, its result is discarded
+			if (chunk.mesh != null) chunk.mesh.dispose();
+			chunks.chunks[chunk.x + chunk.y * chunks.width] = null;
+			loaded.removeIndex(i);
+		}
+	}
+
+	/** Builds the vertices of the cells of a chunk in the coordinates of the layer, without its offset. Thread safe as long as the
+	 * cells are not modified. */
+	static ChunkData build (TiledMapTileLayer layer, int chunkX, int chunkY, int chunkSize, float unitScale, float color) {
+		final int col1 = chunkX * chunkSize, col2 = Math.min(col1 + chunkSize, layer.getWidth());
+		final int row1 = chunkY * chunkSize, row2 = Math.min(row1 + chunkSize, layer.getHeight());
+		final ChunkData data = new ChunkData();
+		data.vertices = new float[(col2 - col1) * (row2 - row1) * QUAD_SIZE];
+		final Cell unpacked = new Cell();
+		Texture lastTexture = null;
+		for (int row = row2 - 1; row >= row1; row--) {
+			for (int col = col1; col < col2; col++) {
+				final Cell cell = layer.getCell(col, row, unpacked);
+				if (cell == null) continue;
+				final TiledMapTile tile = cell.getTile();
+				if (tile == null) continue;
+				if (tile instanceof AnimatedTiledMapTile) {
+					data.animated.add(col, row);
+					continue;
+				}
+				final Texture texture = tile.getTextureRegion().getTexture();
+				if (texture != lastTexture) {
+					data.textures.add(texture);
+					data.runs.add(data.quads);
+					lastTexture = texture;
+				}
+				writeCell(data.vertices, data.quads * QUAD_SIZE, layer, cell, tile, col, row, unitScale, color);
+				data.quads++;
+			}
+		}
+		return data;
+	}
+
+	/** Writes the vertices of the cell at the offset, in the coordinates of the layer. */
+	static void writeCell (float[] vertices, int offset, TiledMapTileLayer layer, Cell cell, TiledMapTile tile, int col, int row,
+		float unitScale, float color) {
+		final TextureRegion region = tile.getTextureRegion();
+		final float x1 = col * layer.getTileWidth() * unitScale + tile.getOffsetX() * unitScale;
+		final float y1 = row * layer.getTileHeight() * unitScale + tile.getOffsetY() * unitScale;
+		final float x2 = x1 + region.getRegionWidth() * unitScale;
+		final float y2 = y1 + region.getRegionHeight() * unitScale;
+
+		float u1 = region.getU(), v1 = region.getV2();
+		float u2 = region.getU2(), v2 = region.getV();
+		// The texture coordinates of the corners in the order of the vertices
+		float ua = u1, va = v1, ub = u1, vb = v2, uc = u2, vc = v2, ud = u2, vd = v1;
+		if (cell.getFlipHorizontally()) {
+			float temp = ua;
+			ua = uc;
+			uc = temp;
+			temp = ub;
+			ub = ud;
+			ud = temp;
+		}
+		if (cell.getFlipVertically()) {
+			float temp = va;
+			va = vc;
+			vc = temp;
+			temp = vb;
+			vb = vd;
+			vd = temp;
+		}
+		switch (cell.getRotation()) {
+		case Cell.ROTATE_90: {
+			float tempV = va;
+			va = vb;
+			vb = vc;
+			vc = vd;
+			vd = tempV;
+			float tempU = ua;
+			ua = ub;
+			ub = uc;
+			uc = ud;
+			ud = tempU;
+			break;
+		}
+		case Cell.ROTATE_180: {
+			float tempU = ua;
+			ua = uc;
+			uc = tempU;
+			tempU = ub;
+			ub = ud;
+			ud = tempU;
+			float tempV = va;
+			va = vc;
+			vc = tempV;
+			tempV = vb;
+			vb = vd;
+			vd = tempV;
+			break;
+		}
+		case Cell.ROTATE_270: {
+			float tempV = va;
+			va = vd;
+			vd = vc;
+			vc = vb;
+			vb = tempV;
+			float tempU = ua;
+			ua = ud;
+			ud = uc;
+			uc = ub;
+			ub = tempU;
+			break;
+		}
+		}
+
+		vertices[offset + X1] = x1;
+		vertices[offset + Y1] = y1;
+		vertices[offset + C1] = color;
+		vertices[offset + U1] = ua;
+		vertices[offset + V1] = va;
+
+		vertices[offset + X2] = x1;
+		vertices[offset + Y2] = y2;
+		vertices[offset + C2] = color;
+		vertices[offset + U2] = ub;
+		vertices[offset + V2] = vb;
+
+		vertices[offset + X3] = x2;
+		vertices[offset + Y3] = y2;
+		vertices[offset + C3] = color;
+		vertices[offset + U3] = uc;
+		vertices[offset + V3] = vc;
+
+		vertices[offset + X4] = x2;
+		vertices[offset + Y4] = y1;
+		vertices[offset + C4] = color;
+		vertices[offset + U4] = ud;
+		vertices[offset + V4] = vd;
+	}
+
+	@Override
+	public void renderImageLayer (TiledMapImageLayer layer) {
+		final TextureRegion region = layer.getTextureRegion();
+		if (region == null) return;
+
+		final float color = Color.toFloatBits(1.0f, 1.0f, 1.0f, layer.getOpacity());
+		final float x1 = layer.getX() * unitScale - viewBounds.x * (layer.getParallaxX() - 1);
+		final float y1 = layer.getY() * unitScale - viewBounds.y * (layer.getParallaxY() - 1);
+		final float x2 = x1 + region.getRegionWidth() * unitScale;
+		final float y2 = y1 + region.getRegionHeight() * unitScale;
+		if (x2 < viewBounds.x || y2 < viewBounds.y || x1 > viewBounds.x + viewBounds.width
+			|| y1 > viewBounds.y + viewBounds.height) return;
+
+		final float[] vertices = this.vertices;
+		vertices[X1] = x1;
+		vertices[Y1] = y1;
+		vertices[C1] = color;
+		vertices[U1] = region.getU();
+		vertices[V1] = region.getV2();
+
+		vertices[X2] = x1;
+		vertices[Y2] = y2;
+		vertices[C2] = color;
+		vertices[U2] = region.getU();
+		vertices[V2] = region.getV();
+
+		vertices[X3] = x2;
+		vertices[Y3] = y2;
+		vertices[C3] = color;
+		vertices[U3] = region.getU2();
+		vertices[V3] = region.getV();
+
+		vertices[X4] = x2;
+		vertices[Y4] = y1;
+		vertices[C4] = color;
+		vertices[U4] = region.getU2();
+		vertices[V4] = region.getV2();
+
+		shader.bind();
+		shader.setUniformMatrix("u_projectionViewMatrix", projection);
+		shader.setUniformi("u_texture", 0);
+		drawDynamic(region.getTexture(), vertices);
+		flushDynamic();
+	}
+
+	private void drawDynamic (Texture texture, float[] quad) {
+		if (texture != dynamicTexture || dynamicQuads == MAX_DYNAMIC_QUADS) {
+			flushDynamic();
+			dynamicTexture = texture;
+		}
+		System.arraycopy(quad, 0, dynamicVertices, dynamicQuads * QUAD_SIZE, QUAD_SIZE);
+		dynamicQuads++;
+	}
+
+	private void flushDynamic () {
+		if (dynamicQuads == 0) return;
+		dynamicMesh.setVertices(dynamicVertices, 0, dynamicQuads * QUAD_SIZE);
+		dynamicTexture.bind();
+		dynamicMesh.render(shader, GL20.GL_TRIANGLES, 0, dynamicQuads * 6);
+		renderCalls++;
+		dynamicQuads = 0;
+	}
+
+	/** Causes the chunk containing the cell to be rebuilt before it is rendered the next time. Must be called after the cell, its
+	 * tile or the texture region of its tile changed.
+	 * @param x The column of the cell
+	 * @param y The row of the cell */
+	public void invalidateCell (TiledMapTileLayer layer, int x, int y) {
+		final LayerChunks chunks = layerChunks.get(layer);
+		if (chunks == null || x < 0 || y < 0 || x >= layer.getWidth() || y >= layer.getHeight()) return;
+		final Chunk chunk = chunks.get(x / chunkSize, y / chunkSize);
+		if (chunk != null) chunk.dirty = true;
+	}
+
+	/** Causes all chunks of the layer to be rebuilt before they are rendered the next time. */
+	public void invalidateLayer (TiledMapTileLayer layer) {
+		final LayerChunks chunks = layerChunks.get(layer);
+		if (chunks == null) return;
+		for (Chunk chunk : chunks.loaded)
+			chunk.dirty = true;
+	}
+
+	/** Releases all chunks of all layers, e.g. after layers were removed from the map. The chunks are built again when they are
+	 * rendered. */
+	public void invalidateCache () {
+		for (LayerChunks chunks : layerChunks.values())
+			for (Chunk chunk : chunks.loaded)
+				if (chunk.mesh != null) chunk.mesh.dispose();
+		layerChunks.clear();
+	}
+
+	/** @return The number of chunks of all layers which are currently loaded. */
+	public int getLoadedChunkCount () {
+		int count = 0;
+		for (LayerChunks chunks : layerChunks.values())
+			count += chunks.loaded.size;
+		return count;
+	}
+
+	public int getChunkSize () {
+		return chunkSize;
+	}
+
+	/** Sets the number of chunks around the view which are built in the background before they become visible. Default is 1. */
+	public void setPreloadChunks (int preloadChunks) {
+		this.preloadChunks = Math.max(0, preloadChunks);
+	}
+
+	/** Expands the view size to the left and bottom, ensuring that tiles of this size or smaller which start in a chunk outside of
+	 * the view are never culled from the visible portion of the view. Default is 0,0. */
+	public void setMaxTileSize (float maxPixelWidth, float maxPixelHeight) {
+		this.maxTileWidth = maxPixelWidth;
+		this.maxTileHeight = maxPixelHeight;
+	}
+
+	public void setBlending (boolean blending) {
+		this.blending = blending;
+	}
+
+	public TiledMap getMap () {
+		return map;
+	}
+
+	public Rectangle getViewBounds () {
+		return viewBounds;
+	}
+
+	@Override
+	public void dispose () {
+		if (ownsExecutor) executor.dispose();
+		invalidateCache();
+		dynamicMesh.dispose();
+		shader.dispose();
+	}
+
+	static private class LayerChunks {
+		final TiledMapTileLayer layer;
+		final int width, height;
+		final Chunk[] chunks;
+		final Array<Chunk> loaded = new Array<Chunk>(false, 16);
+		float opacity;
+
+		LayerChunks (TiledMapTileLayer layer, int chunkSize) {
+			this.layer = layer;
+			width = (layer.getWidth() + chunkSize - 1) / chunkSize;
+			height = (layer.getHeight() + chunkSize - 1) / chunkSize;
+			chunks = new Chunk[width * height];
+			opacity = layer.getOpacity();
+		}
+
+		Chunk get (int x, int y) {
+			return chunks[x + y * width];
+		}
+
+		Chunk obtain (int x, int y) {
+			Chunk chunk = chunks[x + y * width];
+			if (chunk == null) {
+				chunks[x + y * width] = chunk = new Chunk(x, y);
+				loaded.add(chunk);
+			}
+			return chunk;
+		}
+	}
+
+	static private class Chunk {
+		final int x, y;
+		Mesh mesh;
+		int quads;
+		/** The texture of each run of quads and the index of its first quad. */
+		final Array<Texture> textures = new Array<Texture>();
+		final IntArray runs = new IntArray();
+		/** The column and row of the cells with animated tiles. */
+		final IntArray animated = new IntArray();
+		AsyncResult<ChunkData> pending;
+		boolean dirty = true;
+
+		Chunk (int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	static class ChunkData {
+		float[] vertices;
+		int quads;
+		final Array<Texture> textures = new Array<Texture>();
+		final IntArray runs = new IntArray();
+		final IntArray animated = new IntArray();
+	}
+}
@@ -55,6 +55,9 @@ import com.badlogic.gdx.utils.reflect.ClassReflection;
  * @author mzechner
  * @author Nathan Sweet */
 public class Actor {
+	/** Ascendants of the targets of events fired without a stage. */
+	static private final Array<Group> ascendants = new Array(true, 16, Group.class);
+
 	private @Null Stage stage;
 	@Null Group parent;
 	private final DelayedRemovalArray<EventListener> listeners = new DelayedRemovalArray(0);
@@ -127,20 +130,22 @@ public class Actor {
 		if (event.getStage() == null) event.setStage(getStage());
 		event.setTarget(this);
 
-		// Collect ascendants so event propagation is unaffected by hierarchy changes.
-		Array<Group> ascendants = Pools.obtain(Array.class);
+		// Collect ascendants so event propagation is unaffected by hierarchy changes. They are pushed on a stack which is reused
+		// by every event, events fired by listeners push their ascendants above these.
+		Stage stage = event.getStage();
+		Array<Group> ascendants = stage != null ? stage.ascendants : Actor.ascendants;
+		int start = ascendants.size;
 		Group parent = this.parent;
 		while (parent != null) {
 			ascendants.add(parent);
 			parent = parent.parent;
 		}
+		int end = ascendants.size;
 
 		try {
 			// Notify ascendants' capture listeners, starting at the root. Ascendants may stop an event before children receive it.
-			Object[] ascendantsArray = ascendants.items;
-			for (int i = ascendants.size - 1; i >= 0; i--) {
-				Group currentTarget = (Group)ascendantsArray[i];
-				currentTarget.notify(event, true);
+			for (int i = end - 1; i >= start; i--) {
+				ascendants.get(i).notify(event, true);
 				if (event.isStopped()) return event.isCancelled();
 			}
 
@@ -154,15 +159,14 @@ public class Actor {
 			if (event.isStopped()) return event.isCancelled();
 
 			// Notify ascendants' actor listeners, starting at the target. Children may stop an event before ascendants receive it.
-			for (int i = 0, n = ascendants.size; i < n; i++) {
-				((Group)ascendantsArray[i]).notify(event, false);
+			for (int i = start; i < end; i++) {
+				ascendants.get(i).notify(event, false);
 				if (event.isStopped()) return event.isCancelled();
 			}
 
 			return event.isCancelled();
 		} finally {
-			ascendants.clear();
-			Pools.free(ascendants);
+			ascendants.truncate(start);
 		}
 	}
 
@@ -456,6 +460,7 @@ public class Actor {
 		if (this.x != x) {
 			this.x = x;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -471,6 +476,7 @@ public class Actor {
 		if (this.x != x) {
 			this.x = x;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -483,6 +489,7 @@ public class Actor {
 		if (this.y != y) {
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -498,6 +505,7 @@ public class Actor {
 		if (this.y != y) {
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -517,6 +525,7 @@ public class Actor {
 			this.x = x;
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -537,6 +546,7 @@ public class Actor {
 			this.x = x;
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -546,6 +556,7 @@ public class Actor {
 			this.x += x;
 			this.y += y;
 			positionChanged();
+			boundsChanged();
 		}
 	}
 
@@ -557,6 +568,7 @@ public class Actor {
 		if (this.width != width) {
 			this.width = width;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -568,6 +580,7 @@ public class Actor {
 		if (this.height != height) {
 			this.height = height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -581,6 +594,13 @@ public class Actor {
 		return x + width;
 	}
 
+	/** Updates the parent's {@link Group#setHitGrid(float) hit grid}, if any, after the position, size, scale, rotation, or origin
+	 * changed. */
+	private void boundsChanged () {
+		Group parent = this.parent;
+		if (parent != null && parent.hitGrid != null) parent.hitGrid.invalidate(this);
+	}
+
 	/** Called when the actor's position has been changed. */
 	protected void positionChanged () {
 	}
@@ -603,6 +623,7 @@ public class Actor {
 			this.width = width;
 			this.height = height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -612,6 +633,7 @@ public class Actor {
 			width += size;
 			height += size;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -621,6 +643,7 @@ public class Actor {
 			this.width += width;
 			this.height += height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -630,11 +653,13 @@ public class Actor {
 			this.x = x;
 			this.y = y;
 			positionChanged();
+			boundsChanged();
 		}
 		if (this.width != width || this.height != height) {
 			this.width = width;
 			this.height = height;
 			sizeChanged();
+			boundsChanged();
 		}
 	}
 
@@ -644,6 +669,7 @@ public class Actor {
 
 	public void setOriginX (float originX) {
 		this.originX = originX;
+		boundsChanged();
 	}
 
 	public float getOriginY () {
@@ -652,12 +678,14 @@ public class Actor {
 
 	public void setOriginY (float originY) {
 		this.originY = originY;
+		boundsChanged();
 	}
 
 	/** Sets the origin position which is relative to the actor's bottom left corner. */
 	public void setOrigin (float originX, float originY) {
 		this.originX = originX;
 		this.originY = originY;
+		boundsChanged();
 	}
 
 	/** Sets the origin position to the specified {@link Align alignment}. */
@@ -675,6 +703,7 @@ public class Actor {
 			originY = height;
 		else
 			originY = height / 2;
+		boundsChanged();
 	}
 
 	public float getScaleX () {
@@ -685,6 +714,7 @@ public class Actor {
 		if (this.scaleX != scaleX) {
 			this.scaleX = scaleX;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -696,6 +726,7 @@ public class Actor {
 		if (this.scaleY != scaleY) {
 			this.scaleY = scaleY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -705,6 +736,7 @@ public class Actor {
 			this.scaleX = scaleXY;
 			this.scaleY = scaleXY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -714,6 +746,7 @@ public class Actor {
 			this.scaleX = scaleX;
 			this.scaleY = scaleY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -723,6 +756,7 @@ public class Actor {
 			scaleX += scale;
 			scaleY += scale;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -732,6 +766,7 @@ public class Actor {
 			this.scaleX += scaleX;
 			this.scaleY += scaleY;
 			scaleChanged();
+			boundsChanged();
 		}
 	}
 
@@ -743,6 +778,7 @@ public class Actor {
 		if (this.rotation != degrees) {
 			this.rotation = degrees;
 			rotationChanged();
+			boundsChanged();
 		}
 	}
 
@@ -751,6 +787,7 @@ public class Actor {
 		if (amountInDegrees != 0) {
 			rotation = (rotation + amountInDegrees) % 360;
 			rotationChanged();
+			boundsChanged();
 		}
 	}
 
@@ -804,6 +841,7 @@ public class Actor {
 		if (children.get(index) == this) return false;
 		if (!children.removeValue(this, true)) return false;
 		children.insert(index, this);
+		if (parent.hitGrid != null) parent.hitGrid.invalidate();
 		return true;
 	}
 
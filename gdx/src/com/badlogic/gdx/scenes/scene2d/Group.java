@@ -42,6 +42,9 @@ public class Group extends Actor implements Cullable {
 	private final Matrix4 oldTransform = new Matrix4();
 	boolean transform = true;
 	private @Null Rectangle cullingArea;
+	private @Null Rectangle parentCullingArea, parentCullingAreaTemp;
+	private boolean inheritCullingArea = true;
+	@Null HitGrid hitGrid;
 
 	public void act (float delta) {
 		super.act(delta);
@@ -62,12 +65,19 @@ public class Group extends Actor implements Cullable {
 	/** Draws all children. {@link #applyTransform(Batch, Matrix4)} should be called before and {@link #resetTransform(Batch)}
 	 * after this method if {@link #setTransform(boolean) transform} is true. If {@link #setTransform(boolean) transform} is false
 	 * these methods don't need to be called, children positions are temporarily offset by the group position when drawn. This
-	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set. */
+	 * method avoids drawing children completely outside the {@link #setCullingArea(Rectangle) culling area}, if set, and while
+	 * drawing a child group which is partially inside the culling area, the culling area is passed down to that group. */
 	protected void drawChildren (Batch batch, float parentAlpha) {
 		parentAlpha *= this.color.a;
 		SnapshotArray<Actor> children = this.children;
 		Actor[] actors = children.begin();
 		Rectangle cullingArea = this.cullingArea;
+		// Without a culling area of its own, the bounds of a child with no size likely don't contain what it draws.
+		boolean drawEmpty = cullingArea == null;
+		if (parentCullingArea != null) {
+			if (cullingArea != null) intersect(parentCullingArea, cullingArea);
+			cullingArea = parentCullingArea;
+		}
 		if (cullingArea != null) {
 			// Draw children only if inside culling area.
 			float cullLeft = cullingArea.x;
@@ -79,8 +89,12 @@ public class Group extends Actor implements Cullable {
 					Actor child = actors[i];
 					if (!child.isVisible()) continue;
 					float cx = child.x, cy = child.y;
-					if (cx <= cullRight && cy <= cullTop && cx + child.width >= cullLeft && cy + child.height >= cullBottom)
+					if ((cx <= cullRight && cy <= cullTop && cx + child.width >= cullLeft && cy + child.height >= cullBottom)
+						|| (drawEmpty && (child.width == 0 || child.height == 0))) {
+						Group culled = child instanceof Group ? cullChild((Group)child, cullingArea) : null;
 						child.draw(batch, parentAlpha);
+						if (culled != null) culled.parentCullingArea = null;
+					}
 				}
 			} else {
 				// No transform for this group, offset each child.
@@ -91,12 +105,15 @@ public class Group extends Actor implements Cullable {
 					Actor child = actors[i];
 					if (!child.isVisible()) continue;
 					float cx = child.x, cy = child.y;
-					if (cx <= cullRight && cy <= cullTop && cx + child.width >= cullLeft && cy + child.height >= cullBottom) {
+					if ((cx <= cullRight && cy <= cullTop && cx + child.width >= cullLeft && cy + child.height >= cullBottom)
+						|| (drawEmpty && (child.width == 0 || child.height == 0))) {
+						Group culled = child instanceof Group ? cullChild((Group)child, cullingArea) : null;
 						child.x = cx + offsetX;
 						child.y = cy + offsetY;
 						child.draw(batch, parentAlpha);
 						child.x = cx;
 						child.y = cy;
+						if (culled != null) culled.parentCullingArea = null;
 					}
 				}
 				x = offsetX;
@@ -132,6 +149,44 @@ public class Group extends Actor implements Cullable {
 		children.end();
 	}
 
+	/** Sets the culling area the child uses for its next draw to this group's culling area in the child's coordinates. For a
+	 * rotated or scaled child, this is the bounding box of the transformed culling area.
+	 * @return The child, or null if the child doesn't inherit the culling area or is completely inside it, so its children don't
+	 *         need to be culled. */
+	private @Null Group cullChild (Group child, Rectangle cullingArea) {
+		if (!child.inheritCullingArea) return null;
+		float cx = child.x, cy = child.y, cullX = cullingArea.x, cullY = cullingArea.y;
+		Rectangle area = child.parentCullingAreaTemp;
+		if (area == null) child.parentCullingAreaTemp = area = new Rectangle();
+		if (child.rotation == 0 && child.scaleX == 1 && child.scaleY == 1) {
+			if (cx >= cullX && cy >= cullY && cx + child.width <= cullX + cullingArea.width
+				&& cy + child.height <= cullY + cullingArea.height) return null;
+			area.set(cullX - cx, cullY - cy, cullingArea.width, cullingArea.height);
+		} else {
+			float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				child.parentToLocalCoordinates(tmp.set(i == 1 || i == 2 ? cullX + cullingArea.width : cullX,
+					i >= 2 ? cullY + cullingArea.height : cullY));
+				minX = Math.min(minX, tmp.x);
+				minY = Math.min(minY, tmp.y);
+				maxX = Math.max(maxX, tmp.x);
+				maxY = Math.max(maxY, tmp.y);
+			}
+			area.set(minX, minY, maxX - minX, maxY - minY);
+		}
+		child.parentCullingArea = area;
+		return child;
+	}
+
+	/** Sets the first rectangle to the overlap of both rectangles, which may have a negative size if they don't overlap. */
+	static private void intersect (Rectangle rect, Rectangle other) {
+		float x = Math.max(rect.x, other.x), y = Math.max(rect.y, other.y);
+		rect.width = Math.min(rect.x + rect.width, other.x + other.width) - x;
+		rect.height = Math.min(rect.y + rect.height, other.y + other.height) - y;
+		rect.x = x;
+		rect.y = y;
+	}
+
 	/** Draws this actor's debug lines if {@link #getDebug()} is true and, regardless of {@link #getDebug()}, calls
 	 * {@link Actor#drawDebug(ShapeRenderer)} on each child. */
 	public void drawDebug (ShapeRenderer shapes) {
@@ -239,9 +294,25 @@ public class Group extends Actor implements Cullable {
 		return cullingArea;
 	}
 
+	/** If true, when the parent has a culling area, the children completely outside of the parent's culling area are not drawn,
+	 * even when this group has no culling area. This should be false for a group which draws its children somewhere other than
+	 * the parent's view, such as a frame buffer. Default is true. */
+	public void setInheritCullingArea (boolean inheritCullingArea) {
+		this.inheritCullingArea = inheritCullingArea;
+	}
+
+	public boolean getInheritCullingArea () {
+		return inheritCullingArea;
+	}
+
 	public @Null Actor hit (float x, float y, boolean touchable) {
 		if (touchable && getTouchable() == Touchable.disabled) return null;
 		if (!isVisible()) return null;
+		if (hitGrid != null) {
+			Actor hit = hitGrid.hit(x, y, touchable);
+			if (hit != null) return hit;
+			return super.hit(x, y, touchable);
+		}
 		Vector2 point = tmp;
 		Actor[] childrenArray = children.items;
 		for (int i = children.size - 1; i >= 0; i--) {
@@ -253,6 +324,25 @@ public class Group extends Actor implements Cullable {
 		return super.hit(x, y, touchable);
 	}
 
+	/** Enables a grid over the bounds of the children, so {@link #hit(float, float, boolean)} only tests the children near the
+	 * point instead of every child. This is useful for groups with many children, such as the actors in an editor. The grid is
+	 * updated when children are added, removed, reordered, moved, sized, scaled, or rotated. It assumes a child can only be hit
+	 * within its bounds, which is not the case for a child group having children outside of the group's bounds or an actor which
+	 * overrides {@link Actor#hit(float, float, boolean)} to be hit outside of its bounds.
+	 * @param cellSize The size of the grid cells in this group's coordinates, about the size of the children. 0 disables the grid
+	 *           (the default). */
+	public void setHitGrid (float cellSize) {
+		if (cellSize < 0) throw new IllegalArgumentException("cellSize cannot be < 0: " + cellSize);
+		if (hitGrid != null && hitGrid.cellSize == cellSize) return;
+		hitGrid = cellSize == 0 ? null : new HitGrid(this, cellSize);
+	}
+
+	/** Returns the cell size of the hit grid, or 0 if it is disabled.
+	 * @see #setHitGrid(float) */
+	public float getHitGrid () {
+		return hitGrid == null ? 0 : hitGrid.cellSize;
+	}
+
 	/** Called when actors are added to or removed from the group. */
 	protected void childrenChanged () {
 	}
@@ -267,6 +357,7 @@ public class Group extends Actor implements Cullable {
 		children.add(actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (hitGrid != null) hitGrid.invalidate();
 		childrenChanged();
 	}
 
@@ -284,6 +375,7 @@ public class Group extends Actor implements Cullable {
 			children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (hitGrid != null) hitGrid.invalidate();
 		childrenChanged();
 	}
 
@@ -298,6 +390,7 @@ public class Group extends Actor implements Cullable {
 		children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (hitGrid != null) hitGrid.invalidate();
 		childrenChanged();
 	}
 
@@ -316,6 +409,7 @@ public class Group extends Actor implements Cullable {
 			children.insert(index + 1, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (hitGrid != null) hitGrid.invalidate();
 		childrenChanged();
 	}
 
@@ -346,6 +440,7 @@ public class Group extends Actor implements Cullable {
 		}
 		actor.setParent(null);
 		actor.setStage(null);
+		if (hitGrid != null) hitGrid.invalidate();
 		childrenChanged();
 		return actor;
 	}
@@ -369,6 +464,7 @@ public class Group extends Actor implements Cullable {
 		}
 		children.end();
 		children.clear();
+		if (hitGrid != null) hitGrid.invalidate();
 		childrenChanged();
 	}
 
@@ -413,6 +509,7 @@ public class Group extends Actor implements Cullable {
 		if (first < 0 || first >= maxIndex) return false;
 		if (second < 0 || second >= maxIndex) return false;
 		children.swap(first, second);
+		if (hitGrid != null) hitGrid.invalidate();
 		return true;
 	}
 
@@ -422,6 +519,7 @@ public class Group extends Actor implements Cullable {
 		int secondIndex = children.indexOf(second, true);
 		if (firstIndex == -1 || secondIndex == -1) return false;
 		children.swap(firstIndex, secondIndex);
+		if (hitGrid != null) hitGrid.invalidate();
 		return true;
 	}
 
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A uniform grid over the bounds of a group's children, used by {@link Group#hit(float, float, boolean)} to test only the
+ * children near the point. Each child is stored in every cell its axis aligned bounds in the group's coordinates overlap, or in
+ * a list which is always tested if it overlaps too many cells. Bounds changes are collected by {@link #invalidate(Actor)} and
+ * applied on the next hit, changes to the children or their order cause the grid to be rebuilt.
+ * @see Group#setHitGrid(float) */
+class HitGrid {
+	static private final int maxCells = 16;
+
+	private final Group group;
+	final float cellSize;
+	private final LongMap<Array<Entry>> cells = new LongMap();
+	private final Array<Array<Entry>> freeCells = new Array();
+	private final ObjectMap<Actor, Entry> entries = new ObjectMap();
+	private final Array<Entry> entryPool = new Array();
+	private final Array<Entry> large = new Array(false, 16, Entry.class);
+	private final Array<Entry> dirty = new Array(false, 16, Entry.class);
+	private final Array<Entry> candidates = new Array(false, 16, Entry.class);
+	private final Vector2 tmp = new Vector2();
+	private boolean rebuild = true;
+
+	HitGrid (Group group, float cellSize) {
+		if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+		this.group = group;
+		this.cellSize = cellSize;
+	}
+
+	/** Causes the grid to be rebuilt on the next hit. Called when children are added, removed, or reordered. */
+	void invalidate () {
+		rebuild = true;
+	}
+
+	/** Causes the cells of the specified child to be updated on the next hit. Called when the child's bounds change. */
+	void invalidate (Actor child) {
+		if (rebuild) return;
+		Entry entry = entries.get(child);
+		if (entry == null || entry.dirty) return;
+		entry.dirty = true;
+		dirty.add(entry);
+	}
+
+	/** Returns the topmost child hit at the point in the group's coordinates, or null. */
+	@Null
+	Actor hit (float x, float y, boolean touchable) {
+		validate();
+
+		Array<Entry> candidates = this.candidates;
+		Array<Entry> cell = cells.get(key((int)Math.floor(x / cellSize), (int)Math.floor(y / cellSize)));
+		if (cell != null) addCandidates(cell, x, y);
+		addCandidates(large, x, y);
+
+		// Highest index first, the same order as testing all children.
+		Entry[] items = candidates.items;
+		for (int i = 1, n = candidates.size; i < n; i++) {
+			Entry entry = items[i];
+			int j = i - 1;
+			for (; j >= 0 && items[j].index < entry.index; j--)
+				items[j + 1] = items[j];
+			items[j + 1] = entry;
+		}
+
+		Vector2 point = tmp;
+		for (int i = 0, n = candidates.size; i < n; i++) {
+			Actor child = items[i].actor;
+			child.parentToLocalCoordinates(point.set(x, y));
+			Actor hit = child.hit(point.x, point.y, touchable);
+			if (hit != null) {
+				candidates.clear();
+				return hit;
+			}
+		}
+		candidates.clear();
+		return null;
+	}
+
+	private void addCandidates (Array<Entry> entries, float x, float y) {
+		Entry[] items = entries.items;
+		for (int i = 0, n = entries.size; i < n; i++) {
+			Entry entry = items[i];
+			if (x >= entry.minX && x <= entry.maxX && y >= entry.minY && y <= entry.maxY) candidates.add(entry);
+		}
+	}
+
+	private void validate () {
+		if (rebuild) {
+			rebuild = false;
+			clear();
+			Actor[] children = group.children.items;
+			for (int i = 0, n = group.children.size; i < n; i++) {
+				Entry entry = entryPool.size > 0 ? entryPool.pop() : new Entry();
+				entry.actor = children[i];
+				entry.index = i;
+				entries.put(entry.actor, entry);
+				insert(entry);
+			}
+			return;
+		}
+		if (dirty.size == 0) return;
+		Entry[] items = dirty.items;
+		for (int i = 0, n = dirty.size; i < n; i++) {
+			Entry entry = items[i];
+			entry.dirty = false;
+			remove(entry);
+			insert(entry);
+		}
+		dirty.clear();
+	}
+
+	private void insert (Entry entry) {
+		Actor actor = entry.actor;
+		if (actor.rotation == 0 && actor.scaleX == 1 && actor.scaleY == 1) {
+			entry.minX = Math.min(actor.x, actor.x + actor.width);
+			entry.minY = Math.min(actor.y, actor.y + actor.height);
+			entry.maxX = Math.max(actor.x, actor.x + actor.width);
+			entry.maxY = Math.max(actor.y, actor.y + actor.height);
+		} else {
+			// Bounds of the transformed corners.
+			entry.minX = entry.minY = Float.POSITIVE_INFINITY;
+			entry.maxX = entry.maxY = Float.NEGATIVE_INFINITY;
+			corner(entry, 0, 0);
+			corner(entry, actor.width, 0);
+			corner(entry, actor.width, actor.height);
+			corner(entry, 0, actor.height);
+		}
+
+		int x1 = (int)Math.floor(entry.minX / cellSize), y1 = (int)Math.floor(entry.minY / cellSize);
+		int x2 = (int)Math.floor(entry.maxX / cellSize), y2 = (int)Math.floor(entry.maxY / cellSize);
+		entry.x1 = x1;
+		entry.y1 = y1;
+		entry.x2 = x2;
+		entry.y2 = y2;
+		if ((long)(x2 - x1 + 1) * (y2 - y1 + 1) > maxCells) {
+			entry.large = true;
+			large.add(entry);
+			return;
+		}
+		entry.large = false;
+		for (int cx = x1; cx <= x2; cx++) {
+			for (int cy = y1; cy <= y2; cy++) {
+				long key = key(cx, cy);
+				Array<Entry> cell = cells.get(key);
+				if (cell == null) {
+					cell = freeCells.size > 0 ? freeCells.pop() : new Array(false, 4, Entry.class);
+					cells.put(key, cell);
+				}
+				cell.add(entry);
+			}
+		}
+	}
+
+	private void corner (Entry entry, float x, float y) {
+		Vector2 point = entry.actor.localToParentCoordinates(tmp.set(x, y));
+		entry.minX = Math.min(entry.minX, point.x);
+		entry.minY = Math.min(entry.minY, point.y);
+		entry.maxX = Math.max(entry.maxX, point.x);
+		entry.maxY = Math.max(entry.maxY, point.y);
+	}
+
+	private void remove (Entry entry) {
+		if (entry.large) {
+			large.removeValue(entry, true);
+			return;
+		}
+		for (int cx = entry.x1; cx <= entry.x2; cx++) {
+			for (int cy = entry.y1; cy <= entry.y2; cy++) {
+				long key = key(cx, cy);
+				Array<Entry> cell = cells.get(key);
+				cell.removeValue(entry, true);
+				if (cell.size == 0) freeCells.add(cells.remove(key));
+			}
+		}
+	}
+
+	private void clear () {
+		for (Array<Entry> cell : cells.values()) {
+			cell.clear();
+			freeCells.add(cell);
+		}
+		cells.clear();
+		for (Entry entry : entries.values()) {
+			entry.actor = null;
+			entry.dirty = false;
+			entryPool.add(entry);
+		}
+		entries.clear();
+		large.clear();
+		dirty.clear();
+	}
+
+	static private long key (int x, int y) {
+		return (long)x << 32 | (y & 0xffffffffL);
+	}
+
+	static private class Entry {
+		@Null Actor actor;
+		int index;
+		float minX, minY, maxX, maxY;
+		int x1, y1, x2, y2;
+		boolean large, dirty;
+	}
+}
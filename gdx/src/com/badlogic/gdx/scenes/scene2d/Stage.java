@@ -33,6 +33,7 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent.Type;
+import com.badlogic.gdx.scenes.scene2d.actions.Tweens;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Table.Debug;
 import com.badlogic.gdx.scenes.scene2d.utils.FocusListener;
@@ -41,6 +42,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.badlogic.gdx.utils.Pools;
 import com.badlogic.gdx.utils.Scaling;
@@ -79,6 +81,14 @@ public class Stage extends InputAdapter implements Disposable {
 	private @Null Actor mouseOverActor;
 	private @Null Actor keyboardFocus, scrollFocus;
 	final SnapshotArray<TouchFocus> touchFocuses = new SnapshotArray(true, 4, TouchFocus.class);
+	/** Ascendants of the targets of the events being fired, see {@link Actor#fire(Event)}. */
+	final Array<Group> ascendants = new Array(true, 16, Group.class);
+	private final Pool<InputEvent> inputEvents = new Pool<InputEvent>() {
+		protected InputEvent newObject () {
+			return new InputEvent();
+		}
+	};
+	private @Null Tweens tweens;
 	private boolean actionsRequestRendering = true;
 
 	private ShapeRenderer debugShapes;
@@ -209,6 +219,11 @@ public class Stage extends InputAdapter implements Disposable {
 			mouseOverActor = fireEnterAndExit(mouseOverActor, mouseScreenX, mouseScreenY, -1);
 
 		root.act(delta);
+
+		if (tweens != null && tweens.getCount() > 0) {
+			tweens.update(delta);
+			if (actionsRequestRendering) Gdx.graphics.requestRendering();
+		}
 	}
 
 	private @Null Actor fireEnterAndExit (@Null Actor overLast, int screenX, int screenY, int pointer) {
@@ -219,7 +234,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		// Exit overLast.
 		if (overLast != null) {
-			InputEvent event = Pools.obtain(InputEvent.class);
+			InputEvent event = inputEvents.obtain();
 			event.setType(InputEvent.Type.exit);
 			event.setStage(this);
 			event.setStageX(tempCoords.x);
@@ -227,12 +242,12 @@ public class Stage extends InputAdapter implements Disposable {
 			event.setPointer(pointer);
 			event.setRelatedActor(over);
 			overLast.fire(event);
-			Pools.free(event);
+			inputEvents.free(event);
 		}
 
 		// Enter over.
 		if (over != null) {
-			InputEvent event = Pools.obtain(InputEvent.class);
+			InputEvent event = inputEvents.obtain();
 			event.setType(InputEvent.Type.enter);
 			event.setStage(this);
 			event.setStageX(tempCoords.x);
@@ -240,14 +255,14 @@ public class Stage extends InputAdapter implements Disposable {
 			event.setPointer(pointer);
 			event.setRelatedActor(overLast);
 			over.fire(event);
-			Pools.free(event);
+			inputEvents.free(event);
 		}
 		return over;
 	}
 
 	private void fireExit (Actor actor, int screenX, int screenY, int pointer) {
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(InputEvent.Type.exit);
 		event.setStage(this);
 		event.setStageX(tempCoords.x);
@@ -255,7 +270,7 @@ public class Stage extends InputAdapter implements Disposable {
 		event.setPointer(pointer);
 		event.setRelatedActor(actor);
 		actor.fire(event);
-		Pools.free(event);
+		inputEvents.free(event);
 	}
 
 	/** Applies a touch down event to the stage and returns true if an actor in the scene {@link Event#handle() handled} the
@@ -269,7 +284,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
 
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(Type.touchDown);
 		event.setStage(this);
 		event.setStageX(tempCoords.x);
@@ -284,7 +299,7 @@ public class Stage extends InputAdapter implements Disposable {
 			target.fire(event);
 
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -300,7 +315,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
 
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(Type.touchDragged);
 		event.setStage(this);
 		event.setStageX(tempCoords.x);
@@ -320,7 +335,7 @@ public class Stage extends InputAdapter implements Disposable {
 		touchFocuses.end();
 
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -335,7 +350,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
 
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(Type.touchUp);
 		event.setStage(this);
 		event.setStageX(tempCoords.x);
@@ -357,7 +372,7 @@ public class Stage extends InputAdapter implements Disposable {
 		touchFocuses.end();
 
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -376,7 +391,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		screenToStageCoordinates(tempCoords.set(screenX, screenY));
 
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(Type.mouseMoved);
 		event.setStage(this);
 		event.setStageX(tempCoords.x);
@@ -387,7 +402,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		target.fire(event);
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -398,7 +413,7 @@ public class Stage extends InputAdapter implements Disposable {
 
 		screenToStageCoordinates(tempCoords.set(mouseScreenX, mouseScreenY));
 
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(InputEvent.Type.scrolled);
 		event.setStage(this);
 		event.setStageX(tempCoords.x);
@@ -407,7 +422,7 @@ public class Stage extends InputAdapter implements Disposable {
 		event.setScrollAmountY(amountY);
 		target.fire(event);
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -415,13 +430,13 @@ public class Stage extends InputAdapter implements Disposable {
 	 * true if the event was {@link Event#handle() handled}. */
 	public boolean keyDown (int keyCode) {
 		Actor target = keyboardFocus == null ? root : keyboardFocus;
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(InputEvent.Type.keyDown);
 		event.setStage(this);
 		event.setKeyCode(keyCode);
 		target.fire(event);
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -429,13 +444,13 @@ public class Stage extends InputAdapter implements Disposable {
 	 * if the event was {@link Event#handle() handled}. */
 	public boolean keyUp (int keyCode) {
 		Actor target = keyboardFocus == null ? root : keyboardFocus;
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(InputEvent.Type.keyUp);
 		event.setStage(this);
 		event.setKeyCode(keyCode);
 		target.fire(event);
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -443,13 +458,13 @@ public class Stage extends InputAdapter implements Disposable {
 	 * true if the event was {@link Event#handle() handled}. */
 	public boolean keyTyped (char character) {
 		Actor target = keyboardFocus == null ? root : keyboardFocus;
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(InputEvent.Type.keyTyped);
 		event.setStage(this);
 		event.setCharacter(character);
 		target.fire(event);
 		boolean handled = event.isHandled();
-		Pools.free(event);
+		inputEvents.free(event);
 		return handled;
 	}
 
@@ -495,7 +510,7 @@ public class Stage extends InputAdapter implements Disposable {
 			if (!touchFocuses.removeValue(focus, true)) continue; // Touch focus already gone.
 
 			if (event == null) {
-				event = Pools.obtain(InputEvent.class);
+				event = inputEvents.obtain();
 				event.setType(InputEvent.Type.touchUp);
 				event.setStage(this);
 				event.setStageX(Integer.MIN_VALUE);
@@ -511,7 +526,7 @@ public class Stage extends InputAdapter implements Disposable {
 		}
 		touchFocuses.end();
 
-		if (event != null) Pools.free(event);
+		if (event != null) inputEvents.free(event);
 	}
 
 	/** Removes all touch focus listeners, sending a touchUp event to each listener. Listeners typically expect to receive a
@@ -524,7 +539,7 @@ public class Stage extends InputAdapter implements Disposable {
 	/** Cancels touch focus for all listeners except the specified listener.
 	 * @see #cancelTouchFocus() */
 	public void cancelTouchFocusExcept (@Null EventListener exceptListener, @Null Actor exceptActor) {
-		InputEvent event = Pools.obtain(InputEvent.class);
+		InputEvent event = inputEvents.obtain();
 		event.setType(InputEvent.Type.touchUp);
 		event.setStage(this);
 		event.setStageX(Integer.MIN_VALUE);
@@ -547,7 +562,7 @@ public class Stage extends InputAdapter implements Disposable {
 		}
 		touchFocuses.end();
 
-		Pools.free(event);
+		inputEvents.free(event);
 	}
 
 	/** Adds an actor to the root of the stage.
@@ -613,6 +628,7 @@ public class Stage extends InputAdapter implements Disposable {
 	public void clear () {
 		unfocusAll();
 		root.clear();
+		if (tweens != null) tweens.clear();
 	}
 
 	/** Removes the touch, keyboard, and scroll focused actors. */
@@ -731,6 +747,12 @@ public class Stage extends InputAdapter implements Disposable {
 		return root;
 	}
 
+	/** Returns the tweens which are updated after the actors act, creating them if necessary. */
+	public Tweens getTweens () {
+		if (tweens == null) tweens = new Tweens(this);
+		return tweens;
+	}
+
 	/** Replaces the root group. This can be useful, for example, to subclass the root group to be notified by
 	 * {@link Group#childrenChanged()}. */
 	public void setRoot (Group root) {
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Null;
+
+/** An action which runs a tween on the {@link Stage#getTweens() stage's tweens} and is done when the tween is complete. The tween
+ * is started the first time the action acts. If the target is not in a stage, the tween runs on tweens owned by the action,
+ * which are updated when the action acts. If the target is moved to another stage, or into or out of a stage, the tween is
+ * continued there from the target's current values to the same end values in the rest of the duration. Removing the action
+ * from the actor cancels the tween.
+ * <p>
+ * The stage updates the tweens after the actors act, so the action is done in the frame in which the tween completes and the
+ * next action of a sequence starts in the following frame, as with {@link TemporalAction}.
+ * @see TweenActions */
+public class TweenAction extends Action {
+	private int property;
+	private boolean relative;
+	private float value1, value2, value3, value4, duration;
+	private @Null Interpolation interpolation;
+	private @Null Tweens tweens, ownTweens;
+	private int id;
+	private float time;
+	private boolean complete;
+	private final float[] end = new float[4];
+
+	public boolean act (float delta) {
+		if (complete) return true;
+		Stage stage = target.getStage();
+		Tweens tweens;
+		if (stage != null)
+			tweens = stage.getTweens();
+		else {
+			if (ownTweens == null) ownTweens = new Tweens();
+			tweens = ownTweens;
+		}
+		if (tweens != this.tweens) {
+			if (this.tweens == null) {
+				id = tweens.start(target, property, relative, value1, value2, value3, value4, duration, interpolation);
+				tweens.getEnd(id, end);
+			} else {
+				// The target is in another stage, the old tweens may already have removed the tween.
+				this.tweens.cancel(id);
+				id = tweens.start(target, property, false, end[0], end[1], end[2], end[3], Math.max(0, duration - time),
+					interpolation);
+			}
+			this.tweens = tweens;
+		}
+		time += delta;
+		if (tweens == ownTweens) {
+			tweens.update(delta);
+			complete = !tweens.isActive(id);
+		} else {
+			// The stage updates the tween after the actors act, that update sets the final values if the tween completes.
+			complete = tweens.isComplete(id, delta);
+		}
+		return complete;
+	}
+
+	/** Cancels the tween, if it is running. A tween which completes in this frame is not canceled, so it sets the final values. */
+	public void restart () {
+		if (tweens != null) {
+			if (!complete) tweens.cancel(id);
+			tweens = null;
+		}
+		time = 0;
+		complete = false;
+	}
+
+	public void setActor (Actor actor) {
+		if (actor == null) restart();
+		super.setActor(actor);
+	}
+
+	public void reset () {
+		super.reset();
+		restart();
+		interpolation = null;
+		relative = false;
+		value1 = value2 = value3 = value4 = 0;
+		duration = 0;
+	}
+
+	void set (int property, boolean relative, float value1, float value2, float value3, float value4) {
+		this.property = property;
+		this.relative = relative;
+		this.value1 = value1;
+		this.value2 = value2;
+		this.value3 = value3;
+		this.value4 = value4;
+	}
+
+	public float getDuration () {
+		return duration;
+	}
+
+	/** Sets the length of the transition in seconds. */
+	public void setDuration (float duration) {
+		this.duration = duration;
+	}
+
+	public @Null Interpolation getInterpolation () {
+		return interpolation;
+	}
+
+	public void setInterpolation (@Null Interpolation interpolation) {
+		this.interpolation = interpolation;
+	}
+}
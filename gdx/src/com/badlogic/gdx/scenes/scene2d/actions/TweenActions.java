@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.Null;
+
+/** Static methods with the same signatures as the {@link Actions} which transition actor properties, intended for static import.
+ * The {@link TweenAction actions} run on the {@link Tweens} of the actor's stage, which is much faster when thousands of actors
+ * are animated. Unlike the actions they replace, relative actions end at the start value plus the amount and
+ * {@link #moveTo(float, float)} does not support an alignment. */
+public class TweenActions {
+	static public TweenAction moveTo (float x, float y) {
+		return moveTo(x, y, 0, null);
+	}
+
+	static public TweenAction moveTo (float x, float y, float duration) {
+		return moveTo(x, y, duration, null);
+	}
+
+	static public TweenAction moveTo (float x, float y, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.position, false, x, y, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction moveBy (float amountX, float amountY) {
+		return moveBy(amountX, amountY, 0, null);
+	}
+
+	static public TweenAction moveBy (float amountX, float amountY, float duration) {
+		return moveBy(amountX, amountY, duration, null);
+	}
+
+	static public TweenAction moveBy (float amountX, float amountY, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.position, true, amountX, amountY, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction sizeTo (float x, float y) {
+		return sizeTo(x, y, 0, null);
+	}
+
+	static public TweenAction sizeTo (float x, float y, float duration) {
+		return sizeTo(x, y, duration, null);
+	}
+
+	static public TweenAction sizeTo (float x, float y, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.size, false, x, y, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction sizeBy (float amountX, float amountY) {
+		return sizeBy(amountX, amountY, 0, null);
+	}
+
+	static public TweenAction sizeBy (float amountX, float amountY, float duration) {
+		return sizeBy(amountX, amountY, duration, null);
+	}
+
+	static public TweenAction sizeBy (float amountX, float amountY, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.size, true, amountX, amountY, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction scaleTo (float x, float y) {
+		return scaleTo(x, y, 0, null);
+	}
+
+	static public TweenAction scaleTo (float x, float y, float duration) {
+		return scaleTo(x, y, duration, null);
+	}
+
+	static public TweenAction scaleTo (float x, float y, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.scale, false, x, y, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction scaleBy (float amountX, float amountY) {
+		return scaleBy(amountX, amountY, 0, null);
+	}
+
+	static public TweenAction scaleBy (float amountX, float amountY, float duration) {
+		return scaleBy(amountX, amountY, duration, null);
+	}
+
+	static public TweenAction scaleBy (float amountX, float amountY, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.scale, true, amountX, amountY, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction rotateTo (float rotation) {
+		return rotateTo(rotation, 0, null);
+	}
+
+	static public TweenAction rotateTo (float rotation, float duration) {
+		return rotateTo(rotation, duration, null);
+	}
+
+	static public TweenAction rotateTo (float rotation, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.rotation, false, rotation, 0, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction rotateBy (float rotationAmount) {
+		return rotateBy(rotationAmount, 0, null);
+	}
+
+	static public TweenAction rotateBy (float rotationAmount, float duration) {
+		return rotateBy(rotationAmount, duration, null);
+	}
+
+	static public TweenAction rotateBy (float rotationAmount, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.rotation, true, rotationAmount, 0, 0, 0, duration, interpolation);
+	}
+
+	static public TweenAction color (Color color) {
+		return color(color, 0, null);
+	}
+
+	static public TweenAction color (Color color, float duration) {
+		return color(color, duration, null);
+	}
+
+	static public TweenAction color (Color color, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.color, false, color.r, color.g, color.b, color.a, duration, interpolation);
+	}
+
+	static public TweenAction alpha (float a) {
+		return alpha(a, 0, null);
+	}
+
+	static public TweenAction alpha (float a, float duration) {
+		return alpha(a, duration, null);
+	}
+
+	static public TweenAction alpha (float a, float duration, @Null Interpolation interpolation) {
+		return tween(Tweens.alpha, false, a, 0, 0, 0, duration, interpolation);
+	}
+
+	/** Transitions the alpha from the current value to 0. */
+	static public TweenAction fadeOut (float duration) {
+		return alpha(0, duration, null);
+	}
+
+	static public TweenAction fadeOut (float duration, @Null Interpolation interpolation) {
+		return alpha(0, duration, interpolation);
+	}
+
+	/** Transitions the alpha from the current value to 1. */
+	static public TweenAction fadeIn (float duration) {
+		return alpha(1, duration, null);
+	}
+
+	static public TweenAction fadeIn (float duration, @Null Interpolation interpolation) {
+		return alpha(1, duration, interpolation);
+	}
+
+	static private TweenAction tween (int property, boolean relative, float value1, float value2, float value3, float value4,
+		float duration, @Null Interpolation interpolation) {
+		TweenAction action = Actions.action(TweenAction.class);
+		action.set(property, relative, value1, value2, value3, value4);
+		action.setDuration(duration);
+		action.setInterpolation(interpolation);
+		return action;
+	}
+}
@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.Null;
+
+/** Transitions actor properties over time without an {@link com.badlogic.gdx.scenes.scene2d.Action} object per transition.
+ * Tweens with the same property and {@link Interpolation} are stored together in primitive arrays and all are updated in a
+ * single loop, which is much cheaper than thousands of actors each acting on their own actions.
+ * <p>
+ * A stage has tweens which are updated by {@link Stage#act(float)} after the actors act, see {@link Stage#getTweens()}.
+ * {@link TweenActions} creates actions which run on the stage's tweens, so they can be used in sequences and other actions.
+ * <p>
+ * The start values are taken from the actor when a tween is started, so a relative tween such as
+ * {@link #moveBy(Actor, float, float, float, Interpolation)} ends at the start value plus the amount, even if the actor is moved
+ * by something else meanwhile.
+ * <p>
+ * The tweens of a stage are removed when their actor is no longer in the stage, see {@link #Tweens(Stage)}. */
+public class Tweens {
+	static final int position = 0, size = 1, scale = 2, rotation = 3, alpha = 4, color = 5;
+	static private final int[] valueCounts = {2, 2, 2, 1, 1, 4};
+
+	private final Array<Block> blocks = new Array(false, 8, Block.class);
+	private final IntMap<Block> tweenBlocks = new IntMap();
+	private final @Null Stage stage;
+	private int nextId = 1, count;
+	private @Null Block updating;
+
+	public Tweens () {
+		this(null);
+	}
+
+	/** @param stage If not null, {@link #update(float)} removes the tweens of actors which are not in the stage, so actors which
+	 *           are removed from the stage are not kept. An actor which is added to another group before the update, keeps its
+	 *           tweens. */
+	public Tweens (@Null Stage stage) {
+		this.stage = stage;
+	}
+
+	/** Moves the actor from its current position to the specified position.
+	 * @param interpolation May be null for linear.
+	 * @return The ID of the tween, see {@link #isActive(int)} and {@link #cancel(int)}. */
+	public int moveTo (Actor actor, float x, float y, float duration, @Null Interpolation interpolation) {
+		return start(actor, position, false, x, y, 0, 0, duration, interpolation);
+	}
+
+	public int moveBy (Actor actor, float amountX, float amountY, float duration, @Null Interpolation interpolation) {
+		return start(actor, position, true, amountX, amountY, 0, 0, duration, interpolation);
+	}
+
+	public int sizeTo (Actor actor, float width, float height, float duration, @Null Interpolation interpolation) {
+		return start(actor, size, false, width, height, 0, 0, duration, interpolation);
+	}
+
+	public int sizeBy (Actor actor, float amountWidth, float amountHeight, float duration, @Null Interpolation interpolation) {
+		return start(actor, size, true, amountWidth, amountHeight, 0, 0, duration, interpolation);
+	}
+
+	public int scaleTo (Actor actor, float scaleX, float scaleY, float duration, @Null Interpolation interpolation) {
+		return start(actor, scale, false, scaleX, scaleY, 0, 0, duration, interpolation);
+	}
+
+	public int scaleBy (Actor actor, float amountX, float amountY, float duration, @Null Interpolation interpolation) {
+		return start(actor, scale, true, amountX, amountY, 0, 0, duration, interpolation);
+	}
+
+	public int rotateTo (Actor actor, float rotation, float duration, @Null Interpolation interpolation) {
+		return start(actor, Tweens.rotation, false, rotation, 0, 0, 0, duration, interpolation);
+	}
+
+	public int rotateBy (Actor actor, float amount, float duration, @Null Interpolation interpolation) {
+		return start(actor, rotation, true, amount, 0, 0, 0, duration, interpolation);
+	}
+
+	/** Transitions the alpha of the actor's color. */
+	public int alpha (Actor actor, float alpha, float duration, @Null Interpolation interpolation) {
+		return start(actor, Tweens.alpha, false, alpha, 0, 0, 0, duration, interpolation);
+	}
+
+	/** Transitions the actor's color, including the alpha. */
+	public int color (Actor actor, Color color, float duration, @Null Interpolation interpolation) {
+		return start(actor, Tweens.color, false, color.r, color.g, color.b, color.a, duration, interpolation);
+	}
+
+	int start (Actor actor, int property, boolean relative, float value1, float value2, float value3, float value4,
+		float duration, @Null Interpolation interpolation) {
+		if (actor == null) throw new IllegalArgumentException("actor cannot be null.");
+		if (interpolation == null) interpolation = Interpolation.linear;
+		Block block = block(property, interpolation);
+		int id = nextId++;
+		if (nextId == 0) nextId = 1;
+		int index = block.add(id, actor, duration);
+		int offset = index * block.values;
+		float[] start = block.start, end = block.end;
+		switch (property) {
+		case position:
+			start[offset] = actor.getX();
+			start[offset + 1] = actor.getY();
+			break;
+		case size:
+			start[offset] = actor.getWidth();
+			start[offset + 1] = actor.getHeight();
+			break;
+		case scale:
+			start[offset] = actor.getScaleX();
+			start[offset + 1] = actor.getScaleY();
+			break;
+		case rotation:
+			start[offset] = actor.getRotation();
+			break;
+		case alpha:
+			start[offset] = actor.getColor().a;
+			break;
+		case color:
+			Color actorColor = actor.getColor();
+			start[offset] = actorColor.r;
+			start[offset + 1] = actorColor.g;
+			start[offset + 2] = actorColor.b;
+			start[offset + 3] = actorColor.a;
+			break;
+		}
+		end[offset] = value1;
+		if (block.values > 1) end[offset + 1] = value2;
+		if (block.values > 2) {
+			end[offset + 2] = value3;
+			end[offset + 3] = value4;
+		}
+		if (relative) {
+			for (int i = offset, n = offset + block.values; i < n; i++)
+				end[i] += start[i];
+		}
+		tweenBlocks.put(id, block);
+		count++;
+		return id;
+	}
+
+	private Block block (int property, Interpolation interpolation) {
+		Block[] blocks = this.blocks.items;
+		for (int i = 0, n = this.blocks.size; i < n; i++) {
+			Block block = blocks[i];
+			if (block.property == property && block.interpolation == interpolation) return block;
+		}
+		Block block = new Block(property, interpolation);
+		this.blocks.add(block);
+		return block;
+	}
+
+	/** Updates all tweens. Tweens which are complete are removed after the actor has its final values. */
+	public void update (float delta) {
+		for (int i = 0, n = blocks.size; i < n; i++) {
+			Block block = blocks.get(i);
+			if (block.size == 0) continue;
+			updating = block;
+			try {
+				update(block, delta);
+			} finally {
+				updating = null;
+			}
+		}
+	}
+
+	private void update (Block block, float delta) {
+		Interpolation interpolation = block.interpolation;
+		int property = block.property, values = block.values;
+		for (int i = 0; i < block.size;) {
+			// Tweens started by the actor's setters may have resized the arrays.
+			float[] times = block.times, start = block.start, end = block.end;
+			Actor actor = block.actors[i];
+			if (actor == null || (stage != null && actor.getStage() != stage)) { // Canceled during this update or not in the stage.
+				remove(block, i);
+				continue;
+			}
+			float time = times[i] + delta, duration = block.durations[i];
+			boolean complete = time >= duration;
+			float percent = complete ? 1 : interpolation.apply(time / duration);
+			times[i] = time;
+			int o = i * values;
+			switch (property) {
+			case position:
+				actor.setPosition(start[o] + (end[o] - start[o]) * percent, start[o + 1] + (end[o + 1] - start[o + 1]) * percent);
+				break;
+			case size:
+				actor.setSize(start[o] + (end[o] - start[o]) * percent, start[o + 1] + (end[o + 1] - start[o + 1]) * percent);
+				break;
+			case scale:
+				actor.setScale(start[o] + (end[o] - start[o]) * percent, start[o + 1] + (end[o + 1] - start[o + 1]) * percent);
+				break;
+			case rotation:
+				actor.setRotation(start[o] + (end[o] - start[o]) * percent);
+				break;
+			case alpha:
+				actor.getColor().a = start[o] + (end[o] - start[o]) * percent;
+				break;
+			case color:
+				actor.getColor().set(start[o] + (end[o] - start[o]) * percent, start[o + 1] + (end[o + 1] - start[o + 1]) * percent,
+					start[o + 2] + (end[o + 2] - start[o + 2]) * percent, start[o + 3] + (end[o + 3] - start[o + 3]) * percent);
+				break;
+			}
+			// The actor's setters may have canceled this tween.
+			if (complete || block.actors[i] == null)
+				remove(block, i);
+			else
+				i++;
+		}
+	}
+
+	private void remove (Block block, int index) {
+		if (block.actors[index] != null) {
+			tweenBlocks.remove(block.ids[index]);
+			count--;
+		}
+		block.remove(index);
+	}
+
+	/** Cancels a tween in the block being updated. It is removed by the update loop, so the loop doesn't skip a tween. */
+	private void cancelUpdating (Block block, int index) {
+		if (block.actors[index] == null) return;
+		tweenBlocks.remove(block.ids[index]);
+		block.actors[index] = null;
+		count--;
+	}
+
+	/** Returns true if the tween with the specified ID has not completed and was not canceled. */
+	public boolean isActive (int id) {
+		return tweenBlocks.containsKey(id);
+	}
+
+	/** Returns true if the tween with the specified ID is not active or completes when it is next updated by the delta. */
+	boolean isComplete (int id, float delta) {
+		Block block = tweenBlocks.get(id);
+		if (block == null) return true;
+		int index = block.slots.get(id, 0);
+		return block.actors[index] == null || block.times[index] + delta >= block.durations[index];
+	}
+
+	/** Stores the values the active tween with the specified ID ends at. Relative tweens have the amount added to the start. */
+	void getEnd (int id, float[] end) {
+		Block block = tweenBlocks.get(id);
+		int values = block.values;
+		System.arraycopy(block.end, block.slots.get(id, 0) * values, end, 0, values);
+	}
+
+	/** Stops the tween with the specified ID, leaving the actor's values as they are. Does nothing if the tween is not active. */
+	public void cancel (int id) {
+		Block block = tweenBlocks.get(id);
+		if (block == null) return;
+		int index = block.slots.get(id, 0);
+		if (block == updating)
+			cancelUpdating(block, index);
+		else
+			remove(block, index);
+	}
+
+	/** Stops all tweens for the specified actor. */
+	public void cancel (Actor actor) {
+		Block[] blocks = this.blocks.items;
+		for (int i = 0, n = this.blocks.size; i < n; i++) {
+			Block block = blocks[i];
+			Actor[] actors = block.actors;
+			for (int ii = block.size - 1; ii >= 0; ii--) {
+				if (actors[ii] != actor) continue;
+				if (block == updating)
+					cancelUpdating(block, ii);
+				else
+					remove(block, ii);
+			}
+		}
+	}
+
+	/** Stops all tweens. */
+	public void clear () {
+		Block[] blocks = this.blocks.items;
+		for (int i = 0, n = this.blocks.size; i < n; i++) {
+			Block block = blocks[i];
+			if (block == updating) {
+				for (int ii = 0; ii < block.size; ii++)
+					cancelUpdating(block, ii);
+			} else {
+				for (int ii = block.size - 1; ii >= 0; ii--)
+					remove(block, ii);
+			}
+		}
+	}
+
+	/** Returns the number of active tweens. */
+	public int getCount () {
+		return count;
+	}
+
+	/** Tweens for one property and interpolation, stored as parallel arrays. */
+	static private class Block {
+		final int property, values;
+		final Interpolation interpolation;
+		final IntIntMap slots = new IntIntMap();
+		int size;
+		int[] ids = new int[16];
+		Actor[] actors = new Actor[16];
+		float[] times = new float[16], durations = new float[16];
+		float[] start, end;
+
+		Block (int property, Interpolation interpolation) {
+			this.property = property;
+			this.interpolation = interpolation;
+			values = valueCounts[property];
+			start = new float[16 * values];
+			end = new float[16 * values];
+		}
+
+		int add (int id, Actor actor, float duration) {
+			if (size == ids.length) resize(size << 1);
+			int index = size++;
+			ids[index] = id;
+			actors[index] = actor;
+			times[index] = 0;
+			durations[index] = duration;
+			slots.put(id, index);
+			return index;
+		}
+
+		/** Moves the last tween to the index. */
+		void remove (int index) {
+			slots.remove(ids[index], 0);
+			int last = --size;
+			if (index != last) {
+				int id = ids[last];
+				ids[index] = id;
+				actors[index] = actors[last];
+				times[index] = times[last];
+				durations[index] = durations[last];
+				System.arraycopy(start, last * values, start, index * values, values);
+				System.arraycopy(end, last * values, end, index * values, values);
+				slots.put(id, index);
+			}
+			actors[last] = null;
+		}
+
+		private void resize (int capacity) {
+			int[] ids = new int[capacity];
+			System.arraycopy(this.ids, 0, ids, 0, size);
+			this.ids = ids;
+			Actor[] actors = new Actor[capacity];
+			System.arraycopy(this.actors, 0, actors, 0, size);
+			this.actors = actors;
+			float[] times = new float[capacity];
+			System.arraycopy(this.times, 0, times, 0, size);
+			this.times = times;
+			float[] durations = new float[capacity];
+			System.arraycopy(this.durations, 0, durations, 0, size);
+			this.durations = durations;
+			float[] start = new float[capacity * values];
+			System.arraycopy(this.start, 0, start, 0, size * values);
+			this.start = start;
+			float[] end = new float[capacity * values];
+			System.arraycopy(this.end, 0, end, 0, size * values);
+			this.end = end;
+		}
+	}
+}
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/** A group which draws its children once into a {@link FrameBuffer} and then draws the frame buffer texture, until the children
+ * change. This reduces the cost of drawing a group of many actors which rarely change, such as a HUD panel, to drawing a single
+ * texture.
+ * <p>
+ * The cache is redrawn when the layout of the group is {@link #invalidate() invalidated}, which widgets do when their content
+ * changes, or when the position, size, scale, rotation, color, or visibility of a descendant changes, including changes made by
+ * actions. The drawable of an {@link Image} and the state of a {@link Button} or {@link ProgressBar} are also checked. Other
+ * changes which affect how a descendant is drawn must be followed by {@link #invalidateCache()}. Descendants which animate on
+ * their own, such as the cursor of a {@link TextField}, or which clip, such as a {@link ScrollPane}, should not be cached.
+ * <p>
+ * The frame buffer has the size of the group in pixels of the {@link Stage#getViewport() stage viewport}. When the group is not
+ * in a stage, caching is disabled, or the size is zero, the children are drawn normally. The frame buffer and viewport bound
+ * when the cache is redrawn are restored afterward, so a cached group can be drawn into another frame buffer, including the one
+ * of an enclosing cached group. The frame buffer must be {@link #dispose() disposed} when no longer needed.
+ * <p>
+ * The preferred size is the largest preferred size of any child. */
+public class CachedGroup extends WidgetGroup implements Disposable {
+	static private final IntBuffer intBuffer = BufferUtils.newIntBuffer(16);
+
+	private @Null FrameBuffer frameBuffer;
+	private @Null TextureRegion region;
+	private final Matrix4 oldProjection = new Matrix4(), oldTransform = new Matrix4();
+	private final Matrix4 cacheProjection = new Matrix4(), cacheTransform = new Matrix4();
+	private boolean cacheEnabled = true, cacheInvalid = true;
+	private long checksum;
+
+	/** The number of times the cached texture was drawn without redrawing the children, and the number of times the cache was
+	 * redrawn. */
+	public int cacheHits, cacheMisses;
+
+	public CachedGroup () {
+		setInheritCullingArea(false);
+	}
+
+	public CachedGroup (Actor... actors) {
+		super(actors);
+		setInheritCullingArea(false);
+	}
+
+	public void draw (Batch batch, float parentAlpha) {
+		validate();
+		Stage stage = getStage();
+		if (!cacheEnabled || stage == null || getWidth() <= 0 || getHeight() <= 0) {
+			super.draw(batch, parentAlpha);
+			return;
+		}
+
+		long checksum = checksum(this, 1);
+		boolean validFrameBuffer = validFrameBuffer(stage.getViewport());
+		if (cacheInvalid || checksum != this.checksum || !validFrameBuffer) {
+			cacheMisses++;
+			drawCache(batch);
+			cacheInvalid = false;
+			this.checksum = checksum;
+		} else
+			cacheHits++;
+
+		// The cache has premultiplied alpha.
+		int srcFunc = batch.getBlendSrcFunc(), dstFunc = batch.getBlendDstFunc();
+		int srcFuncAlpha = batch.getBlendSrcFuncAlpha(), dstFuncAlpha = batch.getBlendDstFuncAlpha();
+		batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		float alpha = getColor().a * parentAlpha;
+		batch.setColor(alpha, alpha, alpha, alpha);
+		batch.draw(region, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(),
+			getRotation());
+		batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+	}
+
+	/** Returns true if the frame buffer exists and has the size of the group in viewport pixels, else disposes it and creates a
+	 * new frame buffer. */
+	private boolean validFrameBuffer (Viewport viewport) {
+		int width = Math.max(1,
+			MathUtils.ceil(getWidth() * HdpiUtils.toBackBufferX(viewport.getScreenWidth()) / viewport.getWorldWidth()));
+		int height = Math.max(1,
+			MathUtils.ceil(getHeight() * HdpiUtils.toBackBufferY(viewport.getScreenHeight()) / viewport.getWorldHeight()));
+		if (frameBuffer != null) {
+			if (frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) return true;
+			frameBuffer.dispose();
+		}
+		// Creating the frame buffer binds the default frame buffer.
+		intBuffer.clear();
+		Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, intBuffer);
+		int oldFrameBuffer = intBuffer.get(0);
+		frameBuffer = new FrameBuffer(Format.RGBA8888, width, height, false);
+		Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, oldFrameBuffer);
+		frameBuffer.getColorBufferTexture().setFilter(TextureFilter.Linear, TextureFilter.Linear);
+		region = new TextureRegion(frameBuffer.getColorBufferTexture());
+		region.flip(false, true);
+		return false;
+	}
+
+	/** Draws the children into the frame buffer, in the group's coordinates. */
+	private void drawCache (Batch batch) {
+		batch.flush();
+		oldProjection.set(batch.getProjectionMatrix());
+		oldTransform.set(batch.getTransformMatrix());
+		int srcFunc = batch.getBlendSrcFunc(), dstFunc = batch.getBlendDstFunc();
+		int srcFuncAlpha = batch.getBlendSrcFuncAlpha(), dstFuncAlpha = batch.getBlendDstFuncAlpha();
+		Color color = getColor();
+		float oldAlpha = color.a;
+		color.a = 1;
+
+		// FrameBuffer#end binds the default frame buffer, which would break drawing into another frame buffer.
+		IntBuffer intBuffer = CachedGroup.intBuffer;
+		intBuffer.clear();
+		Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, intBuffer);
+		int oldFrameBuffer = intBuffer.get(0);
+		intBuffer.clear();
+		Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, intBuffer);
+		int oldX = intBuffer.get(0), oldY = intBuffer.get(1), oldWidth = intBuffer.get(2), oldHeight = intBuffer.get(3);
+
+		boolean scissors = ScissorStack.peekScissors() != null;
+		if (scissors) Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+		frameBuffer.begin();
+		Gdx.gl.glClearColor(0, 0, 0, 0);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		batch.setProjectionMatrix(cacheProjection.setToOrtho2D(0, 0, getWidth(), getHeight()));
+		// Without transform, drawChildren offsets the children by the group position.
+		if (isTransform())
+			batch.setTransformMatrix(cacheTransform.idt());
+		else
+			batch.setTransformMatrix(cacheTransform.setToTranslation(-getX(), -getY(), 0));
+		// Store premultiplied alpha, so the cache blends like the children drawn directly.
+		batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		drawChildren(batch, 1);
+		batch.flush();
+
+		Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, oldFrameBuffer);
+		Gdx.gl.glViewport(oldX, oldY, oldWidth, oldHeight);
+		if (scissors) Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+
+		color.a = oldAlpha;
+		batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+		batch.setProjectionMatrix(oldProjection);
+		batch.setTransformMatrix(oldTransform);
+	}
+
+	/** Returns a hash of the state of the descendants which affects how they are drawn. */
+	private long checksum (Group group, long hash) {
+		SnapshotArray<Actor> children = group.getChildren();
+		Actor[] actors = children.items;
+		for (int i = 0, n = children.size; i < n; i++) {
+			Actor actor = actors[i];
+			hash = hash * 31 + (actor.isVisible() ? 1 : 2);
+			if (!actor.isVisible()) continue;
+			hash = hash * 31 + Float.floatToIntBits(actor.getX());
+			hash = hash * 31 + Float.floatToIntBits(actor.getY());
+			hash = hash * 31 + Float.floatToIntBits(actor.getWidth());
+			hash = hash * 31 + Float.floatToIntBits(actor.getHeight());
+			hash = hash * 31 + Float.floatToIntBits(actor.getScaleX());
+			hash = hash * 31 + Float.floatToIntBits(actor.getScaleY());
+			hash = hash * 31 + Float.floatToIntBits(actor.getRotation());
+			hash = hash * 31 + actor.getColor().toIntBits();
+			if (actor instanceof Image) {
+				Image image = (Image)actor;
+				hash = hash * 31 + (image.getDrawable() == null ? 0 : System.identityHashCode(image.getDrawable()));
+			} else if (actor instanceof Button) {
+				Button button = (Button)actor;
+				hash = hash * 31 + (button.isPressed() ? 1 : 0) + (button.isOver() ? 2 : 0) + (button.isChecked() ? 4 : 0)
+					+ (button.isDisabled() ? 8 : 0);
+			} else if (actor instanceof ProgressBar) {
+				ProgressBar bar = (ProgressBar)actor;
+				hash = hash * 31 + Float.floatToIntBits(bar.getVisualValue()) + (bar.isDisabled() ? 1 : 0);
+			}
+			if (actor instanceof Group) hash = checksum((Group)actor, hash);
+		}
+		return hash;
+	}
+
+	/** Invalidates the cache when the layout of the group or any descendant widget is invalidated. */
+	public void invalidate () {
+		super.invalidate();
+		cacheInvalid = true;
+	}
+
+	/** Causes the children to be drawn into the cache again the next time the group is drawn. */
+	public void invalidateCache () {
+		cacheInvalid = true;
+	}
+
+	/** When false, the children are drawn normally and the frame buffer is disposed. Default is true. */
+	public void setCacheEnabled (boolean cacheEnabled) {
+		this.cacheEnabled = cacheEnabled;
+		cacheInvalid = true;
+		if (!cacheEnabled) dispose();
+	}
+
+	public boolean isCacheEnabled () {
+		return cacheEnabled;
+	}
+
+	/** Returns the cached texture, or null if the cache has not been drawn. */
+	public @Null TextureRegion getCache () {
+		return region;
+	}
+
+	public float getPrefWidth () {
+		float prefWidth = 0;
+		SnapshotArray<Actor> children = getChildren();
+		for (int i = 0, n = children.size; i < n; i++) {
+			Actor child = children.get(i);
+			if (child instanceof Layout) prefWidth = Math.max(prefWidth, ((Layout)child).getPrefWidth());
+		}
+		return prefWidth;
+	}
+
+	public float getPrefHeight () {
+		float prefHeight = 0;
+		SnapshotArray<Actor> children = getChildren();
+		for (int i = 0, n = children.size; i < n; i++) {
+			Actor child = children.get(i);
+			if (child instanceof Layout) prefHeight = Math.max(prefHeight, ((Layout)child).getPrefHeight());
+		}
+		return prefHeight;
+	}
+
+	/** Disposes the frame buffer. It is created again if the group is drawn. */
+	public void dispose () {
+		if (frameBuffer != null) {
+			frameBuffer.dispose();
+			frameBuffer = null;
+			region = null;
+		}
+	}
+}
@@ -40,6 +40,7 @@ public class Cell<T extends Actor> implements Poolable {
 	int column, row;
 	int cellAboveIndex;
 	float computedPadTop, computedPadLeft, computedPadBottom, computedPadRight;
+	float computedMinWidth, computedMinHeight, computedPrefWidth, computedPrefHeight, computedMaxWidth, computedMaxHeight;
 
 	public Cell () {
 		cellAboveIndex = -1;
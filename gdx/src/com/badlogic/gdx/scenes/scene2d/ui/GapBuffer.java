@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+/** A character sequence with a gap at the last edit, used for the display text of a {@link TextField}. Replacing characters
+ * only moves the characters between the gap and the edit, so the display text is updated without copying it. The text field's
+ * {@link TextField#getText() text} is still a String which is built again for each edit.
+ * @see TextField#updateDisplayText() */
+final class GapBuffer implements CharSequence {
+	private char[] chars = new char[16];
+	private int gapStart, gapEnd = chars.length;
+
+	public int length () {
+		return chars.length - gapEnd + gapStart;
+	}
+
+	public char charAt (int index) {
+		if (index < 0 || index >= length())
+			throw new IndexOutOfBoundsException("index can't be >= length: " + index + " >= " + length());
+		return chars[index < gapStart ? index : index + gapEnd - gapStart];
+	}
+
+	/** Removes the characters from start, inclusive, to end, exclusive. */
+	public void delete (int start, int end) {
+		if (start < 0 || end > length() || start > end) throw new IndexOutOfBoundsException("start: " + start + ", end: " + end);
+		moveGap(start);
+		gapEnd += end - start;
+	}
+
+	/** Inserts the character at the index. Inserting at the index after the previous insert or at the start of the previous delete
+	 * doesn't move any characters. */
+	public void insert (int index, char c) {
+		if (index < 0 || index > length())
+			throw new IndexOutOfBoundsException("index can't be > length: " + index + " > " + length());
+		moveGap(index);
+		if (gapStart == gapEnd) grow();
+		chars[gapStart++] = c;
+	}
+
+	public void clear () {
+		gapStart = 0;
+		gapEnd = chars.length;
+	}
+
+	private void moveGap (int index) {
+		if (index < gapStart) {
+			int count = gapStart - index;
+			System.arraycopy(chars, index, chars, gapEnd - count, count);
+			gapStart = index;
+			gapEnd -= count;
+		} else if (index > gapStart) {
+			int count = index - gapStart;
+			System.arraycopy(chars, gapEnd, chars, gapStart, count);
+			gapStart = index;
+			gapEnd += count;
+		}
+	}
+
+	private void grow () {
+		char[] newChars = new char[Math.max(16, (int)(chars.length * 1.75f))];
+		int after = chars.length - gapEnd, newGapEnd = newChars.length - after;
+		System.arraycopy(chars, 0, newChars, 0, gapStart);
+		System.arraycopy(chars, gapEnd, newChars, newGapEnd, after);
+		chars = newChars;
+		gapEnd = newGapEnd;
+	}
+
+	public String subSequence (int start, int end) {
+		if (start < 0 || end > length() || start > end) throw new IndexOutOfBoundsException("start: " + start + ", end: " + end);
+		if (end <= gapStart) return new String(chars, start, end - start);
+		int gap = gapEnd - gapStart;
+		if (start >= gapStart) return new String(chars, start + gap, end - start);
+		StringBuilder buffer = new StringBuilder(end - start);
+		buffer.append(chars, start, gapStart - start);
+		buffer.append(chars, gapEnd, end - gapStart);
+		return buffer.toString();
+	}
+
+	public String toString () {
+		return subSequence(0, length());
+	}
+}
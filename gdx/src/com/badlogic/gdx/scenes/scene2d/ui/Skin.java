@@ -60,6 +60,9 @@ public class Skin implements Disposable {
 	ObjectMap<Class, ObjectMap<String, Object>> resources = new ObjectMap();
 	TextureAtlas atlas;
 	float scale = 1;
+	private boolean lazy;
+	/** The resources in the JSON which have not been read yet, when lazy. */
+	@Null ObjectMap<Class, ObjectMap<String, LazyResource>> lazyResources;
 
 	private final ObjectMap<String, Class> jsonClassTags = new ObjectMap(defaultTagClasses.length);
 	{
@@ -99,7 +102,8 @@ public class Skin implements Disposable {
 		addRegions(atlas);
 	}
 
-	/** Adds all resources in the specified skin JSON file. */
+	/** Adds all resources in the specified skin JSON file. If {@link #setLazy(boolean) lazy}, the resources are only indexed and
+	 * each is read from the JSON the first time it is requested. */
 	public void load (FileHandle skinFile) {
 		try {
 			getJsonLoader(skinFile).fromJson(Skin.class, skinFile);
@@ -128,6 +132,7 @@ public class Skin implements Disposable {
 	public void add (String name, Object resource, Class type) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
 		if (resource == null) throw new IllegalArgumentException("resource cannot be null.");
+		if (lazyResources != null) removeLazy(name, type);
 		ObjectMap<String, Object> typeResources = resources.get(type);
 		if (typeResources == null) {
 			typeResources = new ObjectMap(type == TextureRegion.class || type == Drawable.class || type == Sprite.class ? 256 : 64);
@@ -138,8 +143,9 @@ public class Skin implements Disposable {
 
 	public void remove (String name, Class type) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
+		if (lazyResources != null) removeLazy(name, type);
 		ObjectMap<String, Object> typeResources = resources.get(type);
-		typeResources.remove(name);
+		if (typeResources != null) typeResources.remove(name);
 	}
 
 	/** Returns a resource named "default" for the specified type.
@@ -159,9 +165,7 @@ public class Skin implements Disposable {
 		if (type == NinePatch.class) return (T)getPatch(name);
 		if (type == Sprite.class) return (T)getSprite(name);
 
-		ObjectMap<String, Object> typeResources = resources.get(type);
-		if (typeResources == null) throw new GdxRuntimeException("No " + type.getName() + " registered with name: " + name);
-		Object resource = typeResources.get(name);
+		Object resource = optional(name, type);
 		if (resource == null) throw new GdxRuntimeException("No " + type.getName() + " registered with name: " + name);
 		return (T)resource;
 	}
@@ -171,22 +175,140 @@ public class Skin implements Disposable {
 	public @Null <T> T optional (String name, Class<T> type) {
 		if (name == null) throw new IllegalArgumentException("name cannot be null.");
 		if (type == null) throw new IllegalArgumentException("type cannot be null.");
+		if (lazyResources != null) readLazy(name, type);
 		ObjectMap<String, Object> typeResources = resources.get(type);
 		if (typeResources == null) return null;
 		return (T)typeResources.get(name);
 	}
 
 	public boolean has (String name, Class type) {
+		if (lazyResources != null) {
+			ObjectMap<String, LazyResource> typeResources = lazyResources.get(type);
+			if (typeResources != null && typeResources.containsKey(name)) return true;
+		}
 		ObjectMap<String, Object> typeResources = resources.get(type);
 		if (typeResources == null) return false;
 		return typeResources.containsKey(name);
 	}
 
-	/** Returns the name to resource mapping for the specified type, or null if no resources of that type exist. */
+	/** Returns the name to resource mapping for the specified type, or null if no resources of that type exist. When
+	 * {@link #setLazy(boolean) lazy}, this reads all resources of the type which have not been read yet. */
 	public @Null <T> ObjectMap<String, T> getAll (Class<T> type) {
+		if (lazyResources != null) {
+			ObjectMap<String, LazyResource> typeResources = lazyResources.get(type);
+			if (typeResources != null) {
+				while (typeResources.size > 0)
+					readLazy(typeResources.keys().next(), type);
+			}
+		}
 		return (ObjectMap<String, T>)resources.get(type);
 	}
 
+	/** Reads the resource from the JSON if it has not been read yet. */
+	private void readLazy (String name, Class type) {
+		ObjectMap<String, LazyResource> typeResources = lazyResources.get(type);
+		if (typeResources == null) return;
+		LazyResource resource = typeResources.get(name);
+		if (resource == null) return;
+		// Removed first, so a resource which references itself fails like it does when not lazy.
+		removeLazy(name, resource.addType);
+		try {
+			readNamedObject(resource.json, resource.type, resource.addType, resource.value);
+		} catch (SerializationException ex) {
+			// Put back, so requesting the resource again reports the same error instead of a missing resource.
+			addLazy(name, resource);
+			throw new SerializationException("Error reading file: " + resource.skinFile, ex);
+		} catch (RuntimeException ex) {
+			addLazy(name, resource);
+			throw ex;
+		}
+	}
+
+	/** Removes the resource which has not been read yet from every type it is indexed as, so it doesn't replace a resource which
+	 * is added later. */
+	private void removeLazy (String name, Class type) {
+		ObjectMap<String, LazyResource> typeResources = lazyResources.get(type);
+		if (typeResources == null) return;
+		LazyResource resource = typeResources.get(name);
+		if (resource == null) return;
+		removeLazy(name, resource, resource.addType);
+		if (resource.addType != Drawable.class && ClassReflection.isAssignableFrom(Drawable.class, resource.addType))
+			removeLazy(name, resource, Drawable.class);
+	}
+
+	private void removeLazy (String name, LazyResource resource, Class type) {
+		ObjectMap<String, LazyResource> typeResources = lazyResources.get(type);
+		// Another resource with the same name may be indexed as Drawable.
+		if (typeResources != null && typeResources.get(name) == resource) typeResources.remove(name);
+	}
+
+	/** Reads a resource from the JSON and adds it to the skin. */
+	void readNamedObject (Json json, Class type, Class addType, JsonValue valueEntry) {
+		Object object = json.readValue(type, valueEntry);
+		if (object == null) return;
+		try {
+			add(valueEntry.name, object, addType);
+			if (addType != Drawable.class && ClassReflection.isAssignableFrom(Drawable.class, addType))
+				add(valueEntry.name, object, Drawable.class);
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading " + ClassReflection.getSimpleName(type) + ": " + valueEntry.name, ex);
+		}
+	}
+
+	/** Indexes a resource in the JSON so it is read the first time it is requested. */
+	void addLazy (FileHandle skinFile, Json json, Class type, Class addType, JsonValue valueEntry) {
+		String name = valueEntry.name;
+		// Replaces an existing resource, as reading it would.
+		ObjectMap<String, Object> existing = resources.get(addType);
+		if (existing != null) existing.remove(name);
+		if (addType != Drawable.class && ClassReflection.isAssignableFrom(Drawable.class, addType)) {
+			existing = resources.get(Drawable.class);
+			if (existing != null) existing.remove(name);
+		}
+		if (lazyResources == null) lazyResources = new ObjectMap();
+		addLazy(name, new LazyResource(skinFile, json, type, addType, valueEntry));
+	}
+
+	private void addLazy (String name, LazyResource resource) {
+		addLazy(name, resource, resource.addType);
+		if (resource.addType != Drawable.class && ClassReflection.isAssignableFrom(Drawable.class, resource.addType))
+			addLazy(name, resource, Drawable.class);
+	}
+
+	private void addLazy (String name, LazyResource resource, Class type) {
+		ObjectMap<String, LazyResource> typeResources = lazyResources.get(type);
+		if (typeResources == null) {
+			typeResources = new ObjectMap();
+			lazyResources.put(type, typeResources);
+		}
+		typeResources.put(name, resource);
+	}
+
+	/** If true, {@link #load(FileHandle)} only indexes the resources in the JSON and each resource, along with the resources it
+	 * references such as fonts and drawables, is created the first time it is requested. This makes loading a skin with many
+	 * resources faster when only some are used. Resources which load files, such as a {@link BitmapFont} without an atlas region,
+	 * are then loaded when first requested, which must be on the thread with the GL context. Default is false. */
+	public void setLazy (boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	public boolean isLazy () {
+		return lazy;
+	}
+
+	/** Returns the number of resources in the JSON which have not been read yet because the skin is {@link #setLazy(boolean)
+	 * lazy}. */
+	public int getLazyCount () {
+		if (lazyResources == null) return 0;
+		int count = 0;
+		for (ObjectMap.Entry<Class, ObjectMap<String, LazyResource>> entry : lazyResources.entries()) {
+			// Drawables are also indexed as Drawable, count them once.
+			for (LazyResource resource : entry.value.values())
+				if (resource.addType == entry.key) count++;
+		}
+		return count;
+	}
+
 	public Color getColor (String name) {
 		return get(name, Color.class);
 	}
@@ -459,6 +581,7 @@ public class Skin implements Disposable {
 
 	/** Disposes the {@link TextureAtlas} and all {@link Disposable} resources in the skin. */
 	public void dispose () {
+		lazyResources = null;
 		if (atlas != null) atlas.dispose();
 		for (ObjectMap<String, Object> entry : resources.values()) {
 			for (Object resource : entry.values())
@@ -514,29 +637,19 @@ public class Skin implements Disposable {
 					try {
 						Class type = json.getClass(valueMap.name());
 						if (type == null) type = ClassReflection.forName(valueMap.name());
-						readNamedObjects(json, type, valueMap);
+						Class addType = type == TintedDrawable.class ? Drawable.class : type;
+						for (JsonValue valueEntry = valueMap.child; valueEntry != null; valueEntry = valueEntry.next) {
+							if (lazy)
+								addLazy(skinFile, json, type, addType, valueEntry);
+							else
+								readNamedObject(json, type, addType, valueEntry);
+						}
 					} catch (ReflectionException ex) {
 						throw new SerializationException(ex);
 					}
 				}
 				return skin;
 			}
-
-			private void readNamedObjects (Json json, Class type, JsonValue valueMap) {
-				Class addType = type == TintedDrawable.class ? Drawable.class : type;
-				for (JsonValue valueEntry = valueMap.child; valueEntry != null; valueEntry = valueEntry.next) {
-					Object object = json.readValue(type, valueEntry);
-					if (object == null) continue;
-					try {
-						add(valueEntry.name, object, addType);
-						if (addType != Drawable.class && ClassReflection.isAssignableFrom(Drawable.class, addType))
-							add(valueEntry.name, object, Drawable.class);
-					} catch (Exception ex) {
-						throw new SerializationException(
-							"Error reading " + ClassReflection.getSimpleName(type) + ": " + valueEntry.name, ex);
-					}
-				}
-			}
 		});
 
 		json.setSerializer(BitmapFont.class, new ReadOnlySerializer<BitmapFont>() {
@@ -638,6 +751,22 @@ public class Skin implements Disposable {
 		return null;
 	}
 
+	/** A resource in the JSON which has not been read yet. */
+	static class LazyResource {
+		final FileHandle skinFile;
+		final Json json;
+		final Class type, addType;
+		final JsonValue value;
+
+		LazyResource (FileHandle skinFile, Json json, Class type, Class addType, JsonValue value) {
+			this.skinFile = skinFile;
+			this.json = json;
+			this.type = type;
+			this.addType = addType;
+			this.value = value;
+		}
+	}
+
 	/** @author Nathan Sweet */
 	static public class TintedDrawable {
 		public String name;
@@ -65,7 +65,8 @@ public class Table extends WidgetGroup {
 	private final Array<Cell> columnDefaults = new Array(2);
 	private Cell rowDefaults;
 
-	private boolean sizeInvalid = true;
+	private boolean sizeInvalid = true, cellSizesInvalid = true, childInvalidated;
+	private final Array<Actor> invalidatedChildren = new Array(false, 4);
 	private float[] columnMinWidth, rowMinHeight;
 	private float[] columnPrefWidth, rowPrefHeight;
 	private float tableMinWidth, tableMinHeight;
@@ -73,6 +74,11 @@ public class Table extends WidgetGroup {
 	private float[] columnWidth, rowHeight;
 	private float[] expandWidth, expandHeight;
 
+	/** The number of cells of this table for which the min, pref, and max sizes were computed, for profiling. When a child widget
+	 * invalidates its layout, only the cell of that child and the cells whose sizes depend on something else than their own actor
+	 * compute their sizes again. Can be reset to 0 each frame. */
+	public int cellSizeCount;
+
 	Value padTop = backgroundTop, padLeft = backgroundLeft, padBottom = backgroundBottom, padRight = backgroundRight;
 	int align = Align.center;
 
@@ -235,9 +241,25 @@ public class Table extends WidgetGroup {
 
 	public void invalidate () {
 		sizeInvalid = true;
+		if (!childInvalidated) cellSizesInvalid = true;
 		super.invalidate();
 	}
 
+	/** Called instead of {@link #invalidateHierarchy()} by a child widget whose layout was invalidated, so only the cell of the
+	 * child needs to compute its sizes again. */
+	void childInvalidated (Actor child) {
+		if (!cellSizesInvalid && !invalidatedChildren.contains(child, true)) {
+			if (invalidatedChildren.size == 32) {
+				cellSizesInvalid = true;
+				invalidatedChildren.clear();
+			} else
+				invalidatedChildren.add(child);
+		}
+		childInvalidated = true;
+		invalidateHierarchy();
+		childInvalidated = false;
+	}
+
 	/** Adds a new cell to the table with the specified actor. */
 	public <T extends Actor> Cell<T> add (@Null T actor) {
 		Cell<T> cell = obtainCell();
@@ -853,14 +875,12 @@ public class Table extends WidgetGroup {
 			c.computedPadBottom = c.padBottom.get(a) + (row == rows - 1 ? 0 : c.spaceBottom.get(a));
 			spaceRightLast = spaceRight;
 
-			// Determine minimum and preferred cell sizes.
-			float prefWidth = c.prefWidth.get(a), prefHeight = c.prefHeight.get(a);
-			float minWidth = c.minWidth.get(a), minHeight = c.minHeight.get(a);
-			float maxWidth = c.maxWidth.get(a), maxHeight = c.maxHeight.get(a);
-			if (prefWidth < minWidth) prefWidth = minWidth;
-			if (prefHeight < minHeight) prefHeight = minHeight;
-			if (maxWidth > 0 && prefWidth > maxWidth) prefWidth = maxWidth;
-			if (maxHeight > 0 && prefHeight > maxHeight) prefHeight = maxHeight;
+			// Determine minimum and preferred cell sizes. The sizes of a widget are only computed again if it was invalidated,
+			// unless the values of the cell depend on something else, such as another actor.
+			if (cellSizesInvalid || !(a instanceof Layout) || !intrinsicSize(c) || invalidatedChildren.contains(a, true))
+				computeCellSize(c);
+			float prefWidth = c.computedPrefWidth, prefHeight = c.computedPrefHeight;
+			float minWidth = c.computedMinWidth, minHeight = c.computedMinHeight;
 			if (round) {
 				minWidth = (float)Math.ceil(minWidth);
 				minHeight = (float)Math.ceil(minHeight);
@@ -932,10 +952,7 @@ public class Table extends WidgetGroup {
 			if (colspan == 1) continue;
 			int column = c.column;
 
-			Actor a = c.actor;
-			float minWidth = c.minWidth.get(a), prefWidth = c.prefWidth.get(a), maxWidth = c.maxWidth.get(a);
-			if (prefWidth < minWidth) prefWidth = minWidth;
-			if (maxWidth > 0 && prefWidth > maxWidth) prefWidth = maxWidth;
+			float minWidth = c.computedMinWidth, prefWidth = c.computedPrefWidth;
 			if (round) {
 				minWidth = (float)Math.ceil(minWidth);
 				prefWidth = (float)Math.ceil(prefWidth);
@@ -975,6 +992,40 @@ public class Table extends WidgetGroup {
 		}
 		tablePrefWidth = Math.max(tableMinWidth, tablePrefWidth);
 		tablePrefHeight = Math.max(tableMinHeight, tablePrefHeight);
+
+		cellSizesInvalid = false;
+		invalidatedChildren.clear();
+	}
+
+	/** Returns true if the min, pref, and max size values of the cell are fixed or the sizes of the cell's actor, so they only
+	 * change when the actor invalidates its layout. */
+	static private boolean intrinsicSize (Cell c) {
+		return intrinsicSize(c.minWidth) && intrinsicSize(c.minHeight) && intrinsicSize(c.prefWidth)
+			&& intrinsicSize(c.prefHeight) && intrinsicSize(c.maxWidth) && intrinsicSize(c.maxHeight);
+	}
+
+	static private boolean intrinsicSize (Value value) {
+		return value instanceof Fixed || value == Value.minWidth || value == Value.minHeight || value == Value.prefWidth
+			|| value == Value.prefHeight || value == Value.maxWidth || value == Value.maxHeight;
+	}
+
+	/** Stores the min, pref, and max size of the cell, with the pref size limited by the min and max size. */
+	private void computeCellSize (Cell c) {
+		Actor a = c.actor;
+		float prefWidth = c.prefWidth.get(a), prefHeight = c.prefHeight.get(a);
+		float minWidth = c.minWidth.get(a), minHeight = c.minHeight.get(a);
+		float maxWidth = c.maxWidth.get(a), maxHeight = c.maxHeight.get(a);
+		if (prefWidth < minWidth) prefWidth = minWidth;
+		if (prefHeight < minHeight) prefHeight = minHeight;
+		if (maxWidth > 0 && prefWidth > maxWidth) prefWidth = maxWidth;
+		if (maxHeight > 0 && prefHeight > maxHeight) prefHeight = maxHeight;
+		c.computedMinWidth = minWidth;
+		c.computedMinHeight = minHeight;
+		c.computedPrefWidth = prefWidth;
+		c.computedPrefHeight = prefHeight;
+		c.computedMaxWidth = maxWidth;
+		c.computedMaxHeight = maxHeight;
+		cellSizeCount++;
 	}
 
 	/** Positions and sizes children of the table using the cell associated with each child. The values given are the position
@@ -1025,7 +1076,6 @@ public class Table extends WidgetGroup {
 		for (int i = 0; i < cellCount; i++) {
 			Cell c = (Cell)cells[i];
 			int column = c.column, row = c.row;
-			Actor a = c.actor;
 
 			float spannedWeightedWidth = 0;
 			int colspan = c.colspan;
@@ -1033,16 +1083,8 @@ public class Table extends WidgetGroup {
 				spannedWeightedWidth += columnWeightedWidth[ii];
 			float weightedHeight = rowWeightedHeight[row];
 
-			float prefWidth = c.prefWidth.get(a), prefHeight = c.prefHeight.get(a);
-			float minWidth = c.minWidth.get(a), minHeight = c.minHeight.get(a);
-			float maxWidth = c.maxWidth.get(a), maxHeight = c.maxHeight.get(a);
-			if (prefWidth < minWidth) prefWidth = minWidth;
-			if (prefHeight < minHeight) prefHeight = minHeight;
-			if (maxWidth > 0 && prefWidth > maxWidth) prefWidth = maxWidth;
-			if (maxHeight > 0 && prefHeight > maxHeight) prefHeight = maxHeight;
-
-			c.actorWidth = Math.min(spannedWeightedWidth - c.computedPadLeft - c.computedPadRight, prefWidth);
-			c.actorHeight = Math.min(weightedHeight - c.computedPadTop - c.computedPadBottom, prefHeight);
+			c.actorWidth = Math.min(spannedWeightedWidth - c.computedPadLeft - c.computedPadRight, c.computedPrefWidth);
+			c.actorHeight = Math.min(weightedHeight - c.computedPadTop - c.computedPadBottom, c.computedPrefHeight);
 
 			if (colspan == 1) columnWidth[column] = Math.max(columnWidth[column], spannedWeightedWidth);
 			rowHeight[row] = Math.max(rowHeight[row], weightedHeight);
@@ -1145,13 +1187,13 @@ public class Table extends WidgetGroup {
 
 			float fillX = c.fillX, fillY = c.fillY;
 			if (fillX > 0) {
-				c.actorWidth = Math.max(spannedCellWidth * fillX, c.minWidth.get(c.actor));
-				float maxWidth = c.maxWidth.get(c.actor);
+				c.actorWidth = Math.max(spannedCellWidth * fillX, c.computedMinWidth);
+				float maxWidth = c.computedMaxWidth;
 				if (maxWidth > 0) c.actorWidth = Math.min(c.actorWidth, maxWidth);
 			}
 			if (fillY > 0) {
-				c.actorHeight = Math.max(rowHeight[c.row] * fillY - c.computedPadTop - c.computedPadBottom, c.minHeight.get(c.actor));
-				float maxHeight = c.maxHeight.get(c.actor);
+				c.actorHeight = Math.max(rowHeight[c.row] * fillY - c.computedPadTop - c.computedPadBottom, c.computedMinHeight);
+				float maxHeight = c.computedMaxHeight;
 				if (maxHeight > 0) c.actorHeight = Math.min(c.actorHeight, maxHeight);
 			}
 
@@ -36,6 +36,7 @@ import com.badlogic.gdx.utils.Pools;
 public class TextArea extends TextField {
 	/** Array storing lines breaks positions **/
 	IntArray linesBreak;
+	private IntArray oldLinesBreak;
 
 	/** Last text processed. This attribute is used to avoid unnecessary computations while calculating offsets **/
 	private String lastText;
@@ -70,6 +71,7 @@ public class TextArea extends TextField {
 		super.initialize();
 		writeEnters = true;
 		linesBreak = new IntArray();
+		oldLinesBreak = new IntArray();
 		cursorLine = 0;
 		firstLineShowing = 0;
 		moveOffset = -1;
@@ -103,6 +105,8 @@ public class TextArea extends TextField {
 
 		// no extra descent to fake line height
 		textHeight = style.font.getCapHeight() - style.font.getDescent();
+		displayedText = null;
+		lastText = null; // Cause calculateOffsets to recalculate the line breaks.
 		if (text != null) updateDisplayText();
 		invalidateHierarchy();
 	}
@@ -284,26 +288,75 @@ public class TextArea extends TextField {
 
 	protected void calculateOffsets () {
 		super.calculateOffsets();
-		if (!this.text.equals(lastText)) {
-			this.lastText = text;
-			MsdfFont font = style.font;
+		String text = this.text;
+		if (!text.equals(lastText)) {
+			BitmapFont font = style.font.getBitmapFont();
 			float maxWidthLine = this.getWidth()
 				- (style.background != null ? style.background.getPaddingOutLeft() + style.background.getPaddingOutRight() : 0);
-			linesBreak.clear();
-			int lineStart = 0;
-			int lastSpace = 0;
+			IntArray linesBreak = this.linesBreak, oldLinesBreak = this.oldLinesBreak;
+			int length = text.length();
+
+			// Only the lines from the start of the paragraph with the first changed character are broken again. Once a paragraph
+			// starts in the unchanged end of the text at the same place as before, the remaining line breaks are only moved.
+			String oldText = lastText;
+			int lineStart = 0, oldIndex = 0, unchangedStart = length, offset = 0;
+			oldLinesBreak.clear();
+			if (oldText == null)
+				linesBreak.clear();
+			else {
+				int oldLength = oldText.length(), start = 0, end = length;
+				int n = Math.min(oldLength, length);
+				while (start < n && oldText.charAt(start) == text.charAt(start))
+					start++;
+				for (int oldEnd = oldLength; oldEnd > start && end > start
+					&& oldText.charAt(oldEnd - 1) == text.charAt(end - 1); oldEnd--)
+					end--;
+				unchangedStart = end;
+				offset = length - oldLength;
+
+				if (start > 0)
+					lineStart = Math.max(text.lastIndexOf(NEWLINE, start - 1), text.lastIndexOf(CARRIAGE_RETURN, start - 1)) + 1;
+				int line = linesBreak.size / 2;
+				for (int low = 0, high = line - 1; low <= high;) {
+					int middle = (low + high) >>> 1;
+					if (linesBreak.items[middle * 2] >= lineStart) {
+						line = middle;
+						high = middle - 1;
+					} else
+						low = middle + 1;
+				}
+				oldLinesBreak.addAll(linesBreak, line * 2, linesBreak.size - line * 2);
+				linesBreak.size = line * 2;
+			}
+			this.lastText = text;
+
+			int lastSpace = lineStart;
 			char lastCharacter;
 			Pool<GlyphLayout> layoutPool = Pools.get(GlyphLayout.class);
 			GlyphLayout layout = layoutPool.obtain();
-			for (int i = 0; i < text.length(); i++) {
+			for (int i = lineStart; i < length; i++) {
 				lastCharacter = text.charAt(i);
 				if (lastCharacter == CARRIAGE_RETURN || lastCharacter == NEWLINE) {
 					linesBreak.add(lineStart);
 					linesBreak.add(i);
 					lineStart = i + 1;
+					if (lineStart >= unchangedStart && lineStart < length) {
+						// The old line must also start after a newline, a wrapped line can break differently.
+						int oldLineStart = lineStart - offset;
+						char before = oldLineStart > 0 ? oldText.charAt(oldLineStart - 1) : NEWLINE;
+						while (oldIndex < oldLinesBreak.size && oldLinesBreak.items[oldIndex] < oldLineStart)
+							oldIndex += 2;
+						if (oldIndex < oldLinesBreak.size && oldLinesBreak.items[oldIndex] == oldLineStart
+							&& (before == NEWLINE || before == CARRIAGE_RETURN)) {
+							for (int ii = oldIndex, nn = oldLinesBreak.size; ii < nn; ii++)
+								linesBreak.add(oldLinesBreak.items[ii] + offset);
+							lineStart = length;
+							break;
+						}
+					}
 				} else {
 					lastSpace = (continueCursor(i, 0) ? lastSpace : i);
-					layout.setText(font, text.subSequence(lineStart, i + 1));
+					layout.setText(font, text, lineStart, i + 1, font.getColor(), 0, Align.left, false, null);
 					if (layout.width > maxWidthLine) {
 						if (lineStart >= lastSpace) {
 							lastSpace = i - 1;
@@ -317,9 +370,9 @@ public class TextArea extends TextField {
 			}
 			layoutPool.free(layout);
 			// Add last line
-			if (lineStart < text.length()) {
+			if (lineStart < length) {
 				linesBreak.add(lineStart);
-				linesBreak.add(text.length());
+				linesBreak.add(length);
 			}
 			showCursor();
 		}
@@ -96,6 +96,13 @@ public class TextField extends Widget implements Disableable {
 
 	private String messageText;
 	protected CharSequence displayText;
+	private final GapBuffer displayBuffer = new GapBuffer();
+	/** The text in the display buffer, or null if the glyph positions must be computed for the whole text. */
+	@Null String displayedText;
+	/** The font data and scale the display buffer's glyph positions were computed with. */
+	private @Null BitmapFontData displayedFontData;
+	private float displayedScaleX, displayedScaleY;
+	private @Null StringBuilder layoutText;
 	Clipboard clipboard;
 	InputListener inputListener;
 	@Null TextFieldListener listener;
@@ -228,6 +235,7 @@ public class TextField extends Widget implements Disableable {
 		this.style = style;
 
 		textHeight = style.font.getCapHeight() - style.font.getDescent() * 2;
+		displayedText = null;
 		if (text != null) updateDisplayText();
 		invalidateHierarchy();
 	}
@@ -420,15 +428,8 @@ public class TextField extends Widget implements Disableable {
 		String text = this.text;
 		int textLength = text.length();
 
-		StringBuilder buffer = new StringBuilder();
-		for (int i = 0; i < textLength; i++) {
-			char c = text.charAt(i);
-			buffer.append(data.hasGlyph(c) ? c : ' ');
-		}
-		String newDisplayText = buffer.toString();
-
 		if (passwordMode && data.hasGlyph(passwordCharacter)) {
-			if (passwordBuffer == null) passwordBuffer = new StringBuilder(newDisplayText.length());
+			if (passwordBuffer == null) passwordBuffer = new StringBuilder(textLength);
 			if (passwordBuffer.length() > textLength)
 				passwordBuffer.setLength(textLength);
 			else {
@@ -436,9 +437,46 @@ public class TextField extends Widget implements Disableable {
 					passwordBuffer.append(passwordCharacter);
 			}
 			displayText = passwordBuffer;
-		} else
-			displayText = newDisplayText;
+			displayedText = null;
+			layoutGlyphs(font);
+		} else {
+			// Only the characters between the common start and end of the old and new text are replaced and laid out.
+			GapBuffer displayBuffer = this.displayBuffer;
+			String displayedText = this.displayedText;
+			int start = 0, oldEnd = displayBuffer.length(), end = textLength;
+			// The glyph positions are kept only if the font or its scale has not changed since they were computed.
+			boolean incremental = displayText == displayBuffer && displayedText != null && !data.markupEnabled
+				&& data == displayedFontData && data.scaleX == displayedScaleX && data.scaleY == displayedScaleY;
+			if (incremental) {
+				int n = Math.min(oldEnd, textLength);
+				while (start < n && displayedText.charAt(start) == text.charAt(start))
+					start++;
+				while (oldEnd > start && end > start && displayedText.charAt(oldEnd - 1) == text.charAt(end - 1)) {
+					oldEnd--;
+					end--;
+				}
+			}
+			displayBuffer.delete(start, oldEnd);
+			for (int i = start; i < end; i++) {
+				char c = text.charAt(i);
+				displayBuffer.insert(i, data.hasGlyph(c) ? c : ' ');
+			}
+			displayText = displayBuffer;
+			this.displayedText = text;
+			displayedFontData = data;
+			displayedScaleX = data.scaleX;
+			displayedScaleY = data.scaleY;
+			if (!incremental || !layoutGlyphs(font, start, oldEnd, end)) layoutGlyphs(font);
+		}
+
+		visibleTextStart = Math.min(visibleTextStart, glyphPositions.size - 1);
+		visibleTextEnd = MathUtils.clamp(visibleTextEnd, visibleTextStart, glyphPositions.size - 1);
 
+		if (selectionStart > textLength) selectionStart = textLength;
+	}
+
+	/** Computes the glyph positions for the whole display text. */
+	private void layoutGlyphs (MsdfFont font) {
 		layout.setText(font, displayText.toString().replace('\r', ' ').replace('\n', ' '));
 		glyphPositions.clear();
 		float x = 0;
@@ -453,11 +491,57 @@ public class TextField extends Widget implements Disableable {
 		} else
 			fontOffset = 0;
 		glyphPositions.add(x);
+	}
 
-		visibleTextStart = Math.min(visibleTextStart, glyphPositions.size - 1);
-		visibleTextEnd = MathUtils.clamp(visibleTextEnd, visibleTextStart, glyphPositions.size - 1);
+	/** Updates the glyph positions after the display text from start to oldEnd was replaced with the text from start to end. Only
+	 * the replaced glyphs and the glyphs next to them are laid out, the positions after them are moved.
+	 * @return False if the glyphs could not be laid out separately and the positions of all glyphs must be computed. */
+	private boolean layoutGlyphs (MsdfFont font, int start, int oldEnd, int end) {
+		CharSequence displayText = this.displayText;
+		int length = displayText.length(), oldLength = length - end + oldEnd;
+		if (length == 0 || glyphPositions.size != oldLength + 1) return false;
+
+		// The previous glyph's advance has kerning with the first replaced glyph, the last replaced glyph's with the next glyph.
+		int layoutStart = Math.max(0, start - 1), layoutEnd = Math.min(length, end + 1);
+		StringBuilder layoutText = this.layoutText;
+		if (layoutText == null) this.layoutText = layoutText = new StringBuilder();
+		layoutText.setLength(0);
+		for (int i = layoutStart; i < layoutEnd; i++) {
+			char c = displayText.charAt(i);
+			layoutText.append(c == '\r' || c == '\n' ? ' ' : c);
+		}
+		layout.setText(font, layoutText);
+		if (layout.runs.size != 1) return false;
+		FloatArray xAdvances = layout.runs.first().xAdvances;
+		if (xAdvances.size != layoutEnd - layoutStart + 1) return false;
+
+		// Move the positions after the replaced glyphs, starting with the position of the first glyph after them.
+		if (length > oldLength) glyphPositions.ensureCapacity(length - oldLength);
+		float[] positions = glyphPositions.items;
+		System.arraycopy(positions, oldEnd, positions, end, oldLength - oldEnd + 1);
+		glyphPositions.size = length + 1;
+		float oldX = positions[end];
+
+		// The last glyph laid out only has its full advance if it is not the last glyph of the text.
+		if (layoutStart == 0) {
+			fontOffset = xAdvances.first();
+			positions[0] = 0;
+		}
+		float[] advances = xAdvances.items;
+		float x = positions[layoutStart];
+		for (int i = 1, n = (layoutEnd < length ? layoutEnd - 1 : layoutEnd) - layoutStart; i <= n; i++) {
+			x += advances[i];
+			positions[layoutStart + i] = x;
+		}
 
-		if (selectionStart > newDisplayText.length()) selectionStart = textLength;
+		if (layoutEnd < length) {
+			float offset = positions[end] - oldX;
+			if (offset != 0) {
+				for (int i = end + 1; i <= length; i++)
+					positions[i] += offset;
+			}
+		}
+		return true;
 	}
 
 	/** Copies the contents of this TextField to the {@link Clipboard} implementation set on this TextField. */
@@ -510,7 +594,16 @@ public class TextField extends Widget implements Disableable {
 
 	String insert (int position, CharSequence text, String to) {
 		if (to.length() == 0) return text.toString();
-		return to.substring(0, position) + text + to.substring(position, to.length());
+		int length = to.length();
+		return new StringBuilder(length + text.length()).append(to, 0, position).append(text).append(to, position, length)
+			.toString();
+	}
+
+	/** Returns the string without the characters from start, inclusive, to end, exclusive. */
+	String remove (String from, int start, int end) {
+		if (start == end) return from;
+		int length = from.length();
+		return new StringBuilder(length - end + start).append(from, 0, start).append(from, end, length).toString();
 	}
 
 	int delete (boolean fireChangeEvent) {
@@ -518,8 +611,7 @@ public class TextField extends Widget implements Disableable {
 		int to = cursor;
 		int minIndex = Math.min(from, to);
 		int maxIndex = Math.max(from, to);
-		String newText = (minIndex > 0 ? text.substring(0, minIndex) : "")
-			+ (maxIndex < text.length() ? text.substring(maxIndex, text.length()) : "");
+		String newText = remove(text, minIndex, maxIndex);
 		if (fireChangeEvent)
 			changeText(text, newText);
 		else
@@ -1077,11 +1169,11 @@ public class TextField extends Widget implements Disableable {
 							cursor = delete(false);
 						else {
 							if (backspace && cursor > 0) {
-								text = text.substring(0, cursor - 1) + text.substring(cursor--);
+								text = remove(text, cursor - 1, cursor--);
 								renderOffset = 0;
 							}
 							if (delete && cursor < text.length()) {
-								text = text.substring(0, cursor) + text.substring(cursor + 1);
+								text = remove(text, cursor, cursor + 1);
 							}
 						}
 					}
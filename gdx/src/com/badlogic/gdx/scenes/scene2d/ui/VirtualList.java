@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Pool;
+
+/** A group which displays a large number of items as rows of equal height, or a grid of equal sized cells when
+ * {@link #setColumns(int) columns} is more than 1. Only the items inside the {@link #setCullingArea(Rectangle) culling area} have
+ * an actor, which is obtained from a pool and {@link #setItem(Actor, Object, int) set} to show the item. When scrolling, actors
+ * for items leaving the culling area are freed and reused for the items entering it, so the number of actors and the layout
+ * cost depend on the size of the view rather than the number of items.
+ * <p>
+ * This is meant to be the widget of a {@link ScrollPane}, which sets the culling area. Without a culling area, an actor is
+ * created for every item.
+ * <p>
+ * {@link #itemsChanged()} must be called after the items are modified.
+ * <p>
+ * The preferred height is the number of rows times the item height. The preferred width is the
+ * {@link #setItemWidth(float) item width} times the number of columns.
+ * @param <T> The type of the items.
+ * @param <A> The type of the actors showing the items. If it implements {@link Pool.Poolable}, it is reset when freed.
+ * @see VirtualTree */
+abstract public class VirtualList<T, A extends Actor> extends WidgetGroup implements Cullable {
+	final Array<T> items = new Array();
+	private float itemWidth, itemHeight;
+	private int columns = 1;
+	private @Null Rectangle cullingArea;
+	private final Pool<A> pool;
+
+	private final Array<A> visibleActors = new Array();
+	private final Array<A> tempActors = new Array();
+	private int firstVisible, lastVisible = -1;
+	private boolean itemsChanged;
+
+	public VirtualList (float itemHeight) {
+		if (itemHeight <= 0) throw new IllegalArgumentException("itemHeight must be > 0: " + itemHeight);
+		this.itemHeight = itemHeight;
+		setTouchable(Touchable.childrenOnly);
+		pool = new Pool<A>() {
+			protected A newObject () {
+				return newActor();
+			}
+		};
+	}
+
+	/** Returns a new actor to show items. */
+	abstract protected A newActor ();
+
+	/** Sets the actor to show the item. Called when the actor is obtained for an item and for the visible items after
+	 * {@link #itemsChanged()}.
+	 * @param index The index of the item in {@link #getItems()}. */
+	abstract protected void setItem (A actor, T item, int index);
+
+	/** Called after an actor is removed from the list, before it is returned to the pool. */
+	protected void actorFreed (A actor) {
+	}
+
+	public void layout () {
+		updateVisible(true);
+	}
+
+	/** The children don't change the size of the list, so the hierarchy is not invalidated when actors are obtained or freed. */
+	protected void childrenChanged () {
+	}
+
+	/** Obtains actors for the items entering the culling area and frees the actors of the items leaving it.
+	 * @param layout If true, the visible actors are positioned even if the visible items did not change. */
+	private void updateVisible (boolean layout) {
+		int count = items.size, columns = this.columns;
+		int first = 0, last = count - 1;
+		Rectangle cullingArea = this.cullingArea;
+		if (cullingArea != null) {
+			float height = getHeight();
+			int firstRow = Math.max(0, (int)((height - cullingArea.y - cullingArea.height) / itemHeight));
+			int lastRow = (int)Math.ceil((height - cullingArea.y) / itemHeight) - 1;
+			first = firstRow * columns;
+			last = Math.min(last, lastRow * columns + columns - 1);
+		}
+		if (last < first) {
+			first = 0;
+			last = -1;
+		}
+		if (first == firstVisible && last == lastVisible && !itemsChanged && !layout) return;
+
+		// Free actors outside of the new range.
+		Array<A> visibleActors = this.visibleActors;
+		int oldFirst = firstVisible;
+		for (int i = 0, n = visibleActors.size; i < n; i++) {
+			int index = oldFirst + i;
+			if (index >= first && index <= last && index < count) continue;
+			free(visibleActors.get(i));
+		}
+
+		Array<T> items = this.items;
+		Array<A> newActors = tempActors;
+		boolean itemsChanged = this.itemsChanged;
+		float width = getWidth(), height = getHeight();
+		float cellWidth = columns == 1 ? width : width / columns;
+		for (int index = first; index <= last; index++) {
+			A actor;
+			int oldIndex = index - oldFirst;
+			if (oldIndex >= 0 && oldIndex < visibleActors.size) {
+				actor = visibleActors.get(oldIndex);
+				if (itemsChanged) setItem(actor, items.get(index), index);
+			} else {
+				actor = pool.obtain();
+				addActor(actor);
+				setItem(actor, items.get(index), index);
+			}
+			int row = index / columns, column = index - row * columns;
+			positionActor(actor, index, column * cellWidth, height - (row + 1) * itemHeight, cellWidth, itemHeight);
+			if (actor instanceof Layout) ((Layout)actor).validate();
+			newActors.add(actor);
+		}
+		visibleActors.clear();
+		visibleActors.addAll(newActors);
+		newActors.clear();
+		firstVisible = first;
+		lastVisible = last;
+		this.itemsChanged = false;
+	}
+
+	/** Sets the bounds of the actor for the item at the specified index. */
+	protected void positionActor (A actor, int index, float x, float y, float width, float height) {
+		actor.setBounds(x, y, width, height);
+	}
+
+	private void free (A actor) {
+		removeActor(actor);
+		actorFreed(actor);
+		pool.free(actor);
+	}
+
+	/** Sets the items, replacing any existing items. The array is copied. */
+	public void setItems (Array<? extends T> newItems) {
+		if (newItems == null) throw new IllegalArgumentException("newItems cannot be null.");
+		items.clear();
+		items.addAll(newItems);
+		itemsChanged();
+	}
+
+	/** Sets the items, replacing any existing items. */
+	public void setItems (T... newItems) {
+		if (newItems == null) throw new IllegalArgumentException("newItems cannot be null.");
+		items.clear();
+		items.addAll(newItems);
+		itemsChanged();
+	}
+
+	/** Returns the internal items array. If modified, {@link #itemsChanged()} must be called. */
+	public Array<T> getItems () {
+		return items;
+	}
+
+	/** Sets the visible actors again and updates the size of the list. Must be called after the items are modified. */
+	public void itemsChanged () {
+		itemsChanged = true;
+		invalidateHierarchy();
+	}
+
+	/** Removes all items and frees their actors. */
+	public void clearItems () {
+		items.clear();
+		itemsChanged();
+	}
+
+	/** Returns the actor showing the item at the specified index, or null if the item has no actor because it is outside of the
+	 * culling area. */
+	public @Null A getActor (int index) {
+		if (index < firstVisible || index > lastVisible) return null;
+		return visibleActors.get(index - firstVisible);
+	}
+
+	/** Returns the index of the item shown by the actor, or -1 if the actor is not showing an item. */
+	public int getIndex (Actor actor) {
+		int index = visibleActors.indexOf((A)actor, true);
+		return index == -1 ? -1 : firstVisible + index;
+	}
+
+	/** Returns the index of the first item which has an actor. */
+	public int getFirstVisibleIndex () {
+		return firstVisible;
+	}
+
+	/** Returns the index of the last item which has an actor, or -1 if there is none. */
+	public int getLastVisibleIndex () {
+		return lastVisible;
+	}
+
+	/** Returns the index of the item at the specified position in the list's coordinates, or -1. */
+	public int getItemIndexAt (float x, float y) {
+		float width = getWidth();
+		if (x < 0 || x >= width) return -1;
+		int row = (int)((getHeight() - y) / itemHeight);
+		if (y > getHeight() || row < 0) return -1;
+		int column = columns == 1 ? 0 : Math.min(columns - 1, (int)(x / (width / columns)));
+		int index = row * columns + column;
+		return index < items.size ? index : -1;
+	}
+
+	/** Returns the y position of the top of the row containing the item, in the list's coordinates. Useful with
+	 * {@link ScrollPane#scrollTo(float, float, float, float)} to show an item. */
+	public float getItemY (int index) {
+		return getHeight() - (index / columns) * itemHeight;
+	}
+
+	/** Sets the height of each row. */
+	public void setItemHeight (float itemHeight) {
+		if (itemHeight <= 0) throw new IllegalArgumentException("itemHeight must be > 0: " + itemHeight);
+		this.itemHeight = itemHeight;
+		invalidateHierarchy();
+	}
+
+	public float getItemHeight () {
+		return itemHeight;
+	}
+
+	/** Sets the preferred width of each item. Items are always sized to fill the width of the list. Default is 0. */
+	public void setItemWidth (float itemWidth) {
+		this.itemWidth = itemWidth;
+		invalidateHierarchy();
+	}
+
+	public float getItemWidth () {
+		return itemWidth;
+	}
+
+	/** Sets the number of items per row. Default is 1. */
+	public void setColumns (int columns) {
+		if (columns < 1) throw new IllegalArgumentException("columns must be > 0: " + columns);
+		this.columns = columns;
+		invalidateHierarchy();
+	}
+
+	public int getColumns () {
+		return columns;
+	}
+
+	public float getPrefWidth () {
+		return itemWidth * columns;
+	}
+
+	public float getPrefHeight () {
+		return (items.size + columns - 1) / columns * itemHeight;
+	}
+
+	public void setCullingArea (@Null Rectangle cullingArea) {
+		this.cullingArea = cullingArea;
+		// The ScrollPane sets the culling area each frame as it scrolls, before drawing the children.
+		if (!needsLayout()) updateVisible(false);
+	}
+
+	/** @return May be null.
+	 * @see #setCullingArea(Rectangle) */
+	public @Null Rectangle getCullingArea () {
+		return cullingArea;
+	}
+
+	/** Returns the pool of actors which are not showing an item. */
+	public Pool<A> getPool () {
+		return pool;
+	}
+}
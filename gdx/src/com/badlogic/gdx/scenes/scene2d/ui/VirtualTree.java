@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/** A {@link VirtualList} which displays a tree of nodes. Unlike {@link Tree}, the nodes are not actors: the expanded nodes are
+ * flattened into the {@link #getItems() items} of the list, so only the visible nodes have an actor. Each actor is indented by
+ * the {@link #getLevel(int) level} of its node times the {@link #setIndentSpacing(float) indent spacing}.
+ * <p>
+ * {@link #nodesChanged()} must be called after the nodes are modified. The items should not be set directly.
+ * @param <N> The type of the nodes.
+ * @param <A> The type of the actors showing the nodes. */
+abstract public class VirtualTree<N, A extends Actor> extends VirtualList<N, A> {
+	final Array<N> rootNodes = new Array();
+	final ObjectSet<N> expanded = new ObjectSet();
+	private final IntArray levels = new IntArray();
+	private float indentSpacing;
+
+	private final Array<N> stack = new Array();
+	private final IntArray stackLevels = new IntArray();
+	private final Array<N> children = new Array();
+
+	public VirtualTree (float itemHeight, float indentSpacing) {
+		super(itemHeight);
+		this.indentSpacing = indentSpacing;
+	}
+
+	/** Adds the children of the node to the array, if any. Only called for expanded nodes. */
+	abstract protected void getChildren (N node, Array<N> children);
+
+	/** Flattens the expanded nodes into the items. */
+	private void flatten () {
+		Array<N> items = this.items, stack = this.stack, children = this.children;
+		IntArray levels = this.levels, stackLevels = this.stackLevels;
+		items.clear();
+		levels.clear();
+		for (int i = rootNodes.size - 1; i >= 0; i--) {
+			stack.add(rootNodes.get(i));
+			stackLevels.add(0);
+		}
+		while (stack.size > 0) {
+			N node = stack.pop();
+			int level = stackLevels.pop();
+			items.add(node);
+			levels.add(level);
+			if (!expanded.contains(node)) continue;
+			getChildren(node, children);
+			for (int i = children.size - 1; i >= 0; i--) {
+				stack.add(children.get(i));
+				stackLevels.add(level + 1);
+			}
+			children.clear();
+		}
+	}
+
+	/** Flattens the expanded nodes again. Must be called after nodes are added, removed, or reordered. */
+	public void nodesChanged () {
+		flatten();
+		itemsChanged();
+	}
+
+	protected void positionActor (A actor, int index, float x, float y, float width, float height) {
+		float indent = levels.get(index) * indentSpacing;
+		actor.setBounds(x + indent, y, width - indent, height);
+	}
+
+	/** Sets the root nodes, replacing any existing root nodes. The array is copied. */
+	public void setRootNodes (Array<? extends N> rootNodes) {
+		this.rootNodes.clear();
+		this.rootNodes.addAll(rootNodes);
+		nodesChanged();
+	}
+
+	/** Returns the internal root nodes array. If modified, {@link #nodesChanged()} must be called. */
+	public Array<N> getRootNodes () {
+		return rootNodes;
+	}
+
+	public void setExpanded (N node, boolean expanded) {
+		if (expanded ? this.expanded.add(node) : this.expanded.remove(node)) nodesChanged();
+	}
+
+	public boolean isExpanded (N node) {
+		return expanded.contains(node);
+	}
+
+	/** Collapses all nodes. */
+	public void collapseAll () {
+		if (expanded.size == 0) return;
+		expanded.clear();
+		nodesChanged();
+	}
+
+	/** Returns the depth of the node at the specified index in the items, where root nodes are level 0. */
+	public int getLevel (int index) {
+		return levels.get(index);
+	}
+
+	/** Sets the amount of horizontal space the actors are indented per level. */
+	public void setIndentSpacing (float indentSpacing) {
+		this.indentSpacing = indentSpacing;
+		invalidate();
+	}
+
+	public float getIndentSpacing () {
+		return indentSpacing;
+	}
+}
@@ -101,7 +101,10 @@ public class Widget extends Actor implements Layout {
 		if (!layoutEnabled) return;
 		invalidate();
 		Group parent = getParent();
-		if (parent instanceof Layout) ((Layout)parent).invalidateHierarchy();
+		if (parent instanceof Table)
+			((Table)parent).childInvalidated(this);
+		else if (parent instanceof Layout) //
+			((Layout)parent).invalidateHierarchy();
 	}
 
 	protected void sizeChanged () {
@@ -38,6 +38,10 @@ public class WidgetGroup extends Group implements Layout {
 	private boolean fillParent;
 	private boolean layoutEnabled = true;
 
+	/** The number of times {@link #layout()} was called by {@link #validate()} for this widget group, for profiling. Can be reset
+	 * to 0 each frame. */
+	public int layoutCount;
+
 	public WidgetGroup () {
 	}
 
@@ -101,6 +105,7 @@ public class WidgetGroup extends Group implements Layout {
 
 		if (!needsLayout) return;
 		needsLayout = false;
+		layoutCount++;
 		layout();
 
 		// Widgets may call invalidateHierarchy during layout (eg, a wrapped label). The root-most widget group retries layout a
@@ -109,6 +114,7 @@ public class WidgetGroup extends Group implements Layout {
 			if (parent instanceof WidgetGroup) return; // The parent widget will layout again.
 			for (int i = 0; i < 5; i++) {
 				needsLayout = false;
+				layoutCount++;
 				layout();
 				if (!needsLayout) break;
 			}
@@ -127,7 +133,10 @@ public class WidgetGroup extends Group implements Layout {
 	public void invalidateHierarchy () {
 		invalidate();
 		Group parent = getParent();
-		if (parent instanceof Layout) ((Layout)parent).invalidateHierarchy();
+		if (parent instanceof Table)
+			((Table)parent).childInvalidated(this);
+		else if (parent instanceof Layout) //
+			((Layout)parent).invalidateHierarchy();
 	}
 
 	protected void childrenChanged () {
@@ -37,7 +37,8 @@ public class ScissorStack {
 
 	/** Pushes a new scissor {@link Rectangle} onto the stack, merging it with the current top of the stack. The minimal area of
 	 * overlap between the top of stack rectangle and the provided rectangle is pushed onto the stack. This will invoke
-	 * {@link GL20#glScissor(int, int, int, int)} with the final top of stack rectangle. In case no scissor is yet on the stack
+	 * {@link GL20#glScissor(int, int, int, int)} with the final top of stack rectangle, unless it is the same as the previous top
+	 * of stack rectangle. In case no scissor is yet on the stack
 	 * this will also enable {@link GL20#GL_SCISSOR_TEST} automatically.
 	 * <p>
 	 * Any drawing should be flushed before pushing scissors.
@@ -65,8 +66,10 @@ public class ScissorStack {
 			scissor.width = maxX - minX;
 			scissor.height = Math.max(1, maxY - minY);
 		}
+		// Nested scissors with the same area, such as a scroll pane filling a clipping table, don't change the GL state.
+		boolean same = scissors.size > 0 && scissors.peek().equals(scissor);
 		scissors.add(scissor);
-		HdpiUtils.glScissor((int)scissor.x, (int)scissor.y, (int)scissor.width, (int)scissor.height);
+		if (!same) HdpiUtils.glScissor((int)scissor.x, (int)scissor.y, (int)scissor.width, (int)scissor.height);
 		return true;
 	}
 
@@ -80,7 +83,8 @@ public class ScissorStack {
 			Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
 		else {
 			Rectangle scissor = scissors.peek();
-			HdpiUtils.glScissor((int)scissor.x, (int)scissor.y, (int)scissor.width, (int)scissor.height);
+			if (!scissor.equals(old))
+				HdpiUtils.glScissor((int)scissor.x, (int)scissor.y, (int)scissor.width, (int)scissor.height);
 		}
 		return old;
 	}
@@ -0,0 +1,107 @@
+package com.badlogic.gdx;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.GL31;
+import com.badlogic.gdx.graphics.GL32;
+import com.badlogic.gdx.utils.Null;
+
+/** Replaces the {@link Gdx} globals with fakes, so tests can run without a backend. Call {@link #set()} before the tests of a
+ * class and {@link #restore()} after them. A test may replace a global with its own {@link #fake(Class, InvocationHandler)
+ * fake} after calling set, it is restored too. */
+public class FakeGdx {
+	/** The size of the fake screen. It is small enough for the boxed sizes to be cached, so getting them doesn't allocate. */
+	public static final int width = 100, height = 100;
+
+	static Application app;
+	static Graphics graphics;
+	static Input input;
+	static Files files;
+	static GL20 gl, gl20;
+	static GL30 gl30;
+	static GL31 gl31;
+	static GL32 gl32;
+
+	/** Saves the globals and replaces the application, graphics, input, files and GL20 with fakes which do nothing. The
+	 * graphics report a screen of {@link #width} by {@link #height} and GL30 is not available. */
+	public static void set () {
+		app = Gdx.app;
+		graphics = Gdx.graphics;
+		input = Gdx.input;
+		files = Gdx.files;
+		gl = Gdx.gl;
+		gl20 = Gdx.gl20;
+		gl30 = Gdx.gl30;
+		gl31 = Gdx.gl31;
+		gl32 = Gdx.gl32;
+
+		Gdx.app = fake(Application.class, null);
+		Gdx.graphics = fake(Graphics.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("getWidth") || name.equals("getBackBufferWidth")) return width;
+				if (name.equals("getHeight") || name.equals("getBackBufferHeight")) return height;
+				return null;
+			}
+		});
+		Gdx.input = fake(Input.class, null);
+		Gdx.files = fake(Files.class, null);
+		Gdx.gl = Gdx.gl20 = fake(GL20.class, null);
+		Gdx.gl30 = null;
+		Gdx.gl31 = null;
+		Gdx.gl32 = null;
+	}
+
+	/** Puts back the globals saved by {@link #set()}. */
+	public static void restore () {
+		Gdx.app = app;
+		Gdx.graphics = graphics;
+		Gdx.input = input;
+		Gdx.files = files;
+		Gdx.gl = gl;
+		Gdx.gl20 = gl20;
+		Gdx.gl30 = gl30;
+		Gdx.gl31 = gl31;
+		Gdx.gl32 = gl32;
+		app = null;
+		graphics = null;
+		input = null;
+		files = null;
+		gl = gl20 = null;
+		gl30 = null;
+		gl31 = null;
+		gl32 = null;
+	}
+
+	/** Returns an implementation of the interface which calls the handler, if any. When the handler returns null, the method
+	 * returns the default value of its return type. Each fake is only equal to itself. */
+	@SuppressWarnings("unchecked")
+	public static <T> T fake (final Class<T> type, final @Null InvocationHandler handler) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) throws Throwable {
+				String name = method.getName();
+				if (name.equals("hashCode") && method.getParameterTypes().length == 0) return System.identityHashCode(proxy);
+				if (name.equals("equals") && method.getParameterTypes().length == 1) return proxy == args[0];
+				if (name.equals("toString") && method.getParameterTypes().length == 0) return "Fake " + type.getSimpleName();
+				Object value = handler != null ? handler.invoke(proxy, method, args) : null;
+				return value != null ? value : defaultValue(method.getReturnType());
+			}
+		});
+	}
+
+	static @Null Object defaultValue (Class type) {
+		if (!type.isPrimitive() || type == void.class) return null;
+		if (type == boolean.class) return false;
+		if (type == char.class) return '\0';
+		if (type == byte.class) return (byte)0;
+		if (type == short.class) return (short)0;
+		if (type == int.class) return 0;
+		if (type == long.class) return 0L;
+		if (type == float.class) return 0f;
+		return 0d;
+	}
+}
@@ -0,0 +1,114 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+public class ParticleEmitterTest {
+	private static ParticleEmitter createEmitter () {
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(500);
+		emitter.getDuration().setLow(1000);
+		emitter.setContinuous(true);
+		emitter.getEmission().setHigh(300);
+		emitter.getLife().setHigh(500, 1000);
+		emitter.getXScale().setHigh(8, 32);
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(50, 150);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		emitter.getRotation().setActive(true);
+		emitter.getRotation().setHigh(-90, 90);
+		emitter.getRotation().setTimeline(new float[] {0, 1});
+		emitter.getRotation().setScaling(new float[] {0, 1});
+		emitter.getGravity().setActive(true);
+		emitter.getGravity().setHigh(-20);
+		emitter.getTransparency().setHigh(1);
+		emitter.getTransparency().setTimeline(new float[] {0, 1});
+		emitter.getTransparency().setScaling(new float[] {1, 0});
+		Sprite sprite = new Sprite();
+		sprite.setSize(16, 16);
+		sprite.setOriginCenter();
+		Array<Sprite> sprites = new Array<Sprite>();
+		sprites.add(sprite);
+		emitter.setSprites(sprites);
+		emitter.setPosition(100, 50);
+		return emitter;
+	}
+
+	private static BoundingBox simulate (ParticleEmitter emitter, int frames) {
+		MathUtils.random.setSeed(42);
+		emitter.start();
+		for (int i = 0; i < frames; i++)
+			emitter.update(1 / 60f);
+		return new BoundingBox(emitter.getBoundingBox());
+	}
+
+	@Test
+	public void testArrayStorageMatchesObjects () {
+		ParticleEmitter objects = createEmitter();
+		BoundingBox expected = simulate(objects, 90);
+
+		ParticleEmitter arrays = createEmitter();
+		arrays.setArrayStorage(true);
+		Assert.assertTrue(arrays.isArrayStorage());
+		BoundingBox actual = simulate(arrays, 90);
+
+		Assert.assertTrue(objects.getActiveCount() > 100);
+		Assert.assertEquals(objects.getActiveCount(), arrays.getActiveCount());
+		Assert.assertEquals(expected.min.x, actual.min.x, 0.001f);
+		Assert.assertEquals(expected.min.y, actual.min.y, 0.001f);
+		Assert.assertEquals(expected.max.x, actual.max.x, 0.001f);
+		Assert.assertEquals(expected.max.y, actual.max.y, 0.001f);
+	}
+
+	@Test
+	public void testCopyKeepsArrayStorage () {
+		ParticleEmitter emitter = createEmitter();
+		emitter.setArrayStorage(true);
+		Assert.assertTrue(new ParticleEmitter(emitter).isArrayStorage());
+		emitter.setArrayStorage(false);
+		Assert.assertFalse(new ParticleEmitter(emitter).isArrayStorage());
+	}
+
+	@Test
+	public void testBakedScaleMatchesTimeline () {
+		ParticleEmitter.ScaledNumericValue value = new ParticleEmitter.ScaledNumericValue();
+		value.setTimeline(new float[] {0, 0.25f, 0.6f, 1});
+		value.setScaling(new float[] {0, 1, 0.5f, 0.75f});
+		float[] expected = new float[101];
+		for (int i = 0; i <= 100; i++)
+			expected[i] = value.getScale(i / 100f);
+
+		value.setBakedResolution(256);
+		for (int i = 0; i <= 100; i++)
+			Assert.assertEquals(expected[i], value.getScale(i / 100f), 0.01f);
+		Assert.assertEquals(0.75f, value.getScale(1.5f), 0);
+
+		value.setScaling(new float[] {1, 1, 1, 1});
+		Assert.assertEquals(1, value.getScale(0.3f), 0.0001f);
+		ParticleEmitter.ScaledNumericValue copy = new ParticleEmitter.ScaledNumericValue();
+		copy.load(value);
+		Assert.assertEquals(256, copy.getBakedResolution());
+	}
+
+	@Test
+	public void testBakedColorMatchesTimeline () {
+		ParticleEmitter.GradientColorValue value = new ParticleEmitter.GradientColorValue();
+		value.setTimeline(new float[] {0, 0.5f, 1});
+		value.setColors(new float[] {1, 0, 0, 0, 1, 0, 0, 0, 1});
+		float[] expected = new float[101 * 3];
+		for (int i = 0; i <= 100; i++)
+			System.arraycopy(value.getColor(i / 100f), 0, expected, i * 3, 3);
+
+		value.setBakedResolution(64);
+		for (int i = 0; i <= 100; i++) {
+			float[] color = value.getColor(i / 100f);
+			for (int c = 0; c < 3; c++)
+				Assert.assertEquals(expected[i * 3 + c], color[c], 0.02f);
+		}
+	}
+}
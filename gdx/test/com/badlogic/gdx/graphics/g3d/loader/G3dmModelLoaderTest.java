@@ -0,0 +1,71 @@
+package com.badlogic.gdx.graphics.g3d.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+
+public class G3dmModelLoaderTest {
+	private static final String MODEL = "{version: [0, 1], id: test, meshes: [{attributes: [POSITION], "
+		+ "vertices: [0, 0, 0, 1, 0, 0, 0, 1, 0, 1, 1, 0], parts: [{id: a, type: TRIANGLES, indices: [0, 1, 2]}, "
+		+ "{id: b, type: LINES, indices: [1, 3]}]}], nodes: [{id: node, parts: [{meshpartid: a, materialid: mat}]}]}";
+
+	private static ByteBuffer convert (String json) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		G3dmConverter.convert(new JsonReader().parse(json), out);
+		byte[] bytes = out.toByteArray();
+		ByteBuffer data = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.nativeOrder());
+		data.put(bytes).flip();
+		return data;
+	}
+
+	@Test
+	public void testRoundTrip () throws IOException {
+		ModelData model = new G3dmModelLoader().parseModel(new FileHandle("test.g3dm"), convert(MODEL));
+		Assert.assertEquals("test", model.id);
+		Assert.assertEquals(1, model.meshes.size);
+		Assert.assertEquals(1, model.nodes.size);
+
+		ModelMesh mesh = model.meshes.first();
+		Assert.assertNull(mesh.vertices);
+		Assert.assertEquals(12 * 4, mesh.vertexData.limit());
+		Assert.assertEquals(ByteOrder.nativeOrder(), mesh.vertexData.order());
+		Assert.assertEquals(1f, mesh.vertexData.getFloat(3 * 4), 0f);
+		Assert.assertEquals(1f, mesh.vertexData.getFloat(11 * 4 - 4), 0f);
+
+		Assert.assertEquals(2, mesh.parts.length);
+		Assert.assertEquals(GL20.GL_TRIANGLES, mesh.parts[0].primitiveType);
+		Assert.assertEquals(3, mesh.parts[0].numIndices);
+		Assert.assertEquals(GL20.GL_LINES, mesh.parts[1].primitiveType);
+		Assert.assertEquals(2, mesh.parts[1].numIndices);
+		Assert.assertEquals(5 * 2, mesh.indexData.limit());
+		Assert.assertEquals(2, mesh.indexData.getShort(2 * 2));
+		Assert.assertEquals(3, mesh.indexData.getShort(4 * 2));
+	}
+
+	@Test
+	public void testDataIsAligned () throws IOException {
+		ByteBuffer data = convert(MODEL);
+		ModelMesh mesh = new G3dmModelLoader().parseModel(new FileHandle("test.g3dm"), data).meshes.first();
+		int metadataLength = data.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(8);
+		Assert.assertEquals(0, G3dmModelLoader.getDataOffset(metadataLength) % 4);
+		Assert.assertEquals(mesh.vertexData.limit(), mesh.vertexData.capacity());
+	}
+
+	@Test(expected = GdxRuntimeException.class)
+	public void testInvalidMagic () throws IOException {
+		ByteBuffer data = convert(MODEL);
+		data.put(0, (byte)'X');
+		new G3dmModelLoader().parseModel(new FileHandle("test.g3dm"), data);
+	}
+}
@@ -0,0 +1,101 @@
+package com.badlogic.gdx.graphics.g3d.loader;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class ObjLoaderTest {
+	private static ModelData load (String obj, ObjLoader loader) throws IOException {
+		File file = File.createTempFile("ObjLoaderTest", ".obj");
+		file.deleteOnExit();
+		FileHandle handle = new FileHandle(file);
+		handle.writeString(obj, false);
+		return loader.loadModelData(handle, null);
+	}
+
+	@Test
+	public void testWeldsVertices () throws IOException {
+		String obj = "# quad\nv 0 0 0\nv 1 0 0\nv 1 1 0\nv 0 1 0\nvt 0 0\nvt 1 0\nvt 1 1\nvt 0 1\nvn 0 0 1\n"
+			+ "f 1/1/1 2/2/1 3/3/1 4/4/1\n";
+		ModelData data = load(obj, new ObjLoader());
+		Assert.assertEquals(1, data.meshes.size);
+		ModelMesh mesh = data.meshes.first();
+		Assert.assertEquals(4 * 8, mesh.vertices.length);
+		Assert.assertArrayEquals(new short[] {0, 1, 2, 0, 2, 3}, mesh.parts[0].indices);
+		Assert.assertEquals(1f, mesh.vertices[8 + 0], 0f);
+		Assert.assertEquals(1f, mesh.vertices[8 + 5], 0f);
+		Assert.assertEquals(1f, mesh.vertices[8 + 6], 0f);
+	}
+
+	@Test
+	public void testParsesNumbers () throws IOException {
+		ModelData data = load("v -1.5e2 +0.25 3\r\nv 1E-3 .5 -0\nv 12345.678 NaN 1e40\nf 1 2 3\n", new ObjLoader());
+		float[] vertices = data.meshes.first().vertices;
+		Assert.assertEquals(-150f, vertices[0], 0f);
+		Assert.assertEquals(0.25f, vertices[1], 0f);
+		Assert.assertEquals(3f, vertices[2], 0f);
+		Assert.assertEquals(0.001f, vertices[3], 0f);
+		Assert.assertEquals(0.5f, vertices[4], 0f);
+		Assert.assertEquals(12345.678f, vertices[6], 0f);
+		Assert.assertTrue(Float.isNaN(vertices[7]));
+		Assert.assertTrue(Float.isInfinite(vertices[8]));
+	}
+
+	@Test
+	public void testChunkedParsingMatchesSingleChunk () throws IOException {
+		StringBuilder obj = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			if (i % 50 == 0) obj.append("g group").append(i % 100).append('\n');
+			if (i % 70 == 0) obj.append("usemtl mat").append(i).append('\n');
+			obj.append("v ").append(i).append(" 0 0\nv ").append(i).append(" 1 0\nv ").append(i).append(" 1 1\n");
+			obj.append("vn 0 0 1\n");
+			obj.append("f -3//-1 -2//-1 -1//-1\n");
+			if (i > 0) obj.append("f ").append(i * 3).append("//1 ").append(i * 3 + 1).append("//1 ").append(i * 3 + 2)
+				.append("//1\n");
+		}
+
+		ModelData expected = load(obj.toString(), new ObjLoader());
+		AsyncExecutor executor = new AsyncExecutor(4);
+		ObjLoader loader = new ObjLoader(null, executor);
+		loader.chunkSize = 64;
+		ModelData actual = load(obj.toString(), loader);
+		executor.dispose();
+
+		Assert.assertEquals(2, expected.meshes.size);
+		Assert.assertEquals(expected.meshes.size, actual.meshes.size);
+		for (int i = 0; i < expected.meshes.size; i++) {
+			Assert.assertEquals(expected.meshes.get(i).id, actual.meshes.get(i).id);
+			Assert.assertArrayEquals(expected.meshes.get(i).vertices, actual.meshes.get(i).vertices, 0f);
+			Assert.assertArrayEquals(expected.meshes.get(i).parts[0].indices, actual.meshes.get(i).parts[0].indices);
+		}
+		for (int i = 0; i < expected.materials.size; i++)
+			Assert.assertEquals(expected.materials.get(i).id, actual.materials.get(i).id);
+	}
+
+	@Test
+	public void testSplitsLargeGroups () throws IOException {
+		final int numTriangles = 30000;
+		StringBuilder obj = new StringBuilder();
+		for (int i = 0; i < numTriangles; i++)
+			obj.append("v ").append(i).append(" 0 0\nv ").append(i).append(" 1 0\nv ").append(i).append(" 0 1\nf -3 -2 -1\n");
+		ModelData data = load(obj.toString(), new ObjLoader());
+		Assert.assertEquals(1, data.nodes.size);
+		Assert.assertEquals(2, data.meshes.size);
+		Assert.assertEquals(2, data.nodes.first().parts.length);
+		int numIndices = 0;
+		for (ModelMesh mesh : data.meshes) {
+			Assert.assertTrue(mesh.vertices.length / 3 <= ObjLoader.MAX_VERTICES);
+			numIndices += mesh.parts[0].indices.length;
+		}
+		Assert.assertEquals(numTriangles * 3, numIndices);
+		final int last = ObjLoader.MAX_VERTICES / 3 * 3 - 1;
+		Assert.assertEquals(last, data.meshes.first().parts[0].indices[last] & 0xFFFF);
+	}
+}
@@ -0,0 +1,50 @@
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.model.NodeLod.Metric;
+import com.badlogic.gdx.utils.Array;
+
+public class NodeLodTest {
+	private static NodeLod create (Metric metric, float... thresholds) {
+		NodeLod lod = new NodeLod(metric);
+		for (float threshold : thresholds)
+			lod.add(threshold, new Array<NodePart>());
+		return lod;
+	}
+
+	@Test
+	public void testScreenSizeSelection () {
+		NodeLod lod = create(Metric.ScreenSize, 0.5f, 0.1f);
+		Assert.assertEquals(0, lod.select(1f));
+		Assert.assertEquals(1, lod.select(0.3f));
+		Assert.assertEquals(2, lod.select(0.01f));
+		Assert.assertEquals(0, lod.select(0.9f));
+	}
+
+	@Test
+	public void testDistanceSelection () {
+		NodeLod lod = create(Metric.Distance, 10f, 50f);
+		Assert.assertEquals(0, lod.select(1f));
+		Assert.assertEquals(1, lod.select(20f));
+		Assert.assertEquals(2, lod.select(100f));
+		Assert.assertEquals(1, lod.select(30f));
+	}
+
+	@Test
+	public void testHysteresis () {
+		NodeLod lod = create(Metric.Distance, 10f);
+		lod.hysteresis = 0.1f;
+		Assert.assertEquals(0, lod.select(10.5f));
+		Assert.assertEquals(1, lod.select(11.5f));
+		Assert.assertEquals(1, lod.select(9.5f));
+		Assert.assertEquals(0, lod.select(8.5f));
+	}
+
+	@Test(expected = com.badlogic.gdx.utils.GdxRuntimeException.class)
+	public void testThresholdOrder () {
+		create(Metric.ScreenSize, 0.1f, 0.5f);
+	}
+}
@@ -0,0 +1,92 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
+import com.badlogic.gdx.graphics.g3d.particles.emitters.RegularEmitter;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsModifier.BrownianAcceleration;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ScaleInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.SpawnInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.PointSpriteRenderer;
+import com.badlogic.gdx.graphics.g3d.particles.values.PointSpawnShapeValue;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class ParticleSystemTest {
+	private static ParticleController createController () {
+		RegularEmitter emitter = new RegularEmitter();
+		emitter.getDuration().setLow(3000);
+		emitter.getEmission().setHigh(500);
+		emitter.getLife().setHigh(500, 1000);
+		emitter.setMaxParticleCount(500);
+
+		PointSpawnShapeValue spawnShape = new PointSpawnShapeValue();
+		spawnShape.xOffsetValue.setLow(0, 1f);
+		spawnShape.xOffsetValue.setActive(true);
+		spawnShape.yOffsetValue.setLow(0, 1f);
+		spawnShape.yOffsetValue.setActive(true);
+
+		ScaleInfluencer scaleInfluencer = new ScaleInfluencer();
+		scaleInfluencer.value.setTimeline(new float[] {0, 1});
+		scaleInfluencer.value.setScaling(new float[] {1, 0});
+		scaleInfluencer.value.setHigh(1);
+
+		DynamicsInfluencer dynamicsInfluencer = new DynamicsInfluencer();
+		BrownianAcceleration modifier = new BrownianAcceleration();
+		modifier.strengthValue.setHigh(80);
+		modifier.strengthValue.setLow(1, 5);
+		dynamicsInfluencer.velocities.add(modifier);
+
+		return new ParticleController("Controller", emitter, new PointSpriteRenderer(), new SpawnInfluencer(spawnShape),
+			scaleInfluencer, dynamicsInfluencer);
+	}
+
+	private static Array<ParticleEffect> createEffects (long seed) {
+		MathUtils.random.setSeed(seed);
+		Array<ParticleEffect> effects = new Array<ParticleEffect>();
+		for (int i = 0; i < 4; i++) {
+			ParticleEffect effect = new ParticleEffect(createController(), createController());
+			effect.init();
+			effect.start();
+			effects.add(effect);
+		}
+		return effects;
+	}
+
+	private static Array<float[]> simulate (ParticleSystem system, Array<ParticleEffect> effects) {
+		for (ParticleEffect effect : effects)
+			system.add(effect);
+		for (int i = 0; i < 30; i++)
+			system.update(1 / 60f);
+		Array<float[]> positions = new Array<float[]>();
+		for (ParticleEffect effect : effects)
+			for (ParticleController controller : effect.getControllers()) {
+				FloatChannel channel = controller.particles.getChannel(ParticleChannels.Position);
+				float[] data = new float[controller.particles.size * channel.strideSize];
+				System.arraycopy(channel.data, 0, data, 0, data.length);
+				positions.add(data);
+			}
+		return positions;
+	}
+
+	@Test
+	public void testParallelMatchesSerialUpdate () {
+		Array<float[]> expected = simulate(new ParticleSystem(), createEffects(1234));
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			for (int run = 0; run < 3; run++) {
+				Array<float[]> actual = simulate(new ParticleSystem(executor), createEffects(1234));
+				Assert.assertEquals(expected.size, actual.size);
+				for (int i = 0; i < expected.size; i++) {
+					Assert.assertTrue(expected.get(i).length > 0);
+					Assert.assertArrayEquals(expected.get(i), actual.get(i), 0);
+				}
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+}
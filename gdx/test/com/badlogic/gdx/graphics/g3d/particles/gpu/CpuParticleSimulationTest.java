@@ -0,0 +1,138 @@
+package com.badlogic.gdx.graphics.g3d.particles.gpu;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+
+public class CpuParticleSimulationTest {
+	private static GpuParticleSettings createSettings () {
+		GpuParticleSettings settings = new GpuParticleSettings();
+		settings.maxParticleCount = 100;
+		settings.emission = 100;
+		settings.lifeMin = settings.lifeMax = 1000;
+		return settings;
+	}
+
+	@Test
+	public void testEmission () {
+		CpuParticleSimulation simulation = new CpuParticleSimulation(createSettings());
+		Assert.assertEquals(0, simulation.getAliveCount());
+		for (int i = 0; i < 4; i++)
+			simulation.update(0.1f);
+		Assert.assertEquals(40, simulation.getAliveCount());
+
+		// The oldest particles are reused when the capacity is exceeded
+		simulation.settings.emission = 100000;
+		simulation.update(0.1f);
+		Assert.assertEquals(100, simulation.getAliveCount());
+	}
+
+	@Test
+	public void testKinematics () {
+		GpuParticleSettings settings = createSettings();
+		settings.emission = 10;
+		settings.speedMin = settings.speedMax = 2;
+		settings.acceleration.set(0, -1, 0);
+		CpuParticleSimulation simulation = new CpuParticleSimulation(settings);
+		simulation.transform.setToTranslation(1, 2, 3);
+		simulation.update(0.1f);
+		Assert.assertTrue(simulation.isAlive(0));
+		Assert.assertFalse(simulation.isAlive(1));
+		float[] state = simulation.state;
+		Assert.assertArrayEquals(new float[] {1, 2, 3, 0, 0, 2, 0}, copy(state, 0, 7), 1e-6f);
+
+		settings.emission = 0;
+		simulation.update(0.5f);
+		// v = 2 - 0.5, p = 2 + 1.5 * 0.5
+		Assert.assertArrayEquals(new float[] {1, 2.75f, 3, 0.5f, 0, 1.5f, 0}, copy(state, 0, 7), 1e-6f);
+
+		simulation.update(0.5f);
+		Assert.assertFalse(simulation.isAlive(0));
+		float[] dead = copy(state, 0, 8);
+		simulation.update(0.5f);
+		Assert.assertArrayEquals(dead, copy(state, 0, 8), 0);
+	}
+
+	@Test
+	public void testSpawnArea () {
+		GpuParticleSettings settings = createSettings();
+		settings.spawnSize.set(2, 4, 6);
+		settings.spread = 30;
+		settings.speedMin = 1;
+		settings.speedMax = 3;
+		CpuParticleSimulation simulation = new CpuParticleSimulation(settings);
+		simulation.update(1f);
+		float[] state = simulation.state;
+		for (int i = 0; i < simulation.getCapacity(); i++) {
+			int o = i * ParticleSimulation.STATE_SIZE;
+			Assert.assertTrue(Math.abs(state[o]) <= 1 && Math.abs(state[o + 1]) <= 2 && Math.abs(state[o + 2]) <= 3);
+			float vx = state[o + 4], vy = state[o + 5], vz = state[o + 6];
+			float speed = (float)Math.sqrt(vx * vx + vy * vy + vz * vz);
+			Assert.assertTrue(speed >= 1 - 1e-5f && speed <= 3 + 1e-5f);
+			Assert.assertTrue(vy / speed >= Math.cos(Math.toRadians(30)) - 1e-5f);
+		}
+	}
+
+	@Test
+	public void testDeterminism () {
+		GpuParticleSettings settings = createSettings();
+		settings.spawnSize.set(1, 1, 1);
+		settings.spread = 45;
+		settings.lifeMin = 500;
+		CpuParticleSimulation a = new CpuParticleSimulation(settings), b = new CpuParticleSimulation(settings);
+		for (int i = 0; i < 20; i++) {
+			a.update(1 / 30f);
+			b.update(1 / 30f);
+		}
+		Assert.assertArrayEquals(a.state, b.state, 0);
+
+		b.reset();
+		b.seed = 1;
+		for (int i = 0; i < 20; i++)
+			b.update(1 / 30f);
+		Assert.assertFalse(java.util.Arrays.equals(a.state, b.state));
+	}
+
+	@Test
+	public void testTimelines () {
+		GpuParticleSettings settings = createSettings();
+		settings.emission = 10;
+		settings.scaleValue.setLow(1);
+		settings.scaleValue.setHigh(3);
+		settings.scaleValue.setTimeline(new float[] {0, 1});
+		settings.scaleValue.setScaling(new float[] {0, 1});
+		settings.alphaValue.setLow(0);
+		settings.alphaValue.setHigh(1);
+		settings.colorValue.setTimeline(new float[] {0, 1});
+		settings.colorValue.setColors(new float[] {1, 0, 0, 0, 0, 1});
+		CpuParticleSimulation simulation = new CpuParticleSimulation(settings);
+		simulation.update(0.1f);
+		Assert.assertEquals(1, simulation.getScale(0), 1e-6f);
+		settings.emission = 0;
+		simulation.update(0.5f);
+		Assert.assertEquals(0.5f, simulation.getLifePercent(0), 1e-6f);
+		Assert.assertEquals(2, simulation.getScale(0), 1e-6f);
+		Color color = simulation.getColor(0, new Color());
+		Assert.assertEquals(0.5f, color.r, 1e-6f);
+		Assert.assertEquals(0, color.g, 1e-6f);
+		Assert.assertEquals(0.5f, color.b, 1e-6f);
+		Assert.assertEquals(1f, color.a, 1e-6f);
+	}
+
+	@Test
+	public void testRandom () {
+		for (int i = 0; i < 10000; i++) {
+			float value = ParticleSimulation.random(ParticleSimulation.hash(i));
+			Assert.assertTrue(value >= 0 && value < 1);
+			// A random value used as seed is converted back to the same bits
+			Assert.assertEquals(ParticleSimulation.hash(i) >>> 8, ParticleSimulation.seedHash(value) ^ 0x5bd1e995);
+		}
+	}
+
+	private static float[] copy (float[] array, int offset, int length) {
+		float[] result = new float[length];
+		System.arraycopy(array, offset, result, 0, length);
+		return result;
+	}
+}
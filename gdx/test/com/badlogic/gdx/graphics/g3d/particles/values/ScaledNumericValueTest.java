@@ -0,0 +1,40 @@
+package com.badlogic.gdx.graphics.g3d.particles.values;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScaledNumericValueTest {
+	@Test
+	public void testBakedScaleMatchesTimeline () {
+		ScaledNumericValue value = new ScaledNumericValue();
+		value.setTimeline(new float[] {0, 0.3f, 1});
+		value.setScaling(new float[] {1, 0, 0.5f});
+		float[] expected = new float[101];
+		for (int i = 0; i <= 100; i++)
+			expected[i] = value.getScale(i / 100f);
+
+		value.setBakedResolution(128);
+		for (int i = 0; i <= 100; i++)
+			Assert.assertEquals(expected[i], value.getScale(i / 100f), 0.01f);
+
+		value.timeline[1] = 0.5f;
+		value.bake();
+		Assert.assertEquals(0, value.getScale(0.5f), 0.01f);
+	}
+
+	@Test
+	public void testBakedColorMatchesTimeline () {
+		GradientColorValue value = new GradientColorValue();
+		value.setTimeline(new float[] {0, 1});
+		value.setColors(new float[] {0, 0.5f, 1, 1, 0.5f, 0});
+		float[] expected = new float[3], color = new float[3];
+		value.setBakedResolution(16);
+		for (int i = 0; i <= 100; i++) {
+			value.setBakedResolution(0);
+			value.getColor(i / 100f, expected, 0);
+			value.setBakedResolution(16);
+			value.getColor(i / 100f, color, 0);
+			Assert.assertArrayEquals(expected, color, 0.0001f);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+
+public class BaseShaderProviderTest {
+	private static class MaskShader implements Shader {
+		final long mask;
+		int canRenderCalls;
+
+		MaskShader (long mask) {
+			this.mask = mask;
+		}
+
+		@Override
+		public boolean canRender (Renderable instance) {
+			canRenderCalls++;
+			return instance.material.getMask() == mask;
+		}
+
+		@Override
+		public void init () {
+		}
+
+		@Override
+		public int compareTo (Shader other) {
+			return 0;
+		}
+
+		@Override
+		public void begin (Camera camera, RenderContext context) {
+		}
+
+		@Override
+		public void render (Renderable renderable) {
+		}
+
+		@Override
+		public void end () {
+		}
+
+		@Override
+		public void dispose () {
+		}
+	}
+
+	private static class MaskShaderProvider extends BaseShaderProvider {
+		int created;
+
+		@Override
+		protected Shader createShader (Renderable renderable) {
+			created++;
+			return new MaskShader(renderable.material.getMask());
+		}
+	}
+
+	private static Renderable renderable (Material material) {
+		Renderable renderable = new Renderable();
+		renderable.material = material;
+		return renderable;
+	}
+
+	@Test
+	public void testReusesShaderPerVariant () {
+		MaskShaderProvider provider = new MaskShaderProvider();
+		Renderable plain = renderable(new Material(ColorAttribute.createDiffuse(1, 0, 0, 1)));
+		Renderable blended = renderable(new Material(ColorAttribute.createDiffuse(1, 0, 0, 1), new BlendingAttribute()));
+
+		Shader plainShader = provider.getShader(plain);
+		Shader blendedShader = provider.getShader(blended);
+		Assert.assertNotSame(plainShader, blendedShader);
+		Assert.assertSame(plainShader, provider.getShader(renderable(new Material(ColorAttribute.createDiffuse(0, 1, 0, 1)))));
+		Assert.assertSame(blendedShader, provider.getShader(blended));
+		Assert.assertEquals(2, provider.created);
+	}
+
+	@Test
+	public void testCachedLookupSkipsOtherShaders () {
+		MaskShaderProvider provider = new MaskShaderProvider();
+		Renderable plain = renderable(new Material(ColorAttribute.createDiffuse(1, 0, 0, 1)));
+		MaskShader plainShader = (MaskShader)provider.getShader(plain);
+		MaskShader blendedShader = (MaskShader)provider.getShader(renderable(new Material(new BlendingAttribute())));
+		int calls = blendedShader.canRenderCalls;
+		for (int i = 0; i < 10; i++)
+			Assert.assertSame(plainShader, provider.getShader(plain));
+		Assert.assertEquals(calls, blendedShader.canRenderCalls);
+	}
+
+	@Test
+	public void testSuggestedShaderIsUsed () {
+		MaskShaderProvider provider = new MaskShaderProvider();
+		Renderable plain = renderable(new Material());
+		MaskShader suggested = new MaskShader(plain.material.getMask());
+		plain.shader = suggested;
+		Assert.assertSame(suggested, provider.getShader(plain));
+		Assert.assertEquals(0, provider.created);
+	}
+}
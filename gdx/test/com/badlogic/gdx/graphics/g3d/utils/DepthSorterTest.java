@@ -0,0 +1,57 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DepthSorterTest {
+	private static void assertSorted (float[] keys, int count, int[] order) {
+		boolean[] seen = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			Assert.assertFalse(seen[order[i]]);
+			seen[order[i]] = true;
+			if (i > 0) {
+				float previous = keys[order[i - 1]], current = keys[order[i]];
+				Assert.assertTrue(previous <= current);
+				if (previous == current) Assert.assertTrue("not stable", order[i - 1] < order[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testSortFromScratch () {
+		Random random = new Random(42);
+		DepthSorter sorter = new DepthSorter();
+		sorter.coherenceLimit = 0;
+		float[] keys = new float[5000];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = (random.nextFloat() - 0.5f) * 1000;
+		keys[10] = keys[20] = keys[30] = 0;
+		keys[11] = -0.001f;
+		keys[12] = Float.MAX_VALUE;
+		keys[13] = -Float.MAX_VALUE;
+		assertSorted(keys, keys.length, sorter.sort(keys, keys.length));
+		assertSorted(keys, 1, sorter.sort(keys, 1));
+		sorter.sort(keys, 0);
+	}
+
+	@Test
+	public void testReusePreviousOrder () {
+		Random random = new Random(7);
+		DepthSorter sorter = new DepthSorter();
+		float[] keys = new float[3000];
+		int count = 2000;
+		for (int i = 0; i < count; i++)
+			keys[i] = random.nextFloat() * 100;
+		assertSorted(keys, count, sorter.sort(keys, count));
+		for (int frame = 0; frame < 20; frame++) {
+			for (int i = 0; i < count; i++)
+				keys[i] += (random.nextFloat() - 0.5f) * (frame < 10 ? 0.1f : 50);
+			count += random.nextInt(200) - 100;
+			for (int i = 0; i < count; i++)
+				if (keys[i] == 0) keys[i] = random.nextFloat() * 100;
+			assertSorted(keys, count, sorter.sort(keys, count));
+		}
+	}
+}
@@ -0,0 +1,72 @@
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+
+public class MeshDecimatorTest {
+	/** Creates a flat grid of size x size quads on the xz plane, each quad being one unit in size. */
+	private static float[] gridVertices (int size) {
+		float[] vertices = new float[(size + 1) * (size + 1) * 3];
+		int o = 0;
+		for (int x = 0; x <= size; x++)
+			for (int z = 0; z <= size; z++) {
+				vertices[o++] = x;
+				vertices[o++] = 0;
+				vertices[o++] = z;
+			}
+		return vertices;
+	}
+
+	private static short[] gridIndices (int size) {
+		short[] indices = new short[size * size * 6];
+		int o = 0;
+		for (int x = 0; x < size; x++)
+			for (int z = 0; z < size; z++) {
+				short i00 = (short)(x * (size + 1) + z), i01 = (short)(i00 + 1);
+				short i10 = (short)(i00 + size + 1), i11 = (short)(i10 + 1);
+				indices[o++] = i00;
+				indices[o++] = i10;
+				indices[o++] = i11;
+				indices[o++] = i11;
+				indices[o++] = i01;
+				indices[o++] = i00;
+			}
+		return indices;
+	}
+
+	private static MeshBuilder decimate (int size, float cellSize) {
+		short[] indices = gridIndices(size);
+		MeshBuilder builder = new MeshBuilder();
+		builder.begin(Usage.Position, GL20.GL_TRIANGLES);
+		builder.part("test", GL20.GL_TRIANGLES);
+		new MeshDecimator().decimate(builder, gridVertices(size), 3, 0, indices, 0, indices.length, cellSize);
+		return builder;
+	}
+
+	@Test
+	public void testSmallCellsKeepShape () {
+		MeshBuilder builder = decimate(8, 0.5f);
+		Assert.assertEquals(81, builder.getNumVertices());
+		Assert.assertEquals(8 * 8 * 6, builder.getNumIndices());
+	}
+
+	@Test
+	public void testLargeCellsReduceShape () {
+		MeshBuilder builder = decimate(8, 2.5f);
+		Assert.assertTrue(builder.getNumVertices() < 81);
+		Assert.assertTrue(builder.getNumIndices() < 8 * 8 * 6);
+		Assert.assertTrue(builder.getNumIndices() > 0);
+		Assert.assertEquals(0, builder.getNumIndices() % 3);
+	}
+
+	@Test
+	public void testSingleCellCollapses () {
+		MeshBuilder builder = decimate(8, 100f);
+		Assert.assertEquals(0, builder.getNumVertices());
+		Assert.assertEquals(0, builder.getNumIndices());
+	}
+}
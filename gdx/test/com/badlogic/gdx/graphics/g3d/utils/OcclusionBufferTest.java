@@ -0,0 +1,55 @@
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+
+public class OcclusionBufferTest {
+	private OcclusionBuffer buffer;
+
+	@Before
+	public void setup () {
+		// a camera at the origin looking along the negative z axis
+		Matrix4 combined = new Matrix4().setToProjection(0.1f, 1000f, 67f, 2f);
+		buffer = new OcclusionBuffer(64, 32);
+		buffer.begin(combined);
+		// a wall in front of the camera
+		buffer.addOccluder(new BoundingBox(new Vector3(-50f, -50f, -11f), new Vector3(50f, 50f, -10f)), null);
+	}
+
+	@Test
+	public void testBehindOccluder () {
+		Assert.assertTrue(buffer.isOccluded(new BoundingBox(new Vector3(-1f, -1f, -21f), new Vector3(1f, 1f, -20f)), null));
+		Assert.assertEquals(1, buffer.occluded);
+	}
+
+	@Test
+	public void testInFrontOfOccluder () {
+		Assert.assertFalse(buffer.isOccluded(new BoundingBox(new Vector3(-1f, -1f, -6f), new Vector3(1f, 1f, -5f)), null));
+	}
+
+	@Test
+	public void testIntersectingNearPlane () {
+		Assert.assertFalse(buffer.isOccluded(new BoundingBox(new Vector3(-1f, -1f, -21f), new Vector3(1f, 1f, 1f)), null));
+	}
+
+	@Test
+	public void testPartiallyBehindOccluder () {
+		buffer.clear();
+		buffer.addOccluder(new BoundingBox(new Vector3(-50f, -50f, -11f), new Vector3(0f, 50f, -10f)), null);
+		Assert.assertTrue(buffer.isOccluded(new BoundingBox(new Vector3(-4f, -1f, -21f), new Vector3(-2f, 1f, -20f)), null));
+		Assert.assertFalse(buffer.isOccluded(new BoundingBox(new Vector3(-1f, -1f, -21f), new Vector3(1f, 1f, -20f)), null));
+	}
+
+	@Test
+	public void testOccluderCrossingNearPlane () {
+		buffer.clear();
+		buffer.addOccluder(new BoundingBox(new Vector3(-50f, -50f, -11f), new Vector3(50f, 50f, 5f)), null);
+		Assert.assertTrue(buffer.isOccluded(new BoundingBox(new Vector3(-1f, -1f, -21f), new Vector3(1f, 1f, -20f)), null));
+	}
+}
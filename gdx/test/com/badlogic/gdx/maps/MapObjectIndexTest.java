@@ -0,0 +1,127 @@
+package com.badlogic.gdx.maps;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.maps.objects.CircleMapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+public class MapObjectIndexTest {
+	@Test
+	public void testQueries () {
+		Random random = new Random(7);
+		MapObjects objects = new MapObjects();
+		for (int i = 0; i < 2000; i++) {
+			float x = random.nextFloat() * 1000, y = random.nextFloat() * 1000;
+			if (i % 3 == 0)
+				objects.add(new CircleMapObject(x, y, random.nextFloat() * 10));
+			else if (i % 3 == 1)
+				objects.add(new PolygonMapObject(new float[] {x, y, x + 5, y, x, y + random.nextFloat() * 20}));
+			else
+				objects.add(new RectangleMapObject(x, y, random.nextFloat() * (i % 100 == 2 ? 500 : 20), random.nextFloat() * 20));
+		}
+		objects.add(new MapObject());
+		MapObjectIndex index = objects.getSpatialIndex();
+		Assert.assertEquals(2000, index.size());
+
+		Rectangle area = new Rectangle(), bounds = new Rectangle();
+		Array<MapObject> results = new Array<MapObject>();
+		for (int i = 0; i < 100; i++) {
+			area.set(random.nextFloat() * 1100 - 50, random.nextFloat() * 1100 - 50, random.nextFloat() * 100,
+				random.nextFloat() * 100);
+			results.clear();
+			index.query(area, results);
+			int expected = 0;
+			for (MapObject object : objects) {
+				if (!MapObjectIndex.getBounds(object, bounds) || !bounds.overlaps(area)) continue;
+				expected++;
+				Assert.assertTrue(results.contains(object, true));
+			}
+			Assert.assertEquals(expected, results.size);
+
+			float x = random.nextFloat() * 1000, y = random.nextFloat() * 1000, radius = random.nextFloat() * 50;
+			results.clear();
+			index.query(x, y, radius, results);
+			for (MapObject object : objects) {
+				if (!MapObjectIndex.getBounds(object, bounds)) continue;
+				float dx = Math.max(bounds.x - x, Math.max(0, x - bounds.x - bounds.width));
+				float dy = Math.max(bounds.y - y, Math.max(0, y - bounds.y - bounds.height));
+				Assert.assertEquals(dx * dx + dy * dy <= radius * radius, results.contains(object, true));
+			}
+		}
+	}
+
+	@Test
+	public void testRaycast () {
+		MapObjects objects = new MapObjects();
+		RectangleMapObject far = new RectangleMapObject(80, -5, 10, 10);
+		RectangleMapObject near = new RectangleMapObject(20, -5, 10, 10);
+		RectangleMapObject start = new RectangleMapObject(-5, -5, 10, 10);
+		RectangleMapObject missed = new RectangleMapObject(50, 20, 10, 10);
+		objects.add(far);
+		objects.add(near);
+		objects.add(start);
+		objects.add(missed);
+		Array<MapObject> results = objects.getSpatialIndex().raycast(0, 0, 100, 0, new Array<MapObject>());
+		Assert.assertEquals(3, results.size);
+		Assert.assertSame(start, results.get(0));
+		Assert.assertSame(near, results.get(1));
+		Assert.assertSame(far, results.get(2));
+
+		results.clear();
+		objects.getSpatialIndex().raycast(0, 0, 50, 0, results);
+		Assert.assertEquals(2, results.size);
+	}
+
+	@Test
+	public void testChanges () {
+		MapObjects objects = new MapObjects();
+		MapObjectIndex index = objects.getSpatialIndex();
+		RectangleMapObject object = new RectangleMapObject(0, 0, 10, 10);
+		objects.add(object);
+		Array<MapObject> results = new Array<MapObject>();
+		Assert.assertEquals(1, index.query(5, 5, 1, results).size);
+
+		object.getRectangle().setPosition(100, 100);
+		index.update(object);
+		results.clear();
+		Assert.assertEquals(0, index.query(5, 5, 1, results).size);
+		Assert.assertEquals(1, index.query(new Rectangle(95, 95, 10, 10), results).size);
+
+		objects.remove(0);
+		Assert.assertFalse(index.contains(object));
+		results.clear();
+		Assert.assertEquals(0, index.query(new Rectangle(95, 95, 10, 10), results).size);
+	}
+
+	@Test
+	public void testGrowFromEmpty () {
+		MapObjects objects = new MapObjects();
+		MapObjectIndex index = objects.getSpatialIndex();
+		Random random = new Random(3);
+		for (int i = 0; i < 500; i++) {
+			float x = random.nextFloat() * 1000 - 500, y = random.nextFloat() * 1000 - 500;
+			objects.add(new RectangleMapObject(x, y, random.nextFloat() * 10, random.nextFloat() * 10));
+		}
+		Assert.assertEquals(500, index.size());
+
+		int count = 0;
+		Rectangle bounds = new Rectangle();
+		for (MapObject object : objects) {
+			MapObjectIndex.getBounds(object, bounds);
+			if (bounds.x >= 0 && bounds.y >= 0 && bounds.x + bounds.width <= 100 && bounds.y + bounds.height <= 100) count++;
+		}
+		Array<MapObject> results = index.query(new Rectangle(-1000, -1000, 2000, 2000), new Array<MapObject>());
+		Assert.assertEquals(500, results.size);
+		results.clear();
+		Assert.assertTrue(index.query(new Rectangle(0, 0, 100, 100), results).size >= count);
+		// The objects are spread over the tree instead of all being kept in the root.
+		Assert.assertNotNull(index.root.children);
+		Assert.assertTrue(index.root.entries.size < MapObjectIndex.MAX_ENTRIES * 4);
+	}
+}
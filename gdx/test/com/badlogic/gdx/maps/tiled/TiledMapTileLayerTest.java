@@ -0,0 +1,98 @@
+package com.badlogic.gdx.maps.tiled;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class TiledMapTileLayerTest {
+	private static TiledMapTileSets createTileSets (int count) {
+		TiledMapTileSet tileSet = new TiledMapTileSet();
+		for (int i = 0; i < count; i++) {
+			StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion());
+			tile.setId(i);
+			tileSet.putTile(i, tile);
+		}
+		TiledMapTileSets tileSets = new TiledMapTileSets();
+		tileSets.addTileSet(tileSet);
+		return tileSets;
+	}
+
+	@Test
+	public void testCompactCells () {
+		TiledMapTileSets tileSets = createTileSets(4);
+		TiledMapTileLayer layer = new TiledMapTileLayer(3, 2, 16, 16, tileSets);
+		Assert.assertTrue(layer.isCompact());
+		Assert.assertNull(layer.getCell(0, 0));
+
+		// Tile 0 is stored as well, an empty cell is distinct from the tile with id 0
+		layer.setCell(0, 0, new Cell().setTile(tileSets.getTile(0)));
+		layer.setCell(2, 1, new Cell().setTile(tileSets.getTile(3)).setFlipHorizontally(true).setRotation(Cell.ROTATE_270));
+		Cell cell = layer.getCell(0, 0);
+		Assert.assertSame(tileSets.getTile(0), cell.getTile());
+		Assert.assertFalse(cell.getFlipHorizontally());
+		Assert.assertEquals(Cell.ROTATE_0, cell.getRotation());
+
+		cell = layer.getCell(2, 1);
+		Assert.assertSame(tileSets.getTile(3), cell.getTile());
+		Assert.assertTrue(cell.getFlipHorizontally());
+		Assert.assertFalse(cell.getFlipVertically());
+		Assert.assertEquals(Cell.ROTATE_270, cell.getRotation());
+		Assert.assertNull(layer.getCell(1, 1));
+		Assert.assertNull(layer.getCell(3, 0));
+
+		layer.setCell(2, 1, null);
+		Assert.assertNull(layer.getCell(2, 1));
+		// A cell without a tile is not stored
+		layer.setCell(1, 0, new Cell().setFlipVertically(true));
+		Assert.assertNull(layer.getCell(1, 0));
+	}
+
+	@Test
+	public void testFlyweight () {
+		TiledMapTileSets tileSets = createTileSets(4);
+		TiledMapTileLayer layer = new TiledMapTileLayer(2, 2, 16, 16, tileSets);
+		layer.setCell(0, 0, new Cell().setTile(tileSets.getTile(1)).setFlipVertically(true));
+		layer.setCell(1, 1, new Cell().setTile(tileSets.getTile(2)));
+
+		// Changes to the flyweight are written to the layer, the flags are kept when the tile changes
+		layer.getCell(0, 0).setTile(tileSets.getTile(3)).setRotation(Cell.ROTATE_90);
+		layer.getCell(1, 1).setFlipHorizontally(true);
+		Cell cell = layer.getCell(0, 0, new Cell());
+		Assert.assertSame(tileSets.getTile(3), cell.getTile());
+		Assert.assertTrue(cell.getFlipVertically());
+		Assert.assertEquals(Cell.ROTATE_90, cell.getRotation());
+		cell.setTile(tileSets.getTile(0));
+		Assert.assertSame(tileSets.getTile(3), layer.getCell(0, 0).getTile());
+		Assert.assertTrue(layer.getCell(1, 1).getFlipHorizontally());
+
+		layer.getCell(0, 0).setTile(null);
+		Assert.assertNull(layer.getCell(0, 0));
+
+		// Cells copied from another compact layer
+		TiledMapTileLayer copy = new TiledMapTileLayer(2, 2, 16, 16, tileSets);
+		copy.setCell(1, 1, layer.getCell(1, 1));
+		Assert.assertSame(tileSets.getTile(2), copy.getCell(1, 1).getTile());
+		Assert.assertTrue(copy.getCell(1, 1).getFlipHorizontally());
+	}
+
+	@Test(expected = GdxRuntimeException.class)
+	public void testForeignTile () {
+		TiledMapTileLayer layer = new TiledMapTileLayer(2, 2, 16, 16, createTileSets(1));
+		layer.setCell(0, 0, new Cell().setTile(createTileSets(1).getTile(0)));
+	}
+
+	@Test
+	public void testDefaultCells () {
+		TiledMapTileLayer layer = new TiledMapTileLayer(2, 2, 16, 16);
+		Assert.assertFalse(layer.isCompact());
+		Cell cell = new Cell();
+		layer.setCell(1, 0, cell);
+		Assert.assertSame(cell, layer.getCell(1, 0));
+		Assert.assertSame(cell, layer.getCell(1, 0, new Cell()));
+		Assert.assertNull(layer.getCell(0, 0, new Cell()));
+	}
+}
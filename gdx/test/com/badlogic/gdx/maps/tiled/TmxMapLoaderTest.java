@@ -0,0 +1,118 @@
+package com.badlogic.gdx.maps.tiled;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.XmlReader;
+import com.badlogic.gdx.utils.XmlReader.Element;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class TmxMapLoaderTest {
+	private static final ImageResolver images = new ImageResolver() {
+		@Override
+		public TextureRegion getImage (String name) {
+			return new TextureRegion();
+		}
+	};
+
+	private static String zlib (int... ids) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DeflaterOutputStream out = new DeflaterOutputStream(bytes);
+		for (int id : ids) {
+			out.write(id);
+			out.write(id >> 8);
+			out.write(id >> 16);
+			out.write(id >> 24);
+		}
+		out.close();
+		return new String(Base64Coder.encode(bytes.toByteArray()));
+	}
+
+	private static String createMap () throws Exception {
+		return "<map orientation=\"orthogonal\" width=\"2\" height=\"2\" tilewidth=\"16\" tileheight=\"16\" infinite=\"0\">"
+			+ "<tileset firstgid=\"1\" name=\"tiles\" tilewidth=\"16\" tileheight=\"16\">"
+			+ "<tile id=\"0\"><image source=\"a.png\"/></tile><tile id=\"1\"><image source=\"b.png\"/></tile>"
+			+ "<tile id=\"2\"><image source=\"c.png\"/></tile></tileset>"
+			+ "<layer name=\"csv\" width=\"2\" height=\"2\"><data encoding=\"csv\">\n1,2,\n0,3\n</data></layer>"
+			+ "<group name=\"group\"><layer name=\"zlib\" width=\"2\" height=\"2\">"
+			+ "<data encoding=\"base64\" compression=\"zlib\">" + zlib(3, 0, 2, 0x80000000 | 1) + "</data></layer></group>"
+			+ "<layer name=\"chunks\" width=\"4\" height=\"2\"><data encoding=\"csv\">"
+			+ "<chunk x=\"-2\" y=\"0\" width=\"2\" height=\"1\">1,2</chunk>"
+			+ "<chunk x=\"0\" y=\"1\" width=\"2\" height=\"1\">3,0</chunk></data></layer></map>";
+	}
+
+	private static TiledMap load (boolean compact, AsyncExecutor executor) throws Exception {
+		TmxMapLoader loader = new TmxMapLoader(null, executor);
+		loader.root = new XmlReader().parse(createMap());
+		TmxMapLoader.Parameters parameters = new TmxMapLoader.Parameters();
+		parameters.compactTileLayers = compact;
+		return loader.loadTiledMap(new FileHandle("map.tmx"), parameters, images);
+	}
+
+	private static int id (TiledMapTileLayer layer, int x, int y) {
+		TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+		return cell == null ? 0 : cell.getTile().getId();
+	}
+
+	@Test
+	public void testLoad () throws Exception {
+		AsyncExecutor executor = new AsyncExecutor(2);
+		try {
+			for (int i = 0; i < 4; i++)
+				testLoad(load(i % 2 == 1, i < 2 ? null : executor));
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	private void testLoad (TiledMap map) {
+		// Y up, the first row of the data is the top row
+		TiledMapTileLayer csv = (TiledMapTileLayer)map.getLayers().get("csv");
+		Assert.assertEquals(1, id(csv, 0, 1));
+		Assert.assertEquals(2, id(csv, 1, 1));
+		Assert.assertEquals(0, id(csv, 0, 0));
+		Assert.assertEquals(3, id(csv, 1, 0));
+
+		TiledMapTileLayer zlib = (TiledMapTileLayer)((MapGroupLayer)map.getLayers().get("group")).getLayers().get("zlib");
+		Assert.assertEquals(3, id(zlib, 0, 1));
+		Assert.assertEquals(2, id(zlib, 0, 0));
+		Assert.assertEquals(1, id(zlib, 1, 0));
+		Assert.assertTrue(zlib.getCell(1, 0).getFlipHorizontally());
+
+		// The layer covers the bounds of the chunks and is moved to their position
+		TiledMapTileLayer chunks = (TiledMapTileLayer)map.getLayers().get("chunks");
+		Assert.assertEquals(4, chunks.getWidth());
+		Assert.assertEquals(2, chunks.getHeight());
+		Assert.assertEquals(-32, chunks.getOffsetX(), 0);
+		Assert.assertEquals(0, chunks.getOffsetY(), 0);
+		Assert.assertEquals(1, id(chunks, 0, 1));
+		Assert.assertEquals(2, id(chunks, 1, 1));
+		Assert.assertEquals(3, id(chunks, 2, 0));
+		Assert.assertEquals(0, id(chunks, 3, 0));
+		Assert.assertEquals(0, id(chunks, 0, 0));
+	}
+
+	@Test
+	public void testDecodeTileData () throws Exception {
+		XmlReader xml = new XmlReader();
+		Element data = xml.parse("<data encoding=\"csv\">4294967295, 2,\n 3\n</data>");
+		Assert.assertArrayEquals(new int[] {-1, 2, 3, 0}, BaseTmxMapLoader.decodeTileData(data, data, 4));
+
+		data = xml.parse("<data encoding=\"base64\" compression=\"zlib\">" + zlib(5, 6, 7) + "</data>");
+		Assert.assertArrayEquals(new int[] {5, 6, 7}, BaseTmxMapLoader.decodeTileData(data, data, 3));
+		try {
+			BaseTmxMapLoader.decodeTileData(data, data, 4);
+			Assert.fail();
+		} catch (GdxRuntimeException expected) {
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+public class ActorFireTest {
+	@BeforeClass
+	public static void setUp () {
+		FakeGdx.set();
+	}
+
+	@AfterClass
+	public static void tearDown () {
+		FakeGdx.restore();
+	}
+
+	@Test
+	public void testPropagationOrder () {
+		final StringBuilder log = new StringBuilder();
+		Group root = new Group(), group = new Group();
+		final Actor target = new Actor(), other = new Actor();
+		root.addActor(group);
+		group.addActor(target);
+		root.addActor(other);
+		root.addCaptureListener(logListener(log, "root-capture "));
+		group.addCaptureListener(logListener(log, "group-capture "));
+		target.addListener(logListener(log, "target "));
+		other.addListener(logListener(log, "other "));
+		group.addListener(new EventListener() {
+			public boolean handle (Event event) {
+				log.append("group ");
+				// Nested event fired while the ascendants of the outer event are on the stack.
+				if (event.getTarget() == target) other.fire(new Event());
+				return false;
+			}
+		});
+		root.addListener(logListener(log, "root "));
+
+		target.fire(new Event());
+		assertEquals("root-capture group-capture target group root-capture other root root ", log.toString());
+	}
+
+	private EventListener logListener (final StringBuilder log, final String name) {
+		return new EventListener() {
+			public boolean handle (Event event) {
+				log.append(name);
+				return false;
+			}
+		};
+	}
+
+	/** Returns a stage whose coordinates are the screen coordinates with y up. */
+	private Stage stage () {
+		// Viewport#apply would update the camera, which uses natives.
+		Viewport viewport = new Viewport() {
+			public void update (int screenWidth, int screenHeight, boolean centerCamera) {
+				setScreenBounds(0, 0, screenWidth, screenHeight);
+				setWorldSize(screenWidth, screenHeight);
+				getCamera().invProjectionView.setToOrtho2D(0, 0, screenWidth, screenHeight).inv();
+			}
+		};
+		viewport.setCamera(new OrthographicCamera());
+		return new Stage(viewport, FakeGdx.fake(Batch.class, null));
+	}
+
+	@Test
+	public void testStageInputDoesNotAllocate () {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean)threads;
+		Assume.assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+
+		final Stage stage = stage();
+		Group group = stage.getRoot();
+		for (int i = 0; i < 10; i++) {
+			Group child = new Group();
+			child.setSize(FakeGdx.width, FakeGdx.height);
+			group.addActor(child);
+			group = child;
+		}
+		Actor target = new Actor();
+		target.setSize(FakeGdx.width, FakeGdx.height);
+		group.addActor(target);
+		stage.getRoot().addListener(new ClickListener());
+		stage.getRoot().addCaptureListener(new InputListener());
+		final int[] ascendants = new int[1];
+		target.addListener(new InputListener() {
+			public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
+				// The target's ascendants are on the stack of its stage.
+				ascendants[0] = stage.ascendants.size;
+				return true;
+			}
+
+			public boolean mouseMoved (InputEvent event, float x, float y) {
+				return true;
+			}
+		});
+
+		long thread = Thread.currentThread().getId(), allocated = 0;
+		for (int round = 0; round < 3; round++) {
+			long before = allocations.getThreadAllocatedBytes(thread);
+			for (int i = 0; i < 10000; i++) {
+				assertTrue(stage.mouseMoved(50, 50 + i % 2));
+				assertTrue(stage.touchDown(50, 50, 0, 0));
+				assertTrue(stage.touchUp(50, 50, 0, 0));
+			}
+			allocated = allocations.getThreadAllocatedBytes(thread) - before;
+		}
+		assertEquals(11, ascendants[0]);
+		assertEquals(0, stage.ascendants.size);
+		// Far less than a byte per event, measuring may allocate a little.
+		assertTrue("Allocated " + allocated + " bytes for 30000 events.", allocated < 1000);
+	}
+}
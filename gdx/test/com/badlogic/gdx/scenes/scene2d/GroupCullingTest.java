@@ -0,0 +1,87 @@
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+
+public class GroupCullingTest {
+	static class DrawnActor extends Actor {
+		boolean drawn;
+
+		DrawnActor (float x, float y) {
+			setBounds(x, y, 10, 10);
+		}
+
+		public void draw (Batch batch, float parentAlpha) {
+			drawn = true;
+		}
+	}
+
+	private Batch batch () {
+		final Matrix4 transform = new Matrix4();
+		return FakeGdx.fake(Batch.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("getTransformMatrix")) return transform;
+				return null;
+			}
+		});
+	}
+
+	private Group group (boolean transform, float x, float y, float size) {
+		Group group = new Group();
+		group.setTransform(transform);
+		group.setBounds(x, y, size, size);
+		return group;
+	}
+
+	@Test
+	public void testNestedGroupsAreCulled () {
+		Group root = group(false, 0, 0, 1000);
+		root.setCullingArea(new Rectangle(0, 0, 100, 100));
+
+		// Partially visible, not transformed.
+		Group table = group(false, 50, 50, 200);
+		DrawnActor tableInside = new DrawnActor(10, 10), tableOutside = new DrawnActor(100, 10);
+		table.addActor(tableInside);
+		table.addActor(tableOutside);
+		root.addActor(table);
+
+		// Nested inside the table, transformed and scaled by 2 so its children at 20 are at 40 in the table.
+		Group scaled = group(true, 0, 0, 100);
+		scaled.setScale(2);
+		DrawnActor scaledInside = new DrawnActor(20, 0), scaledOutside = new DrawnActor(30, 0);
+		scaled.addActor(scaledInside);
+		scaled.addActor(scaledOutside);
+		table.addActor(scaled);
+
+		// A group without a size draws its children.
+		Group empty = group(false, 200, 0, 0);
+		DrawnActor emptyChild = new DrawnActor(-180, 0);
+		empty.addActor(emptyChild);
+		table.addActor(empty);
+
+		// Doesn't inherit the culling area.
+		Group cached = group(true, 0, 0, 200);
+		cached.setInheritCullingArea(false);
+		DrawnActor cachedChild = new DrawnActor(150, 150);
+		cached.addActor(cachedChild);
+		root.addActor(cached);
+
+		root.draw(batch(), 1);
+		assertTrue(tableInside.drawn);
+		assertFalse(tableOutside.drawn);
+		assertTrue(scaledInside.drawn);
+		assertFalse(scaledOutside.drawn);
+		assertTrue(emptyChild.drawn);
+		assertTrue(cachedChild.drawn);
+		assertNull(table.getCullingArea());
+	}
+}
@@ -0,0 +1,92 @@
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Align;
+
+public class GroupHitGridTest {
+	@Test
+	public void testMatchesLinearHit () {
+		Random random = new Random(7);
+		Group linear = new Group(), grid = new Group();
+		grid.setHitGrid(50);
+		for (int i = 0; i < 300; i++) {
+			float x = random.nextFloat() * 1000 - 200, y = random.nextFloat() * 1000 - 200;
+			float width = random.nextFloat() * 80, height = random.nextFloat() * 80;
+			if (i % 50 == 0) width = 900; // Overlaps too many cells.
+			linear.addActor(actor(x, y, width, height));
+			grid.addActor(actor(x, y, width, height));
+		}
+		assertHits(random, linear, grid);
+
+		// Move, resize, rotate, scale, and reorder after the grid was built.
+		for (int i = 0; i < 100; i++) {
+			int index = random.nextInt(linear.children.size);
+			Actor a = linear.getChild(index), b = grid.getChild(index);
+			switch (i % 5) {
+			case 0:
+				a.moveBy(100, -50);
+				b.moveBy(100, -50);
+				break;
+			case 1:
+				a.setSize(120, 10);
+				b.setSize(120, 10);
+				break;
+			case 2:
+				a.setOrigin(Align.center);
+				b.setOrigin(Align.center);
+				a.setRotation(33);
+				b.setRotation(33);
+				break;
+			case 3:
+				a.setScale(2.5f);
+				b.setScale(2.5f);
+				break;
+			case 4:
+				a.toBack();
+				b.toBack();
+				break;
+			}
+			if (i % 10 == 0) assertHits(random, linear, grid);
+		}
+		assertHits(random, linear, grid);
+
+		linear.swapActor(3, 200);
+		grid.swapActor(3, 200);
+		linear.removeActorAt(10, false);
+		grid.removeActorAt(10, false);
+		linear.addActorAt(0, actor(100, 100, 300, 300));
+		grid.addActorAt(0, actor(100, 100, 300, 300));
+		grid.getChild(5).setTouchable(Touchable.disabled);
+		linear.getChild(5).setTouchable(Touchable.disabled);
+		grid.getChild(6).setVisible(false);
+		linear.getChild(6).setVisible(false);
+		assertHits(random, linear, grid);
+
+		grid.clearChildren();
+		assertNull(grid.hit(100, 100, true));
+		grid.setHitGrid(0);
+		assertEquals(0, grid.getHitGrid(), 0);
+	}
+
+	private Actor actor (float x, float y, float width, float height) {
+		Actor actor = new Actor();
+		actor.setBounds(x, y, width, height);
+		return actor;
+	}
+
+	private void assertHits (Random random, Group linear, Group grid) {
+		for (int i = 0; i < 2000; i++) {
+			float x = random.nextFloat() * 1400 - 300, y = random.nextFloat() * 1400 - 300;
+			Actor expected = linear.hit(x, y, true);
+			Actor actual = grid.hit(x, y, true);
+			int expectedIndex = expected == null ? -1 : expected.getZIndex();
+			int actualIndex = actual == null ? -1 : actual.getZIndex();
+			assertEquals("hit at " + x + ", " + y, expectedIndex, actualIndex);
+		}
+	}
+}
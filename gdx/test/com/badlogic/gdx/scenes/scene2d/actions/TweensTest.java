@@ -0,0 +1,198 @@
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+public class TweensTest {
+	@BeforeClass
+	public static void setUp () {
+		FakeGdx.set();
+	}
+
+	@AfterClass
+	public static void tearDown () {
+		FakeGdx.restore();
+	}
+
+	private Stage stage () {
+		// Viewport#apply would update the camera, which uses natives.
+		return new Stage(new Viewport() {
+			public void update (int screenWidth, int screenHeight, boolean centerCamera) {
+				setScreenBounds(0, 0, screenWidth, screenHeight);
+				setWorldSize(screenWidth, screenHeight);
+			}
+		}, FakeGdx.fake(Batch.class, null));
+	}
+
+	@Test
+	public void testMatchesActions () {
+		Tweens tweens = new Tweens();
+		Actor tweened = new Actor(), acted = new Actor();
+		tweened.setPosition(5, 10);
+		acted.setPosition(5, 10);
+		tweens.moveTo(tweened, 100, -20, 1, Interpolation.pow2);
+		tweens.rotateBy(tweened, 90, 0.5f, null);
+		tweens.color(tweened, Color.RED, 0.75f, Interpolation.fade);
+		acted.addAction(Actions.parallel(Actions.moveTo(100, -20, 1, Interpolation.pow2), Actions.rotateBy(90, 0.5f),
+			Actions.color(Color.RED, 0.75f, Interpolation.fade)));
+		assertEquals(3, tweens.getCount());
+
+		for (int i = 0; i < 12; i++) {
+			tweens.update(0.1f);
+			acted.act(0.1f);
+			assertEquals(acted.getX(), tweened.getX(), 0.0001f);
+			assertEquals(acted.getY(), tweened.getY(), 0.0001f);
+			assertEquals(acted.getRotation(), tweened.getRotation(), 0.0001f);
+			assertEquals(acted.getColor().g, tweened.getColor().g, 0.0001f);
+		}
+		assertEquals(0, tweens.getCount());
+		assertEquals(100, tweened.getX(), 0);
+		assertEquals(90, tweened.getRotation(), 0);
+	}
+
+	@Test
+	public void testCancel () {
+		Tweens tweens = new Tweens();
+		Actor[] actors = new Actor[100];
+		int[] ids = new int[actors.length];
+		for (int i = 0; i < actors.length; i++) {
+			actors[i] = new Actor();
+			ids[i] = tweens.moveBy(actors[i], 10, 0, 1, null);
+		}
+		tweens.update(0.5f);
+		for (int i = 0; i < actors.length; i += 2)
+			tweens.cancel(ids[i]);
+		tweens.cancel(actors[1]);
+		assertEquals(49, tweens.getCount());
+		assertFalse(tweens.isActive(ids[1]));
+		assertTrue(tweens.isActive(ids[3]));
+		tweens.update(0.5f);
+		for (int i = 0; i < actors.length; i++)
+			assertEquals(i % 2 == 0 || i == 1 ? 5 : 10, actors[i].getX(), 0.0001f);
+		assertEquals(0, tweens.getCount());
+
+		// Canceling from an actor's setter during the update.
+		final Tweens tweens2 = new Tweens();
+		final Actor other = new Actor();
+		Actor actor = new Actor() {
+			protected void positionChanged () {
+				tweens2.cancel(other);
+			}
+		};
+		tweens2.moveTo(other, 10, 10, 1, null);
+		tweens2.moveTo(actor, 10, 10, 1, null);
+		tweens2.update(0.5f);
+		assertEquals(1, tweens2.getCount());
+		assertEquals(5, actor.getX(), 0);
+	}
+
+	@Test
+	public void testActionWithoutStageMatchesActions () {
+		Actor tweened = new Actor(), acted = new Actor();
+		tweened.addAction(Actions.sequence(TweenActions.moveTo(10, 20, 1, Interpolation.pow2), TweenActions.fadeOut(0.5f)));
+		acted.addAction(Actions.sequence(Actions.moveTo(10, 20, 1, Interpolation.pow2), Actions.fadeOut(0.5f)));
+		for (int i = 0; i < 17; i++) {
+			tweened.act(0.1f);
+			acted.act(0.1f);
+			assertEquals(acted.getX(), tweened.getX(), 0.0001f);
+			assertEquals(acted.getY(), tweened.getY(), 0.0001f);
+			assertEquals(acted.getColor().a, tweened.getColor().a, 0.0001f);
+			assertEquals(acted.getActions().size, tweened.getActions().size);
+		}
+		assertEquals(10, tweened.getX(), 0);
+		assertEquals(0, tweened.getColor().a, 0);
+		assertEquals(0, tweened.getActions().size);
+	}
+
+	@Test
+	public void testActionMovedToAnotherStage () {
+		Stage stage1 = stage(), stage2 = stage();
+		Actor actor = new Actor();
+		stage1.addActor(actor);
+		actor.addAction(TweenActions.moveBy(10, 0, 1));
+		stage1.act(0.5f);
+		assertEquals(5, actor.getX(), 0.0001f);
+
+		// The first stage removes the tween, the second continues it to the same end.
+		stage2.addActor(actor);
+		stage1.act(0.25f);
+		assertEquals(0, stage1.getTweens().getCount());
+		stage2.act(0.25f);
+		assertEquals(7.5f, actor.getX(), 0.0001f);
+		assertEquals(1, actor.getActions().size);
+		stage2.act(0.25f);
+		assertEquals(10, actor.getX(), 0);
+		assertEquals(0, actor.getActions().size);
+		assertEquals(0, stage2.getTweens().getCount());
+
+		// Out of a stage, the action updates the tween itself.
+		actor.addAction(TweenActions.moveTo(0, 0, 1));
+		stage2.act(0.5f);
+		actor.remove();
+		actor.act(0.25f);
+		assertEquals(2.5f, actor.getX(), 0.0001f);
+		actor.act(0.25f);
+		assertEquals(0, actor.getX(), 0);
+		assertEquals(0, actor.getActions().size);
+	}
+
+	@Test
+	public void testSequenceMatchesActions () {
+		Stage stage = stage();
+		Actor tweened = new Actor(), acted = new Actor();
+		stage.addActor(tweened);
+		stage.addActor(acted);
+		tweened.addAction(Actions.sequence(TweenActions.moveTo(10, 0, 0.3f), TweenActions.moveTo(10, 10, 0.3f),
+			TweenActions.rotateTo(90, 0)));
+		acted.addAction(
+			Actions.sequence(Actions.moveTo(10, 0, 0.3f), Actions.moveTo(10, 10, 0.3f), Actions.rotateTo(90, 0)));
+		for (int i = 0; i < 10; i++) {
+			stage.act(0.1f);
+			assertEquals(acted.getX(), tweened.getX(), 0.0001f);
+			assertEquals(acted.getY(), tweened.getY(), 0.0001f);
+			assertEquals(acted.getRotation(), tweened.getRotation(), 0);
+			assertEquals(acted.getActions().size, tweened.getActions().size);
+		}
+		assertEquals(90, tweened.getRotation(), 0);
+		assertEquals(0, stage.getTweens().getCount());
+	}
+
+	@Test
+	public void testActorLeavingStage () {
+		Stage stage = stage();
+		Tweens tweens = stage.getTweens();
+		Actor removed = new Actor(), moved = new Actor(), cleared = new Actor();
+		Group group = new Group();
+		stage.addActor(removed);
+		stage.addActor(moved);
+		stage.addActor(group);
+		tweens.moveTo(removed, 10, 10, 1, null);
+		tweens.moveTo(moved, 10, 10, 1, null);
+		stage.act(0.5f);
+
+		removed.remove();
+		// Added to another group of the stage, so it keeps its tween.
+		group.addActor(moved);
+		stage.act(0.25f);
+		assertEquals(1, tweens.getCount());
+		assertEquals(5, removed.getX(), 0);
+		assertEquals(7.5f, moved.getX(), 0);
+
+		stage.addActor(cleared);
+		tweens.moveTo(cleared, 10, 10, 1, null);
+		stage.clear();
+		assertEquals(0, tweens.getCount());
+	}
+}
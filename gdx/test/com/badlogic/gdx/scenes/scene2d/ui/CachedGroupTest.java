@@ -0,0 +1,121 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.nio.IntBuffer;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+public class CachedGroupTest {
+	/** The state of the fake GL. */
+	static int boundFrameBuffer, handles;
+	static final int[] viewport = new int[4];
+
+	@BeforeClass
+	public static void setUp () {
+		FakeGdx.set();
+		Gdx.gl = Gdx.gl20 = FakeGdx.fake(GL20.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("glGenFramebuffer") || name.equals("glGenTexture")) return ++handles;
+				if (name.equals("glCheckFramebufferStatus")) return GL20.GL_FRAMEBUFFER_COMPLETE;
+				if (name.equals("glBindFramebuffer")) boundFrameBuffer = (Integer)args[1];
+				if (name.equals("glViewport")) {
+					for (int i = 0; i < 4; i++)
+						viewport[i] = (Integer)args[i];
+				}
+				if (name.equals("glGetIntegerv")) {
+					IntBuffer buffer = (IntBuffer)args[1];
+					if ((Integer)args[0] == GL20.GL_FRAMEBUFFER_BINDING) buffer.put(0, boundFrameBuffer);
+					if ((Integer)args[0] == GL20.GL_VIEWPORT) buffer.put(0, viewport[0]).put(1, viewport[1]).put(2, viewport[2])
+						.put(3, viewport[3]);
+				}
+				return null;
+			}
+		});
+	}
+
+	@AfterClass
+	public static void tearDown () {
+		FakeGdx.restore();
+	}
+
+	private Batch batch () {
+		final Matrix4 projection = new Matrix4(), transform = new Matrix4();
+		final Color color = new Color();
+		return FakeGdx.fake(Batch.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("getProjectionMatrix")) return projection;
+				if (name.equals("getTransformMatrix")) return transform;
+				if (name.equals("getColor")) return color;
+				return null;
+			}
+		});
+	}
+
+	/** Records the frame buffer and viewport bound when it is drawn. */
+	static class Probe extends Actor {
+		int frameBuffer = -1;
+		final int[] viewport = new int[4];
+
+		Probe () {
+			setSize(10, 10);
+		}
+
+		public void draw (Batch batch, float parentAlpha) {
+			frameBuffer = boundFrameBuffer;
+			System.arraycopy(CachedGroupTest.viewport, 0, viewport, 0, 4);
+		}
+	}
+
+	@Test
+	public void testNestedCache () {
+		// Viewport#apply would update the camera, which uses natives.
+		Stage stage = new Stage(new Viewport() {
+			public void update (int screenWidth, int screenHeight, boolean centerCamera) {
+				setScreenBounds(0, 0, screenWidth, screenHeight);
+				setWorldSize(screenWidth, screenHeight);
+			}
+		}, batch());
+
+		Probe before = new Probe(), inside = new Probe(), after = new Probe();
+		CachedGroup inner = new CachedGroup(inside);
+		inner.setBounds(10, 10, 50, 50);
+		CachedGroup outer = new CachedGroup(before, inner, after);
+		outer.setBounds(0, 0, 100, 100);
+		stage.addActor(outer);
+
+		// Drawn into a frame buffer of the application.
+		Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1000);
+		Gdx.gl.glViewport(5, 6, 70, 80);
+		outer.draw(stage.getBatch(), 1);
+
+		assertTrue(before.frameBuffer > 0 && before.frameBuffer != 1000);
+		assertTrue(inside.frameBuffer > 0 && inside.frameBuffer != before.frameBuffer);
+		assertArrayEquals(new int[] {0, 0, 50, 50}, inside.viewport);
+		assertEquals(before.frameBuffer, after.frameBuffer);
+		assertArrayEquals(new int[] {0, 0, 100, 100}, after.viewport);
+		assertEquals(1000, boundFrameBuffer);
+		assertArrayEquals(new int[] {5, 6, 70, 80}, viewport);
+		assertEquals(1, outer.cacheMisses);
+		assertEquals(1, inner.cacheMisses);
+
+		outer.dispose();
+		inner.dispose();
+	}
+}
@@ -0,0 +1,100 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Button.ButtonStyle;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.SerializationException;
+
+public class SkinLazyTest {
+	static final String json = "{\n" //
+		+ "Color: { white: { r: 1, g: 1, b: 1 }, red: { hex: ff0000 } },\n" //
+		+ "TextureRegionDrawable: { square: { region: round } },\n" //
+		+ "ButtonStyle: {\n" //
+		+ "  default: { up: round, down: square },\n" //
+		+ "  toggle: { parent: default, checked: round, pressedOffsetX: 2 }\n" //
+		+ "}\n" //
+		+ "}";
+
+	private Skin skin (FileHandle file, boolean lazy) {
+		Skin skin = new Skin();
+		skin.add("round", new TextureRegion(), TextureRegion.class);
+		skin.setLazy(lazy);
+		skin.load(file);
+		return skin;
+	}
+
+	@Test
+	public void testLazyMatchesEager () throws IOException {
+		File file = File.createTempFile("skin", ".json");
+		file.deleteOnExit();
+		FileHandle skinFile = new FileHandle(file);
+		skinFile.writeString(json, false);
+
+		Skin eager = skin(skinFile, false), lazy = skin(skinFile, true);
+		assertEquals(0, eager.getLazyCount());
+		assertEquals(5, lazy.getLazyCount());
+		assertNull(lazy.resources.get(ButtonStyle.class));
+		assertTrue(lazy.has("toggle", ButtonStyle.class));
+		assertTrue(lazy.has("square", Drawable.class));
+
+		// Reading a style reads its parent and drawables.
+		ButtonStyle toggle = lazy.get("toggle", ButtonStyle.class), expected = eager.get("toggle", ButtonStyle.class);
+		assertEquals(2, lazy.getLazyCount());
+		assertEquals(expected.pressedOffsetX, toggle.pressedOffsetX, 0);
+		assertSame(lazy.getDrawable("round"), toggle.up);
+		assertSame(lazy.getDrawable("square"), toggle.down);
+		assertSame(lazy.get("square", TextureRegionDrawable.class), toggle.down);
+		assertSame(lazy.get(ButtonStyle.class).up, toggle.up);
+
+		assertEquals(Color.RED, lazy.getColor("red"));
+		assertEquals(1, lazy.getLazyCount());
+		assertEquals(2, lazy.getAll(Color.class).size);
+		assertEquals(0, lazy.getLazyCount());
+
+		// Adding a resource replaces the one in the JSON.
+		Skin replaced = skin(skinFile, true);
+		replaced.add("white", Color.BLUE);
+		assertSame(Color.BLUE, replaced.getColor("white"));
+
+		// Adding a drawable replaces the one in the JSON for all types, so reading it later doesn't replace the added drawable.
+		Drawable drawable = new TextureRegionDrawable();
+		replaced.add("square", drawable, Drawable.class);
+		assertFalse(replaced.has("square", TextureRegionDrawable.class));
+		assertNull(replaced.optional("square", TextureRegionDrawable.class));
+		assertSame(drawable, replaced.getDrawable("square"));
+	}
+
+	@Test
+	public void testErrorIsReportedAgain () throws IOException {
+		File file = File.createTempFile("skin", ".json");
+		file.deleteOnExit();
+		FileHandle skinFile = new FileHandle(file);
+		skinFile.writeString("{ ButtonStyle: { broken: { up: missing } } }", false);
+
+		Skin skin = skin(skinFile, true);
+		for (int i = 0; i < 2; i++) {
+			try {
+				skin.get("broken", ButtonStyle.class);
+				fail();
+			} catch (SerializationException ex) {
+				// The cause is the missing drawable, not a missing style.
+				Throwable cause = ex;
+				while (cause.getCause() != null)
+					cause = cause.getCause();
+				assertTrue(cause.getMessage(), cause.getMessage().contains("missing"));
+			}
+		}
+		assertTrue(skin.has("broken", ButtonStyle.class));
+		assertEquals(1, skin.getLazyCount());
+	}
+}
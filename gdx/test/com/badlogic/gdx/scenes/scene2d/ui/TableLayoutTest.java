@@ -0,0 +1,130 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+public class TableLayoutTest {
+	static class SizedWidget extends Widget {
+		float prefWidth, prefHeight;
+
+		SizedWidget (float prefWidth, float prefHeight) {
+			this.prefWidth = prefWidth;
+			this.prefHeight = prefHeight;
+		}
+
+		void setPrefSize (float prefWidth, float prefHeight) {
+			this.prefWidth = prefWidth;
+			this.prefHeight = prefHeight;
+			invalidateHierarchy();
+		}
+
+		public float getPrefWidth () {
+			return prefWidth;
+		}
+
+		public float getPrefHeight () {
+			return prefHeight;
+		}
+	}
+
+	@BeforeClass
+	public static void setUp () {
+		// Cell defaults are created once per Gdx.files instance.
+		FakeGdx.set();
+	}
+
+	@AfterClass
+	public static void tearDown () {
+		FakeGdx.restore();
+	}
+
+	private Table table (float[][] sizes) {
+		Table table = new Table();
+		table.defaults().pad(2).space(3);
+		for (int y = 0; y < sizes.length; y++) {
+			for (int x = 0; x < sizes[y].length; x += 2) {
+				Cell cell = table.add(new SizedWidget(sizes[y][x], sizes[y][x + 1]));
+				if (x == 0) cell.expandX().fill();
+			}
+			table.row();
+		}
+		table.add(new Actor()).colspan(2);
+		return table;
+	}
+
+	@Test
+	public void testChildInvalidationComputesOnlyItsCell () {
+		float[][] sizes = new float[20][10];
+		for (int y = 0; y < sizes.length; y++)
+			for (int x = 0; x < sizes[y].length; x++)
+				sizes[y][x] = 10 + (x * 7 + y * 3) % 13;
+		Table table = table(sizes);
+		table.setSize(400, 600);
+		table.validate();
+
+		table.cellSizeCount = 0;
+		table.layoutCount = 0;
+		SizedWidget widget = (SizedWidget)table.getCells().get(37).getActor();
+		widget.setPrefSize(55, 31);
+		table.validate();
+		// The changed widget and the cell without a widget.
+		assertEquals(2, table.cellSizeCount);
+		assertEquals(1, table.layoutCount);
+
+		// Same layout as a table built with the new size.
+		sizes[37 / 5][37 % 5 * 2] = 55;
+		sizes[37 / 5][37 % 5 * 2 + 1] = 31;
+		Table expected = table(sizes);
+		expected.setSize(400, 600);
+		expected.validate();
+		assertEquals(expected.getPrefWidth(), table.getPrefWidth(), 0);
+		assertEquals(expected.getPrefHeight(), table.getPrefHeight(), 0);
+		for (int i = 0, n = table.getChildren().size; i < n; i++) {
+			Actor actual = table.getChildren().get(i), other = expected.getChildren().get(i);
+			assertEquals(other.getX(), actual.getX(), 0);
+			assertEquals(other.getY(), actual.getY(), 0);
+			assertEquals(other.getWidth(), actual.getWidth(), 0);
+			assertEquals(other.getHeight(), actual.getHeight(), 0);
+		}
+
+		// Invalidating the table computes all cells.
+		table.cellSizeCount = 0;
+		table.getCells().get(3).pad(10);
+		table.invalidate();
+		table.validate();
+		assertEquals(table.getCells().size, table.cellSizeCount);
+	}
+
+	@Test
+	public void testCellDependingOnSibling () {
+		final SizedWidget sibling = new SizedWidget(50, 20);
+		SizedWidget other = new SizedWidget(30, 20), dependent = new SizedWidget(10, 10);
+		Table table = new Table();
+		table.setSize(500, 100);
+		table.add(sibling);
+		table.add(other);
+		table.row();
+		table.add(dependent).prefWidth(new Value() {
+			public float get (Actor context) {
+				return sibling.getPrefWidth() * 2;
+			}
+		});
+		table.validate();
+		assertEquals(100, table.getCells().get(2).getPrefWidth(), 0);
+		assertEquals(100 + 30, table.getPrefWidth(), 0);
+
+		table.cellSizeCount = 0;
+		sibling.setPrefSize(70, 20);
+		table.validate();
+		// The sibling and the cell depending on it.
+		assertEquals(2, table.cellSizeCount);
+		assertEquals(140 + 30, table.getPrefWidth(), 0);
+		assertEquals(140, dependent.getWidth(), 0);
+	}
+}
@@ -0,0 +1,135 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.msdf.MsdfFont;
+import com.badlogic.gdx.scenes.scene2d.ui.TextField.TextFieldStyle;
+
+public class TextLayoutTest {
+	static TextFieldStyle style;
+
+	@BeforeClass
+	public static void setUp () {
+		// The text field only needs the application for its clipboard.
+		FakeGdx.set();
+
+		// Glyphs are added after the font is created, so no texture is needed.
+		BitmapFontData data = new BitmapFontData();
+		data.capHeight = 10;
+		data.lineHeight = 14;
+		data.down = -14;
+		data.descent = -3;
+		BitmapFont font = new BitmapFont(data, new TextureRegion(), false);
+		String chars = " abcdefghijklmnopqrstuvwxyz.";
+		for (int i = 0; i < chars.length(); i++) {
+			Glyph glyph = new Glyph();
+			glyph.id = chars.charAt(i);
+			glyph.width = 4 + i % 5;
+			glyph.xoffset = i % 3 - 1;
+			glyph.xadvance = 5.25f + i % 7 * 0.5f;
+			if (i % 4 == 0) glyph.setKerning('a' + i % 26, -0.75f);
+			data.setGlyph(glyph.id, glyph);
+		}
+		data.spaceXadvance = data.getGlyph(' ').xadvance;
+		style = new TextFieldStyle(new MsdfFont(font, 32, 4), Color.WHITE, null, null, null);
+	}
+
+	@AfterClass
+	public static void tearDown () {
+		FakeGdx.restore();
+	}
+
+	private String characters (Random random, int count) {
+		StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < count; i++)
+			buffer.append(" abcdefghijklmnopqrstuvwxyz\n?".charAt(random.nextInt(29)));
+		return buffer.toString();
+	}
+
+	private String edit (Random random, String text) {
+		int start = random.nextInt(text.length() + 1);
+		int end = Math.min(text.length(), start + (random.nextInt(4) == 0 ? random.nextInt(30) : random.nextInt(2)));
+		String insertion = characters(random, random.nextInt(3) == 0 ? 0 : random.nextInt(12));
+		return text.substring(0, start) + insertion + text.substring(end);
+	}
+
+	@Test
+	public void testGlyphPositions () {
+		Random random = new Random(7);
+		TextField field = new TextField("", style);
+		String text = characters(random, 2000);
+		for (int i = 0; i < 500; i++) {
+			text = edit(random, text);
+			field.text = text;
+			field.updateDisplayText();
+
+			TextField expected = new TextField("", style);
+			expected.text = text;
+			expected.setStyle(style);
+			assertEquals(expected.displayText.toString(), field.displayText.toString());
+			assertEquals(expected.glyphPositions.size, field.glyphPositions.size);
+			assertEquals(expected.fontOffset, field.fontOffset, 0);
+			for (int ii = 0; ii < expected.glyphPositions.size; ii++)
+				assertEquals(expected.glyphPositions.get(ii), field.glyphPositions.get(ii), 0.01f);
+		}
+	}
+
+	@Test
+	public void testLineBreaks () {
+		Random random = new Random(11);
+		TextArea area = new TextArea("", style);
+		area.setSize(120, 200);
+		String text = characters(random, 3000);
+		for (int i = 0; i < 500; i++) {
+			text = edit(random, text);
+			area.text = text;
+			area.updateDisplayText();
+			area.calculateOffsets();
+
+			TextArea expected = new TextArea("", style);
+			expected.setSize(120, 200);
+			expected.text = text;
+			expected.updateDisplayText();
+			expected.calculateOffsets();
+			assertEquals(expected.linesBreak, area.linesBreak);
+		}
+	}
+
+	@Test
+	public void testFontScaleChange () {
+		Random random = new Random(13);
+		TextField field = new TextField("", style);
+		String text = characters(random, 200);
+		field.text = text;
+		field.updateDisplayText();
+
+		BitmapFontData data = style.font.getData();
+		data.setScale(1.5f, 1.25f);
+		try {
+			text = edit(random, text);
+			field.text = text;
+			field.updateDisplayText();
+
+			TextField expected = new TextField("", style);
+			expected.text = text;
+			expected.setStyle(style);
+			assertEquals(expected.fontOffset, field.fontOffset, 0);
+			for (int i = 0; i < expected.glyphPositions.size; i++)
+				assertEquals(expected.glyphPositions.get(i), field.glyphPositions.get(i), 0.01f);
+		} finally {
+			data.setScale(1);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+
+public class VirtualListTest {
+	static class ItemActor extends Actor {
+		int item = -1;
+	}
+
+	static class IntList extends VirtualList<Integer, ItemActor> {
+		int created;
+
+		IntList () {
+			super(10);
+		}
+
+		protected ItemActor newActor () {
+			created++;
+			return new ItemActor();
+		}
+
+		protected void setItem (ItemActor actor, Integer item, int index) {
+			actor.item = item;
+		}
+	}
+
+	@Test
+	public void testOnlyVisibleItemsHaveActors () {
+		IntList list = new IntList();
+		Array<Integer> items = new Array();
+		for (int i = 0; i < 100000; i++)
+			items.add(i);
+		list.setItems(items);
+		list.setSize(100, list.getPrefHeight());
+		assertEquals(1000000, list.getHeight(), 0);
+
+		// View of 95 units at the top, rows 0 to 9 overlap it.
+		Rectangle cullingArea = new Rectangle(0, list.getHeight() - 95, 100, 95);
+		list.setCullingArea(cullingArea);
+		list.validate();
+		assertEquals(0, list.getFirstVisibleIndex());
+		assertEquals(9, list.getLastVisibleIndex());
+		assertEquals(10, list.getChildren().size);
+		assertVisible(list);
+
+		// Scroll down by 25 units, rows 2 to 12 overlap the view.
+		for (int i = 0; i < 500; i++) {
+			cullingArea.y -= 25;
+			list.setCullingArea(cullingArea);
+			assertVisible(list);
+		}
+		assertEquals(1250, list.getFirstVisibleIndex());
+		assertEquals(1259, list.getLastVisibleIndex());
+		assertTrue(list.created <= 11);
+
+		ItemActor actor = list.getActor(1255);
+		assertEquals(1255, actor.item);
+		assertEquals(1255, list.getIndex(actor));
+		assertEquals(1255, list.getItemIndexAt(50, actor.getY() + 5));
+		assertNull(list.getActor(0));
+
+		list.getItems().set(1255, -5);
+		list.itemsChanged();
+		list.validate();
+		assertEquals(-5, list.getActor(1255).item);
+
+		list.clearItems();
+		list.setSize(100, list.getPrefHeight());
+		list.validate();
+		assertEquals(0, list.getChildren().size);
+		assertEquals(-1, list.getLastVisibleIndex());
+	}
+
+	@Test
+	public void testColumns () {
+		IntList list = new IntList();
+		list.setColumns(4);
+		for (int i = 0; i < 10; i++)
+			list.getItems().add(i);
+		list.itemsChanged();
+		assertEquals(30, list.getPrefHeight(), 0);
+		list.setSize(80, 30);
+		list.validate();
+		assertEquals(10, list.getChildren().size);
+		ItemActor actor = list.getActor(6);
+		assertEquals(40, actor.getX(), 0);
+		assertEquals(10, actor.getY(), 0);
+		assertEquals(20, actor.getWidth(), 0);
+		assertEquals(6, list.getItemIndexAt(45, 15));
+		assertEquals(-1, list.getItemIndexAt(75, 5));
+	}
+
+	@Test
+	public void testTree () {
+		VirtualTree<String, ItemActor> tree = new VirtualTree<String, ItemActor>(10, 5) {
+			protected ItemActor newActor () {
+				return new ItemActor();
+			}
+
+			protected void setItem (ItemActor actor, String item, int index) {
+				actor.item = index;
+			}
+
+			protected void getChildren (String node, Array<String> children) {
+				if (node.length() < 3) {
+					children.add(node + "a");
+					children.add(node + "b");
+				}
+			}
+		};
+		tree.setRootNodes(new Array(new String[] {"a", "b"}));
+		assertEquals("[a, b]", tree.getItems().toString());
+		tree.setExpanded("a", true);
+		tree.setExpanded("ab", true);
+		assertEquals("[a, aa, ab, aba, abb, b]", tree.getItems().toString());
+		assertEquals(2, tree.getLevel(3));
+
+		tree.setSize(100, tree.getPrefHeight());
+		tree.validate();
+		assertEquals(10, tree.getActor(3).getX(), 0);
+		assertEquals(90, tree.getActor(3).getWidth(), 0);
+
+		tree.setExpanded("a", false);
+		assertEquals("[a, b]", tree.getItems().toString());
+		tree.setExpanded("a", true);
+		assertEquals(6, tree.getItems().size);
+		tree.collapseAll();
+		assertEquals(2, tree.getItems().size);
+	}
+
+	private void assertVisible (IntList list) {
+		for (int i = list.getFirstVisibleIndex(); i <= list.getLastVisibleIndex(); i++) {
+			ItemActor actor = list.getActor(i);
+			assertEquals(i, actor.item);
+			assertEquals(list.getItemY(i) - 10, actor.getY(), 0);
+		}
+		assertEquals(list.getLastVisibleIndex() - list.getFirstVisibleIndex() + 1, list.getChildren().size);
+	}
+}
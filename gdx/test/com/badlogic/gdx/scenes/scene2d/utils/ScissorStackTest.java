@@ -0,0 +1,79 @@
+package com.badlogic.gdx.scenes.scene2d.utils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.FakeGdx;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Rectangle;
+
+public class ScissorStackTest {
+	static int scissorCalls;
+	static final int[] scissor = new int[4];
+	static boolean scissorTest;
+
+	@BeforeClass
+	public static void setUp () {
+		FakeGdx.set();
+		Gdx.gl = Gdx.gl20 = FakeGdx.fake(GL20.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("glScissor")) {
+					scissorCalls++;
+					for (int i = 0; i < 4; i++)
+						scissor[i] = (Integer)args[i];
+				} else if (name.equals("glEnable") && (Integer)args[0] == GL20.GL_SCISSOR_TEST)
+					scissorTest = true;
+				else if (name.equals("glDisable") && (Integer)args[0] == GL20.GL_SCISSOR_TEST) //
+					scissorTest = false;
+				return null;
+			}
+		});
+	}
+
+	@AfterClass
+	public static void tearDown () {
+		FakeGdx.restore();
+	}
+
+	@Test
+	public void testEqualScissorsAreNotSet () {
+		scissorCalls = 0;
+		assertTrue(ScissorStack.pushScissors(new Rectangle(10, 10, 50, 50)));
+		assertTrue(scissorTest);
+		assertEquals(1, scissorCalls);
+
+		// A scroll pane filling a clipping table.
+		assertTrue(ScissorStack.pushScissors(new Rectangle(10, 10, 50, 50)));
+		assertEquals(1, scissorCalls);
+		// Larger than the parent, so it is clipped to the same area.
+		assertTrue(ScissorStack.pushScissors(new Rectangle(0, 0, 80, 80)));
+		assertEquals(1, scissorCalls);
+
+		assertTrue(ScissorStack.pushScissors(new Rectangle(20, 20, 10, 10)));
+		assertEquals(2, scissorCalls);
+		assertArrayEquals(new int[] {20, 20, 10, 10}, scissor);
+
+		// Back to a different area.
+		ScissorStack.popScissors();
+		assertEquals(3, scissorCalls);
+		assertArrayEquals(new int[] {10, 10, 50, 50}, scissor);
+
+		ScissorStack.popScissors();
+		ScissorStack.popScissors();
+		assertEquals(3, scissorCalls);
+		assertTrue(scissorTest);
+
+		ScissorStack.popScissors();
+		assertEquals(3, scissorCalls);
+		assertFalse(scissorTest);
+		assertNull(ScissorStack.peekScissors());
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests.headless;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.tests.bench.StageBench;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Runs the {@link StageBench} with the headless backend and a GL which does nothing, so it needs no window. The first argument
+ * is the file to write the report to, if any. Run it with the gradle task stageBench. If the benchmark fails, the exception is
+ * thrown from main after the application has ended, so the process exits with an error. The timings only compare builds run on
+ * the same machine, they are not meant as pass or fail checks. */
+public class HeadlessStageBench {
+	public static void main (String[] args) throws InterruptedException {
+		Gdx.gl = Gdx.gl20 = mockGL();
+
+		final com.sun.management.ThreadMXBean allocations = allocations();
+		// The application calls create and dispose on its own thread.
+		final Throwable[] failure = new Throwable[1];
+		final CountDownLatch disposed = new CountDownLatch(1);
+		StageBench bench = new StageBench() {
+			@Override
+			protected long getAllocatedBytes () {
+				if (allocations == null) return -1;
+				return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+
+			@Override
+			public void create () {
+				try {
+					super.create();
+				} catch (Throwable ex) {
+					failure[0] = ex;
+				} finally {
+					Gdx.app.exit();
+				}
+			}
+
+			@Override
+			public void dispose () {
+				try {
+					super.dispose();
+				} catch (Throwable ex) {
+					if (failure[0] == null) failure[0] = ex;
+				} finally {
+					disposed.countDown();
+				}
+			}
+		};
+		if (args.length > 0) bench.reportFile = new FileHandle(args[0]);
+		// The application's thread ends without calling dispose if the application fails.
+		Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+			public void uncaughtException (Thread thread, Throwable ex) {
+				if (failure[0] == null) failure[0] = ex;
+				disposed.countDown();
+			}
+		});
+		new HeadlessApplication(bench);
+		disposed.await();
+		Thread.setDefaultUncaughtExceptionHandler(null);
+		if (failure[0] != null) throw new GdxRuntimeException("StageBench failed.", failure[0]);
+	}
+
+	/** Returns a GL which returns 0, false or null for everything. Calling it allocates the boxed arguments, which are counted in
+	 * the draw allocations, for example for the scissors of a scroll pane. */
+	static GL20 mockGL () {
+		return (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class[] {GL20.class}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				Class type = method.getReturnType();
+				if (type == int.class) return 0;
+				if (type == boolean.class) return false;
+				if (type == float.class) return 0f;
+				if (type == String.class) return "";
+				return null;
+			}
+		});
+	}
+
+	/** Returns null if the JVM can't measure the bytes allocated by a thread. */
+	static com.sun.management.ThreadMXBean allocations () {
+		try {
+			ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+			if (!(threads instanceof com.sun.management.ThreadMXBean)) return null;
+			com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean)threads;
+			if (!allocations.isThreadAllocatedMemorySupported()) return null;
+			allocations.setThreadAllocatedMemoryEnabled(true);
+			return allocations;
+		} catch (Throwable ex) {
+			return null;
+		}
+	}
+}
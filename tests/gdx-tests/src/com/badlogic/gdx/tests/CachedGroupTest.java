@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.scenes.scene2d.ui.CachedGroup;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** A panel of 400 widgets in a {@link CachedGroup}, which is only redrawn when a button is hovered or pressed, a checkbox is
+ * toggled, or the pulsing button changes color. Press space to toggle caching. */
+public class CachedGroupTest extends GdxTest {
+	Stage stage;
+	Skin skin;
+	CachedGroup cached;
+	Label status;
+
+	public void create () {
+		stage = new Stage();
+		Gdx.input.setInputProcessor(stage);
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+
+		Table panel = new Table(skin);
+		panel.setFillParent(true);
+		panel.defaults().pad(2);
+		for (int y = 0; y < 20; y++) {
+			for (int x = 0; x < 10; x++) {
+				panel.add(new Label("Item " + (y * 10 + x), skin));
+				panel.add(x % 2 == 0 ? new TextButton("Use", skin) : new CheckBox("", skin));
+			}
+			panel.row();
+		}
+		TextButton pulse = new TextButton("Pulse", skin);
+		pulse.addAction(Actions.forever(Actions.sequence(Actions.delay(2), Actions.color(Color.RED, 0.5f),
+			Actions.color(Color.WHITE, 0.5f))));
+		panel.add(pulse).colspan(4);
+
+		cached = new CachedGroup(panel);
+		status = new Label("", skin);
+
+		Table table = new Table();
+		table.setFillParent(true);
+		table.add(cached).expand().fill().row();
+		table.add(status).left();
+		stage.addActor(table);
+	}
+
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		if (Gdx.input.isKeyJustPressed(Keys.SPACE)) cached.setCacheEnabled(!cached.isCacheEnabled());
+		stage.act(Gdx.graphics.getDeltaTime());
+		stage.draw();
+		status.setText("FPS: " + Gdx.graphics.getFramesPerSecond() + ", cache " + (cached.isCacheEnabled() ? "on" : "off")
+			+ ", hits: " + cached.cacheHits + ", misses: " + cached.cacheMisses + ", render calls: "
+			+ ((SpriteBatch)stage.getBatch()).renderCalls);
+	}
+
+	public void resize (int width, int height) {
+		stage.getViewport().update(width, height, true);
+	}
+
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+		cached.dispose();
+	}
+}
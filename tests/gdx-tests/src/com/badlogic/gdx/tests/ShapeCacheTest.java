@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeCache;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+
+/** Draws the same 5000 mixed line and filled shapes every frame with a {@link ShapeRenderer} using the automatic shape type, or
+ * from a {@link ShapeCache}. Touch to switch. */
+public class ShapeCacheTest extends GdxTest {
+	static final int SHAPES = 5000;
+
+	ShapeRenderer renderer;
+	ShapeCache cache;
+	SpriteBatch batch;
+	BitmapFont font;
+	float[] shapes = new float[SHAPES * 4];
+	boolean useCache = true;
+
+	@Override
+	public void create () {
+		renderer = new ShapeRenderer();
+		renderer.setAutoShapeType(true);
+		cache = new ShapeCache();
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		for (int i = 0; i < shapes.length; i += 4) {
+			shapes[i] = MathUtils.random(Gdx.graphics.getWidth());
+			shapes[i + 1] = MathUtils.random(Gdx.graphics.getHeight());
+			shapes[i + 2] = MathUtils.random(3f, 15f);
+			shapes[i + 3] = MathUtils.random();
+		}
+
+		cache.begin();
+		for (int i = 0; i < shapes.length; i += 4) {
+			// Alternates the shape type, which doesn't cause a flush
+			cache.set(i % 8 == 0 ? ShapeType.Filled : ShapeType.Line);
+			cache.setColor(shapes[i + 3], 1 - shapes[i + 3], 0.5f, 1);
+			drawShape(cache, i);
+		}
+		cache.end();
+	}
+
+	private void drawShape (ShapeCache cache, int i) {
+		float x = shapes[i], y = shapes[i + 1], size = shapes[i + 2];
+		if (i % 12 == 0)
+			cache.circle(x, y, size);
+		else if (i % 12 == 4)
+			cache.rect(x, y, size, size);
+		else
+			cache.ellipse(x, y, size * 2, size);
+	}
+
+	private void drawShape (ShapeRenderer renderer, int i) {
+		float x = shapes[i], y = shapes[i + 1], size = shapes[i + 2];
+		if (i % 12 == 0)
+			renderer.circle(x, y, size);
+		else if (i % 12 == 4)
+			renderer.rect(x, y, size, size);
+		else
+			renderer.ellipse(x, y, size * 2, size);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) useCache = !useCache;
+		Gdx.gl.glClearColor(0, 0, 0, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		int calls;
+		if (useCache) {
+			cache.draw();
+			calls = cache.renderCalls;
+		} else {
+			renderer.begin();
+			for (int i = 0; i < shapes.length; i += 4) {
+				renderer.set(i % 8 == 0 ? ShapeType.Filled : ShapeType.Line);
+				renderer.setColor(shapes[i + 3], 1 - shapes[i + 3], 0.5f, 1);
+				drawShape(renderer, i);
+			}
+			renderer.end();
+			calls = -1;
+		}
+
+		batch.begin();
+		font.draw(batch, (useCache ? "ShapeCache, draw calls: " + calls : "ShapeRenderer") + ", FPS: "
+			+ Gdx.graphics.getFramesPerSecond() + " (touch to switch)", 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		renderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+		renderer.updateMatrices();
+		cache.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+		cache.dispose();
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.renderers.ChunkedTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.OrthoCamController;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Scrolls over a map of 2000 x 2000 tiles rendered with the {@link ChunkedTiledMapRenderer}, while a few cells are changed each
+ * frame. Drag to move the camera. */
+public class TiledMapChunkedRendererTest extends GdxTest {
+	private TiledMap map;
+	private ChunkedTiledMapRenderer renderer;
+	private OrthographicCamera camera;
+	private OrthoCamController cameraController;
+	private Texture tiles;
+	private StaticTiledMapTile[] tileSet;
+	private BitmapFont font;
+	private SpriteBatch batch;
+
+	@Override
+	public void create () {
+		float w = Gdx.graphics.getWidth();
+		float h = Gdx.graphics.getHeight();
+
+		camera = new OrthographicCamera();
+		camera.setToOrtho(false, (w / h) * 480, 480);
+		camera.update();
+
+		cameraController = new OrthoCamController(camera);
+		Gdx.input.setInputProcessor(cameraController);
+
+		font = new BitmapFont();
+		batch = new SpriteBatch();
+
+		tiles = new Texture(Gdx.files.internal("data/maps/tiled/tiles.png"));
+		TextureRegion[][] splitTiles = TextureRegion.split(tiles, 32, 32);
+		tileSet = new StaticTiledMapTile[splitTiles.length * splitTiles[0].length];
+		for (int y = 0, i = 0; y < splitTiles.length; y++)
+			for (int x = 0; x < splitTiles[y].length; x++)
+				tileSet[i++] = new StaticTiledMapTile(splitTiles[y][x]);
+
+		map = new TiledMap();
+		MapLayers layers = map.getLayers();
+		for (int l = 0; l < 2; l++) {
+			TiledMapTileLayer layer = new TiledMapTileLayer(2000, 2000, 32, 32);
+			for (int x = 0; x < 2000; x++) {
+				for (int y = 0; y < 2000; y++) {
+					if (l > 0 && MathUtils.random() < 0.8f) continue;
+					layer.setCell(x, y, new Cell().setTile(tileSet[MathUtils.random(tileSet.length - 1)]));
+				}
+			}
+			layers.add(layer);
+		}
+
+		renderer = new ChunkedTiledMapRenderer(map);
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(100f / 255f, 100f / 255f, 250f / 255f, 1f);
+		camera.position.x += 60 * Gdx.graphics.getDeltaTime();
+		camera.update();
+
+		TiledMapTileLayer layer = (TiledMapTileLayer)map.getLayers().get(0);
+		int col = (int)(camera.position.x / 32), row = (int)(camera.position.y / 32);
+		for (int i = 0; i < 5; i++) {
+			int x = col + MathUtils.random(-10, 10), y = row + MathUtils.random(-10, 10);
+			Cell cell = layer.getCell(x, y);
+			if (cell == null) continue;
+			cell.setTile(tileSet[MathUtils.random(tileSet.length - 1)]);
+			renderer.invalidateCell(layer, x, y);
+		}
+
+		renderer.setView(camera);
+		renderer.render();
+		batch.begin();
+		font.draw(batch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", chunks loaded: " + renderer.getLoadedChunkCount()
+			+ ", built: " + renderer.chunksBuilt + ", draw calls: " + renderer.renderCalls, 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+		tiles.dispose();
+		font.dispose();
+		batch.dispose();
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.VirtualList;
+import com.badlogic.gdx.scenes.scene2d.ui.VirtualTree;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Shows 100000 log lines in a {@link VirtualList} and a tree with 1000 nodes of 100 children in a {@link VirtualTree}. Only the
+ * rows in view have an actor. */
+public class VirtualListTest extends GdxTest {
+	Stage stage;
+	Skin skin;
+	VirtualList<String, Label> list;
+	VirtualTree<String, TextButton> tree;
+	Label status;
+
+	public void create () {
+		stage = new Stage();
+		Gdx.input.setInputProcessor(stage);
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+
+		list = new VirtualList<String, Label>(20) {
+			protected Label newActor () {
+				return new Label("", skin);
+			}
+
+			protected void setItem (Label actor, String item, int index) {
+				actor.setText(item);
+			}
+		};
+		Array<String> lines = new Array(100000);
+		for (int i = 0; i < 100000; i++)
+			lines.add("Log line " + i);
+		list.setItems(lines);
+
+		tree = new VirtualTree<String, TextButton>(24, 20) {
+			protected TextButton newActor () {
+				final TextButton button = new TextButton("", skin);
+				button.getLabel().setAlignment(Align.left);
+				button.addListener(new ClickListener() {
+					public void clicked (InputEvent event, float x, float y) {
+						String node = getItems().get(getIndex(button));
+						setExpanded(node, !isExpanded(node));
+					}
+				});
+				return button;
+			}
+
+			protected void setItem (TextButton actor, String item, int index) {
+				actor.setText((getLevel(index) == 0 ? (isExpanded(item) ? "- " : "+ ") : "") + item);
+			}
+
+			protected void getChildren (String node, Array<String> children) {
+				if (node.indexOf('/') != -1) return;
+				for (int i = 0; i < 100; i++)
+					children.add(node + "/" + i);
+			}
+		};
+		Array<String> roots = new Array(1000);
+		for (int i = 0; i < 1000; i++)
+			roots.add("Node " + i);
+		tree.setRootNodes(roots);
+
+		status = new Label("", skin);
+
+		Table table = new Table();
+		table.setFillParent(true);
+		table.add(new ScrollPane(list, skin)).expand().fill();
+		table.add(new ScrollPane(tree, skin)).expand().fill().row();
+		table.add(status).colspan(2).left();
+		stage.addActor(table);
+	}
+
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		stage.act(Gdx.graphics.getDeltaTime());
+		stage.draw();
+		status.setText("FPS: " + Gdx.graphics.getFramesPerSecond() + ", list actors: " + list.getChildren().size + ", tree actors: "
+			+ tree.getChildren().size + ", tree rows: " + tree.getItems().size);
+	}
+
+	public void resize (int width, int height) {
+		stage.getViewport().update(width, height, true);
+	}
+
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+	}
+}
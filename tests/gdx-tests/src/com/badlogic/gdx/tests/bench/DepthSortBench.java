@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g3d.utils.DepthSorter;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares sorting elements back to front with a comparator, as CameraGroupStrategy used to do, to the {@link DepthSorter}, both
+ * when sorting from scratch and when reusing the order of the previous frame after the elements and the camera moved a bit. The
+ * elements are in the same unsorted order every frame, like decals which are added to the batch every frame. The results are
+ * logged. */
+public class DepthSortBench extends GdxTest {
+	static final int FRAMES = 30;
+
+	final Vector3 camera = new Vector3();
+
+	@Override
+	public void create () {
+		for (int count : new int[] {10000, 100000}) {
+			benchmark(count, 0, 0);
+			benchmark(count, 0.001f, 0);
+			benchmark(count, 0.05f, 0.05f);
+		}
+	}
+
+	/** @param cameraSpeed The distance the camera moves every frame.
+	 * @param elementSpeed The maximum distance the elements move every frame, in each direction. */
+	private void benchmark (int count, float cameraSpeed, float elementSpeed) {
+		camera.setZero();
+		final Array<Vector3> positions = new Array<Vector3>(count);
+		for (int i = 0; i < count; i++)
+			positions.add(new Vector3(MathUtils.random(-100f, 100f), MathUtils.random(-100f, 100f), MathUtils.random(-100f, 100f)));
+		final Comparator<Vector3> comparator = new Comparator<Vector3>() {
+			@Override
+			public int compare (Vector3 o1, Vector3 o2) {
+				return (int)Math.signum(camera.dst(o2) - camera.dst(o1));
+			}
+		};
+		final Array<Vector3> sorted = new Array<Vector3>(count);
+		final float[] depths = new float[count];
+		final DepthSorter scratch = new DepthSorter();
+		scratch.coherenceLimit = 0;
+		final DepthSorter coherent = new DepthSorter();
+
+		long comparatorTime = 0, scratchTime = 0, coherentTime = 0;
+		for (int frame = 0; frame < FRAMES; frame++) {
+			camera.add(cameraSpeed, 0, 0);
+			for (Vector3 position : positions)
+				position.add(MathUtils.random(-elementSpeed, elementSpeed), MathUtils.random(-elementSpeed, elementSpeed),
+					MathUtils.random(-elementSpeed, elementSpeed));
+
+			sorted.clear();
+			sorted.addAll(positions);
+			long start = TimeUtils.nanoTime();
+			sorted.sort(comparator);
+			comparatorTime += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < count; i++)
+				depths[i] = -camera.dst2(positions.get(i));
+			scratch.sort(depths, count);
+			scratchTime += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < count; i++)
+				depths[i] = -camera.dst2(positions.get(i));
+			coherent.sort(depths, count);
+			coherentTime += TimeUtils.nanoTime() - start;
+		}
+		final String scenario = count + " elements, camera speed " + cameraSpeed + ", element speed " + elementSpeed + ", ";
+		log(scenario + "comparator", comparatorTime);
+		log(scenario + "radix sort", scratchTime);
+		log(scenario + "coherent sort", coherentTime);
+	}
+
+	private static void log (String name, long nanos) {
+		Gdx.app.log("DepthSortBench", name + ": " + (nanos / FRAMES / 1000) + " us per frame");
+	}
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+/** A batch which doesn't draw, it only counts what a {@link SpriteBatch} with the same size would send to the GPU: the vertices,
+ * the flushes which render vertices, and the texture switches. It makes no GL calls, so it can measure the cost of what is drawn
+ * without a window, eg with the headless backend. */
+public class RecordingBatch implements Batch {
+	private final int maxVertices;
+	private final Color color = new Color(1, 1, 1, 1);
+	private float colorPacked = Color.WHITE_FLOAT_BITS;
+	private final Matrix4 projectionMatrix = new Matrix4(), transformMatrix = new Matrix4();
+	private Texture lastTexture;
+	private ShaderProgram shader;
+	private int pendingVertices;
+	private boolean drawing, blendingDisabled;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA, blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA, blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	/** The number of vertices drawn, the number of flushes which rendered vertices, and the number of times the texture changed
+	 * since the last {@link #resetCounts()}. */
+	public int vertices, flushes, textureSwitches;
+
+	/** Counts like a {@link SpriteBatch} with a size of 1000 sprites. */
+	public RecordingBatch () {
+		this(1000);
+	}
+
+	public RecordingBatch (int size) {
+		maxVertices = size * 4;
+	}
+
+	public void resetCounts () {
+		vertices = 0;
+		flushes = 0;
+		textureSwitches = 0;
+	}
+
+	private void add (Texture texture, int count) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+		if (texture != lastTexture) {
+			flush();
+			lastTexture = texture;
+			textureSwitches++;
+		} else if (pendingVertices + count > maxVertices) flush();
+		pendingVertices += count;
+		vertices += count;
+	}
+
+	public void begin () {
+		if (drawing) throw new IllegalStateException("RecordingBatch.end must be called before begin.");
+		drawing = true;
+	}
+
+	public void end () {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before end.");
+		flush();
+		lastTexture = null;
+		drawing = false;
+	}
+
+	public void flush () {
+		if (pendingVertices == 0) return;
+		pendingVertices = 0;
+		flushes++;
+	}
+
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	public Color getColor () {
+		return color;
+	}
+
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		colorPacked = packedColor;
+	}
+
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		add(texture, 4);
+	}
+
+	public void draw (Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		add(texture, 4);
+	}
+
+	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		add(texture, 4);
+	}
+
+	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		add(texture, 4);
+	}
+
+	public void draw (Texture texture, float x, float y) {
+		add(texture, 4);
+	}
+
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		add(texture, 4);
+	}
+
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		if (!drawing) throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+		// Like SpriteBatch, fill the rest of the batch, then flush and continue with chunks of the batch size.
+		count /= 5;
+		if (texture != lastTexture) {
+			flush();
+			lastTexture = texture;
+			textureSwitches++;
+		} else if (pendingVertices == maxVertices) //
+			flush();
+		int chunk = Math.min(maxVertices - pendingVertices, count);
+		while (true) {
+			pendingVertices += chunk;
+			vertices += chunk;
+			count -= chunk;
+			if (count == 0) break;
+			flush();
+			chunk = Math.min(maxVertices, count);
+		}
+	}
+
+	public void draw (TextureRegion region, float x, float y) {
+		add(region.getTexture(), 4);
+	}
+
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		add(region.getTexture(), 4);
+	}
+
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		add(region.getTexture(), 4);
+	}
+
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		add(region.getTexture(), 4);
+	}
+
+	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
+		add(region.getTexture(), 4);
+	}
+
+	public void disableBlending () {
+		if (blendingDisabled) return;
+		flush();
+		blendingDisabled = true;
+	}
+
+	public void enableBlending () {
+		if (!blendingDisabled) return;
+		flush();
+		blendingDisabled = false;
+	}
+
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		if (blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor && blendSrcFuncAlpha == srcFuncAlpha
+			&& blendDstFuncAlpha == dstFuncAlpha) return;
+		flush();
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	public int getBlendSrcFuncAlpha () {
+		return blendSrcFuncAlpha;
+	}
+
+	public int getBlendDstFuncAlpha () {
+		return blendDstFuncAlpha;
+	}
+
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (drawing) flush();
+		projectionMatrix.set(projection);
+	}
+
+	public void setTransformMatrix (Matrix4 transform) {
+		if (drawing) flush();
+		transformMatrix.set(transform);
+	}
+
+	public void setShader (ShaderProgram shader) {
+		if (shader == this.shader) return;
+		if (drawing) flush();
+		this.shader = shader;
+	}
+
+	public ShaderProgram getShader () {
+		return shader;
+	}
+
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	public boolean isDrawing () {
+		return drawing;
+	}
+
+	public void dispose () {
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Button.ButtonStyle;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares loading a skin with thousands of resources eagerly and {@link Skin#setLazy(boolean) lazily}, when a screen uses a few
+ * dozen of the styles. The time to load the skin, the time to get the styles, and the heap used by the skin are logged. */
+public class SkinBench extends GdxTest {
+	static final int STYLES = 2000, FONTS = 10, USED_STYLES = 40, RUNS = 5;
+
+	TextureAtlas atlas;
+	FileHandle skinFile;
+
+	@Override
+	public void create () {
+		atlas = new TextureAtlas(Gdx.files.internal("data/uiskin.atlas"));
+		skinFile = Gdx.files.local("skinbench.json");
+		skinFile.writeString(json(), false);
+
+		// Warm up.
+		benchmark(false);
+		benchmark(true);
+
+		long[] eager = new long[3], lazy = new long[3];
+		for (int i = 0; i < RUNS; i++) {
+			add(eager, benchmark(false));
+			add(lazy, benchmark(true));
+		}
+		log("eager", eager);
+		log("lazy", lazy);
+		skinFile.delete();
+	}
+
+	/** A skin with a color, a tinted drawable and a button style for each style, and a few fonts. */
+	private String json () {
+		StringBuilder json = new StringBuilder("{\nBitmapFont: {\n");
+		for (int i = 0; i < FONTS; i++)
+			json.append("\tfont-").append(i).append(": { file: data/signika.fnt },\n");
+		json.append("},\nColor: {\n");
+		for (int i = 0; i < STYLES; i++)
+			json.append("\tcolor-").append(i).append(": { r: ").append(i % 10 / 10f).append(", g: 0.5, b: 1 },\n");
+		json.append("},\nTintedDrawable: {\n");
+		for (int i = 0; i < STYLES; i++)
+			json.append("\ttint-").append(i).append(": { name: default-round, color: color-").append(i).append(" },\n");
+		json.append("},\nButtonStyle: {\n");
+		for (int i = 0; i < STYLES; i++)
+			json.append("\tbutton-").append(i).append(": { up: tint-").append(i).append(", down: default-round-down },\n");
+		return json.append("}\n}").toString();
+	}
+
+	/** @return The nanoseconds to load, the nanoseconds to get the used styles, and the bytes used by the skin. */
+	private long[] benchmark (boolean lazy) {
+		long before = usedMemory();
+		long start = TimeUtils.nanoTime();
+		Skin skin = new Skin();
+		skin.addRegions(atlas);
+		skin.setLazy(lazy);
+		skin.load(skinFile);
+		long loaded = TimeUtils.nanoTime();
+		for (int i = 0; i < USED_STYLES; i++)
+			skin.get("button-" + i * (STYLES / USED_STYLES), ButtonStyle.class);
+		long used = TimeUtils.nanoTime();
+		long memory = usedMemory() - before;
+		skin.dispose();
+		return new long[] {loaded - start, used - loaded, memory};
+	}
+
+	private long usedMemory () {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++)
+			System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private void add (long[] total, long[] run) {
+		for (int i = 0; i < total.length; i++)
+			total[i] += run[i];
+	}
+
+	private void log (String name, long[] total) {
+		Gdx.app.log("SkinBench", name + ": load " + total[0] / RUNS / 1000 + " us, get " + USED_STYLES + " styles "
+			+ total[1] / RUNS / 1000 + " us, heap " + total[2] / RUNS / 1024 + " KB");
+	}
+
+	@Override
+	public void dispose () {
+		if (atlas != null) atlas.dispose();
+	}
+}
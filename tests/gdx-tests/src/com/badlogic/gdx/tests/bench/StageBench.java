@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Slider;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+/** Measures the time scene2d spends to act, lay out and draw a few UI scenarios, drawing with a {@link RecordingBatch} so the
+ * GPU doesn't affect the results and no window is needed. For each scenario, the time and the allocated bytes per frame of each
+ * phase and the vertices, flushes and texture switches per frame are logged and, if {@link #reportFile} is set, written to it.
+ * <p>
+ * The allocations are only measured when {@link #getAllocatedBytes()} is overridden, see HeadlessStageBench in the headless
+ * tests, which runs this with the headless backend. */
+public class StageBench extends GdxTest {
+	static final int WARMUP_FRAMES = 100, FRAMES = 300;
+	static final int WIDTH = 1280, HEIGHT = 720;
+
+	/** If not null, the report is written to this file. */
+	public @Null FileHandle reportFile;
+
+	Skin skin;
+	final StringBuilder report = new StringBuilder();
+
+	@Override
+	public void create () {
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+		report.append("scenario\tphase\tus/frame\tbytes/frame\tvertices/frame\tflushes/frame\ttexture switches/frame\n");
+
+		benchmark(new Scenario("table") {
+			void create (Table root) {
+				for (int y = 0; y < 25; y++) {
+					for (int x = 0; x < 4; x++) {
+						root.add(new Label("Item " + y + ", " + x, skin)).right();
+						root.add(x % 2 == 0 ? new TextButton("Use", skin) : new CheckBox("Enabled", skin));
+					}
+					root.add(new Slider(0, 100, 1, false, skin)).width(100);
+					root.row();
+				}
+			}
+		});
+
+		benchmark(new Scenario("scroll pane") {
+			ScrollPane scrollPane;
+
+			void create (Table root) {
+				Table rows = new Table();
+				for (int i = 0; i < 2000; i++) {
+					rows.add(new Label("Row " + i, skin)).expandX().left();
+					rows.add(new TextButton("Open", skin));
+					rows.add(new CheckBox("", skin)).row();
+				}
+				scrollPane = new ScrollPane(rows, skin);
+				scrollPane.setSmoothScrolling(false);
+				root.add(scrollPane).expand().fill();
+			}
+
+			void update (int frame) {
+				scrollPane.setScrollY(frame * 7 % scrollPane.getMaxY());
+			}
+		});
+
+		benchmark(new Scenario("labels") {
+			final Array<Label> labels = new Array();
+			final StringBuilder text = new StringBuilder();
+
+			void create (Table root) {
+				for (int i = 0; i < 400; i++) {
+					Label label = new Label("", skin);
+					labels.add(label);
+					root.add(label).width(60);
+					if (i % 16 == 15) root.row();
+				}
+			}
+
+			void update (int frame) {
+				for (int i = 0, n = labels.size; i < n; i++) {
+					text.setLength(0);
+					text.append(frame * 31 + i);
+					labels.get(i).setText(text);
+				}
+			}
+		});
+
+		Gdx.app.log("StageBench", "\n" + report);
+		if (reportFile != null) reportFile.writeString(report.toString(), false);
+	}
+
+	private void benchmark (Scenario scenario) {
+		RecordingBatch batch = new RecordingBatch();
+		ScreenViewport viewport = new ScreenViewport();
+		Stage stage = new Stage(viewport, batch);
+		// The stage sized the viewport to the screen, which has no size with the headless backend. Set the size without applying
+		// the viewport, which calls GL. Clipping needs the camera's size to compute the scissors.
+		viewport.setWorldSize(WIDTH, HEIGHT);
+		viewport.setScreenBounds(0, 0, WIDTH, HEIGHT);
+		Camera camera = viewport.getCamera();
+		camera.viewportWidth = WIDTH;
+		camera.viewportHeight = HEIGHT;
+		camera.position.set(WIDTH / 2, HEIGHT / 2, 0);
+		Table root = new Table();
+		root.setFillParent(true);
+		stage.addActor(root);
+		scenario.create(root);
+
+		long actTime = 0, layoutTime = 0, drawTime = 0, actBytes = 0, layoutBytes = 0, drawBytes = 0;
+		for (int frame = -WARMUP_FRAMES; frame < FRAMES; frame++) {
+			if (frame == 0) batch.resetCounts();
+			scenario.update(frame);
+
+			long bytes = getAllocatedBytes(), start = TimeUtils.nanoTime();
+			stage.act(1 / 60f);
+			long time = TimeUtils.nanoTime(), allocated = getAllocatedBytes();
+			if (frame >= 0) {
+				actTime += time - start;
+				actBytes += allocated - bytes;
+			}
+
+			bytes = getAllocatedBytes();
+			start = TimeUtils.nanoTime();
+			validate(stage.getRoot());
+			time = TimeUtils.nanoTime();
+			allocated = getAllocatedBytes();
+			if (frame >= 0) {
+				layoutTime += time - start;
+				layoutBytes += allocated - bytes;
+			}
+
+			bytes = getAllocatedBytes();
+			start = TimeUtils.nanoTime();
+			stage.draw();
+			time = TimeUtils.nanoTime();
+			allocated = getAllocatedBytes();
+			if (frame >= 0) {
+				drawTime += time - start;
+				drawBytes += allocated - bytes;
+			}
+		}
+		stage.dispose();
+
+		report(scenario.name, "act", actTime, actBytes, "-\t-\t-");
+		report(scenario.name, "layout", layoutTime, layoutBytes, "-\t-\t-");
+		report(scenario.name, "draw", drawTime, drawBytes,
+			batch.vertices / FRAMES + "\t" + batch.flushes / FRAMES + "\t" + batch.textureSwitches / FRAMES);
+	}
+
+	private void report (String scenario, String phase, long nanos, long bytes, String batchCounts) {
+		report.append(scenario).append('\t').append(phase);
+		report.append('\t').append(nanos / FRAMES / 1000);
+		report.append('\t').append(getAllocatedBytes() < 0 ? "-" : String.valueOf(bytes / FRAMES));
+		report.append('\t').append(batchCounts).append('\n');
+	}
+
+	/** Validates the layout of the actor and its descendants, so the draw phase does little layout. */
+	private void validate (Actor actor) {
+		if (actor instanceof Layout) ((Layout)actor).validate();
+		if (actor instanceof Group) {
+			SnapshotArray<Actor> children = ((Group)actor).getChildren();
+			for (int i = 0, n = children.size; i < n; i++)
+				validate(children.get(i));
+		}
+	}
+
+	/** Returns the number of bytes allocated by the current thread, or a negative value if unknown. */
+	protected long getAllocatedBytes () {
+		return -1;
+	}
+
+	@Override
+	public void dispose () {
+		if (skin != null) skin.dispose();
+	}
+
+	static abstract class Scenario {
+		final String name;
+
+		Scenario (String name) {
+			this.name = name;
+		}
+
+		abstract void create (Table root);
+
+		void update (int frame) {
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares the load time, heap usage and time to read all cells of tile layers storing a {@link Cell} object per cell to tile
+ * layers with compact storage, which pack each cell into an int. The layers are filled from an array of tile ids. The results
+ * are logged. */
+public class TiledMapStorageBench extends GdxTest {
+	static final int SIZE = 1024, LAYERS = 4, TILES = 256;
+
+	@Override
+	public void create () {
+		TiledMap map = new TiledMap();
+		TiledMapTileSet tileSet = new TiledMapTileSet();
+		TextureRegion region = new TextureRegion();
+		for (int i = 1; i <= TILES; i++) {
+			StaticTiledMapTile tile = new StaticTiledMapTile(region);
+			tile.setId(i);
+			tileSet.putTile(i, tile);
+		}
+		map.getTileSets().addTileSet(tileSet);
+		int[] ids = new int[SIZE * SIZE];
+		for (int i = 0; i < ids.length; i++)
+			ids[i] = MathUtils.random() < 0.2f ? 0 : MathUtils.random(1, TILES);
+
+		// Twice, the first pass warms up the JIT
+		for (int pass = 0; pass < 2; pass++) {
+			benchmark(map, ids, false);
+			benchmark(map, ids, true);
+		}
+	}
+
+	private void benchmark (TiledMap map, int[] ids, boolean compact) {
+		System.gc();
+		long heap = Gdx.app.getJavaHeap();
+		long start = TimeUtils.nanoTime();
+		TiledMapTileLayer[] layers = new TiledMapTileLayer[LAYERS];
+		Cell reused = new Cell();
+		for (int l = 0; l < LAYERS; l++) {
+			TiledMapTileLayer layer = compact ? new TiledMapTileLayer(SIZE, SIZE, 32, 32, map.getTileSets())
+				: new TiledMapTileLayer(SIZE, SIZE, 32, 32);
+			for (int y = 0; y < SIZE; y++) {
+				for (int x = 0; x < SIZE; x++) {
+					TiledMapTile tile = map.getTileSets().getTile(ids[x + y * SIZE]);
+					if (tile == null) continue;
+					// The compact layer copies the cell, so one cell can be reused
+					Cell cell = compact ? reused : new Cell();
+					layer.setCell(x, y, cell.setTile(tile));
+				}
+			}
+			layers[l] = layer;
+		}
+		long loadTime = TimeUtils.nanoTime() - start;
+		System.gc();
+		heap = Gdx.app.getJavaHeap() - heap;
+
+		start = TimeUtils.nanoTime();
+		int sum = 0;
+		for (TiledMapTileLayer layer : layers) {
+			for (int y = 0; y < SIZE; y++) {
+				for (int x = 0; x < SIZE; x++) {
+					Cell cell = layer.getCell(x, y);
+					if (cell != null) sum += cell.getTile().getId();
+				}
+			}
+		}
+		long readTime = TimeUtils.nanoTime() - start;
+
+		Gdx.app.log("TiledMapStorageBench",
+			(compact ? "compact" : "cells") + ", " + LAYERS + " layers of " + SIZE + "x" + SIZE + ": load " + (loadTime / 1000000)
+				+ " ms, heap " + (heap / 1024 / 1024) + " MB, read " + (readTime / 1000000) + " ms (" + sum + ")");
+	}
+}
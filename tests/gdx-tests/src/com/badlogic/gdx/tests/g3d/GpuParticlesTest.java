@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.particles.gpu.CpuParticleSimulation;
+import com.badlogic.gdx.graphics.g3d.particles.gpu.GpuParticleSettings;
+import com.badlogic.gdx.graphics.g3d.particles.gpu.GpuParticleSimulation;
+import com.badlogic.gdx.graphics.g3d.particles.gpu.ParticleSimulation;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+
+/** Renders 200000 particles simulated with transform feedback. Every few seconds the GPU state is compared to the state of a
+ * {@link CpuParticleSimulation} which received the same updates, the largest difference is logged. */
+@GdxTestConfig(requireGL30 = true)
+public class GpuParticlesTest extends GdxTest {
+	static final float STEP = 1 / 60f;
+
+	PerspectiveCamera camera;
+	CameraInputController controller;
+	Texture texture;
+	GpuParticleSimulation gpu;
+	CpuParticleSimulation cpu;
+	float[] gpuState;
+	float accumulator, compareTimer;
+
+	@Override
+	public void create () {
+		camera = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		camera.position.set(0, 10, 30);
+		camera.lookAt(0, 8, 0);
+		camera.near = 0.1f;
+		camera.far = 300f;
+		camera.update();
+		controller = new CameraInputController(camera);
+		Gdx.input.setInputProcessor(controller);
+		texture = new Texture(Gdx.files.internal("data/pre_particle.png"));
+
+		GpuParticleSettings settings = new GpuParticleSettings();
+		settings.maxParticleCount = 200000;
+		settings.emission = 50000;
+		settings.lifeMin = 2500;
+		settings.lifeMax = 4000;
+		settings.spawnSize.set(1, 0, 1);
+		settings.spread = 25;
+		settings.speedMin = 12;
+		settings.speedMax = 16;
+		settings.acceleration.set(0, -9.8f, 0);
+		settings.drag = 0.2f;
+		settings.scaleValue.setLow(0.1f, 0.2f);
+		settings.scaleValue.setHigh(0.02f);
+		settings.scaleValue.setTimeline(new float[] {0, 1});
+		settings.scaleValue.setScaling(new float[] {0, 1});
+		settings.alphaValue.setTimeline(new float[] {0, 0.8f, 1});
+		settings.alphaValue.setScaling(new float[] {1, 1, 0});
+		settings.colorValue.setTimeline(new float[] {0, 1});
+		settings.colorValue.setColors(new float[] {1, 0.8f, 0.2f, 0.8f, 0.1f, 0.1f});
+
+		gpu = new GpuParticleSimulation(settings);
+		gpu.dstBlendFactor = GL20.GL_ONE;
+		cpu = new CpuParticleSimulation(settings);
+		gpuState = new float[settings.maxParticleCount * ParticleSimulation.STATE_SIZE];
+	}
+
+	@Override
+	public void render () {
+		controller.update();
+		// Fixed steps, so that both simulations receive exactly the same deltas
+		accumulator += Math.min(Gdx.graphics.getDeltaTime(), 0.25f);
+		while (accumulator >= STEP) {
+			accumulator -= STEP;
+			gpu.update(STEP);
+			cpu.update(STEP);
+		}
+
+		compareTimer += Gdx.graphics.getDeltaTime();
+		if (compareTimer > 3f) {
+			compareTimer = 0;
+			compare();
+		}
+
+		Gdx.gl.glClearColor(0, 0, 0, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+		gpu.render(camera, texture);
+	}
+
+	private void compare () {
+		gpu.readState(gpuState);
+		float maxPositionError = 0, maxVelocityError = 0;
+		int alive = 0, mismatches = 0;
+		final float[] cpuState = cpu.state;
+		for (int i = 0; i < cpu.getCapacity(); i++) {
+			final int o = i * ParticleSimulation.STATE_SIZE;
+			if (!cpu.isAlive(i)) continue;
+			alive++;
+			if (gpuState[o + 7] != cpuState[o + 7]) mismatches++;
+			for (int j = 0; j < 3; j++) {
+				maxPositionError = Math.max(maxPositionError, Math.abs(gpuState[o + j] - cpuState[o + j]));
+				maxVelocityError = Math.max(maxVelocityError, Math.abs(gpuState[o + 4 + j] - cpuState[o + 4 + j]));
+			}
+		}
+		Gdx.app.log("GpuParticlesTest", alive + " particles alive, " + mismatches + " seeds differ, max position error "
+			+ maxPositionError + ", max velocity error " + maxVelocityError);
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		camera.viewportWidth = width;
+		camera.viewportHeight = height;
+		camera.update();
+	}
+
+	@Override
+	public void dispose () {
+		gpu.dispose();
+		cpu.dispose();
+		texture.dispose();
+	}
+}
@@ -37,7 +37,11 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.DepthSortBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
+import com.badlogic.gdx.tests.bench.TiledMapStorageBench;
+import com.badlogic.gdx.tests.bench.SkinBench;
+import com.badlogic.gdx.tests.bench.StageBench;
 import com.badlogic.gdx.tests.conformance.AudioSoundAndMusicIsolationTest;
 import com.badlogic.gdx.tests.conformance.DisplayModeTest;
 import com.badlogic.gdx.tests.examples.MoveSpriteExample;
@@ -60,6 +64,7 @@ import com.badlogic.gdx.tests.g3d.Basic3DTest;
 import com.badlogic.gdx.tests.g3d.Benchmark3DTest;
 import com.badlogic.gdx.tests.g3d.FogTest;
 import com.badlogic.gdx.tests.g3d.FrameBufferCubemapTest;
+import com.badlogic.gdx.tests.g3d.GpuParticlesTest;
 import com.badlogic.gdx.tests.g3d.HeightMapTest;
 import com.badlogic.gdx.tests.g3d.LightsTest;
 import com.badlogic.gdx.tests.g3d.MaterialEmissiveTest;
@@ -138,6 +143,7 @@ public class GdxTests {
 		Bresenham2Test.class,
 		BufferUtilsTest.class,
 		BulletTestCollection.class,
+		CachedGroupTest.class,
 		ClipboardTest.class,
 		CollectionsTest.class,
 		CollisionPlaygroundTest.class,
@@ -151,6 +157,7 @@ public class GdxTests {
 		DefaultTextureBinderTest.class,
 		DelaunayTriangulatorTest.class,
 		DeltaTimeTest.class,
+		DepthSortBench.class,
 		DirtyRenderingTest.class,
 		DisplayModeTest.class,
 		DownloadTest.class,
@@ -181,6 +188,7 @@ public class GdxTests {
 		GL32MultipleRenderTargetsBlendingTest.class,
 		GL32OffsetElementsTest.class,
 		GLProfilerErrorTest.class,
+		GpuParticlesTest.class,
 		GroupCullingTest.class,
 		GroupFadeTest.class,
 		GroupTest.class,
@@ -262,6 +270,7 @@ public class GdxTests {
 		ShaderMultitextureTest.class,
 		ShaderTest.class,
 		ShadowMappingTest.class,
+		ShapeCacheTest.class,
 		ShapeRendererTest.class,
 		ShapeRendererAlphaTest.class,
 		SimpleAnimationTest.class,
@@ -269,6 +278,7 @@ public class GdxTests {
 		SimpleStageCullingTest.class,
 		SimpleVertexShader.class,
 		SkeletonTest.class,
+		SkinBench.class,
 		SoftKeyboardTest.class,
 		SortedSpriteTest.class,
 		SoundTest.class,
@@ -277,6 +287,7 @@ public class GdxTests {
 		SpriteBatchTest.class,
 		SpriteCacheOffsetTest.class,
 		SpriteCacheTest.class,
+		StageBench.class,
 		StageDebugTest.class,
 		StagePerformanceTest.class,
 		StageTest.class,
@@ -307,6 +318,8 @@ public class GdxTests {
 		TiledMapModifiedExternalTilesetTest.class,
 		TiledMapObjectLoadingTest.class,
 		TiledMapBench.class,
+		TiledMapChunkedRendererTest.class,
+		TiledMapStorageBench.class,
 		TiledMapLayerOffsetTest.class,
 		TimerTest.class,
 		TimeUtilsTest.class,
@@ -324,6 +337,7 @@ public class GdxTests {
 		ViewportTest1.class,
 		ViewportTest2.class,
 		ViewportTest3.class,
+		VirtualListTest.class,
 		YDownTest.class,
 		FreeTypeFontLoaderTest.class,
 		FreeTypeDisposeTest.class,